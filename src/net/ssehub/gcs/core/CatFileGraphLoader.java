@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import net.ssehub.gcs.utilities.BatchSession;
+import net.ssehub.gcs.utilities.BatchSession.Response;
+import net.ssehub.gcs.utilities.ProcessUtilities;
+
+/**
+ * This class realizes an {@link ICommitGraphLoader}, which loads the {@link ICommitGraph} by requesting each commit
+ * object from a single, long-living <code>git cat-file --batch</code> process via a {@link BatchSession}. Hence, the
+ * costs of creating a process are only paid once, while the parent commits are still determined by Git itself, e.g.,
+ * including replacement objects.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class CatFileGraphLoader implements ICommitGraphLoader {
+    
+    /**
+     * The command for starting a process, which prints the type, size, and content of each object (SHA) written to its
+     * standard input.<br>
+     * <br>
+     * Command: <code>git cat-file --batch</code>
+     */
+    private static final String[] GIT_CAT_FILE_BATCH_COMMAND = {"git", "cat-file", "--batch"};
+    
+    /**
+     * The type of commit objects as reported by <code>git cat-file</code>.
+     */
+    private static final String COMMIT_TYPE = "commit";
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ICommitGraph load(File repositoryDirectory, String startCommit) throws CommitGraphCreationException {
+        if (startCommit == null || startCommit.isBlank()) {
+            throw new CommitGraphCreationException("No start commit defined for loading the commit graph");
+        }
+        CommitGraphBuilder commitGraphBuilder = new CommitGraphBuilder();
+        try (BatchSession batchSession = ProcessUtilities.getInstance().openBatchSession(GIT_CAT_FILE_BATCH_COMMAND,
+                repositoryDirectory, true)) {
+            Set<String> visitedCommits = new HashSet<String>();
+            Deque<String> commitsToRead = new ArrayDeque<String>();
+            visitedCommits.add(startCommit);
+            commitsToRead.add(startCommit);
+            while (!commitsToRead.isEmpty()) {
+                String commit = commitsToRead.poll();
+                Response response = batchSession.request(commit);
+                if (!response.isAvailable() || !COMMIT_TYPE.equals(response.getType())) {
+                    throw new IOException("The object \"" + commit + "\" is not an available commit");
+                }
+                String[] parents = GitObjectReader.parseParents(response.getContent(),
+                        response.getObjectName().length() / 2);
+                commitGraphBuilder.add(commit, parents);
+                if (parents != null) {
+                    for (int i = 0; i < parents.length; i++) {
+                        if (visitedCommits.add(parents[i])) {
+                            commitsToRead.add(parents[i]);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new CommitGraphCreationException("Reading the commit graph via \"git cat-file --batch\" in \""
+                    + repositoryDirectory.getAbsolutePath() + "\" failed", e);
+        }
+        return commitGraphBuilder.build();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isApplicable(File repositoryDirectory) {
+        return true;
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+/**
+ * This class decomposes the commits of an {@link ICommitGraph} reachable from a particular start commit into maximal
+ * linear chains. A chain is a sequence of commits, in which each commit (except for the last one) has exactly one
+ * parent and this parent has exactly one child. Hence, chains begin at the start commit, at commits with multiple
+ * children (fork points), and at parents of merge commits. They end at root commits, merge commits, and commits whose
+ * parent begins another chain.<br>
+ * <br>
+ * Each commit sequence created by a {@link CommitSequence} is the concatenation of a unique path of chains from the
+ * chain of the start commit to a chain ending at a root commit. Chains are identified by positive numbers, where the
+ * chain of the start commit has the id <i>1</i> and each chain has a smaller id than the chains of the parents of its
+ * last commit.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class ChainDecomposition {
+    
+    /**
+     * The {@link ICommitGraph} containing the commits of the chains.
+     */
+    private ICommitGraph commitGraph;
+    
+    /**
+     * The chain id per commit id, if the commit is the first commit of a chain, or <i>0</i> otherwise.
+     */
+    private int[] chainIds;
+    
+    /**
+     * The id of the first commit per chain id. As chain ids start at <i>1</i>, the entry at index <i>0</i> is unused.
+     */
+    private int[] firstCommits;
+    
+    /**
+     * The id of the last commit per chain id. As chain ids start at <i>1</i>, the entry at index <i>0</i> is unused.
+     */
+    private int[] lastCommits;
+    
+    /**
+     * The number of commits per chain id. As chain ids start at <i>1</i>, the entry at index <i>0</i> is unused.
+     */
+    private int[] chainLengths;
+    
+    /**
+     * The number of chains of this decomposition.
+     */
+    private int numberOfChains;
+    
+    /**
+     * Constructs a new {@link ChainDecomposition} instance, which decomposes the commits of the given
+     * {@link ICommitGraph} reachable from the commit with the given id into maximal linear chains.
+     * 
+     * @param commitGraph the {@link ICommitGraph} containing the start commit and all commits reachable from it;
+     *        should never be <code>null</code>
+     * @param startCommitId the id of the start commit in the given commit graph; must not be
+     *        {@link ICommitGraph#UNKNOWN_COMMIT}
+     */
+    public ChainDecomposition(ICommitGraph commitGraph, int startCommitId) {
+        this.commitGraph = commitGraph;
+        int[] numberOfChildren = new int[commitGraph.size()];
+        int[] topologicalOrder = SequenceStatistics.sortTopologically(commitGraph, startCommitId, numberOfChildren);
+        boolean[] mergeParents = new boolean[commitGraph.size()];
+        for (int commitId : topologicalOrder) {
+            int numberOfParents = commitGraph.getNumberOfParents(commitId);
+            if (numberOfParents > 1) {
+                for (int i = 0; i < numberOfParents; i++) {
+                    mergeParents[commitGraph.getParent(commitId, i)] = true;
+                }
+            }
+        }
+        // Number the chains in reverse topological order, such that the chain of the start commit is the first one
+        chainIds = new int[commitGraph.size()];
+        firstCommits = new int[topologicalOrder.length + 1];
+        numberOfChains = 0;
+        for (int i = topologicalOrder.length - 1; i >= 0; i--) {
+            int commitId = topologicalOrder[i];
+            if (commitId == startCommitId || numberOfChildren[commitId] > 1 || mergeParents[commitId]) {
+                numberOfChains++;
+                chainIds[commitId] = numberOfChains;
+                firstCommits[numberOfChains] = commitId;
+            }
+        }
+        lastCommits = new int[numberOfChains + 1];
+        chainLengths = new int[numberOfChains + 1];
+        for (int chainId = 1; chainId <= numberOfChains; chainId++) {
+            int commitId = firstCommits[chainId];
+            int chainLength = 1;
+            while (commitGraph.getNumberOfParents(commitId) == 1 && chainIds[commitGraph.getParent(commitId, 0)] == 0) {
+                commitId = commitGraph.getParent(commitId, 0);
+                chainLength++;
+            }
+            lastCommits[chainId] = commitId;
+            chainLengths[chainId] = chainLength;
+        }
+    }
+    
+    /**
+     * Returns the number of chains of this decomposition. Valid chain ids range from <i>1</i> to this number.
+     * 
+     * @return the number of chains of this decomposition
+     */
+    public int getNumberOfChains() {
+        return numberOfChains;
+    }
+    
+    /**
+     * Returns the number of commits of the chain with the given id.
+     * 
+     * @param chainId the id of the chain for which the number of commits shall be returned
+     * @return the number of commits of the chain with the given id
+     */
+    public int getChainLength(int chainId) {
+        return chainLengths[chainId];
+    }
+    
+    /**
+     * Returns the number of successors of the chain with the given id. The successors are the chains beginning at the
+     * parents of the last commit of the given chain. Hence, a chain without successors ends at a root commit.
+     * 
+     * @param chainId the id of the chain for which the number of successors shall be returned
+     * @return the number of successors of the chain with the given id
+     */
+    public int getNumberOfSuccessors(int chainId) {
+        return commitGraph.getNumberOfParents(lastCommits[chainId]);
+    }
+    
+    /**
+     * Returns the id of the successor at the given index of the chain with the given id. The order of the successors
+     * corresponds to the order of the parents of the last commit of the given chain.
+     * 
+     * @param chainId the id of the chain for which the successor shall be returned
+     * @param successorIndex the index of the successor to return; must be less than
+     *        {@link #getNumberOfSuccessors(int)}
+     * @return the id of the successor at the given index of the chain with the given id
+     */
+    public int getSuccessor(int chainId, int successorIndex) {
+        return chainIds[commitGraph.getParent(lastCommits[chainId], successorIndex)];
+    }
+    
+    /**
+     * Returns the {@link ICommitGraph} containing the commits of the chains of this decomposition.
+     * 
+     * @return the {@link ICommitGraph} containing the commits of the chains; never <code>null</code>
+     */
+    public ICommitGraph getCommitGraph() {
+        return commitGraph;
+    }
+    
+    /**
+     * Returns the id of the first commit of the chain with the given id in the {@link #getCommitGraph()}. All
+     * subsequent commits of the chain are the first (and only) parents of their predecessors.
+     * 
+     * @param chainId the id of the chain for which the first commit shall be returned
+     * @return the id of the first commit of the chain with the given id
+     */
+    public int getFirstCommit(int chainId) {
+        return firstCommits[chainId];
+    }
+    
+    /**
+     * Appends the commits (SHAs) of the chain with the given id to the given {@link StringBuilder}. Each commit is
+     * preceded by the given separator.
+     * 
+     * @param chainId the id of the chain to append
+     * @param separator the {@link String} to append before each commit; should never be <code>null</code>
+     * @param builder the {@link StringBuilder} to append the commits to; should never be <code>null</code>
+     */
+    public void appendChain(int chainId, String separator, StringBuilder builder) {
+        int commitId = firstCommits[chainId];
+        for (int i = 0; i < chainLengths[chainId]; i++) {
+            builder.append(separator);
+            commitGraph.appendCommit(commitId, builder);
+            if (i + 1 < chainLengths[chainId]) {
+                commitId = commitGraph.getParent(commitId, 0);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * This class enumerates all commit sequences of a {@link ChainDecomposition} lazily as {@link CommitSequenceView}s. The
+ * sequences are found by an iterative depth-first search over the chains starting at the chain of the start commit,
+ * which is advanced only as far as necessary to find the next sequence. Hence, the memory required by this iterator
+ * is bounded by the number of chains (the maximum depth of the search) and does not depend on the number of
+ * sequences.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class ChainSequenceIterator implements Iterator<CommitSequenceView> {
+    
+    /**
+     * The {@link ChainDecomposition} of which the commit sequences are enumerated.
+     */
+    private ChainDecomposition chainDecomposition;
+    
+    /**
+     * The ids of the chains on the current path of the search starting at the chain of the start commit.
+     */
+    private int[] pathChains;
+    
+    /**
+     * The index of the next successor to visit per chain on the current path of the search.
+     */
+    private int[] pathSuccessorIndices;
+    
+    /**
+     * The accumulated number of commits per chain on the current path of the search.
+     */
+    private int[] pathLengths;
+    
+    /**
+     * The number of chains on the current path of the search.
+     */
+    private int pathDepth;
+    
+    /**
+     * The number of sequences returned by {@link #next()} so far.
+     */
+    private long numberOfSequences;
+    
+    /**
+     * The {@link CommitSequenceView} to return by the next call of {@link #next()} or <code>null</code>, if the next
+     * sequence is not found yet or no sequences are left.
+     */
+    private CommitSequenceView nextSequence;
+    
+    /**
+     * Constructs a new {@link ChainSequenceIterator} instance.
+     * 
+     * @param chainDecomposition the {@link ChainDecomposition} of which the commit sequences shall be enumerated;
+     *        should never be <code>null</code>
+     */
+    public ChainSequenceIterator(ChainDecomposition chainDecomposition) {
+        this.chainDecomposition = chainDecomposition;
+        int numberOfChains = chainDecomposition.getNumberOfChains();
+        pathChains = new int[numberOfChains];
+        pathSuccessorIndices = new int[numberOfChains];
+        pathLengths = new int[numberOfChains];
+        pathChains[0] = 1;
+        pathLengths[0] = chainDecomposition.getChainLength(1);
+        pathDepth = 1;
+        numberOfSequences = 0;
+        nextSequence = null;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if (nextSequence == null) {
+            nextSequence = findNextSequence();
+        }
+        return nextSequence != null;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommitSequenceView next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CommitSequenceView sequence = nextSequence;
+        nextSequence = null;
+        return sequence;
+    }
+    
+    /**
+     * Advances the depth-first search until the current path ends at a root commit, which represents the next commit
+     * sequence.
+     * 
+     * @return the next {@link CommitSequenceView} or <code>null</code>, if all sequences are enumerated
+     */
+    private CommitSequenceView findNextSequence() {
+        CommitSequenceView sequence = null;
+        while (sequence == null && pathDepth > 0) {
+            int top = pathDepth - 1;
+            int chainId = pathChains[top];
+            int numberOfSuccessors = chainDecomposition.getNumberOfSuccessors(chainId);
+            if (numberOfSuccessors == 0) {
+                // The current path ends at a root commit and, hence, represents a complete commit sequence
+                numberOfSequences++;
+                sequence = new CommitSequenceView(chainDecomposition, numberOfSequences,
+                        Arrays.copyOf(pathChains, pathDepth), pathLengths[top]);
+                pathDepth--;
+            } else if (pathSuccessorIndices[top] < numberOfSuccessors) {
+                int successorId = chainDecomposition.getSuccessor(chainId, pathSuccessorIndices[top]);
+                pathSuccessorIndices[top]++;
+                pathChains[pathDepth] = successorId;
+                pathSuccessorIndices[pathDepth] = 0;
+                pathLengths[pathDepth] = pathLengths[top] + chainDecomposition.getChainLength(successorId);
+                pathDepth++;
+            } else {
+                pathDepth--;
+            }
+        }
+        return sequence;
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class reads the commit sequences written by the {@link ChainSequenceWriter} and expands them into their
+ * commits (SHAs) on demand. At construction, all chains of the {@link ChainSequenceWriter#CHAINS_FILE_NAME} are loaded,
+ * which requires memory proportional to the number of commits. The potentially large
+ * {@link ChainSequenceWriter#SEQUENCES_FILE_NAME} is only read, if a particular sequence is requested.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class ChainSequenceReader {
+    
+    /**
+     * The commits (SHAs) per chain. As chain ids start at <i>1</i>, the chain with id <i>n</i> is stored at index
+     * <i>n - 1</i>.
+     */
+    private List<String[]> chains;
+    
+    /**
+     * The {@link File} denoting the {@link ChainSequenceWriter#SEQUENCES_FILE_NAME}.
+     */
+    private File sequencesFile;
+    
+    /**
+     * Constructs a new {@link ChainSequenceReader} instance, which reads the chains and sequences written by the
+     * {@link ChainSequenceWriter} to the given directory.
+     * 
+     * @param outputDirectory the {@link File} denoting the directory containing the files written by the
+     *        {@link ChainSequenceWriter}; should never be <code>null</code>
+     * @throws IOException if reading the {@link ChainSequenceWriter#CHAINS_FILE_NAME} fails or its content is not as
+     *         expected
+     */
+    public ChainSequenceReader(File outputDirectory) throws IOException {
+        chains = new ArrayList<String[]>();
+        sequencesFile = new File(outputDirectory, ChainSequenceWriter.SEQUENCES_FILE_NAME);
+        File chainsFile = new File(outputDirectory, ChainSequenceWriter.CHAINS_FILE_NAME);
+        try (BufferedReader chainsReader = Files.newBufferedReader(chainsFile.toPath())) {
+            String chainLine;
+            while ((chainLine = chainsReader.readLine()) != null) {
+                String[] chainValues = chainLine.split(ChainSequenceWriter.SEPARATOR);
+                String expectedChainName = ChainSequenceWriter.CHAIN_PREFIX + (chains.size() + 1);
+                if (!chainValues[0].equals(expectedChainName)) {
+                    throw new IOException("Expected chain \"" + expectedChainName + "\" but found \"" + chainValues[0]
+                            + "\" in \"" + chainsFile.getAbsolutePath() + "\"");
+                }
+                chains.add(Arrays.copyOfRange(chainValues, 1, chainValues.length));
+            }
+        }
+    }
+    
+    /**
+     * Returns the number of chains read from the {@link ChainSequenceWriter#CHAINS_FILE_NAME}.
+     * 
+     * @return the number of chains; valid chain ids range from <i>1</i> to this number
+     */
+    public int getNumberOfChains() {
+        return chains.size();
+    }
+    
+    /**
+     * Returns the commits (SHAs) of the chain with the given id.
+     * 
+     * @param chainId the id of the chain for which the commits shall be returned
+     * @return the commits of the chain with the given id in the order of their occurrence in commit sequences; never
+     *         <code>null</code>
+     */
+    public String[] getChain(int chainId) {
+        String[] chain = chains.get(chainId - 1);
+        return Arrays.copyOf(chain, chain.length);
+    }
+    
+    /**
+     * Expands the given chain ids into the commits (SHAs) of the corresponding chains in the given order.
+     * 
+     * @param chainIds the ids of the chains to expand; should never be <code>null</code>
+     * @return the concatenation of the commits of the chains with the given ids; never <code>null</code>
+     */
+    public String[] expand(int... chainIds) {
+        int numberOfCommits = 0;
+        for (int chainId : chainIds) {
+            numberOfCommits += chains.get(chainId - 1).length;
+        }
+        String[] commits = new String[numberOfCommits];
+        int commitIndex = 0;
+        for (int chainId : chainIds) {
+            String[] chain = chains.get(chainId - 1);
+            System.arraycopy(chain, 0, commits, commitIndex, chain.length);
+            commitIndex += chain.length;
+        }
+        return commits;
+    }
+    
+    /**
+     * Expands the given line of the {@link ChainSequenceWriter#SEQUENCES_FILE_NAME} into the commits (SHAs) of the
+     * sequence it represents.
+     * 
+     * @param sequenceLine the line of the sequences file to expand; should never be <code>null</code>
+     * @return the commits of the sequence represented by the given line; never <code>null</code>
+     * @throws IOException if the given line is not a valid sequence line
+     */
+    public String[] expand(String sequenceLine) throws IOException {
+        String[] sequenceValues = sequenceLine.split(ChainSequenceWriter.SEPARATOR);
+        if (sequenceValues.length < 3) {
+            throw new IOException("Invalid sequence \"" + sequenceLine + "\"");
+        }
+        int[] chainIds = new int[sequenceValues.length - 2];
+        try {
+            for (int i = 0; i < chainIds.length; i++) {
+                chainIds[i] = Integer.parseInt(sequenceValues[i + 2]);
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid chain id in sequence \"" + sequenceLine + "\"", e);
+        }
+        return expand(chainIds);
+    }
+    
+    /**
+     * Reads the sequence with the given number from the {@link ChainSequenceWriter#SEQUENCES_FILE_NAME} and expands it
+     * into its commits (SHAs). As the sequences file is read line by line until the requested sequence is found,
+     * consumers processing all sequences should rather read that file themselves and call {@link #expand(String)}
+     * for each line.
+     * 
+     * @param sequenceNumber the number of the sequence to read, which is the number following the
+     *        {@link ChainSequenceWriter#SEQUENCE_PREFIX} in the sequence name
+     * @return the commits of the sequence with the given number or <code>null</code>, if no such sequence exists
+     * @throws IOException if reading the sequences file fails or the requested sequence is not valid
+     */
+    public String[] readSequence(long sequenceNumber) throws IOException {
+        String[] commits = null;
+        String sequenceName = ChainSequenceWriter.SEQUENCE_PREFIX + sequenceNumber + ChainSequenceWriter.SEPARATOR;
+        try (BufferedReader sequencesReader = Files.newBufferedReader(sequencesFile.toPath())) {
+            String sequenceLine = sequencesReader.readLine();
+            while (commits == null && sequenceLine != null) {
+                if (sequenceLine.startsWith(sequenceName)) {
+                    commits = expand(sequenceLine);
+                } else {
+                    sequenceLine = sequencesReader.readLine();
+                }
+            }
+        }
+        return commits;
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+
+import net.ssehub.gcs.utilities.FileUtilities;
+
+/**
+ * This class writes the commit sequences starting at a particular commit in terms of a {@link ChainDecomposition}.
+ * Instead of a file per sequence, which repeats all commits shared with other sequences, it writes two
+ * comma-separated-values files:
+ * <ul>
+ * <li>The {@link #CHAINS_FILE_NAME} contains a line per chain consisting of the chain name (the
+ *     {@link #CHAIN_PREFIX} followed by the chain id) and the commits (SHAs) of that chain. Hence, each commit is
+ *     written exactly once.</li>
+ * <li>The {@link #SEQUENCES_FILE_NAME} contains a line per commit sequence consisting of the sequence name (the
+ *     {@link #SEQUENCE_PREFIX} followed by the sequence number), the number of commits in that sequence, and the ids
+ *     of the chains, which constitute the sequence in the order of their concatenation.</li>
+ * </ul>
+ * The {@link ChainSequenceReader} expands the sequences of these files back into their commits.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class ChainSequenceWriter {
+    
+    /**
+     * The {@link String} defining the constant chains file name.
+     * <br><br>
+     * Value: <code>GitCommitSequencer_Chains.csv</code>
+     */
+    public static final String CHAINS_FILE_NAME = "GitCommitSequencer_Chains.csv";
+    
+    /**
+     * The {@link String} defining the constant sequences file name.
+     * <br><br>
+     * Value: <code>GitCommitSequencer_Sequences.csv</code>
+     */
+    public static final String SEQUENCES_FILE_NAME = "GitCommitSequencer_Sequences.csv";
+    
+    /**
+     * The prefix of the name of each chain in the {@link #CHAINS_FILE_NAME}.
+     * <br><br>
+     * Value: <code>Chain_</code>
+     */
+    public static final String CHAIN_PREFIX = "Chain_";
+    
+    /**
+     * The prefix of the name of each sequence in the {@link #SEQUENCES_FILE_NAME}.
+     * <br><br>
+     * Value: <code>CommitSequence_</code>
+     */
+    public static final String SEQUENCE_PREFIX = "CommitSequence_";
+    
+    /**
+     * The separator of the values in each line of the written files.
+     * <br><br>
+     * Value: <code>,</code>
+     */
+    public static final String SEPARATOR = ",";
+    
+    /**
+     * The number of characters (Unicode code units), which the {@link #buffer} may reach before its content is written
+     * to the current output file.
+     */
+    private static final int BUFFER_CAPACITY = 1 << 20;
+    
+    /**
+     * The {@link FileUtilities} for opening and closing the file channels for writing the output files.
+     */
+    private FileUtilities fileUtilities;
+    
+    /**
+     * The {@link File} denoting the directory to which the output files are written.
+     */
+    private File outputDirectory;
+    
+    /**
+     * The {@link StringBuilder} collecting the lines for the current output file before writing them in larger
+     * blocks via {@link #flush()}.
+     */
+    private StringBuilder buffer;
+    
+    /**
+     * Constructs a new {@link ChainSequenceWriter} instance.
+     * 
+     * @param outputDirectory the {@link File} denoting the directory to which the output files are written; should
+     *        never be <code>null</code>
+     */
+    public ChainSequenceWriter(File outputDirectory) {
+        this.outputDirectory = outputDirectory;
+        fileUtilities = new FileUtilities();
+        buffer = new StringBuilder(BUFFER_CAPACITY + BUFFER_CAPACITY / 2);
+    }
+    
+    /**
+     * Writes the chains of the given {@link ChainDecomposition} to the {@link #CHAINS_FILE_NAME} and all commit
+     * sequences as lists of chain ids to the {@link #SEQUENCES_FILE_NAME}.
+     * 
+     * @param chainDecomposition the {@link ChainDecomposition} to write; should never be <code>null</code>
+     * @return the number of written commit sequences
+     * @throws CommitSequenceCreationException if writing one of the files fails
+     */
+    public long write(ChainDecomposition chainDecomposition) throws CommitSequenceCreationException {
+        File chainsFile = new File(outputDirectory, CHAINS_FILE_NAME);
+        open(chainsFile);
+        String lineSeparator = System.lineSeparator();
+        for (int chainId = 1; chainId <= chainDecomposition.getNumberOfChains(); chainId++) {
+            buffer.append(CHAIN_PREFIX).append(chainId);
+            chainDecomposition.appendChain(chainId, SEPARATOR, buffer);
+            buffer.append(lineSeparator);
+            flushIfFull(chainsFile);
+        }
+        close(chainsFile);
+        File sequencesFile = new File(outputDirectory, SEQUENCES_FILE_NAME);
+        open(sequencesFile);
+        long numberOfSequences = writeSequences(chainDecomposition, sequencesFile);
+        close(sequencesFile);
+        return numberOfSequences;
+    }
+    
+    /**
+     * Writes all commit sequences of the given {@link ChainDecomposition} as lists of chain ids to the given file. The
+     * sequences are enumerated lazily by a {@link ChainSequenceIterator}. Hence, the memory required for the
+     * enumeration is bounded by the number of chains.
+     * 
+     * @param chainDecomposition the {@link ChainDecomposition} to write; should never be <code>null</code>
+     * @param sequencesFile the {@link File} to write the sequences to; its file channel must be open already
+     * @return the number of written commit sequences
+     * @throws CommitSequenceCreationException if writing to the given file fails
+     */
+    private long writeSequences(ChainDecomposition chainDecomposition, File sequencesFile)
+            throws CommitSequenceCreationException {
+        long numberOfSequences = 0;
+        String lineSeparator = System.lineSeparator();
+        ChainSequenceIterator sequences = new ChainSequenceIterator(chainDecomposition);
+        while (sequences.hasNext()) {
+            CommitSequenceView sequence = sequences.next();
+            buffer.append(SEQUENCE_PREFIX).append(sequence.getSequenceNumber()).append(SEPARATOR)
+                    .append(sequence.getNumberOfCommits());
+            for (int i = 0; i < sequence.getNumberOfChains(); i++) {
+                buffer.append(SEPARATOR).append(sequence.getChainId(i));
+            }
+            buffer.append(lineSeparator);
+            flushIfFull(sequencesFile);
+            numberOfSequences++;
+        }
+        return numberOfSequences;
+    }
+    
+    /**
+     * Opens the file channel for writing the given file via the {@link #fileUtilities}.
+     * 
+     * @param outputFile the {@link File} to open
+     * @throws CommitSequenceCreationException if opening the file channel fails
+     */
+    private void open(File outputFile) throws CommitSequenceCreationException {
+        if (!fileUtilities.openFileChannel(outputFile)) {
+            throw new CommitSequenceCreationException("Opening file channel for output file \""
+                    + outputFile.getAbsolutePath() + "\" failed");
+        }
+    }
+    
+    /**
+     * Writes the content of the {@link #buffer} to the given file, if it exceeds the {@link #BUFFER_CAPACITY}.
+     * 
+     * @param outputFile the {@link File} to which the {@link #buffer} is written; its file channel must be open already
+     * @throws CommitSequenceCreationException if writing the content of the {@link #buffer} fails
+     */
+    private void flushIfFull(File outputFile) throws CommitSequenceCreationException {
+        if (buffer.length() >= BUFFER_CAPACITY) {
+            flush(outputFile);
+        }
+    }
+    
+    /**
+     * Writes the content of the {@link #buffer} to the given file and clears the {@link #buffer} afterwards.
+     * 
+     * @param outputFile the {@link File} to which the {@link #buffer} is written; its file channel must be open already
+     * @throws CommitSequenceCreationException if writing the content of the {@link #buffer} fails
+     */
+    private void flush(File outputFile) throws CommitSequenceCreationException {
+        if (!fileUtilities.writeAscii(buffer)) {
+            throw new CommitSequenceCreationException("Writing to output file \"" + outputFile.getAbsolutePath()
+                    + "\" failed");
+        }
+        buffer.setLength(0);
+    }
+    
+    /**
+     * Writes the remaining content of the {@link #buffer} to the given file and closes its file channel.
+     * 
+     * @param outputFile the {@link File} to close
+     * @throws CommitSequenceCreationException if writing the remaining content or closing the file channel fails
+     */
+    private void close(File outputFile) throws CommitSequenceCreationException {
+        try {
+            flush(outputFile);
+        } finally {
+            if (!fileUtilities.closeFileChannel()) {
+                throw new CommitSequenceCreationException("Closing file channel for output file \""
+                        + outputFile.getAbsolutePath() + "\" failed");
+            }
+        }
+    }
+
+}
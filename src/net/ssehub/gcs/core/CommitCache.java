@@ -15,15 +15,27 @@
 package net.ssehub.gcs.core;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import net.ssehub.gcs.utilities.FileUtilities;
-import net.ssehub.gcs.utilities.Logger;
-import net.ssehub.gcs.utilities.Logger.MessageType;
+import net.ssehub.gcs.utilities.WriteBehindExecutor;
+import net.ssehub.gcs.utilities.WriteBehindFile;
 
 /**
- * This class realizes a commit cache with a fixed capacity for <i>1000</i> commits. If this threshold is reached, those
- * commits are written to an output file given as a parameter to the constructor of this class, which clears the cache
- * for storing the subsequent commits.
+ * This class realizes a commit cache with a fixed capacity of {@link #CACHE_CAPACITY} bytes. If this threshold is
+ * reached, those commits are written to an output file given as a parameter to the constructor of this class, which
+ * clears the cache for storing the subsequent commits. Writing is performed asynchronously by a writer thread of a
+ * {@link WriteBehindExecutor}; hence, adding commits continues while previous commits are written. A failure of such a
+ * write is reported by the next call of an <code>add</code>-method or of {@link #destroy()}.<br>
+ * <br>
+ * The cache itself is a direct {@link ByteBuffer} acquired from the {@link WriteBehindFile}, which is handed over to
+ * the writer thread as a whole, if it is full. This buffer is acquired only when there is content to put into it and
+ * it is handed over without acquiring a new one, if the cache is cleared. Hence, an idle cache does not hold a buffer
+ * of the limited pool of the {@link WriteBehindExecutor}. By default, each commit is encoded into that buffer as a
+ * line of hexadecimal ASCII characters without creating any intermediate {@link String} or array. If this cache is
+ * constructed with an object id length, the commits are written in the binary format described by
+ * {@link SequenceReader} instead: the output file starts with a header followed by the raw object ids of the
+ * commits.
  * 
  * @author Christian Kroeher
  *
@@ -36,46 +48,46 @@ public class CommitCache {
     private static final String ID = "CommitCache";
     
     /**
-     * The number of characters (Unicode code units) of a standard commit SHA. This number is used in combination with 
-     * the {@link #CACHE_CAPACITY} to set the capacity of the {@link #commitCacheStringBuilder}.
+     * The number of bytes defining the capacity of this {@link CommitCache} instance. As the cache is a buffer
+     * acquired from the {@link WriteBehindFile}, this number is the capacity of such a buffer.
      */
-    private static final int STANDARD_COMMIT_UNICODE_CODE_UNITS = 40;
+    private static final int CACHE_CAPACITY = WriteBehindExecutor.BUFFER_CAPACITY;
     
     /**
-     * The number of commits defining the capacity of this {@link CommitCache} instance. This number is used in
-     * combination with the {@link #STANDARD_COMMIT_UNICODE_CODE_UNITS} to set the capacity of the
-     * {@link #commitCacheStringBuilder}.
+     * The line separator following each commit, if this cache writes lines of hexadecimal characters. The line
+     * separator only consists of single-byte (ASCII) characters.
      */
-    private static final int CACHE_CAPACITY = 1000;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes();
     
     /**
-     * The index (running number) of the last commit defining the threshold of this {@link CommitCache} instance. 
+     * The ASCII characters representing the hexadecimal digits in the order of their values.
      */
-    private static final int CACHE_LAST_INDEX = CACHE_CAPACITY - 1;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes();
     
     /**
-     * The {@link Logger} for pretty-printing messages to the console.
+     * The {@link WriteBehindFile} for writing the commits to the output file asynchronously.
      */
-    private Logger logger = Logger.getInstance();
+    private WriteBehindFile outputFile;
     
     /**
-     * The {@link FileUtilities} for opening and closing the {@link #outputFileChannel} for writing the commits to an
-     * output file.
+     * The direct {@link ByteBuffer} acquired from the {@link #outputFile} representing the actual cache, to which each
+     * commit will be put. It is handed over to the {@link #outputFile} during {@link #clear()}, e.g., if the threshold
+     * is reached. This buffer is <code>null</code> until the next content is put into this cache, if acquiring a new
+     * buffer failed, or if this cache is destroyed.
      */
-    private FileUtilities fileUtilities;
+    private ByteBuffer commitCacheBuffer;
     
     /**
-     * The {@link StringBuilder} representing the actual cache to which each commit will be append with an additional
-     * line separator during {@link #add(String)}. Its length is reseted to <i>0</i> during {@link #clear()}, e.g., if
-     * the threshold is reached.
+     * The number of bytes of the raw object id of each commit, if this cache writes the binary format, or <i>0</i>
+     * otherwise.
      */
-    private StringBuilder commitCacheStringBuilder;
+    private int objectIdLength;
     
     /**
-     * The zero-based counter of commits currently stored in this {@link CommitCache} instance. This counter indicates
-     * when to {@link #clear()} this cache, which happens, if it reaches the {@link #CACHE_CAPACITY}.
+     * The definition of whether the header of the binary format still has to be put into the next acquired
+     * {@link #commitCacheBuffer} (<code>true</code>) or not (<code>false</code>).
      */
-    private int commitCounter;
+    private boolean headerPending;
     
     /**
      * The counter for the total number of commits added to this {@link CommitCache} instance.
@@ -83,64 +95,108 @@ public class CommitCache {
     private int totalCommitCounter;
     
     /**
-     * Constructs a new {@link CommitCache} instance.
+     * Constructs a new {@link CommitCache} instance, which writes the output file via the given
+     * {@link WriteBehindExecutor}. As this executor is shared by all caches of a run of sequence creations, its
+     * buffers and writer threads are sized to the number of these caches used concurrently. If the given object id
+     * length is greater than <i>0</i>, this cache writes the binary format described by {@link SequenceReader}.
+     * Hence, the header of that format is written before any other content.
      * 
      * @param outputFile the {@link File} to which the content of this cache will be written
+     * @param objectIdLength the number of bytes of the raw object id of each commit; either <i>20</i> for SHA-1 or
+     *        <i>32</i> for SHA-256 object ids, or <i>0</i> for writing lines of hexadecimal characters
+     * @param executor the {@link WriteBehindExecutor} for writing the output file, which must not be closed before
+     *        this cache is destroyed; should never be <code>null</code>
      * @throws CommitCacheCreationException if creating this instance fails
      */
-    public CommitCache(File outputFile) throws CommitCacheCreationException {
-        fileUtilities = new FileUtilities();
-        if (!fileUtilities.openFileChannel(outputFile)) {
+    public CommitCache(File outputFile, int objectIdLength, WriteBehindExecutor executor)
+            throws CommitCacheCreationException {
+        this.outputFile = new WriteBehindFile(executor);
+        if (!this.outputFile.open(outputFile)) {
             throw new CommitCacheCreationException("Opening file channel for output file \"" 
                     + outputFile.getAbsolutePath() + "\" failed");
         }
-        commitCacheStringBuilder = new StringBuilder(STANDARD_COMMIT_UNICODE_CODE_UNITS * CACHE_CAPACITY);
-        commitCounter = 0;
+        this.objectIdLength = objectIdLength;
+        headerPending = objectIdLength > 0;
         totalCommitCounter = 0;
     }
     
     /**
-     * Adds the given commit to this cache. If the threshold is reached, the cache content is written to the output file
-     * before the given commit is stored.
+     * Adds the commit with the given id in the given {@link ICommitGraph} to this cache. The commit is put directly
+     * into this cache without creating an intermediate {@link String}: the raw object id is put into the
+     * {@link #commitCacheBuffer} and, if this cache writes lines of hexadecimal characters, expanded to these
+     * characters in place. If the threshold is reached, the cache content is written to the output file before the
+     * given commit is stored.
      * 
-     * @param commit {@link String} representing a commit to be added to this cache
+     * @param commitGraph the {@link ICommitGraph} containing the commit to add; should never be <code>null</code>
+     * @param commitId the id of the commit in the given graph to add to this cache
      * @return <code>true</code>, if adding the given commit was successful; <code>false</code> otherwise
      */
-    public boolean add(String commit) {
+    public boolean add(ICommitGraph commitGraph, int commitId) {
         boolean commitAddedSuccessfully = false;
-        if (commit != null && !commit.isBlank()) {
-            if (commitCounter == CACHE_LAST_INDEX) {
-                if (clear()) {
-                    commitCacheStringBuilder.append(commit);
-                    commitCacheStringBuilder.append(System.lineSeparator());
-                    commitCounter++;
-                    totalCommitCounter++;
-                    commitAddedSuccessfully = true;
-                } // TODO What happens if clearing fails here?
-            } else {
-                commitCacheStringBuilder.append(commit);
-                commitCacheStringBuilder.append(System.lineSeparator());
-                commitCounter++;
-                totalCommitCounter++;
+        if (objectIdLength == 0) {
+            int rawLength = commitGraph.getObjectIdLength();
+            if (ensureRemaining(2 * rawLength + LINE_SEPARATOR.length)) {
+                int commitStart = commitCacheBuffer.position();
+                commitGraph.putCommit(commitId, commitCacheBuffer);
+                // Expand from the last byte backwards to avoid overwriting bytes, which are not expanded yet
+                for (int i = rawLength - 1; i >= 0; i--) {
+                    int value = commitCacheBuffer.get(commitStart + i) & 0xFF;
+                    commitCacheBuffer.put(commitStart + 2 * i + 1, HEX_DIGITS[value & 0xF]);
+                    commitCacheBuffer.put(commitStart + 2 * i, HEX_DIGITS[value >>> 4]);
+                }
+                commitCacheBuffer.position(commitStart + 2 * rawLength);
+                commitCacheBuffer.put(LINE_SEPARATOR);
                 commitAddedSuccessfully = true;
             }
-        } else {
-            logger.log(ID, "Addition of commit denied",
-                    "The commit is \"null\", empty, or contains only white space codepoints", MessageType.WARNING);
+        } else if (ensureRemaining(objectIdLength)) {
+            commitGraph.putCommit(commitId, commitCacheBuffer);
+            commitAddedSuccessfully = true;
+        }
+        if (commitAddedSuccessfully) {
+            totalCommitCounter++;
         }
         return commitAddedSuccessfully;
     }
     
+    /**
+     * Adds the given number of commits from the beginning of the given file to this cache. As these commits are
+     * copied directly from that file to the output file via {@link FileUtilities#append(File, long, long)} on the
+     * writer thread, the current content of this cache is written to the output file before. Hence, the commits are
+     * neither decoded nor stored in this cache, but count as added commits. If this cache writes the binary format,
+     * the given file must be in that format as well and its header is skipped.
+     * 
+     * @param commitSequenceFile the {@link File} containing one commit per line or, if this cache writes the binary
+     *        format, one raw object id after another, e.g., the output file of another commit sequence; should never
+     *        be <code>null</code>
+     * @param numberOfCommits the number of commits (lines) to add from the beginning of the given file
+     * @param numberOfBytes the number of bytes of these commits (lines) including their line separators; excluding
+     *        the header of the binary format
+     * @return <code>true</code>, if adding the commits was successful; <code>false</code> otherwise
+     */
+    public boolean add(File commitSequenceFile, int numberOfCommits, long numberOfBytes) {
+        boolean commitsAddedSuccessfully = false;
+        long position = 0;
+        if (objectIdLength > 0) {
+            position = SequenceReader.HEADER_LENGTH;
+        }
+        if (clear() && outputFile.append(commitSequenceFile, position, numberOfBytes)) {
+            totalCommitCounter += numberOfCommits;
+            commitsAddedSuccessfully = true;
+        }
+        return commitsAddedSuccessfully;
+    }
+    
     /**
      * Destroys this cache in terms of writing the current commits to the output file, closing the file channel, and
-     * deleting all references to internal objects.
+     * deleting all references to internal objects. This method waits until all commits of this cache are written to
+     * the output file. Hence, that file is complete, when this method returns.
      * 
-     * @return <code>true</code>, if destroying this cache was successful; <code>false</code> otherwise
+     * @return <code>true</code>, if destroying this cache was successful; <code>false</code> otherwise, e.g., if
+     *         writing any commits of this cache to the output file failed
      */
     public boolean destroy() {
-        boolean cacheDestroyedSuccessfully = clear() && fileUtilities.closeFileChannel();
-        logger = null;
-        commitCacheStringBuilder = null;
+        boolean cacheCleared = clear();
+        boolean cacheDestroyedSuccessfully = outputFile.close() && cacheCleared;
         return cacheDestroyedSuccessfully;
     }
     
@@ -154,23 +210,66 @@ public class CommitCache {
     }
     
     /**
-     * Clears this cache by writing the content of the {@link #commitCacheStringBuilder} via the 
-     * {@link #outputFileChannel} to the output file and setting the length of the {@link #commitCacheStringBuilder} as
-     * well as the {@link #commitCounter} to <i>0</i>.
+     * Checks whether the {@link #commitCacheBuffer} provides the given number of remaining bytes. If it does not, this
+     * cache is cleared and a new buffer is acquired.
      * 
-     * @return <code>true</code>, if clearing this cache was successful; <code>false</code> otherwise
+     * @param numberOfBytes the number of bytes to put into the {@link #commitCacheBuffer} next; must not be greater
+     *        than the {@link #CACHE_CAPACITY} minus the length of the header of the binary format
+     * @return <code>true</code>, if the {@link #commitCacheBuffer} provides the given number of remaining bytes;
+     *         <code>false</code>, if clearing this cache or acquiring a new buffer failed
+     */
+    private boolean ensureRemaining(int numberOfBytes) {
+        boolean bytesRemaining = commitCacheBuffer != null && commitCacheBuffer.remaining() >= numberOfBytes;
+        if (!bytesRemaining) {
+            bytesRemaining = clear() && acquire();
+        }
+        return bytesRemaining;
+    }
+    
+    /**
+     * Acquires a new, empty {@link #commitCacheBuffer} from the {@link #outputFile} and puts the header of the binary
+     * format into it, if that header is still pending. If the writer threads fall behind, acquiring a buffer blocks
+     * until a buffer is available again.
+     * 
+     * @return <code>true</code>, if acquiring the buffer was successful; <code>false</code> otherwise
+     */
+    private boolean acquire() {
+        commitCacheBuffer = outputFile.acquireBuffer();
+        if (commitCacheBuffer != null && headerPending) {
+            commitCacheBuffer.put(SequenceReader.createHeader(objectIdLength));
+            headerPending = false;
+        }
+        return commitCacheBuffer != null;
+    }
+    
+    /**
+     * Clears this cache by handing the {@link #commitCacheBuffer} over to the {@link #outputFile}, if this cache
+     * currently holds a buffer. A new buffer is not acquired before the next content is put into this cache. If the
+     * header of the binary format is still pending, it is handed over before.
+     * 
+     * @return <code>true</code>, if clearing this cache was successful; <code>false</code> otherwise, e.g., if writing
+     *         previous content of this cache to the output file failed
      */
     private boolean clear() {
-        boolean cacheClearedSuccessfully = false;
-        // Write all commits in this cache via the given file channel
-        String commitCacheString = commitCacheStringBuilder.toString();
-        if (fileUtilities.write(commitCacheString)) {
-            // Clear the actual cache
-            commitCacheStringBuilder.setLength(0);
-            commitCounter = 0;
-            cacheClearedSuccessfully = true;
+        boolean cacheClearedSuccessfully = !headerPending || acquire();
+        if (cacheClearedSuccessfully && commitCacheBuffer != null) {
+            cacheClearedSuccessfully = handOver();
         }
         return cacheClearedSuccessfully;
     }
+    
+    /**
+     * Hands the {@link #commitCacheBuffer} over to the {@link #outputFile} for writing its content asynchronously and
+     * sets it to <code>null</code>. Hence, this cache must not use that buffer anymore.
+     * 
+     * @return <code>true</code>, if handing the buffer over was successful and no previous write to the output file
+     *         failed; <code>false</code> otherwise
+     */
+    private boolean handOver() {
+        commitCacheBuffer.flip();
+        boolean bufferHandedOver = outputFile.write(commitCacheBuffer);
+        commitCacheBuffer = null;
+        return bufferHandedOver;
+    }
 
 }
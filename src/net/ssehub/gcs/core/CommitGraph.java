@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class realizes an {@link ICommitGraph}, which represents the in-memory commit graph of a Git repository. The
+ * parent commits of all commits are stored as ids in a compressed-sparse-row (CSR) format: the parent ids of the
+ * commit with id <code>i</code> are located in {@link #parents} from index <code>parentOffsets[i]</code> (inclusive)
+ * to index <code>parentOffsets[i + 1]</code> (exclusive) in the order defined by Git. Hence, the first parent of a
+ * commit is always located at its offset, while further parents of merge commits (including octopus merges) follow
+ * directly.
+ * <br><br>
+ * Instances of this class are immutable and created by a {@link CommitGraphBuilder}.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class CommitGraph implements ICommitGraph {
+    
+    /**
+     * The {@link ObjectIdIndex} of all commits (SHAs) in this graph, which defines their ids.
+     */
+    private ObjectIdIndex commitIndex;
+    
+    /**
+     * The array of offsets into the {@link #parents} array. The element at index <code>i</code> denotes the index of
+     * the first parent of the commit with id <code>i</code>; the element at index <code>i + 1</code> denotes the end
+     * (exclusive) of the parents of that commit. Hence, this array contains {@link #size()} + 1 elements.
+     */
+    private int[] parentOffsets;
+    
+    /**
+     * The array of the parent ids of all commits in this graph grouped by commits as defined by the
+     * {@link #parentOffsets}.
+     */
+    private int[] parents;
+    
+    /**
+     * Constructs a new {@link CommitGraph} instance.
+     * 
+     * @param commitIndex the {@link ObjectIdIndex} of all commits (SHAs), which defines their ids; should never be
+     *        <code>null</code>
+     * @param parentOffsets the array of offsets into the given parents array as defined by {@link #parentOffsets};
+     *        should never be <code>null</code>
+     * @param parents the array of the parent ids of all commits as defined by {@link #parents}; should never be
+     *        <code>null</code>
+     */
+    CommitGraph(ObjectIdIndex commitIndex, int[] parentOffsets, int[] parents) {
+        this.commitIndex = commitIndex;
+        this.parentOffsets = parentOffsets;
+        this.parents = parents;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getId(String commit) {
+        int commitId = UNKNOWN_COMMIT;
+        if (commit != null && commit.length() == commitIndex.getObjectIdLength() * 2) {
+            commitId = commitIndex.get(commit, 0);
+        }
+        return commitId;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(String commit) {
+        return getId(commit) != UNKNOWN_COMMIT;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCommit(int commitId) {
+        return commitIndex.toHex(commitId);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendCommit(int commitId, StringBuilder builder) {
+        commitIndex.appendHex(commitId, builder);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putCommit(int commitId, ByteBuffer buffer) {
+        commitIndex.putRaw(commitId, buffer);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getObjectIdLength() {
+        return commitIndex.getObjectIdLength();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumberOfParents(int commitId) {
+        return parentOffsets[commitId + 1] - parentOffsets[commitId];
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getParent(int commitId, int parentIndex) {
+        return parents[parentOffsets[commitId] + parentIndex];
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return commitIndex.size();
+    }
+    
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.util.Arrays;
+
+/**
+ * This class incrementally collects commits and their parent commits, e.g., while parsing the output of an external
+ * process, and creates the corresponding {@link CommitGraph}. Commits can be added in any order; each commit (SHA)
+ * receives its dense id when it is seen for the first time, either as a commit or as a parent commit. The commits are
+ * stored in an {@link ObjectIdIndex}, which is created as soon as the first commit reveals the object id length of the
+ * repository.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class CommitGraphBuilder {
+    
+    /**
+     * The initial capacity of the internal arrays of this builder. The arrays grow by doubling their capacity, if
+     * needed.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    /**
+     * The {@link ObjectIdIndex} of all commits (SHAs) seen so far, which also assigns their ids. This index is
+     * <code>null</code> until the first commit is added.
+     */
+    private ObjectIdIndex commitIndex;
+    
+    /**
+     * The array of the child ids of all edges added so far. The element at index <code>i</code> in combination with
+     * the element at the same index in {@link #edgeParents} defines a single edge. Only the first
+     * {@link #numberOfEdges} elements are valid.
+     */
+    private int[] edgeChildren;
+    
+    /**
+     * The array of the parent ids of all edges added so far in the order of their addition.
+     * 
+     * @see #edgeChildren
+     */
+    private int[] edgeParents;
+    
+    /**
+     * The number of edges added so far.
+     */
+    private int numberOfEdges;
+    
+    /**
+     * Constructs a new, empty {@link CommitGraphBuilder} instance.
+     */
+    public CommitGraphBuilder() {
+        commitIndex = null;
+        edgeChildren = new int[INITIAL_CAPACITY];
+        edgeParents = new int[INITIAL_CAPACITY];
+        numberOfEdges = 0;
+    }
+    
+    /**
+     * Constructs a new, empty {@link CommitGraphBuilder} instance, which uses the given {@link ObjectIdIndex} for
+     * assigning the ids of the commits. This enables callers to add commits to that index directly and to add the
+     * edges between them via {@link #addParent(int, int)}, e.g., while using the index as the set of visited commits.
+     * 
+     * @param commitIndex the {@link ObjectIdIndex} assigning the ids of the commits; should never be
+     *        <code>null</code>
+     */
+    public CommitGraphBuilder(ObjectIdIndex commitIndex) {
+        this();
+        this.commitIndex = commitIndex;
+    }
+    
+    /**
+     * Adds the given commit and its parent commits to this builder. The parent commits must be given in the order
+     * defined by Git and each commit must be added at most once.
+     * 
+     * @param commit the {@link String} representing the commit (SHA) to add; should never be <code>null</code> nor
+     *        <i>blank</i>
+     * @param parents the {@link String} array containing all parent commits (SHAs) of the given commit in the order
+     *        defined by Git; can be <code>null</code>, if the commit does not have any parent commits
+     * @return the id of the given commit
+     */
+    public int add(String commit, String[] parents) {
+        int commitId = getOrCreateId(commit, 0, commit.length());
+        if (parents != null) {
+            for (int i = 0; i < parents.length; i++) {
+                addEdge(commitId, getOrCreateId(parents[i], 0, parents[i].length()));
+            }
+        }
+        return commitId;
+    }
+    
+    /**
+     * Adds the commit and its parent commits defined in the given line to this builder. The line must contain the
+     * commit (SHA) followed by its parent commits (SHAs) in the order defined by Git, all separated by single spaces,
+     * like the output lines of <code>git rev-list --parents</code>. In contrast to {@link #add(String, String[])}, this
+     * method does not split the line into separate {@link String}s.
+     * 
+     * @param line the {@link CharSequence} containing the commit and its parent commits; should never be
+     *        <code>null</code> nor <i>blank</i>
+     * @return the id of the commit defined in the given line
+     */
+    public int add(CharSequence line) {
+        int commitEnd = indexOf(line, ' ', 0);
+        int commitId = getOrCreateId(line, 0, commitEnd);
+        int parentStart = commitEnd + 1;
+        while (parentStart < line.length()) {
+            int parentEnd = indexOf(line, ' ', parentStart);
+            addEdge(commitId, getOrCreateId(line, parentStart, parentEnd));
+            parentStart = parentEnd + 1;
+        }
+        return commitId;
+    }
+    
+    /**
+     * Adds an edge from the commit with the given id to its parent commit with the given id. The parent commits of a
+     * commit must be added in the order defined by Git.
+     * 
+     * @param commitId the id of the commit in the {@link ObjectIdIndex} of this builder
+     * @param parentId the id of the parent commit in the {@link ObjectIdIndex} of this builder
+     */
+    public void addParent(int commitId, int parentId) {
+        addEdge(commitId, parentId);
+    }
+    
+    /**
+     * Returns the index of the first occurrence of the given character in the given character sequence starting at the
+     * given index.
+     * 
+     * @param sequence the {@link CharSequence} to search in
+     * @param character the character to search for
+     * @param fromIndex the index to start the search at
+     * @return the index of the first occurrence or the length of the given character sequence, if the character does
+     *         not occur
+     */
+    private static int indexOf(CharSequence sequence, char character, int fromIndex) {
+        int index = fromIndex;
+        while (index < sequence.length() && sequence.charAt(index) != character) {
+            index++;
+        }
+        return index;
+    }
+    
+    /**
+     * Returns the id of the commit (SHA) located between the given start and end index of the given character
+     * sequence. If the commit was not seen before, it receives the next free id.
+     * 
+     * @param commits the {@link CharSequence} containing the commit (SHA); should never be <code>null</code>
+     * @param start the index of the first character of the commit (inclusive)
+     * @param end the index of the last character of the commit (exclusive)
+     * @return the id of the commit
+     */
+    private int getOrCreateId(CharSequence commits, int start, int end) {
+        if (commitIndex == null) {
+            commitIndex = new ObjectIdIndex((end - start) / 2, INITIAL_CAPACITY);
+        }
+        return commitIndex.add(commits, start);
+    }
+    
+    /**
+     * Adds an edge from the given child id to the given parent id.
+     * 
+     * @param childId the id of the child commit of the new edge
+     * @param parentId the id of the parent commit of the new edge
+     */
+    private void addEdge(int childId, int parentId) {
+        if (numberOfEdges == edgeChildren.length) {
+            edgeChildren = Arrays.copyOf(edgeChildren, edgeChildren.length * 2);
+            edgeParents = Arrays.copyOf(edgeParents, edgeParents.length * 2);
+        }
+        edgeChildren[numberOfEdges] = childId;
+        edgeParents[numberOfEdges] = parentId;
+        numberOfEdges++;
+    }
+    
+    /**
+     * Creates the {@link CommitGraph} containing all commits and edges added to this builder so far. The edges are
+     * grouped by their child commits using a stable counting sort, which preserves the order of the parent commits of
+     * each commit as defined by Git.
+     * 
+     * @return the {@link CommitGraph} containing all commits and edges added to this builder so far; never
+     *         <code>null</code>
+     */
+    public CommitGraph build() {
+        if (commitIndex == null) {
+            commitIndex = new ObjectIdIndex(ObjectIdIndex.SHA1_LENGTH, 0);
+        }
+        int numberOfCommits = commitIndex.size();
+        int[] parentOffsets = new int[numberOfCommits + 1];
+        for (int i = 0; i < numberOfEdges; i++) {
+            parentOffsets[edgeChildren[i] + 1]++;
+        }
+        for (int i = 0; i < numberOfCommits; i++) {
+            parentOffsets[i + 1] += parentOffsets[i];
+        }
+        int[] parents = new int[numberOfEdges];
+        int[] nextParentIndices = Arrays.copyOf(parentOffsets, numberOfCommits);
+        for (int i = 0; i < numberOfEdges; i++) {
+            parents[nextParentIndices[edgeChildren[i]]++] = edgeParents[i];
+        }
+        return new CommitGraph(commitIndex, parentOffsets, parents);
+    }
+    
+}
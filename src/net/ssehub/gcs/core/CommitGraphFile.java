@@ -0,0 +1,489 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+/**
+ * This class realizes an {@link ICommitGraph}, which answers all queries directly from the memory-mapped commit-graph
+ * file(s) written by Git (<code>.git/objects/info/commit-graph</code> or a split commit-graph chain in
+ * <code>.git/objects/info/commit-graphs</code>). These files already contain the sorted object ids of all commits as
+ * well as their parent positions in fixed-width binary tables. Hence, the id of a commit in this graph is its position
+ * in the (concatenated) commit-graph layers and no parsing is necessary.
+ * <br><br>
+ * Instances of this class are immutable and safe for concurrent reads as the mapped files are only read via absolute
+ * methods.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class CommitGraphFile implements ICommitGraph {
+    
+    /**
+     * The signature at the beginning of each commit-graph file (<code>CGPH</code>).
+     */
+    private static final int SIGNATURE = 0x43475048;
+    
+    /**
+     * The only version of the commit-graph file format supported by this class.
+     */
+    private static final int VERSION = 1;
+    
+    /**
+     * The id of the chunk containing the fan-out table of the object ids (<code>OIDF</code>).
+     */
+    private static final int CHUNK_OID_FANOUT = 0x4f494446;
+    
+    /**
+     * The id of the chunk containing the sorted object ids of all commits (<code>OIDL</code>).
+     */
+    private static final int CHUNK_OID_LOOKUP = 0x4f49444c;
+    
+    /**
+     * The id of the chunk containing the tree, parent positions, generation number, and date of all commits
+     * (<code>CDAT</code>).
+     */
+    private static final int CHUNK_COMMIT_DATA = 0x43444154;
+    
+    /**
+     * The id of the chunk containing the further parent positions of octopus merges (<code>EDGE</code>).
+     */
+    private static final int CHUNK_EXTRA_EDGES = 0x45444745;
+    
+    /**
+     * The number of bytes of the header of a commit-graph file.
+     */
+    private static final int HEADER_LENGTH = 8;
+    
+    /**
+     * The number of bytes of a single entry in the chunk lookup table of a commit-graph file.
+     */
+    private static final int CHUNK_LOOKUP_ENTRY_LENGTH = 12;
+    
+    /**
+     * The number of bytes following the root tree id in each entry of the commit data chunk: two parent positions and
+     * the generation number and commit date.
+     */
+    private static final int COMMIT_DATA_LENGTH = 16;
+    
+    /**
+     * The parent position denoting that a commit does not have a (further) parent.
+     */
+    private static final int PARENT_NONE = 0x70000000;
+    
+    /**
+     * The bit of the second parent position denoting that the remaining bits are an index into the extra edges chunk,
+     * if a commit has more than two parents. In the extra edges chunk, the same bit marks the last parent of a commit.
+     */
+    private static final int EXTRA_EDGES_BIT = 0x80000000;
+    
+    /**
+     * The characters used to convert object ids into their hexadecimal representation.
+     */
+    private static final char[] HEX_CHARACTERS = "0123456789abcdef".toCharArray();
+    
+    /**
+     * The array of all {@link Layer}s of this graph. The first layer is the base layer; each further layer only
+     * contains the commits not available in the layers before.
+     */
+    private Layer[] layers;
+    
+    /**
+     * The number of bytes of each object id in this graph.
+     */
+    private int objectIdLength;
+    
+    /**
+     * The total number of commits in all {@link #layers}.
+     */
+    private int numberOfCommits;
+    
+    /**
+     * This class represents a single memory-mapped commit-graph file, which is either the only file of a commit graph
+     * or a single layer of a split commit-graph chain.
+     * 
+     * @author Christian Kroeher
+     *
+     */
+    private static class Layer {
+        
+        /**
+         * The memory-mapped content of the commit-graph file.
+         */
+        private ByteBuffer data;
+        
+        /**
+         * The id of the first commit of this layer, which is the number of commits in all layers before.
+         */
+        private int firstCommitId;
+        
+        /**
+         * The number of commits in this layer.
+         */
+        private int numberOfCommits;
+        
+        /**
+         * The number of bytes of each object id in this layer.
+         */
+        private int objectIdLength;
+        
+        /**
+         * The position of the fan-out table in the {@link #data}.
+         */
+        private int fanoutPosition;
+        
+        /**
+         * The position of the first object id in the {@link #data}.
+         */
+        private int lookupPosition;
+        
+        /**
+         * The position of the first commit data entry in the {@link #data}.
+         */
+        private int commitDataPosition;
+        
+        /**
+         * The position of the first extra edge in the {@link #data} or <i>-1</i>, if this layer does not contain any
+         * octopus merges.
+         */
+        private int extraEdgesPosition;
+        
+        /**
+         * Constructs a new {@link Layer} instance by mapping the given commit-graph file and reading its header and
+         * chunk lookup table.
+         * 
+         * @param graphFile the {@link File} denoting the commit-graph file to map; should never be <code>null</code>
+         * @param layerIndex the index of this layer in the commit-graph chain, which must be equal to the number of
+         *        base graphs defined in the header of the given file
+         * @param firstCommitId the id of the first commit of this layer
+         * @throws IOException if mapping the file fails or the file is not a valid commit-graph file
+         */
+        private Layer(File graphFile, int layerIndex, int firstCommitId) throws IOException {
+            this.firstCommitId = firstCommitId;
+            try (RandomAccessFile graphFileStream = new RandomAccessFile(graphFile, "r")) {
+                long graphFileLength = graphFileStream.length();
+                if (graphFileLength < HEADER_LENGTH || graphFileLength > Integer.MAX_VALUE) {
+                    throw new IOException("Unsupported size of commit-graph file \"" + graphFile.getAbsolutePath()
+                            + "\"");
+                }
+                data = graphFileStream.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, graphFileLength);
+            }
+            int hashVersion = data.get(5);
+            boolean hashVersionSupported = hashVersion == 1 || hashVersion == 2;
+            if (data.getInt(0) != SIGNATURE || data.get(4) != VERSION || !hashVersionSupported
+                    || data.get(7) != layerIndex) {
+                throw new IOException("Unsupported commit-graph file \"" + graphFile.getAbsolutePath() + "\"");
+            }
+            objectIdLength = (hashVersion == 1) ? 20 : 32;
+            fanoutPosition = -1;
+            lookupPosition = -1;
+            commitDataPosition = -1;
+            extraEdgesPosition = -1;
+            readChunkLookup(data.get(6) & 0xff);
+            if (fanoutPosition < 0 || lookupPosition < 0 || commitDataPosition < 0) {
+                throw new IOException("Missing chunks in commit-graph file \"" + graphFile.getAbsolutePath() + "\"");
+            }
+            numberOfCommits = data.getInt(fanoutPosition + 255 * 4);
+        }
+        
+        /**
+         * Reads the chunk lookup table following the header and sets the positions of the chunks required by this
+         * class.
+         * 
+         * @param numberOfChunks the number of chunks as defined in the header
+         * @throws IOException if a chunk is located outside of the file
+         */
+        private void readChunkLookup(int numberOfChunks) throws IOException {
+            for (int i = 0; i < numberOfChunks; i++) {
+                int entryPosition = HEADER_LENGTH + i * CHUNK_LOOKUP_ENTRY_LENGTH;
+                int chunkId = data.getInt(entryPosition);
+                long chunkPosition = data.getLong(entryPosition + 4);
+                if (chunkPosition < 0 || chunkPosition > data.capacity()) {
+                    throw new IOException("Invalid position of chunk " + Integer.toHexString(chunkId));
+                }
+                switch (chunkId) {
+                case CHUNK_OID_FANOUT:
+                    fanoutPosition = (int) chunkPosition;
+                    break;
+                case CHUNK_OID_LOOKUP:
+                    lookupPosition = (int) chunkPosition;
+                    break;
+                case CHUNK_COMMIT_DATA:
+                    commitDataPosition = (int) chunkPosition;
+                    break;
+                case CHUNK_EXTRA_EDGES:
+                    extraEdgesPosition = (int) chunkPosition;
+                    break;
+                default:
+                    // Ignore chunks not required for parent queries, like generation data or bloom filters
+                    break;
+                }
+            }
+        }
+        
+        /**
+         * Searches for the given object id in this layer using the fan-out table and a binary search.
+         * 
+         * @param objectId the raw object id to search for; should never be <code>null</code>
+         * @return the position of the object id in this layer or <i>-1</i>, if this layer does not contain it
+         */
+        private int find(byte[] objectId) {
+            int position = -1;
+            int firstByte = objectId[0] & 0xff;
+            int low = (firstByte == 0) ? 0 : data.getInt(fanoutPosition + (firstByte - 1) * 4);
+            int high = data.getInt(fanoutPosition + firstByte * 4);
+            while (position < 0 && low < high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compare(objectId, lookupPosition + middle * objectIdLength);
+                if (comparison < 0) {
+                    high = middle;
+                } else if (comparison > 0) {
+                    low = middle + 1;
+                } else {
+                    position = middle;
+                }
+            }
+            return position;
+        }
+        
+        /**
+         * Compares the given object id with the object id at the given position in the {@link #data}.
+         * 
+         * @param objectId the raw object id to compare
+         * @param position the position of the object id in the {@link #data} to compare with
+         * @return a negative value, <i>0</i>, or a positive value, if the given object id is less than, equal to, or
+         *         greater than the object id at the given position
+         */
+        private int compare(byte[] objectId, int position) {
+            int comparison = 0;
+            int objectIdCounter = 0;
+            while (comparison == 0 && objectIdCounter < objectIdLength) {
+                comparison = (objectId[objectIdCounter] & 0xff) - (data.get(position + objectIdCounter) & 0xff);
+                objectIdCounter++;
+            }
+            return comparison;
+        }
+        
+        /**
+         * Returns the parent position at the given index of the commit data entry at the given position in this layer.
+         * 
+         * @param position the position of the commit in this layer
+         * @param index <i>0</i> for the first parent position or <i>1</i> for the second parent position
+         * @return the raw parent position as stored in the commit data chunk
+         */
+        private int getParentPosition(int position, int index) {
+            return data.getInt(commitDataPosition + position * (objectIdLength + COMMIT_DATA_LENGTH) + objectIdLength
+                    + index * 4);
+        }
+    }
+    
+    /**
+     * Constructs a new {@link CommitGraphFile} instance by mapping the given commit-graph files.
+     * 
+     * @param graphFiles the {@link List} of commit-graph files to map in the order of the commit-graph chain (base
+     *        layer first); should never be <code>null</code> nor <i>empty</i>
+     * @throws IOException if mapping a file fails, a file is not a valid commit-graph file, or the files use different
+     *         object id lengths
+     */
+    CommitGraphFile(List<File> graphFiles) throws IOException {
+        layers = new Layer[graphFiles.size()];
+        numberOfCommits = 0;
+        for (int i = 0; i < layers.length; i++) {
+            layers[i] = new Layer(graphFiles.get(i), i, numberOfCommits);
+            if (i > 0 && layers[i].objectIdLength != layers[0].objectIdLength) {
+                throw new IOException("Inconsistent object id lengths in commit-graph chain");
+            }
+            numberOfCommits += layers[i].numberOfCommits;
+        }
+        objectIdLength = layers[0].objectIdLength;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getId(String commit) {
+        int commitId = UNKNOWN_COMMIT;
+        byte[] objectId = toObjectId(commit);
+        if (objectId != null) {
+            int layersCounter = 0;
+            while (commitId == UNKNOWN_COMMIT && layersCounter < layers.length) {
+                int position = layers[layersCounter].find(objectId);
+                if (position >= 0) {
+                    commitId = layers[layersCounter].firstCommitId + position;
+                }
+                layersCounter++;
+            }
+        }
+        return commitId;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(String commit) {
+        return getId(commit) != UNKNOWN_COMMIT;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCommit(int commitId) {
+        StringBuilder commitBuilder = new StringBuilder(objectIdLength * 2);
+        appendCommit(commitId, commitBuilder);
+        return commitBuilder.toString();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendCommit(int commitId, StringBuilder builder) {
+        Layer layer = getLayer(commitId);
+        int objectIdPosition = layer.lookupPosition + (commitId - layer.firstCommitId) * objectIdLength;
+        for (int i = 0; i < objectIdLength; i++) {
+            int objectIdByte = layer.data.get(objectIdPosition + i);
+            builder.append(HEX_CHARACTERS[(objectIdByte >> 4) & 0x0f]);
+            builder.append(HEX_CHARACTERS[objectIdByte & 0x0f]);
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void putCommit(int commitId, ByteBuffer buffer) {
+        Layer layer = getLayer(commitId);
+        int objectIdPosition = layer.lookupPosition + (commitId - layer.firstCommitId) * objectIdLength;
+        for (int i = 0; i < objectIdLength; i++) {
+            buffer.put(layer.data.get(objectIdPosition + i));
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getObjectIdLength() {
+        return objectIdLength;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumberOfParents(int commitId) {
+        int numberOfParents = 0;
+        Layer layer = getLayer(commitId);
+        int position = commitId - layer.firstCommitId;
+        if (layer.getParentPosition(position, 0) != PARENT_NONE) {
+            int secondParentPosition = layer.getParentPosition(position, 1);
+            if (secondParentPosition == PARENT_NONE) {
+                numberOfParents = 1;
+            } else if ((secondParentPosition & EXTRA_EDGES_BIT) == 0) {
+                numberOfParents = 2;
+            } else {
+                // The first parent plus all extra edges up to and including the one marked as last
+                int edgePosition = layer.extraEdgesPosition + (secondParentPosition & ~EXTRA_EDGES_BIT) * 4;
+                numberOfParents = 2;
+                while ((layer.data.getInt(edgePosition) & EXTRA_EDGES_BIT) == 0) {
+                    numberOfParents++;
+                    edgePosition += 4;
+                }
+            }
+        }
+        return numberOfParents;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getParent(int commitId, int parentIndex) {
+        int parentId;
+        Layer layer = getLayer(commitId);
+        int position = commitId - layer.firstCommitId;
+        if (parentIndex == 0) {
+            parentId = layer.getParentPosition(position, 0);
+        } else {
+            int secondParentPosition = layer.getParentPosition(position, 1);
+            if ((secondParentPosition & EXTRA_EDGES_BIT) == 0) {
+                parentId = secondParentPosition;
+            } else {
+                int edgePosition = layer.extraEdgesPosition + ((secondParentPosition & ~EXTRA_EDGES_BIT)
+                        + parentIndex - 1) * 4;
+                parentId = layer.data.getInt(edgePosition) & ~EXTRA_EDGES_BIT;
+            }
+        }
+        return parentId;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return numberOfCommits;
+    }
+    
+    /**
+     * Returns the {@link Layer} containing the commit with the given id.
+     * 
+     * @param commitId the id of the commit; must be in the range from <i>0</i> (inclusive) to {@link #size()}
+     *        (exclusive)
+     * @return the {@link Layer} containing the commit with the given id
+     */
+    private Layer getLayer(int commitId) {
+        int layersCounter = layers.length - 1;
+        while (commitId < layers[layersCounter].firstCommitId) {
+            layersCounter--;
+        }
+        return layers[layersCounter];
+    }
+    
+    /**
+     * Converts the given hexadecimal commit (SHA) into a raw object id.
+     * 
+     * @param commit the {@link String} representing the hexadecimal commit (SHA)
+     * @return the raw object id or <code>null</code>, if the given string is not a full hexadecimal object id of the
+     *         length used in this graph
+     */
+    private byte[] toObjectId(String commit) {
+        byte[] objectId = null;
+        if (commit != null && commit.length() == objectIdLength * 2) {
+            objectId = new byte[objectIdLength];
+            int objectIdCounter = 0;
+            while (objectId != null && objectIdCounter < objectIdLength) {
+                int high = Character.digit(commit.charAt(2 * objectIdCounter), 16);
+                int low = Character.digit(commit.charAt(2 * objectIdCounter + 1), 16);
+                if (high < 0 || low < 0) {
+                    objectId = null;
+                } else {
+                    objectId[objectIdCounter] = (byte) ((high << 4) | low);
+                }
+                objectIdCounter++;
+            }
+        }
+        return objectId;
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class realizes an {@link ICommitGraphLoader}, which provides the {@link ICommitGraph} by memory-mapping the
+ * commit-graph file(s) written by Git, e.g., via <code>git maintenance</code> or <code>git gc</code>. Hence, loading
+ * the graph neither requires an external process nor reading any commit object. If the repository does not have a
+ * commit-graph file, or the start commit is not part of it (the file is outdated), loading the graph fails, which
+ * enables falling back to another loader via a {@link FallbackGraphLoader}.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class CommitGraphFileLoader implements ICommitGraphLoader {
+    
+    /**
+     * The path of the single commit-graph file relative to the common Git directory.
+     */
+    private static final String COMMIT_GRAPH_FILE_PATH = "objects/info/commit-graph";
+    
+    /**
+     * The path of the directory containing the layers of a split commit-graph chain relative to the common Git
+     * directory.
+     */
+    private static final String COMMIT_GRAPHS_DIRECTORY_PATH = "objects/info/commit-graphs";
+    
+    /**
+     * The name of the file listing the hashes of all layers of a split commit-graph chain (base layer first).
+     */
+    private static final String COMMIT_GRAPH_CHAIN_FILE_NAME = "commit-graph-chain";
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ICommitGraph load(File repositoryDirectory, String startCommit) throws CommitGraphCreationException {
+        if (startCommit == null || startCommit.isBlank()) {
+            throw new CommitGraphCreationException("No start commit defined for loading the commit graph");
+        }
+        ICommitGraph commitGraph;
+        try {
+            File commonDirectory = GitObjectReader.findCommonDirectory(
+                    GitObjectReader.findGitDirectory(repositoryDirectory));
+            GitObjectReader.checkSupported(commonDirectory);
+            if (new File(commonDirectory, "shallow").exists()) {
+                throw new IOException("Commit-graph files of shallow repositories are not supported");
+            }
+            List<File> graphFiles = findGraphFiles(commonDirectory);
+            if (graphFiles.isEmpty()) {
+                throw new IOException("No commit-graph file available");
+            }
+            commitGraph = new CommitGraphFile(graphFiles);
+        } catch (IOException e) {
+            throw new CommitGraphCreationException("Mapping the commit-graph file of \""
+                    + repositoryDirectory.getAbsolutePath() + "\" failed", e);
+        }
+        if (!commitGraph.contains(startCommit)) {
+            throw new CommitGraphCreationException("The commit-graph file of \"" + repositoryDirectory.getAbsolutePath()
+                    + "\" does not contain the start commit \"" + startCommit + "\" and is probably outdated");
+        }
+        return commitGraph;
+    }
+    
+    /**
+     * {@inheritDoc}<br>
+     * <br>
+     * This loader applies to all repositories, which are not shallow, do not use replacement objects or grafts, and
+     * have a single commit-graph file or a split commit-graph chain.
+     */
+    @Override
+    public boolean isApplicable(File repositoryDirectory) {
+        boolean isApplicable = false;
+        try {
+            File commonDirectory = GitObjectReader.findCommonDirectory(
+                    GitObjectReader.findGitDirectory(repositoryDirectory));
+            GitObjectReader.checkSupported(commonDirectory);
+            if (!new File(commonDirectory, "shallow").exists()) {
+                isApplicable = new File(commonDirectory, COMMIT_GRAPH_FILE_PATH).isFile() || new File(commonDirectory,
+                        COMMIT_GRAPHS_DIRECTORY_PATH + "/" + COMMIT_GRAPH_CHAIN_FILE_NAME).isFile();
+            }
+        } catch (IOException e) {
+            isApplicable = false;
+        }
+        return isApplicable;
+    }
+    
+    /**
+     * Returns the commit-graph files of the repository with the given common Git directory. Like Git, this method
+     * prefers a single commit-graph file over a split commit-graph chain.
+     * 
+     * @param commonDirectory the {@link File} denoting the common Git directory of the repository
+     * @return the {@link List} of commit-graph files in the order of the commit-graph chain (base layer first); never
+     *         <code>null</code>, but may be <i>empty</i>, if the repository does not have a commit-graph file
+     * @throws IOException if reading the commit-graph chain file fails or a layer of the chain is missing
+     */
+    private List<File> findGraphFiles(File commonDirectory) throws IOException {
+        List<File> graphFiles = new ArrayList<File>();
+        File graphFile = new File(commonDirectory, COMMIT_GRAPH_FILE_PATH);
+        File graphsDirectory = new File(commonDirectory, COMMIT_GRAPHS_DIRECTORY_PATH);
+        File graphChainFile = new File(graphsDirectory, COMMIT_GRAPH_CHAIN_FILE_NAME);
+        if (graphFile.isFile()) {
+            graphFiles.add(graphFile);
+        } else if (graphChainFile.isFile()) {
+            for (String line : Files.readAllLines(graphChainFile.toPath())) {
+                if (!line.isBlank()) {
+                    File layerFile = new File(graphsDirectory, "graph-" + line.trim() + ".graph");
+                    if (!layerFile.isFile()) {
+                        throw new IOException("Missing commit-graph layer \"" + layerFile.getAbsolutePath() + "\"");
+                    }
+                    graphFiles.add(layerFile);
+                }
+            }
+        }
+        return graphFiles;
+    }
+
+}
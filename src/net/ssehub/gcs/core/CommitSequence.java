@@ -14,15 +14,12 @@
  */
 package net.ssehub.gcs.core;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import net.ssehub.gcs.utilities.Logger;
 import net.ssehub.gcs.utilities.Logger.MessageType;
-import net.ssehub.gcs.utilities.ProcessUtilities;
-import net.ssehub.gcs.utilities.ProcessUtilities.ExecutionResult;
+import net.ssehub.gcs.utilities.WriteBehindExecutor;
 
 /**
  * This class represents a particular sequence of commits in the order from newest to oldest.
@@ -52,26 +49,31 @@ public class CommitSequence {
     private static final String COMMIT_SEQUENCE_FILE_NAME_POSTFIX = ".txt";
     
     /**
-     * The constant part of the command for printing the parent commit(s) to console. The commit (SHA), for which
-     * the parent commit(s) shall be printed, must be appended.<br>
-     * <br>
-     * Command: <code>git log --pretty=%P -1</code> 
+     * The {@link String} defining the constant postfix of each file, which is created for individual commit sequences
+     * in the binary format described by {@link SequenceReader}.
+     * <br><br>
+     * Value: <code>.bin</code>
+     * 
+     * @see #useBinaryOutputFile()
      */
-    private static final String[] GIT_PARENT_COMMIT_COMMAND = {"git", "log", "--pretty=%P", "-1"};
+    private static final String BINARY_FILE_NAME_POSTFIX = ".bin";
     
     /**
-     * The constant part of the command for printing the commit information to console. The commit (SHA), for which
-     * the information shall be printed, must be appended.<br>
-     * <br>
-     * Command: <code>git show</code> 
+     * The {@link String} defining the constant postfix of each temporary file, which is created for individual commit
+     * sequences, if their final sequence number is not known at construction.
+     * <br><br>
+     * Value: <code>.tmp</code>
+     * 
+     * @see #useTemporaryOutputFile()
      */
-    private static final String[] GIT_SHOW_COMMAND = {"git", "show"};
+    private static final String TEMPORARY_FILE_NAME_POSTFIX = ".tmp";
     
     /**
      * The {@link CommitSequence} instance counter. The value is initialized with <i>0</i> and will be increased by
-     * <i>1</i> every time a new instance is created. Hence, the first instance has a sequence number of <i>1</i>.
+     * <i>1</i> every time a new instance is created. Hence, the first instance has a sequence number of <i>1</i>. As
+     * sub-sequences may be created concurrently, this counter is atomic.
      */
-    private static int instanceCounter = 0;
+    private static AtomicInteger instanceCounter = new AtomicInteger();
     
     /**
      * The running number of this {@link CommitSequence} instance.
@@ -83,12 +85,6 @@ public class CommitSequence {
      */
     private Logger logger = Logger.getInstance();
     
-    /**
-     * The {@link ProcessUtilities} for retrieving Git information, like the available commits and their data, via the
-     * execution of external processes.
-     */
-    private ProcessUtilities processUtilities;
-    
     /**
      * The {@link File} denoting the root directory of the Git repository from which this commit sequence shall be
      * created. 
@@ -101,9 +97,15 @@ public class CommitSequence {
     private ISequenceStorage sequenceStorage;
     
     /**
-     * The {@link String} representing the commit (SHA) starting this sequence (the newest commit).
+     * The {@link ICommitGraph} providing the parent commit(s) of each commit in the repository denoted by the
+     * {@link #repositoryDirectory}.
      */
-    private String startCommit;
+    private ICommitGraph commitGraph;
+    
+    /**
+     * The id of the commit in the {@link #commitGraph} starting this sequence (the newest commit).
+     */
+    private int startCommit;
     
     /**
      * The {@link File} denoting the output file to which the commits of this {@link CommitSequence} will be written.
@@ -124,74 +126,115 @@ public class CommitSequence {
     private File childCommitSequence;
     
     /**
-     * The {@link String} representing the child commit of this sequence. This commit marks the last commit in the
+     * The id of the child commit of this sequence in the {@link #commitGraph}. This commit marks the last commit in the
      * {@link #childCommitSequence} which has to be prepended to this sequence to result in a complete commit sequence.
-     * May be <code>null</code>, if no child commit (sequence) exists.
+     * May be {@link ICommitGraph#UNKNOWN_COMMIT}, if no child commit (sequence) exists.
+     */
+    private int childCommit;
+    
+    /**
+     * The number of commits of the {@link #childCommitSequence} until the {@link #childCommit} (inclusive), which are
+     * prepended to this sequence. As all lines of the child commit sequence file have the same length, this number
+     * also defines the number of bytes to copy from that file. This number is <i>0</i>, if no child commit sequence
+     * exists.
      */
-    private String childCommit;
+    private int prefixLength;
+    
+    /**
+     * The definition of whether the {@link #outputFile} of this sequence is a temporary file (<code>true</code>),
+     * which has to be renamed via {@link #renameOutputFile(int)} after all sequences are created, or not
+     * (<code>false</code>). Sub-sequences inherit this definition from the sequence creating them.
+     */
+    private boolean temporaryOutputFile;
+    
+    /**
+     * The definition of whether the {@link #outputFile} of this sequence is written in the binary format described by
+     * {@link SequenceReader} (<code>true</code>) or as lines of hexadecimal characters (<code>false</code>).
+     * Sub-sequences inherit this definition from the sequence creating them.
+     */
+    private boolean binaryOutputFile;
+    
+    /**
+     * The {@link WriteBehindExecutor} for writing the {@link #outputFile} of this sequence. Sub-sequences share this
+     * instance with the sequence creating them.
+     */
+    private WriteBehindExecutor writeBehindExecutor;
 
     /**
      * Constructs a new {@link CommitSequence} instance.
      * 
      * @param sequenceStorage the {@link ISequenceStorage} to add commit sub-sequences to for their creation after this
      *        sequences is created completely; should never be <code>null</code>
+     * @param commitGraph the {@link ICommitGraph} providing the parent commit(s) of each commit in the given repository
+     *        (directory); should never be <code>null</code>
      * @param repositoryDirectory the {@link File} denoting the repository (directory) from which this commit sequence
      *        shall be created; should never be <code>null</code> and always needs to be an <i>existing directory</i>
      * @param startCommit the {@link String} representing the commit (SHA) starting this sequence (the newest commit);
-     *        passing <code>null</code> or a <i>blank</i> string terminates the creation immediately resulting in a
-     *        potentially empty commit sequence
+     *        must be part of the given commit graph
      * @param outputDirectory the {@link File} denoting the output directory to which the file representing this commit
      *        sequence shall be stored; should never be <code>null</code> and always needs to be an
      *        <i>existing directory</i> 
-     * @throws CommitSequenceCreationException if creating the new instance fails
+     * @param writeBehindExecutor the {@link WriteBehindExecutor} for writing the output files of this sequence and its
+     *        sub-sequences, which is sized to the number of sequences created concurrently and must not be closed
+     *        before all sequences are created; should never be <code>null</code>
+     * @throws CommitSequenceCreationException if creating the new instance fails, e.g., the given start commit is
+     *         <code>null</code>, <i>blank</i>, or not part of the given commit graph
      */
-    public CommitSequence(ISequenceStorage sequenceStorage, File repositoryDirectory, String startCommit,
-            File outputDirectory) throws CommitSequenceCreationException {
-        setup(sequenceStorage, repositoryDirectory, startCommit, outputDirectory);
+    //CHECKSTYLE:OFF - Avoid errors due to too many arguments
+    public CommitSequence(ISequenceStorage sequenceStorage, ICommitGraph commitGraph, File repositoryDirectory,
+            String startCommit, File outputDirectory, WriteBehindExecutor writeBehindExecutor)
+            throws CommitSequenceCreationException {
+        setup(sequenceStorage, commitGraph, repositoryDirectory, startCommit, outputDirectory);
+        this.writeBehindExecutor = writeBehindExecutor;
         
         logger.log(ID, "Commit sequence " + sequenceNumber,
                 "Repository: \"" + repositoryDirectory.getAbsolutePath() + "\"" + System.lineSeparator() 
                 + "Output file: \"" + outputFile.getAbsolutePath() + "\"", MessageType.DEBUG);
     }
+    //CHECKSTYLE:ON - Resume after avoiding errors due to too many arguments
     
     /**
      * Constructs a new {@link CommitSequence} instance.
      * 
      * @param sequenceStorage the {@link ISequenceStorage} to add commit sub-sequences to for their creation after this
      *        sequences is created completely; should never be <code>null</code>
+     * @param commitGraph the {@link ICommitGraph} providing the parent commit(s) of each commit in the given repository
+     *        (directory); should never be <code>null</code>
      * @param repositoryDirectory the {@link File} denoting the repository (directory) from which this commit sequence
      *        shall be created; should never be <code>null</code> and always needs to be an <i>existing directory</i>
-     * @param startCommit the {@link String} representing the commit (SHA) starting this sequence (the newest commit);
-     *        passing <code>null</code> or a <i>blank</i> string terminates the creation immediately resulting in a
-     *        potentially empty commit sequence
      * @param outputDirectory the {@link File} denoting the output directory to which the file representing this commit
      *        sequence shall be stored; should never be <code>null</code> and always needs to be an
      *        <i>existing directory</i>
+     * @param sequenceNumber the {@link #sequenceNumber} reserved for this sequence at its detection
+     * @param startCommit the id of the commit in the given commit graph starting this sequence (the newest commit)
      * @param childCommitSequence The {@link File} denoting the {@link #childCommitSequence} of this sequence; can be
      *        <code>null</code>, if no child commit sequence exists
-     * @param childCommit The {@link String} representing the {@link #childCommit} of this sequence; can be
-     *        <code>null</code>, if no child commit (sequence) exists
+     * @param childCommit The id of the {@link #childCommit} of this sequence; can be
+     *        {@link ICommitGraph#UNKNOWN_COMMIT}, if no child commit (sequence) exists
+     * @param prefixLength the {@link #prefixLength} of this sequence
      */
     //CHECKSTYLE:OFF - Avoid errors due to too many arguments
-    private CommitSequence(ISequenceStorage sequenceStorage, File repositoryDirectory, String startCommit,
-            File outputDirectory, File childCommitSequence, String childCommit) {
+    private CommitSequence(ISequenceStorage sequenceStorage, ICommitGraph commitGraph, File repositoryDirectory,
+            File outputDirectory, int sequenceNumber, int startCommit, File childCommitSequence, int childCommit,
+            int prefixLength) {
         /*
          * In contrast to the public constructor, this constructor is called internally to create sub-sequences, which
-         * start with a commit received from the return value of the GIT_PARENT_COMMIT_COMMAND. Hence, we do not need
+         * start with a commit received as a parent commit from the commit graph. Hence, we do not need
          * to check for the availability of that commit here, which lead to calling the setup without the start commit,
          * but directly setting it as part of this constructor. 
          */
-        setup(sequenceStorage, repositoryDirectory, outputDirectory);
+        setup(sequenceStorage, commitGraph, repositoryDirectory, outputDirectory, sequenceNumber);
         this.startCommit = startCommit;
         
         this.childCommitSequence = childCommitSequence;
         this.childCommit = childCommit;
+        this.prefixLength = prefixLength;
         
         logger.log(ID, "Commit sequence " + sequenceNumber,
                 "Repository: \"" + repositoryDirectory.getAbsolutePath() + "\"" + System.lineSeparator() 
                 + "Output file: \"" + outputFile.getAbsolutePath() + "\"" + System.lineSeparator()
                 + "Child commit sequence: \"" + childCommitSequence.getAbsolutePath() + "\"" + System.lineSeparator()
-                + "Child commit: \"" + childCommit + "\"", MessageType.DEBUG);
+                + "Child commit: \"" + commitGraph.getCommit(childCommit) + "\"", MessageType.DEBUG);
     }
     //CHECKSTYLE:ON - Resume after avoiding errors due to too many arguments
     
@@ -200,22 +243,24 @@ public class CommitSequence {
      * 
      * @param sequenceStorage the {@link ISequenceStorage} to add commit sub-sequences to for their creation after this
      *        sequences is created completely; should never be <code>null</code>
+     * @param commitGraph the {@link ICommitGraph} providing the parent commit(s) of each commit in the given repository
+     *        (directory); should never be <code>null</code>
      * @param repositoryDirectory the {@link File} denoting the repository (directory) from which this commit sequence
      *        shall be created; should never be <code>null</code> and always needs to be an <i>existing directory</i>
      * @param startCommit the {@link String} representing the commit (SHA) starting this sequence (the newest commit);
-     *        passing <code>null</code> or a <i>blank</i> string terminates the creation immediately resulting in a
-     *        potentially empty commit sequence
+     *        must be part of the given commit graph
      * @param outputDirectory the {@link File} denoting the output directory to which the file representing this commit
      *        sequence shall be stored; should never be <code>null</code> and always needs to be an
      *        <i>existing directory</i>
-     * @throws CommitSequenceCreationException if setting up this instance fails, e.g., the given start commit is not
-     *         available in the given repository (directory)
-     */
-    private void setup(ISequenceStorage sequenceStorage, File repositoryDirectory, String startCommit,
-            File outputDirectory) throws CommitSequenceCreationException {
-        setup(sequenceStorage, repositoryDirectory, outputDirectory);
-        if (commitAvailable(startCommit)) {
-            this.startCommit = startCommit;
+     * @throws CommitSequenceCreationException if setting up this instance fails, e.g., the given start commit is
+     *         <code>null</code>, <i>blank</i>, or not part of the given commit graph
+     */
+    private void setup(ISequenceStorage sequenceStorage, ICommitGraph commitGraph, File repositoryDirectory,
+            String startCommit, File outputDirectory) throws CommitSequenceCreationException {
+        setup(sequenceStorage, commitGraph, repositoryDirectory, outputDirectory, instanceCounter.incrementAndGet());
+        // The commit graph is loaded from the start commit; hence, it contains that commit, if it is a valid commit
+        if (commitGraph.contains(startCommit)) {
+            this.startCommit = commitGraph.getId(startCommit);
         } else {
             throw new CommitSequenceCreationException("The commit \"" + startCommit + "\" is not available in \"" 
                     + repositoryDirectory.getAbsolutePath() + "\"");
@@ -227,176 +272,275 @@ public class CommitSequence {
      * 
      * @param sequenceStorage the {@link ISequenceStorage} to add commit sub-sequences to for their creation after this
      *        sequences is created completely; should never be <code>null</code>
+     * @param commitGraph the {@link ICommitGraph} providing the parent commit(s) of each commit in the given repository
+     *        (directory); should never be <code>null</code>
      * @param repositoryDirectory the {@link File} denoting the repository (directory) from which this commit sequence
      *        shall be created; should never be <code>null</code> and always needs to be an <i>existing directory</i>
      * @param outputDirectory the {@link File} denoting the output directory to which the file representing this commit
      *        sequence shall be stored; should never be <code>null</code> and always needs to be an
      *        <i>existing directory</i>
-     * @throws CommitSequenceCreationException if setting up this instance fails, e.g., the given start commit is not
-     *         available in the given repository (directory)
+     * @param sequenceNumber the {@link #sequenceNumber} of this instance
      */
-    private void setup(ISequenceStorage sequenceStorage, File repositoryDirectory, File outputDirectory) {
-        instanceCounter++;
-        sequenceNumber = instanceCounter;
-        
-        processUtilities = ProcessUtilities.getInstance();
+    private void setup(ISequenceStorage sequenceStorage, ICommitGraph commitGraph, File repositoryDirectory,
+            File outputDirectory, int sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+        temporaryOutputFile = false;
+        binaryOutputFile = false;
         
         this.sequenceStorage = sequenceStorage;
+        this.commitGraph = commitGraph;
         this.repositoryDirectory = repositoryDirectory;
         this.childCommitSequence = null;
-        this.childCommit = null;
+        this.childCommit = ICommitGraph.UNKNOWN_COMMIT;
+        this.prefixLength = 0;
         
         String outputFileName = COMMIT_SEQUENCE_FILE_NAME_PREFIX + sequenceNumber + COMMIT_SEQUENCE_FILE_NAME_POSTFIX;
         outputFile = new File(outputDirectory, outputFileName);
     }
     
+    /**
+     * Creates a new commit sub-sequence, which shares the commit graph, the repository and output directory, the
+     * {@link ISequenceStorage}, the {@link WriteBehindExecutor}, and the usage of temporary and binary output
+     * files with this sequence. This enables storages to keep the ids passed to
+     * {@link ISequenceStorage#add(CommitSequence, int, int, int, int)} only and to create the actual sub-sequence, when
+     * it is about to run. The given child commit sequence is not required to be this sequence, but must belong to the
+     * same run of sequence creations.
+     * 
+     * @param sequenceNumber the sequence number reserved for the new sub-sequence at its detection
+     * @param childSequenceNumber the sequence number of the child commit sequence of the new sub-sequence
+     * @param startCommit the id of the commit in the commit graph starting the new sub-sequence
+     * @param childCommit the id of the last commit in the child commit sequence to prepend to the new sub-sequence
+     * @param prefixLength the number of commits of the child commit sequence to prepend to the new sub-sequence
+     * @return the new {@link CommitSequence}; never <code>null</code>
+     */
+    CommitSequence createSubSequence(int sequenceNumber, int childSequenceNumber, int startCommit, int childCommit,
+            int prefixLength) {
+        File outputDirectory = outputFile.getParentFile();
+        String fileNamePostfix = getFinalFileNamePostfix();
+        if (temporaryOutputFile) {
+            fileNamePostfix = TEMPORARY_FILE_NAME_POSTFIX;
+        }
+        File childCommitSequence = new File(outputDirectory,
+                COMMIT_SEQUENCE_FILE_NAME_PREFIX + childSequenceNumber + fileNamePostfix);
+        CommitSequence subCommitSequence = new CommitSequence(sequenceStorage, commitGraph, repositoryDirectory,
+                outputDirectory, sequenceNumber, startCommit, childCommitSequence, childCommit, prefixLength);
+        if (binaryOutputFile) {
+            subCommitSequence.useBinaryOutputFile();
+        }
+        if (temporaryOutputFile) {
+            subCommitSequence.useTemporaryOutputFile();
+        }
+        subCommitSequence.writeBehindExecutor = writeBehindExecutor;
+        return subCommitSequence;
+    }
+    
     /**
      * Starts the creation of this commit sequence and adds all detected sub-sequences to the {@link #sequenceStorage}
      * for their creation after this sequences is created completely.
      */
     public void run() {
-        logger.log(ID, "Start sequence creation", "Start commit: \"" + startCommit + "\"", MessageType.DEBUG);
+        run(sequenceStorage);
+    }
+    
+    /**
+     * Starts the creation of this commit sequence and adds all detected sub-sequences to the given
+     * {@link ISequenceStorage} instead of the one passed at construction. This enables the creation of each sequence
+     * by an individual task, which collects the sub-sequences of that sequence only.
+     * 
+     * @param sequenceStorage the {@link ISequenceStorage} to add commit sub-sequences to for their creation after this
+     *        sequences is created completely; should never be <code>null</code>
+     */
+    public void run(ISequenceStorage sequenceStorage) {
+        this.sequenceStorage = sequenceStorage;
+        logger.log(ID, "Start sequence creation", "Start commit: \"" + commitGraph.getCommit(startCommit) + "\"",
+                MessageType.DEBUG);
         try {
-            commitCache = new CommitCache(outputFile);
-            createSequence(startCommit);
+            int objectIdLength = 0;
+            if (binaryOutputFile) {
+                objectIdLength = commitGraph.getObjectIdLength();
+            }
+            commitCache = new CommitCache(outputFile, objectIdLength, writeBehindExecutor);
+            boolean sequenceCreated = createSequence(startCommit);
             if (!commitCache.destroy()) {
                 logger.log(ID, "Destroying the commit cache failed", null, MessageType.ERROR);
+            } else if (!sequenceCreated) {
+                logger.log(ID, "Creating commit sequence failed", "Writing commits to file \""
+                        + outputFile.getAbsolutePath() + "\" failed", MessageType.ERROR);
             }
         } catch (CommitCacheCreationException e) {
             logger.logException(ID, "Creating commit sequence failed", e);
         }
     }
     
-    /**
-     * Checks whether the given commit (SHA) is available in the repository denoted by the current
-     * {@link #repositoryDirectory} using the {@link #GIT_SHOW_COMMAND}.
-     * 
-     * @param commit the {@link String} representing the commit (SHA), which shall be checked for availability
-     * @return <code>true</code>, if the given commit is available; <code>false</code> otherwise
-     */
-    private boolean commitAvailable(String commit) {
-        boolean commitAvailable = false;
-        if (commit != null && !commit.isBlank()) {
-            String[] showCommitCommand = processUtilities.extendCommand(GIT_SHOW_COMMAND, commit);
-            ExecutionResult result = processUtilities.executeCommand(showCommitCommand, repositoryDirectory);
-            commitAvailable = result.executionSuccessful();
-        }
-        return commitAvailable;
-    }
-    
     /**
      * Creates this commit sequence by iterating all parent commits. If multiple parent commits are available, the
      * method creates respective sub-sequences and adds them to {@link #sequenceStorage} for creating them after this
-     * sequences is created completely.
+     * sequences is created completely. The creation stops as soon as adding a commit to the {@link #commitCache}
+     * fails, e.g., as writing previous commits to the {@link #outputFile} failed.
      * 
-     * @param startCommit the {@link String} representing the commit (SHA) to add to this sequence and for which the
-     *        parents will be determined; should never be <code>null</code> nor <i>blank</i>
-     */
-    private void createSequence(String startCommit) {
-        // First, prepend potential child commits to this sequence
-        if (prependChildren()) {            
-            // Add the start commit as the first commit in this sequence
-            commitCache.add(startCommit);
+     * @param startCommit the id of the commit in the {@link #commitGraph} to add to this sequence and for which the
+     *        parents will be determined
+     * @return <code>true</code>, if all commits of this sequence were added successfully; <code>false</code> otherwise
+     */
+    private boolean createSequence(int startCommit) {
+        boolean commitsAdded = false;
+        // First, prepend potential child commits to this sequence and add the start commit as the first commit
+        if (prependChildren() && commitCache.add(commitGraph, startCommit)) {
+            commitsAdded = true;
             // Start adding parent commit(s)
-            String currentCommit = startCommit;
-            String[] currentCommitParents;
-            CommitSequence subCommitSequence;
-            while ((currentCommitParents = getParents(currentCommit)) != null) {
+            int currentCommit = startCommit;
+            int numberOfCurrentCommitParents;
+            while (commitsAdded && (numberOfCurrentCommitParents = commitGraph.getNumberOfParents(currentCommit)) > 0) {
                 /*
                  * For all parent commits (except for the first one), create a new (sub-) commit sequence and add this
                  * sequence (output file) and the current commit as child. The creation of those sequences will start
-                 * with prepending all commits of this sequence until the current commit is reached (inclusive). 
+                 * with prepending all commits of this sequence until the current commit is reached (inclusive). Only
+                 * the ids defining such a sub-sequence are passed to the storage, which creates the actual instance
+                 * not before it is about to run. However, its sequence number is reserved here to keep the numbering
+                 * of the sequences in the order of their detection.
                  */
-                for (int i = 1; i < currentCommitParents.length; i++) {
-                    subCommitSequence = new CommitSequence(sequenceStorage, repositoryDirectory,
-                            currentCommitParents[i], outputFile.getParentFile(), outputFile, currentCommit);
-                    sequenceStorage.add(subCommitSequence);
+                for (int i = 1; i < numberOfCurrentCommitParents; i++) {
+                    sequenceStorage.add(this, instanceCounter.incrementAndGet(),
+                            commitGraph.getParent(currentCommit, i), currentCommit,
+                            commitCache.getTotalNumberOfCommits());
                 }
                 /*
                  * The first parent commit defines the subsequent sequence part of this sequence. Hence, we define that
                  * parent as the current commit, add it to the cache of this sequence, and go one.
                  */
-                currentCommit = currentCommitParents[0];
-                commitCache.add(currentCommit);
+                currentCommit = commitGraph.getParent(currentCommit, 0);
+                commitsAdded = commitCache.add(commitGraph, currentCommit);
             }
         }
+        return commitsAdded;
     }
     
     /**
-     * Reads each line in the {@link #childCommitSequence} until the current line equals the {@link #childCommit} of
-     * this sequence and adds them as initial content to the {@link #outputFile}.
+     * Copies the commits of the {@link #childCommitSequence} until the {@link #childCommit} (inclusive) as initial
+     * content to the {@link #outputFile}. As each line of a commit sequence file consists of a commit (SHA) of the same
+     * length followed by a line separator, these commits are exactly the first {@link #prefixLength} lines of fixed
+     * width. Hence, this method copies the corresponding number of bytes directly between the files without reading
+     * (decoding) and searching the individual lines. The same applies to the raw object ids of the binary format.
      * 
      * @return <code>true</code>, if prepending the (part of the) {@link #childCommitSequence} until the
      *         {@link #childCommit} (inclusive) to the {@link #outputFile} was successful; <code>false</code> otherwise
      */
     private boolean prependChildren() {
         boolean prependingChildrenSuccessful = false;
-        if (childCommitSequence == null && childCommit == null) {
+        if (childCommitSequence == null && childCommit == ICommitGraph.UNKNOWN_COMMIT) {
             // There is no child commit sequence for this sequence; nothing to prepend
             prependingChildrenSuccessful = true;
-        } else {            
-            FileReader fileReader = null;
-            BufferedReader bufferedReader = null;       
-            try {
-                fileReader = new FileReader(childCommitSequence);
-                bufferedReader = new BufferedReader(fileReader);
-                String fileLine;
-                while ((fileLine = bufferedReader.readLine()) != null) {
-                    commitCache.add(fileLine);
-                    if (fileLine.equals(childCommit)) {
-                        break;
-                    }
-                }
-                prependingChildrenSuccessful = true;
-            } catch (IOException | OutOfMemoryError e) {
-                Logger.getInstance().logException(ID, "Reading content from file \"" 
-                        + childCommitSequence.getAbsolutePath() + "\" failed", e);
-            } finally {
-                // Close the readers in any case
-                if (fileReader != null) {
-                    try {
-                        fileReader.close();
-                    } catch (IOException e) {
-                        Logger.getInstance().logException(ID, "Closing file reader for \""
-                                + childCommitSequence.getAbsolutePath() + "\" failed", e);
-                    }
-                }
-                if (bufferedReader != null) {
-                    try {
-                        bufferedReader.close();
-                    } catch (IOException e) {
-                        Logger.getInstance().logException(ID, "Closing buffered reader for \"" 
-                                + childCommitSequence.getAbsolutePath() + "\" failed", e);
-                    }
-                }
+        } else {
+            prependingChildrenSuccessful = commitCache.add(childCommitSequence, prefixLength,
+                    prefixLength * getLineBytes());
+            if (!prependingChildrenSuccessful) {
+                logger.log(ID, "Prepending child commits failed", "Copying " + prefixLength + " commits from file \""
+                        + childCommitSequence.getAbsolutePath() + "\" failed", MessageType.ERROR);
             }
         }
         return prependingChildrenSuccessful;
     }
     
     /**
-     * Determines the parent commit(s) of the given commit by calling the {@link #GIT_PARENT_COMMIT_COMMAND}.
+     * Returns the number of bytes of each commit in the {@link #outputFile}: the raw object id in the binary format or
+     * the commit (SHA) and the line separator otherwise.
      * 
-     * @param childCommit the {@link String} representing the commit (SHA) for which the parent commit(s) shall be
-     *        returned; should never <code>null</code> nor <i>blank</i> 
-     * @return the {@link String} array containing all parent commit(s) (SHAs) of the given commit; may be
-     *         <code>null</code>, if retrieving the parent commit(s) fails or there are no parent commit(s)
-     */
-    private String[] getParents(String childCommit) {
-        String[] parentCommits = null;
-        String[] parentCommitsCommand = processUtilities.extendCommand(GIT_PARENT_COMMIT_COMMAND, childCommit);
-        ExecutionResult parentCommitsCommandResult = processUtilities.executeCommand(parentCommitsCommand,
-                repositoryDirectory);
-        if (parentCommitsCommandResult.executionSuccessful()) {
-            String parentCommitsString = parentCommitsCommandResult.getStandardOutputData().trim();
-            if (!parentCommitsString.isBlank()) {
-                parentCommits = parentCommitsString.split(" ");
-            }
-        } else {
-            logger.log(ID, "Retrieving parent commits for \"" + childCommit + "\" failed",
-                    parentCommitsCommandResult.getErrorOutputData(), MessageType.ERROR);
+     * @return the number of bytes of each commit in the {@link #outputFile}
+     */
+    private long getLineBytes() {
+        long lineBytes = commitGraph.getObjectIdLength();
+        if (!binaryOutputFile) {
+            // Commits (SHAs) and line separators only consist of single-byte (ASCII) characters
+            lineBytes = 2 * lineBytes + System.lineSeparator().length();
+        }
+        return lineBytes;
+    }
+    
+    /**
+     * Changes the {@link #outputFile} of this sequence to a temporary file, which does not collide with the final
+     * output file of any other sequence. This is necessary, if sequences are created concurrently, as the
+     * {@link #sequenceNumber} assigned at construction then depends on the scheduling of the sequence creation. The
+     * final sequence number is defined by {@link #renameOutputFile(int)} after all sequences are created. This method
+     * must be called before {@link #run()}.
+     */
+    void useTemporaryOutputFile() {
+        temporaryOutputFile = true;
+        outputFile = new File(outputFile.getParentFile(),
+                COMMIT_SEQUENCE_FILE_NAME_PREFIX + sequenceNumber + TEMPORARY_FILE_NAME_POSTFIX);
+    }
+    
+    /**
+     * Changes the {@link #outputFile} of this sequence to a file in the binary format described by
+     * {@link SequenceReader}. This method must be called before {@link #useTemporaryOutputFile()} and {@link #run()}.
+     */
+    void useBinaryOutputFile() {
+        binaryOutputFile = true;
+        outputFile = new File(outputFile.getParentFile(),
+                COMMIT_SEQUENCE_FILE_NAME_PREFIX + sequenceNumber + BINARY_FILE_NAME_POSTFIX);
+    }
+    
+    /**
+     * Returns the postfix of the final (not temporary) {@link #outputFile} of this sequence, which depends on the
+     * usage of the binary format.
+     * 
+     * @return either {@link #COMMIT_SEQUENCE_FILE_NAME_POSTFIX} or {@link #BINARY_FILE_NAME_POSTFIX}
+     */
+    private String getFinalFileNamePostfix() {
+        String fileNamePostfix = COMMIT_SEQUENCE_FILE_NAME_POSTFIX;
+        if (binaryOutputFile) {
+            fileNamePostfix = BINARY_FILE_NAME_POSTFIX;
+        }
+        return fileNamePostfix;
+    }
+    
+    /**
+     * Sets the {@link #sequenceNumber} of this sequence to the given number and renames its temporary
+     * {@link #outputFile} to the final output file for that number. This method must only be called after this
+     * sequence and all of its sub-sequences, which read the temporary output file, are created.
+     * 
+     * @param sequenceNumber the final sequence number of this sequence; must be equal to or greater than <i>1</i>
+     * @return <code>true</code>, if renaming the output file was successful; <code>false</code> otherwise
+     * @see #useTemporaryOutputFile()
+     */
+    boolean renameOutputFile(int sequenceNumber) {
+        File finalOutputFile = new File(outputFile.getParentFile(), getFinalOutputFileName(sequenceNumber));
+        boolean outputFileRenamed = outputFile.renameTo(finalOutputFile);
+        if (outputFileRenamed) {
+            this.sequenceNumber = sequenceNumber;
+            outputFile = finalOutputFile;
+            temporaryOutputFile = false;
         }
-        return parentCommits;
+        return outputFileRenamed;
+    }
+    
+    /**
+     * Renames the temporary output file of another sequence of the same run of sequence creations, which is
+     * identified by the given temporary sequence number, to the final output file for the given sequence number. In
+     * contrast to {@link #renameOutputFile(int)}, this does not require the {@link CommitSequence} instance of that
+     * sequence, which may be discarded directly after its creation.
+     * 
+     * @param temporarySequenceNumber the sequence number assigned to the other sequence at its detection
+     * @param sequenceNumber the final sequence number of the other sequence; must be equal to or greater than <i>1</i>
+     * @return <code>true</code>, if renaming the output file was successful; <code>false</code> otherwise
+     * @see #useTemporaryOutputFile()
+     */
+    boolean renameOutputFile(int temporarySequenceNumber, int sequenceNumber) {
+        File outputDirectory = outputFile.getParentFile();
+        File temporaryFile = new File(outputDirectory,
+                COMMIT_SEQUENCE_FILE_NAME_PREFIX + temporarySequenceNumber + TEMPORARY_FILE_NAME_POSTFIX);
+        return temporaryFile.renameTo(new File(outputDirectory, getFinalOutputFileName(sequenceNumber)));
+    }
+    
+    /**
+     * Returns the name of the final (not temporary) output file of the sequence with the given sequence number, which
+     * belongs to the same run of sequence creations as this sequence.
+     * 
+     * @param sequenceNumber the final sequence number of the sequence; must be equal to or greater than <i>1</i>
+     * @return the {@link String} denoting the name of the final output file of that sequence; never
+     *         <code>null</code>
+     */
+    String getFinalOutputFileName(int sequenceNumber) {
+        return COMMIT_SEQUENCE_FILE_NAME_PREFIX + sequenceNumber + getFinalFileNamePostfix();
     }
     
     /**
@@ -408,6 +552,27 @@ public class CommitSequence {
         return sequenceNumber;
     }
     
+    /**
+     * Returns the id of the commit in the {@link ICommitGraph} starting this sequence after the prepended commits of
+     * its child commit sequence (if any).
+     * 
+     * @return the id of the start commit of this sequence
+     */
+    public int getStartCommit() {
+        return startCommit;
+    }
+    
+    /**
+     * Returns the number of commits of the child commit sequence, which are prepended to this sequence. In combination
+     * with the number of first parents of the {@link #getStartCommit()}, this number defines the total number of
+     * commits of this sequence before it is created.
+     * 
+     * @return the number of commits prepended to this sequence; <i>0</i>, if no child commit sequence exists
+     */
+    public int getPrefixLength() {
+        return prefixLength;
+    }
+    
     /**
      * Returns the {@link String} denoting the name of the {@link #outputFile} of this instance.
      * 
@@ -432,14 +597,14 @@ public class CommitSequence {
      * @return the total number of created {@link CommitSequence} instances
      */
     public static int getNumberOfInstances() {
-        return instanceCounter;
+        return instanceCounter.get();
     }
     
     /**
      * Resets the {@link #instanceCounter} to <i>0</i>.
      */
     public static void resetInstanceCounter() {
-        instanceCounter = 0;
+        instanceCounter.set(0);
     }
 
 }
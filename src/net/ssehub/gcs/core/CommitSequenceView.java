@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * This class represents a single commit sequence as a lightweight view over a {@link ChainDecomposition}. Instead of
+ * the commits (SHAs) of the sequence, it only stores the ids of the chains constituting the sequence. The commits are
+ * resolved from the underlying {@link ICommitGraph} while iterating over this view.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class CommitSequenceView implements Iterable<String> {
+    
+    /**
+     * The {@link ChainDecomposition} containing the chains of this sequence.
+     */
+    private ChainDecomposition chainDecomposition;
+    
+    /**
+     * The number of this sequence, which corresponds to the number in the name of the respective commit sequence
+     * written by the {@link ChainSequenceWriter}.
+     */
+    private long sequenceNumber;
+    
+    /**
+     * The ids of the chains constituting this sequence in the order of their concatenation.
+     */
+    private int[] chainIds;
+    
+    /**
+     * The number of commits of this sequence.
+     */
+    private int numberOfCommits;
+    
+    /**
+     * Constructs a new {@link CommitSequenceView} instance.
+     * 
+     * @param chainDecomposition the {@link ChainDecomposition} containing the chains of this sequence; should never be
+     *        <code>null</code>
+     * @param sequenceNumber the number of this sequence
+     * @param chainIds the ids of the chains constituting this sequence; should never be <code>null</code> and is not
+     *        copied
+     * @param numberOfCommits the total number of commits of the chains with the given ids
+     */
+    CommitSequenceView(ChainDecomposition chainDecomposition, long sequenceNumber, int[] chainIds,
+            int numberOfCommits) {
+        this.chainDecomposition = chainDecomposition;
+        this.sequenceNumber = sequenceNumber;
+        this.chainIds = chainIds;
+        this.numberOfCommits = numberOfCommits;
+    }
+    
+    /**
+     * Returns the number of this sequence. The first sequence has the number <i>1</i>.
+     * 
+     * @return the number of this sequence
+     */
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+    
+    /**
+     * Returns the number of commits of this sequence.
+     * 
+     * @return the number of commits of this sequence
+     */
+    public int getNumberOfCommits() {
+        return numberOfCommits;
+    }
+    
+    /**
+     * Returns the number of chains constituting this sequence.
+     * 
+     * @return the number of chains constituting this sequence
+     */
+    public int getNumberOfChains() {
+        return chainIds.length;
+    }
+    
+    /**
+     * Returns the id of the chain at the given index of this sequence.
+     * 
+     * @param chainIndex the index of the chain in this sequence; must be less than {@link #getNumberOfChains()}
+     * @return the id of the chain at the given index of this sequence
+     */
+    public int getChainId(int chainIndex) {
+        return chainIds[chainIndex];
+    }
+    
+    /**
+     * Returns the commits (SHAs) of this sequence starting at the start commit and ending at a root commit.
+     * 
+     * @return the commits of this sequence; never <code>null</code>
+     */
+    public String[] toArray() {
+        String[] commits = new String[numberOfCommits];
+        int commitIndex = 0;
+        for (String commit : this) {
+            commits[commitIndex] = commit;
+            commitIndex++;
+        }
+        return commits;
+    }
+    
+    /**
+     * Returns an {@link Iterator} over the commits (SHAs) of this sequence starting at the start commit and ending at a
+     * root commit. Each commit is resolved from the {@link ICommitGraph} when it is requested.
+     * 
+     * @return an {@link Iterator} over the commits of this sequence; never <code>null</code>
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            
+            /**
+             * The index of the current chain in the {@link CommitSequenceView#chainIds}.
+             */
+            private int chainIndex = 0;
+            
+            /**
+             * The id of the next commit to return.
+             */
+            private int commitId = chainDecomposition.getFirstCommit(chainIds[0]);
+            
+            /**
+             * The number of commits of the current chain, which are not returned yet.
+             */
+            private int remainingChainCommits = chainDecomposition.getChainLength(chainIds[0]);
+            
+            @Override
+            public boolean hasNext() {
+                return remainingChainCommits > 0;
+            }
+            
+            @Override
+            public String next() {
+                if (remainingChainCommits == 0) {
+                    throw new NoSuchElementException();
+                }
+                ICommitGraph commitGraph = chainDecomposition.getCommitGraph();
+                String commit = commitGraph.getCommit(commitId);
+                remainingChainCommits--;
+                if (remainingChainCommits > 0) {
+                    commitId = commitGraph.getParent(commitId, 0);
+                } else if (chainIndex + 1 < chainIds.length) {
+                    chainIndex++;
+                    commitId = chainDecomposition.getFirstCommit(chainIds[chainIndex]);
+                    remainingChainCommits = chainDecomposition.getChainLength(chainIds[chainIndex]);
+                }
+                return commit;
+            }
+        };
+    }
+
+}
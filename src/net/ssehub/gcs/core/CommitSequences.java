@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class provides the library API for consuming commit sequences directly instead of reading the files written by
+ * the {@link GitCommitSequencer}. The sequences are enumerated lazily as {@link CommitSequenceView}s over the
+ * in-memory {@link ICommitGraph}, such that consumers can process the first sequence as soon as the commit graph is
+ * loaded. The memory required for the enumeration is bounded by the size of the commit graph and the depth of the
+ * current sequence, but does not depend on the number of sequences. However, consumers collecting all views, e.g.,
+ * via {@link Stream#collect(java.util.stream.Collector)}, still require memory proportional to the number of
+ * sequences.<br>
+ * <br>
+ * The order of the sequences differs from the order of the sequence files created by the {@link GitCommitSequencer},
+ * but corresponds to the order of the sequences written by the {@link ChainSequenceWriter}.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class CommitSequences {
+    
+    /**
+     * Constructs a new {@link CommitSequences} instance. As this class only provides static methods, this constructor
+     * is private.
+     */
+    private CommitSequences() {
+        // Prevent instantiation
+    }
+    
+    /**
+     * Returns a sequential {@link Stream} of all commit sequences of the given Git repository starting at the given
+     * revision. The commit graph is loaded via the default {@link ICommitGraphLoader} of the
+     * {@link GitCommitSequencer} before this method returns, while the sequences are enumerated lazily.
+     * 
+     * @param repositoryDirectory the {@link File} denoting the root directory of the Git repository; should never be
+     *        <code>null</code>
+     * @param startRevision the revision denoting the start commit of all sequences, like a (abbreviated) commit SHA or
+     *        <code>HEAD</code>; should never be <code>null</code>
+     * @return the {@link Stream} of all commit sequences starting at the given revision; never <code>null</code>
+     * @throws CommitSequenceCreationException if the given revision cannot be resolved to a commit or loading the
+     *         commit graph fails
+     */
+    public static Stream<CommitSequenceView> stream(File repositoryDirectory, String startRevision)
+            throws CommitSequenceCreationException {
+        return stream(repositoryDirectory, startRevision, GitCommitSequencer.createDefaultCommitGraphLoader());
+    }
+    
+    /**
+     * Returns a sequential {@link Stream} of all commit sequences of the given Git repository starting at the given
+     * revision. The commit graph is loaded via the given {@link ICommitGraphLoader} before this method returns, while
+     * the sequences are enumerated lazily.
+     * 
+     * @param repositoryDirectory the {@link File} denoting the root directory of the Git repository; should never be
+     *        <code>null</code>
+     * @param startRevision the revision denoting the start commit of all sequences, like a (abbreviated) commit SHA or
+     *        <code>HEAD</code>; should never be <code>null</code>
+     * @param commitGraphLoader the {@link ICommitGraphLoader} for loading the commit graph; should never be
+     *        <code>null</code>
+     * @return the {@link Stream} of all commit sequences starting at the given revision; never <code>null</code>
+     * @throws CommitSequenceCreationException if the given revision cannot be resolved to a commit or loading the
+     *         commit graph fails
+     */
+    public static Stream<CommitSequenceView> stream(File repositoryDirectory, String startRevision,
+            ICommitGraphLoader commitGraphLoader) throws CommitSequenceCreationException {
+        String startCommit = GitCommitSequencer.resolveCommit(repositoryDirectory, startRevision);
+        if (startCommit == null) {
+            throw new CommitSequenceCreationException("Resolving revision \"" + startRevision
+                    + "\" to a commit failed");
+        }
+        ICommitGraph commitGraph;
+        try {
+            commitGraph = commitGraphLoader.load(repositoryDirectory, startCommit);
+        } catch (CommitGraphCreationException e) {
+            throw new CommitSequenceCreationException("Loading the commit graph for start commit \"" + startCommit
+                    + "\" failed", e);
+        }
+        return stream(commitGraph, commitGraph.getId(startCommit));
+    }
+    
+    /**
+     * Returns a sequential {@link Stream} of all commit sequences of the given {@link ICommitGraph} starting at the
+     * commit with the given id.
+     * 
+     * @param commitGraph the {@link ICommitGraph} containing the start commit and all commits reachable from it;
+     *        should never be <code>null</code>
+     * @param startCommitId the id of the start commit in the given commit graph
+     * @return the {@link Stream} of all commit sequences starting at the given commit; never <code>null</code>
+     * @throws CommitSequenceCreationException if the given start commit id is {@link ICommitGraph#UNKNOWN_COMMIT}
+     */
+    public static Stream<CommitSequenceView> stream(ICommitGraph commitGraph, int startCommitId)
+            throws CommitSequenceCreationException {
+        Spliterator<CommitSequenceView> spliterator = Spliterators.spliteratorUnknownSize(
+                iterator(commitGraph, startCommitId),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false);
+    }
+    
+    /**
+     * Returns an {@link Iterator} over all commit sequences of the given {@link ICommitGraph} starting at the commit
+     * with the given id.
+     * 
+     * @param commitGraph the {@link ICommitGraph} containing the start commit and all commits reachable from it;
+     *        should never be <code>null</code>
+     * @param startCommitId the id of the start commit in the given commit graph
+     * @return the {@link Iterator} over all commit sequences starting at the given commit; never <code>null</code>
+     * @throws CommitSequenceCreationException if the given start commit id is {@link ICommitGraph#UNKNOWN_COMMIT}
+     */
+    public static Iterator<CommitSequenceView> iterator(ICommitGraph commitGraph, int startCommitId)
+            throws CommitSequenceCreationException {
+        if (startCommitId == ICommitGraph.UNKNOWN_COMMIT) {
+            throw new CommitSequenceCreationException("The start commit is not part of the commit graph");
+        }
+        return new ChainSequenceIterator(new ChainDecomposition(commitGraph, startCommitId));
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * This class provides random access to the commit sequences in an archive written by the
+ * {@link CompressedSequenceWriter}. It reads the {@link CompressedSequenceWriter#FRAME_INDEX_FILE_NAME} at construction
+ * and decompresses only the frame of a requested sequence from the {@link CompressedSequenceWriter#ARCHIVE_FILE_NAME}.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class CompressedSequenceReader implements Closeable {
+    
+    /**
+     * The {@link File} denoting the archive file.
+     */
+    private File archiveFile;
+    
+    /**
+     * The {@link RandomAccessFile} for reading individual frames of the {@link #archiveFile}.
+     */
+    private RandomAccessFile archiveFileStream;
+    
+    /**
+     * The positions of the frames in the {@link #archiveFile}; the element at index <i>i</i> denotes the frame of the
+     * sequence in line <i>i + 1</i> of the frame index file. Only the first {@link #numberOfFrames} entries are valid.
+     */
+    private long[] framePositions;
+    
+    /**
+     * The lengths of the frames in the {@link #archiveFile} in the same order as the {@link #framePositions}.
+     */
+    private int[] frameLengths;
+    
+    /**
+     * The number of frames (sequences) in the {@link #archiveFile}.
+     */
+    private int numberOfFrames;
+    
+    /**
+     * Constructs a new {@link CompressedSequenceReader} instance, which reads the archive written by the
+     * {@link CompressedSequenceWriter} to the given directory.
+     * 
+     * @param outputDirectory the {@link File} denoting the directory containing the
+     *        {@link CompressedSequenceWriter#ARCHIVE_FILE_NAME} and the
+     *        {@link CompressedSequenceWriter#FRAME_INDEX_FILE_NAME}; should never be <code>null</code>
+     * @throws IOException if reading the frame index file or opening the archive file fails or the frame index file is
+     *         not valid
+     */
+    public CompressedSequenceReader(File outputDirectory) throws IOException {
+        archiveFile = new File(outputDirectory, CompressedSequenceWriter.ARCHIVE_FILE_NAME);
+        File frameIndexFile = new File(outputDirectory, CompressedSequenceWriter.FRAME_INDEX_FILE_NAME);
+        framePositions = new long[1024];
+        frameLengths = new int[1024];
+        numberOfFrames = 0;
+        try (BufferedReader frameIndexReader = Files.newBufferedReader(frameIndexFile.toPath())) {
+            String frameIndexLine;
+            while ((frameIndexLine = frameIndexReader.readLine()) != null) {
+                addFrame(frameIndexLine, frameIndexFile);
+            }
+        }
+        archiveFileStream = new RandomAccessFile(archiveFile, "r");
+    }
+    
+    /**
+     * Adds the position and the length of the frame defined by the given line of the given frame index file to the
+     * {@link #framePositions} and the {@link #frameLengths}.
+     * 
+     * @param frameIndexLine the line of the frame index file defining the frame to add; should never be
+     *        <code>null</code>
+     * @param frameIndexFile the {@link File} denoting the frame index file for error messages
+     * @throws IOException if the given line does not define a valid frame
+     */
+    private void addFrame(String frameIndexLine, File frameIndexFile) throws IOException {
+        String[] frameValues = frameIndexLine.split(CompressedSequenceWriter.SEPARATOR);
+        if (frameValues.length != 3) {
+            throw new IOException("Invalid line \"" + frameIndexLine + "\" in \"" + frameIndexFile.getAbsolutePath()
+                    + "\"");
+        }
+        if (numberOfFrames == framePositions.length) {
+            framePositions = Arrays.copyOf(framePositions, numberOfFrames * 2);
+            frameLengths = Arrays.copyOf(frameLengths, numberOfFrames * 2);
+        }
+        try {
+            framePositions[numberOfFrames] = Long.parseLong(frameValues[1]);
+            frameLengths[numberOfFrames] = Integer.parseInt(frameValues[2]);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid frame in line \"" + frameIndexLine + "\" in \""
+                    + frameIndexFile.getAbsolutePath() + "\"", e);
+        }
+        numberOfFrames++;
+    }
+    
+    /**
+     * Returns the number of sequences in the archive.
+     * 
+     * @return the number of sequences in the archive; equal to or greater than <i>0</i>
+     */
+    public long size() {
+        return numberOfFrames;
+    }
+    
+    /**
+     * Returns the decompressed content of the sequence with the given number, which is equal to the content of the
+     * corresponding commit sequence file.
+     * 
+     * @param sequenceNumber the number of the sequence, which is the line number of its frame in the frame index file;
+     *        must be in the range from <i>1</i> (inclusive) to {@link #size()} (inclusive)
+     * @return the decompressed content of the sequence; never <code>null</code>
+     * @throws IndexOutOfBoundsException if the given sequence number is not in the range of the archive
+     * @throws IOException if reading or decompressing the frame of the sequence fails
+     */
+    public byte[] getContent(long sequenceNumber) throws IndexOutOfBoundsException, IOException {
+        if (sequenceNumber < 1 || sequenceNumber > numberOfFrames) {
+            throw new IndexOutOfBoundsException("Sequence number " + sequenceNumber + " out of bounds for "
+                    + numberOfFrames + " sequences in \"" + archiveFile.getAbsolutePath() + "\"");
+        }
+        int frameIndex = (int) sequenceNumber - 1;
+        byte[] frame = new byte[frameLengths[frameIndex]];
+        archiveFileStream.seek(framePositions[frameIndex]);
+        archiveFileStream.readFully(frame);
+        byte[] content;
+        try (InputStream frameStream = new GZIPInputStream(new ByteArrayInputStream(frame), frame.length)) {
+            content = frameStream.readAllBytes();
+        }
+        return content;
+    }
+    
+    /**
+     * Returns the commits (SHAs) of the sequence with the given number. The content of the sequence is either decoded
+     * as lines of hexadecimal characters or, if it starts with the {@link SequenceReader#MAGIC_NUMBER}, as the binary
+     * format described by {@link SequenceReader}.
+     * 
+     * @param sequenceNumber the number of the sequence, which is the line number of its frame in the frame index file;
+     *        must be in the range from <i>1</i> (inclusive) to {@link #size()} (inclusive)
+     * @return the commits of the sequence from newest to oldest; never <code>null</code>
+     * @throws IndexOutOfBoundsException if the given sequence number is not in the range of the archive
+     * @throws IOException if reading or decompressing the frame of the sequence fails or its content is not valid
+     */
+    public String[] getCommits(long sequenceNumber) throws IndexOutOfBoundsException, IOException {
+        String[] commits;
+        byte[] content = getContent(sequenceNumber);
+        ByteBuffer contentBuffer = ByteBuffer.wrap(content);
+        if (content.length >= SequenceReader.HEADER_LENGTH && contentBuffer.getInt(0) == SequenceReader.MAGIC_NUMBER) {
+            int objectIdLength = content[5];
+            if (objectIdLength != ObjectIdIndex.SHA1_LENGTH && objectIdLength != ObjectIdIndex.SHA256_LENGTH) {
+                throw new IOException("Unsupported object id length " + objectIdLength + " of sequence "
+                        + sequenceNumber + " in \"" + archiveFile.getAbsolutePath() + "\"");
+            }
+            SequenceReader sequenceReader = new SequenceReader(contentBuffer, SequenceReader.HEADER_LENGTH,
+                    objectIdLength, (content.length - SequenceReader.HEADER_LENGTH) / objectIdLength,
+                    "sequence " + sequenceNumber + " of \"" + archiveFile.getAbsolutePath() + "\"");
+            commits = new String[sequenceReader.length()];
+            for (int i = 0; i < commits.length; i++) {
+                commits[i] = sequenceReader.commitAt(i);
+            }
+        } else if (content.length == 0) {
+            commits = new String[0];
+        } else {
+            commits = new String(content, StandardCharsets.US_ASCII).split("\\r?\\n");
+        }
+        return commits;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        archiveFileStream.close();
+    }
+
+}
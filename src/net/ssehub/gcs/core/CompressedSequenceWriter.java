@@ -0,0 +1,274 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import net.ssehub.gcs.utilities.FileUtilities;
+
+/**
+ * This class writes the content of individual commit sequence files as independently compressed frames to a single
+ * archive file instead of writing them to individual files. Each frame is a complete GZIP member (RFC 1952). Hence, a
+ * single sequence can be decompressed without decompressing any other frame, while standard tools like
+ * <code>zcat</code> decompress the entire {@link #ARCHIVE_FILE_NAME} as the concatenation of all sequence files.<br>
+ * <br>
+ * The position and the length of each frame in the archive are written to the {@link #FRAME_INDEX_FILE_NAME}, which
+ * contains a line per sequence consisting of the sequence name, the position, and the length separated by commas
+ * (e.g., <code>CommitSequence_3,2048,731</code>). The {@link CompressedSequenceReader} uses this index for random
+ * access to the sequences in the archive.<br>
+ * <br>
+ * All frames are compressed by the same {@link Deflater} into the same direct {@link ByteBuffer}, which are reused
+ * for each frame. Small frames are collected in that buffer before they are written to the archive.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class CompressedSequenceWriter {
+    
+    /**
+     * The name of the archive file containing the compressed frames.
+     * <br><br>
+     * Value: <code>GitCommitSequencer_Archive.gz</code>
+     */
+    public static final String ARCHIVE_FILE_NAME = "GitCommitSequencer_Archive.gz";
+    
+    /**
+     * The name of the file containing the position and length of each frame in the {@link #ARCHIVE_FILE_NAME}.
+     * <br><br>
+     * Value: <code>GitCommitSequencer_Frames.csv</code>
+     */
+    public static final String FRAME_INDEX_FILE_NAME = "GitCommitSequencer_Frames.csv";
+    
+    /**
+     * The separator of the values in each line of the {@link #FRAME_INDEX_FILE_NAME}.
+     * <br><br>
+     * Value: <code>,</code>
+     */
+    public static final String SEPARATOR = ",";
+    
+    /**
+     * The header of each GZIP member (frame) without optional fields: the magic number, the compression method
+     * (deflate), no flags, no modification time, no extra flags, and an unknown operating system.
+     */
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    
+    /**
+     * The number of bytes of the trailer of each GZIP member (frame): the CRC-32 and the size of the uncompressed
+     * content.
+     */
+    private static final int GZIP_TRAILER_LENGTH = 8;
+    
+    /**
+     * The number of bytes of the {@link #frameBuffer}.
+     */
+    private static final int FRAME_BUFFER_CAPACITY = 1 << 16;
+    
+    /**
+     * The number of characters of the {@link #frameIndexBuffer}, which triggers writing its content to the
+     * {@link #FRAME_INDEX_FILE_NAME}.
+     */
+    private static final int FRAME_INDEX_BUFFER_CAPACITY = 1 << 16;
+    
+    /**
+     * The {@link File} denoting the archive file.
+     */
+    private File archiveFile;
+    
+    /**
+     * The {@link File} denoting the frame index file.
+     */
+    private File frameIndexFile;
+    
+    /**
+     * The {@link FileUtilities} for writing the {@link #archiveFile}.
+     */
+    private FileUtilities archiveFileUtilities;
+    
+    /**
+     * The {@link FileUtilities} for writing the {@link #frameIndexFile}.
+     */
+    private FileUtilities frameIndexFileUtilities;
+    
+    /**
+     * The {@link Deflater} compressing the content of each frame. It produces raw deflate data, as the GZIP header and
+     * trailer are written by this class.
+     */
+    private Deflater deflater;
+    
+    /**
+     * The {@link CRC32} computing the checksum of the uncompressed content of each frame.
+     */
+    private CRC32 checksum;
+    
+    /**
+     * The direct {@link ByteBuffer} collecting the compressed frames before they are written to the
+     * {@link #archiveFile}. Its byte order is little-endian as required for the GZIP trailer.
+     */
+    private ByteBuffer frameBuffer;
+    
+    /**
+     * The {@link StringBuilder} collecting the lines of the {@link #frameIndexFile} before they are written.
+     */
+    private StringBuilder frameIndexBuffer;
+    
+    /**
+     * The number of bytes already written to the {@link #archiveFile}. The position of the next frame is this number
+     * plus the position of the {@link #frameBuffer}.
+     */
+    private long archiveSize;
+    
+    /**
+     * Constructs a new {@link CompressedSequenceWriter} instance.
+     * 
+     * @param outputDirectory the {@link File} denoting the existing directory to which the {@link #ARCHIVE_FILE_NAME}
+     *        and the {@link #FRAME_INDEX_FILE_NAME} shall be written; should never be <code>null</code>
+     */
+    public CompressedSequenceWriter(File outputDirectory) {
+        archiveFile = new File(outputDirectory, ARCHIVE_FILE_NAME);
+        frameIndexFile = new File(outputDirectory, FRAME_INDEX_FILE_NAME);
+        archiveFileUtilities = new FileUtilities();
+        frameIndexFileUtilities = new FileUtilities();
+        checksum = new CRC32();
+        frameBuffer = ByteBuffer.allocateDirect(FRAME_BUFFER_CAPACITY).order(ByteOrder.LITTLE_ENDIAN);
+        frameIndexBuffer = new StringBuilder(FRAME_INDEX_BUFFER_CAPACITY + FRAME_INDEX_BUFFER_CAPACITY / 4);
+    }
+    
+    /**
+     * Opens the {@link #archiveFile} and the {@link #frameIndexFile} for writing frames via
+     * {@link #write(String, ByteBuffer)}. Each call of this method must be followed by a call of {@link #close()}.
+     * 
+     * @throws CommitSequenceCreationException if opening one of the files fails
+     */
+    public void open() throws CommitSequenceCreationException {
+        if (!archiveFileUtilities.openFileChannel(archiveFile)) {
+            throw new CommitSequenceCreationException("Opening file channel for archive file \""
+                    + archiveFile.getAbsolutePath() + "\" failed");
+        }
+        if (!frameIndexFileUtilities.openFileChannel(frameIndexFile)) {
+            archiveFileUtilities.closeFileChannel();
+            throw new CommitSequenceCreationException("Opening file channel for frame index file \""
+                    + frameIndexFile.getAbsolutePath() + "\" failed");
+        }
+        deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        frameBuffer.clear();
+        frameIndexBuffer.setLength(0);
+        archiveSize = 0;
+    }
+    
+    /**
+     * Compresses the given content as the next frame of the {@link #archiveFile} and adds the position and length of
+     * that frame for the given sequence name to the {@link #frameIndexFile}.
+     * 
+     * @param sequenceName the name of the sequence (e.g., <code>CommitSequence_3</code>) of the given content; should
+     *        never be <code>null</code>
+     * @param content the {@link ByteBuffer} containing the content of the sequence file between its current position
+     *        and its limit; its position is advanced to its limit
+     * @throws CommitSequenceCreationException if writing to the archive file or the frame index file fails
+     */
+    public void write(String sequenceName, ByteBuffer content) throws CommitSequenceCreationException {
+        int contentLength = content.remaining();
+        checksum.reset();
+        checksum.update(content.duplicate());
+        deflater.reset();
+        deflater.setInput(content);
+        deflater.finish();
+        ensureRemaining(GZIP_HEADER.length);
+        long framePosition = archiveSize + frameBuffer.position();
+        frameBuffer.put(GZIP_HEADER);
+        while (!deflater.finished()) {
+            if (!frameBuffer.hasRemaining()) {
+                flushFrameBuffer();
+            }
+            deflater.deflate(frameBuffer);
+        }
+        ensureRemaining(GZIP_TRAILER_LENGTH);
+        frameBuffer.putInt((int) checksum.getValue());
+        frameBuffer.putInt(contentLength);
+        long frameLength = archiveSize + frameBuffer.position() - framePosition;
+        frameIndexBuffer.append(sequenceName).append(SEPARATOR).append(framePosition).append(SEPARATOR)
+                .append(frameLength).append(System.lineSeparator());
+        if (frameIndexBuffer.length() >= FRAME_INDEX_BUFFER_CAPACITY) {
+            flushFrameIndexBuffer();
+        }
+    }
+    
+    /**
+     * Writes the content of the {@link #frameBuffer} to the {@link #archiveFile}, if less than the given number of
+     * bytes remain in that buffer.
+     * 
+     * @param numberOfBytes the number of bytes to put into the {@link #frameBuffer} next
+     * @throws CommitSequenceCreationException if writing to the archive file fails
+     */
+    private void ensureRemaining(int numberOfBytes) throws CommitSequenceCreationException {
+        if (frameBuffer.remaining() < numberOfBytes) {
+            flushFrameBuffer();
+        }
+    }
+    
+    /**
+     * Writes the content of the {@link #frameBuffer} to the {@link #archiveFile} and clears that buffer.
+     * 
+     * @throws CommitSequenceCreationException if writing to the archive file fails
+     */
+    private void flushFrameBuffer() throws CommitSequenceCreationException {
+        frameBuffer.flip();
+        archiveSize += frameBuffer.remaining();
+        boolean frameBufferWritten = archiveFileUtilities.write(frameBuffer);
+        frameBuffer.clear();
+        if (!frameBufferWritten) {
+            throw new CommitSequenceCreationException("Writing to archive file \"" + archiveFile.getAbsolutePath()
+                    + "\" failed");
+        }
+    }
+    
+    /**
+     * Writes the content of the {@link #frameIndexBuffer} to the {@link #frameIndexFile} and clears that buffer.
+     * 
+     * @throws CommitSequenceCreationException if writing to the frame index file fails
+     */
+    private void flushFrameIndexBuffer() throws CommitSequenceCreationException {
+        if (!frameIndexFileUtilities.writeAscii(frameIndexBuffer)) {
+            throw new CommitSequenceCreationException("Writing to frame index file \""
+                    + frameIndexFile.getAbsolutePath() + "\" failed");
+        }
+        frameIndexBuffer.setLength(0);
+    }
+    
+    /**
+     * Writes the remaining frames and lines to the {@link #archiveFile} and the {@link #frameIndexFile}, closes both
+     * files, and releases the native resources of the {@link #deflater}.
+     * 
+     * @throws CommitSequenceCreationException if writing to or closing one of the files fails
+     */
+    public void close() throws CommitSequenceCreationException {
+        try {
+            deflater.end();
+            flushFrameBuffer();
+            flushFrameIndexBuffer();
+        } finally {
+            boolean archiveFileClosed = archiveFileUtilities.closeFileChannel();
+            if (!frameIndexFileUtilities.closeFileChannel() || !archiveFileClosed) {
+                throw new CommitSequenceCreationException("Closing file channel for archive file \""
+                        + archiveFile.getAbsolutePath() + "\" or frame index file \""
+                        + frameIndexFile.getAbsolutePath() + "\" failed");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * This class provides random access to the commit sequences in a container written by the
+ * {@link ContainerSequenceWriter}. It maps the {@link ContainerSequenceWriter#INDEX_FILE_NAME} and all segment files
+ * into memory. Hence, each sequence is located via its record in the index and its commits are read directly from the
+ * mapped segment without reading any other sequence.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class ContainerSequenceReader {
+    
+    /**
+     * The {@link File} denoting the index file of the container.
+     */
+    private File indexFile;
+    
+    /**
+     * The {@link ByteBuffer} mapping the content of the {@link #indexFile} into memory.
+     */
+    private ByteBuffer index;
+    
+    /**
+     * The {@link ByteBuffer}s mapping the content of the segment files into memory; the element at index <i>s</i>
+     * maps the segment file with number <i>s</i>.
+     */
+    private ByteBuffer[] segments;
+    
+    /**
+     * The number of bytes of each object id in the container.
+     */
+    private int objectIdLength;
+    
+    /**
+     * The number of sequences in the container.
+     */
+    private long numberOfSequences;
+    
+    /**
+     * Constructs a new {@link ContainerSequenceReader} instance, which maps the container written by the
+     * {@link ContainerSequenceWriter} to the given directory.
+     * 
+     * @param outputDirectory the {@link File} denoting the directory containing the container; should never be
+     *        <code>null</code>
+     * @throws IOException if mapping the index file or a segment file fails or one of these files is not valid
+     */
+    public ContainerSequenceReader(File outputDirectory) throws IOException {
+        indexFile = new File(outputDirectory, ContainerSequenceWriter.INDEX_FILE_NAME);
+        index = map(indexFile);
+        boolean headerValid = index.capacity() >= ContainerSequenceWriter.INDEX_HEADER_LENGTH
+                && index.getInt(0) == ContainerSequenceWriter.INDEX_MAGIC_NUMBER
+                && index.get(4) == SequenceReader.FORMAT_VERSION;
+        if (!headerValid || (index.capacity() - ContainerSequenceWriter.INDEX_HEADER_LENGTH)
+                % ContainerSequenceWriter.INDEX_RECORD_LENGTH != 0) {
+            throw new IOException("Unsupported index file \"" + indexFile.getAbsolutePath() + "\"");
+        }
+        objectIdLength = index.get(5);
+        numberOfSequences = (index.capacity() - ContainerSequenceWriter.INDEX_HEADER_LENGTH)
+                / ContainerSequenceWriter.INDEX_RECORD_LENGTH;
+        int numberOfSegments = 1;
+        if (numberOfSequences > 0) {
+            // Sequences are appended to the segments in order; hence, the last sequence is in the last segment
+            numberOfSegments = index.getInt(getRecordPosition(numberOfSequences)) + 1;
+        }
+        segments = new ByteBuffer[numberOfSegments];
+        for (int i = 0; i < segments.length; i++) {
+            File segmentFile = new File(outputDirectory, ContainerSequenceWriter.SEGMENT_FILE_NAME_PREFIX + i
+                    + ContainerSequenceWriter.SEGMENT_FILE_NAME_POSTFIX);
+            segments[i] = map(segmentFile);
+            if (segments[i].capacity() < SequenceReader.HEADER_LENGTH
+                    || segments[i].getInt(0) != SequenceReader.MAGIC_NUMBER
+                    || segments[i].get(5) != objectIdLength) {
+                throw new IOException("Unsupported segment file \"" + segmentFile.getAbsolutePath() + "\"");
+            }
+        }
+    }
+    
+    /**
+     * Maps the given file into memory.
+     * 
+     * @param file the {@link File} to map; should never be <code>null</code>
+     * @return the {@link ByteBuffer} mapping the entire given file; never <code>null</code>
+     * @throws IOException if mapping the given file fails or the file is too large to be mapped as a whole
+     */
+    private static ByteBuffer map(File file) throws IOException {
+        ByteBuffer mappedFile;
+        try (RandomAccessFile fileStream = new RandomAccessFile(file, "r")) {
+            long fileLength = fileStream.length();
+            if (fileLength > Integer.MAX_VALUE) {
+                throw new IOException("Unsupported size of file \"" + file.getAbsolutePath() + "\"");
+            }
+            mappedFile = fileStream.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, fileLength);
+        }
+        return mappedFile;
+    }
+    
+    /**
+     * Returns the number of sequences in the container.
+     * 
+     * @return the number of sequences in the container; equal to or greater than <i>0</i>
+     */
+    public long size() {
+        return numberOfSequences;
+    }
+    
+    /**
+     * Returns the number of bytes of each object id in the container.
+     * 
+     * @return either <i>20</i> for SHA-1 or <i>32</i> for SHA-256 object ids
+     */
+    public int getObjectIdLength() {
+        return objectIdLength;
+    }
+    
+    /**
+     * Returns the sequence with the given number. The returned {@link SequenceReader} reads the commits of that
+     * sequence directly from the mapped segment file.
+     * 
+     * @param sequenceNumber the number of the sequence to return; must be in the range from <i>1</i> (inclusive) to
+     *        {@link #size()} (inclusive)
+     * @return the {@link SequenceReader} for the sequence with the given number; never <code>null</code>
+     * @throws IndexOutOfBoundsException if the given sequence number is not in the range of the container
+     * @throws IOException if the record of the sequence in the index file does not denote a valid location
+     */
+    public SequenceReader getSequence(long sequenceNumber) throws IndexOutOfBoundsException, IOException {
+        if (sequenceNumber < 1 || sequenceNumber > numberOfSequences) {
+            throw new IndexOutOfBoundsException("Sequence number " + sequenceNumber + " out of bounds for "
+                    + numberOfSequences + " sequences in \"" + indexFile.getAbsolutePath() + "\"");
+        }
+        int recordPosition = getRecordPosition(sequenceNumber);
+        int segmentNumber = index.getInt(recordPosition);
+        int numberOfCommits = index.getInt(recordPosition + Integer.BYTES);
+        long firstCommitPosition = index.getLong(recordPosition + 2 * Integer.BYTES);
+        boolean segmentValid = segmentNumber >= 0 && segmentNumber < segments.length;
+        if (!segmentValid || numberOfCommits < 0 || firstCommitPosition < SequenceReader.HEADER_LENGTH
+                || firstCommitPosition + (long) numberOfCommits * objectIdLength > segments[segmentNumber].capacity()) {
+            throw new IOException("Invalid record of sequence " + sequenceNumber + " in \""
+                    + indexFile.getAbsolutePath() + "\"");
+        }
+        return new SequenceReader(segments[segmentNumber], (int) firstCommitPosition, objectIdLength, numberOfCommits,
+                "sequence " + sequenceNumber + " of \"" + indexFile.getAbsolutePath() + "\"");
+    }
+    
+    /**
+     * Returns the position of the record of the sequence with the given number in the {@link #index}.
+     * 
+     * @param sequenceNumber the number of the sequence; must be in the range from <i>1</i> (inclusive) to
+     *        {@link #size()} (inclusive)
+     * @return the position of the first byte of the record
+     */
+    private int getRecordPosition(long sequenceNumber) {
+        return (int) (ContainerSequenceWriter.INDEX_HEADER_LENGTH
+                + (sequenceNumber - 1) * ContainerSequenceWriter.INDEX_RECORD_LENGTH);
+    }
+
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import net.ssehub.gcs.utilities.FileUtilities;
+
+/**
+ * This class writes all commit sequences starting at a particular commit to a container, which consists of a few large
+ * segment files and a single index file, instead of an individual file per sequence. This avoids exhausting the
+ * inodes of the file system and opening a file per sequence for repositories with millions of sequences.<br>
+ * <br>
+ * Each segment file (e.g., <code>GitCommitSequencer_Segment_0.bin</code>) starts with the header of the binary format
+ * described by {@link SequenceReader} followed by the raw object ids of the commits of one sequence after another
+ * without any separators. If appending a sequence would exceed the segment capacity, the sequence is written to a new
+ * segment file; hence, a sequence never spans multiple segments.<br>
+ * <br>
+ * The {@link #INDEX_FILE_NAME} replaces the summary file of the other output formats. It starts with a header of
+ * {@link #INDEX_HEADER_LENGTH} bytes, which equals the header of a segment file except for the
+ * {@link #INDEX_MAGIC_NUMBER}, followed by a record of {@link #INDEX_RECORD_LENGTH} bytes per sequence in the order
+ * of their sequence numbers:
+ * <ul>
+ * <li>the number of the segment containing the sequence as a big-endian <code>int</code></li>
+ * <li>the number of commits of the sequence as a big-endian <code>int</code></li>
+ * <li>the position of the first commit of the sequence in that segment as a big-endian <code>long</code></li>
+ * </ul>
+ * As all records have the same length, the {@link ContainerSequenceReader} locates each sequence directly.<br>
+ * <br>
+ * The sequences are enumerated by a {@link DepthFirstPathSearch} and, hence, numbered in the same order as the
+ * sequence files written by the {@link DepthFirstSequenceWriter}.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class ContainerSequenceWriter {
+    
+    /**
+     * The name of the index file of the container.
+     * <br><br>
+     * Value: <code>GitCommitSequencer_Index.bin</code>
+     */
+    public static final String INDEX_FILE_NAME = "GitCommitSequencer_Index.bin";
+    
+    /**
+     * The prefix of the name of each segment file of the container, which is followed by the zero-based segment
+     * number and the {@link #SEGMENT_FILE_NAME_POSTFIX}.
+     * <br><br>
+     * Value: <code>GitCommitSequencer_Segment_</code>
+     */
+    public static final String SEGMENT_FILE_NAME_PREFIX = "GitCommitSequencer_Segment_";
+    
+    /**
+     * The postfix of the name of each segment file of the container.
+     * <br><br>
+     * Value: <code>.bin</code>
+     */
+    public static final String SEGMENT_FILE_NAME_POSTFIX = ".bin";
+    
+    /**
+     * The magic number at the beginning of the {@link #INDEX_FILE_NAME}.
+     * <br><br>
+     * Value: <code>0x47435349</code> (the ASCII characters <code>GCSI</code>)
+     */
+    public static final int INDEX_MAGIC_NUMBER = 0x47435349;
+    
+    /**
+     * The number of bytes of the header of the {@link #INDEX_FILE_NAME}, which precedes the first record.
+     * <br><br>
+     * Value: <code>8</code>
+     */
+    public static final int INDEX_HEADER_LENGTH = SequenceReader.HEADER_LENGTH;
+    
+    /**
+     * The number of bytes of each record in the {@link #INDEX_FILE_NAME}.
+     * <br><br>
+     * Value: <code>16</code>
+     */
+    public static final int INDEX_RECORD_LENGTH = 16;
+    
+    /**
+     * The default maximum number of bytes of a segment file. This capacity keeps each segment small enough to be
+     * mapped into memory as a whole.
+     * <br><br>
+     * Value: <code>1073741824</code> (1 GiB)
+     */
+    public static final long DEFAULT_SEGMENT_CAPACITY = 1L << 30;
+    
+    /**
+     * The number of bytes of the {@link #segmentBuffer}, which triggers writing its content to the current segment
+     * file.
+     */
+    private static final int SEGMENT_BUFFER_CAPACITY = 1 << 20;
+    
+    /**
+     * The number of records of the {@link #indexBuffer}, which triggers writing its content to the index file.
+     */
+    private static final int INDEX_BUFFER_RECORDS = 1 << 12;
+    
+    /**
+     * The initial number of commits the {@link #pathObjectIds} can contain before they have to grow.
+     */
+    private static final int INITIAL_PATH_CAPACITY = 1024;
+    
+    /**
+     * The {@link File} denoting the directory to which the container is written.
+     */
+    private File outputDirectory;
+    
+    /**
+     * The maximum number of bytes of a segment file, unless a single sequence requires more bytes.
+     */
+    private long segmentCapacity;
+    
+    /**
+     * The {@link FileUtilities} for writing the current segment file.
+     */
+    private FileUtilities segmentFileUtilities;
+    
+    /**
+     * The {@link FileUtilities} for writing the index file.
+     */
+    private FileUtilities indexFileUtilities;
+    
+    /**
+     * The {@link ByteBuffer} collecting the object ids of the sequences before they are written to the current segment
+     * file.
+     */
+    private ByteBuffer segmentBuffer;
+    
+    /**
+     * The {@link ByteBuffer} collecting the records of the index file before they are written.
+     */
+    private ByteBuffer indexBuffer;
+    
+    /**
+     * The raw object ids of the commits on the current path of the search. The object id of the commit at depth
+     * <i>d</i> starts at <i>d * {@link #objectIdLength}</i>.
+     */
+    private byte[] pathObjectIds;
+    
+    /**
+     * The number of bytes of each object id in the commit graph of the current search.
+     */
+    private int objectIdLength;
+    
+    /**
+     * The zero-based number of the current segment file.
+     */
+    private int segmentNumber;
+    
+    /**
+     * The {@link File} denoting the current segment file or <code>null</code>, if no segment file is open.
+     */
+    private File segmentFile;
+    
+    /**
+     * The number of bytes of the current segment file including the content of the {@link #segmentBuffer}, which is
+     * also the position of the next sequence in that segment.
+     */
+    private long segmentSize;
+    
+    /**
+     * Constructs a new {@link ContainerSequenceWriter} instance, which uses the {@link #DEFAULT_SEGMENT_CAPACITY}.
+     * 
+     * @param outputDirectory the {@link File} denoting the existing directory to which the container shall be written;
+     *        should never be <code>null</code>
+     */
+    public ContainerSequenceWriter(File outputDirectory) {
+        this(outputDirectory, DEFAULT_SEGMENT_CAPACITY);
+    }
+    
+    /**
+     * Constructs a new {@link ContainerSequenceWriter} instance.
+     * 
+     * @param outputDirectory the {@link File} denoting the existing directory to which the container shall be written;
+     *        should never be <code>null</code>
+     * @param segmentCapacity the maximum number of bytes of a segment file, which is only exceeded by segments
+     *        containing a single sequence
+     * @throws IllegalArgumentException if the given segment capacity is not larger than the header of a segment file
+     *         or a segment of that capacity cannot be mapped into memory
+     */
+    public ContainerSequenceWriter(File outputDirectory, long segmentCapacity) throws IllegalArgumentException {
+        if (segmentCapacity <= SequenceReader.HEADER_LENGTH || segmentCapacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Unsupported segment capacity " + segmentCapacity);
+        }
+        this.outputDirectory = outputDirectory;
+        this.segmentCapacity = segmentCapacity;
+        segmentFileUtilities = new FileUtilities();
+        indexFileUtilities = new FileUtilities();
+        segmentBuffer = ByteBuffer.allocate(SEGMENT_BUFFER_CAPACITY);
+        indexBuffer = ByteBuffer.allocate(INDEX_BUFFER_RECORDS * INDEX_RECORD_LENGTH);
+    }
+    
+    /**
+     * Writes all commit sequences starting at the given commit in the given {@link ICommitGraph} to the segment files
+     * and the {@link #INDEX_FILE_NAME} in the output directory.
+     * 
+     * @param commitGraph the {@link ICommitGraph} containing all commits reachable from the given start commit; should
+     *        never be <code>null</code>
+     * @param startCommit the id of the commit in the given commit graph starting all sequences (the newest commit)
+     * @return the number of written commit sequences
+     * @throws CommitSequenceCreationException if writing a segment file or the index file fails
+     */
+    public long write(ICommitGraph commitGraph, int startCommit) throws CommitSequenceCreationException {
+        long numberOfSequences = 0;
+        objectIdLength = commitGraph.getObjectIdLength();
+        pathObjectIds = new byte[INITIAL_PATH_CAPACITY * objectIdLength];
+        File indexFile = new File(outputDirectory, INDEX_FILE_NAME);
+        ByteBuffer indexHeader = SequenceReader.createHeader(objectIdLength);
+        indexHeader.putInt(0, INDEX_MAGIC_NUMBER);
+        if (!indexFileUtilities.openFileChannel(indexFile) || !indexFileUtilities.write(indexHeader)) {
+            indexFileUtilities.closeFileChannel();
+            throw new CommitSequenceCreationException("Writing the header to index file \""
+                    + indexFile.getAbsolutePath() + "\" failed");
+        }
+        try {
+            openSegment(0);
+            DepthFirstPathSearch search = new DepthFirstPathSearch(commitGraph, startCommit);
+            while (search.next()) {
+                // Only the object ids of the commits following the prefix shared with the previous path have changed
+                for (int depth = search.getCommonDepth(); depth < search.getDepth(); depth++) {
+                    encodeObjectId(commitGraph, search.getCommit(depth), depth);
+                }
+                numberOfSequences++;
+                appendSequence(indexFile, search.getDepth());
+            }
+        } finally {
+            close(indexFile);
+        }
+        return numberOfSequences;
+    }
+    
+    /**
+     * Writes the raw object id of the commit with the given id to the {@link #pathObjectIds} at the given depth.
+     * 
+     * @param commitGraph the {@link ICommitGraph} containing the given commit; should never be <code>null</code>
+     * @param commitId the id of the commit in the given commit graph to encode
+     * @param depth the zero-based depth of the given commit on the current path of the search
+     */
+    private void encodeObjectId(ICommitGraph commitGraph, int commitId, int depth) {
+        int objectIdStart = depth * objectIdLength;
+        if (objectIdStart == pathObjectIds.length) {
+            pathObjectIds = Arrays.copyOf(pathObjectIds, pathObjectIds.length * 2);
+        }
+        commitGraph.putCommit(commitId, ByteBuffer.wrap(pathObjectIds, objectIdStart, objectIdLength));
+    }
+    
+    /**
+     * Appends the given number of object ids of the {@link #pathObjectIds} as the next sequence to the current segment
+     * file and adds the corresponding record to the index file. If the sequence does not fit into the current segment,
+     * which already contains other sequences, the next segment file is opened before.
+     * 
+     * @param indexFile the {@link File} denoting the currently opened index file
+     * @param numberOfCommits the number of commits of the sequence to append
+     * @throws CommitSequenceCreationException if writing a segment file or the index file fails
+     */
+    private void appendSequence(File indexFile, int numberOfCommits) throws CommitSequenceCreationException {
+        int sequenceLength = numberOfCommits * objectIdLength;
+        if (segmentSize > SequenceReader.HEADER_LENGTH && segmentSize + sequenceLength > segmentCapacity) {
+            closeSegment();
+            openSegment(segmentNumber + 1);
+        }
+        indexBuffer.putInt(segmentNumber).putInt(numberOfCommits).putLong(segmentSize);
+        if (!indexBuffer.hasRemaining()) {
+            flush(indexFileUtilities, indexBuffer, indexFile);
+        }
+        if (sequenceLength > segmentBuffer.remaining()) {
+            flush(segmentFileUtilities, segmentBuffer, segmentFile);
+        }
+        if (sequenceLength > segmentBuffer.remaining()) {
+            // The sequence is larger than the entire buffer; hence, write it directly
+            if (!segmentFileUtilities.write(ByteBuffer.wrap(pathObjectIds, 0, sequenceLength))) {
+                throw new CommitSequenceCreationException("Writing to segment file \"" + segmentFile.getAbsolutePath()
+                        + "\" failed");
+            }
+        } else {
+            segmentBuffer.put(pathObjectIds, 0, sequenceLength);
+        }
+        segmentSize += sequenceLength;
+    }
+    
+    /**
+     * Opens the segment file with the given number as the current segment file and writes its header.
+     * 
+     * @param segmentNumber the zero-based number of the segment file to open
+     * @throws CommitSequenceCreationException if opening the segment file or writing its header fails
+     */
+    private void openSegment(int segmentNumber) throws CommitSequenceCreationException {
+        File nextSegmentFile = new File(outputDirectory,
+                SEGMENT_FILE_NAME_PREFIX + segmentNumber + SEGMENT_FILE_NAME_POSTFIX);
+        if (!segmentFileUtilities.openFileChannel(nextSegmentFile)) {
+            throw new CommitSequenceCreationException("Opening file channel for segment file \""
+                    + nextSegmentFile.getAbsolutePath() + "\" failed");
+        }
+        this.segmentNumber = segmentNumber;
+        segmentFile = nextSegmentFile;
+        segmentBuffer.put(SequenceReader.createHeader(objectIdLength));
+        segmentSize = SequenceReader.HEADER_LENGTH;
+    }
+    
+    /**
+     * Writes the remaining content of the {@link #segmentBuffer} to the current segment file and closes it. Afterwards,
+     * no segment file is open.
+     * 
+     * @throws CommitSequenceCreationException if writing to or closing the current segment file fails
+     */
+    private void closeSegment() throws CommitSequenceCreationException {
+        try {
+            flush(segmentFileUtilities, segmentBuffer, segmentFile);
+        } finally {
+            File closedSegmentFile = segmentFile;
+            segmentFile = null;
+            if (!segmentFileUtilities.closeFileChannel()) {
+                throw new CommitSequenceCreationException("Closing file channel for segment file \""
+                        + closedSegmentFile.getAbsolutePath() + "\" failed");
+            }
+        }
+    }
+    
+    /**
+     * Writes the content of the given buffer via the given {@link FileUtilities} to the given output file and clears
+     * that buffer.
+     * 
+     * @param fileUtilities the {@link FileUtilities} of the currently opened output file
+     * @param buffer the {@link ByteBuffer} to write from its beginning to its current position
+     * @param outputFile the {@link File} denoting the currently opened output file
+     * @throws CommitSequenceCreationException if writing to the output file fails
+     */
+    private void flush(FileUtilities fileUtilities, ByteBuffer buffer, File outputFile)
+            throws CommitSequenceCreationException {
+        buffer.flip();
+        boolean bufferWritten = fileUtilities.write(buffer);
+        buffer.clear();
+        if (!bufferWritten) {
+            throw new CommitSequenceCreationException("Writing to output file \"" + outputFile.getAbsolutePath()
+                    + "\" failed");
+        }
+    }
+    
+    /**
+     * Closes the current segment file and writes the remaining records of the {@link #indexBuffer} to the given index
+     * file before closing it as well.
+     * 
+     * @param indexFile the {@link File} denoting the currently opened index file
+     * @throws CommitSequenceCreationException if writing to or closing the current segment file or the index file fails
+     */
+    private void close(File indexFile) throws CommitSequenceCreationException {
+        try {
+            if (segmentFile != null) {
+                closeSegment();
+            }
+        } finally {
+            try {
+                flush(indexFileUtilities, indexBuffer, indexFile);
+            } finally {
+                if (!indexFileUtilities.closeFileChannel()) {
+                    throw new CommitSequenceCreationException("Closing file channel for index file \""
+                            + indexFile.getAbsolutePath() + "\" failed");
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * This class reads the commit sequences written by the {@link DeltaSequenceWriter} one after another. It maintains the
+ * commits (SHAs) of the current sequence and applies the next line of the {@link DeltaSequenceWriter#DELTA_FILE_NAME}
+ * to them by dropping and appending the given commits. Hence, advancing to the next sequence via {@link #next()}
+ * requires time proportional to the changed commits only and the memory required by this reader is proportional to
+ * the length of the longest sequence.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class DeltaSequenceReader implements Closeable {
+    
+    /**
+     * The {@link File} denoting the {@link DeltaSequenceWriter#DELTA_FILE_NAME}.
+     */
+    private File deltaFile;
+    
+    /**
+     * The {@link BufferedReader} reading the {@link #deltaFile} line by line.
+     */
+    private BufferedReader deltaReader;
+    
+    /**
+     * The commits (SHAs) of the current sequence. Only the first {@link #numberOfCommits} entries are valid.
+     */
+    private String[] commits;
+    
+    /**
+     * The number of commits of the current sequence.
+     */
+    private int numberOfCommits;
+    
+    /**
+     * The number of the current sequence; <i>0</i>, if {@link #next()} was not called yet.
+     */
+    private long sequenceNumber;
+    
+    /**
+     * Constructs a new {@link DeltaSequenceReader} instance, which reads the sequences written by the
+     * {@link DeltaSequenceWriter} to the given directory.
+     * 
+     * @param outputDirectory the {@link File} denoting the directory containing the
+     *        {@link DeltaSequenceWriter#DELTA_FILE_NAME}; should never be <code>null</code>
+     * @throws IOException if opening the {@link DeltaSequenceWriter#DELTA_FILE_NAME} fails
+     */
+    public DeltaSequenceReader(File outputDirectory) throws IOException {
+        deltaFile = new File(outputDirectory, DeltaSequenceWriter.DELTA_FILE_NAME);
+        deltaReader = Files.newBufferedReader(deltaFile.toPath());
+        commits = new String[1024];
+        numberOfCommits = 0;
+        sequenceNumber = 0;
+    }
+    
+    /**
+     * Advances this reader to the next sequence by applying the next line of the
+     * {@link DeltaSequenceWriter#DELTA_FILE_NAME} to the commits of the current sequence.
+     * 
+     * @return <code>true</code>, if this reader advanced to the next sequence; <code>false</code>, if all sequences
+     *         were read already
+     * @throws IOException if reading the next line fails or that line is not a valid delta of the current sequence
+     */
+    public boolean next() throws IOException {
+        boolean sequenceRead = false;
+        String deltaLine = deltaReader.readLine();
+        if (deltaLine != null) {
+            String[] deltaValues = deltaLine.split(DeltaSequenceWriter.SEPARATOR);
+            String expectedSequenceName = DeltaSequenceWriter.SEQUENCE_PREFIX + (sequenceNumber + 1);
+            if (deltaValues.length < 2 || !deltaValues[0].equals(expectedSequenceName)) {
+                throw new IOException("Expected sequence \"" + expectedSequenceName + "\" but found \"" + deltaLine
+                        + "\" in \"" + deltaFile.getAbsolutePath() + "\"");
+            }
+            int numberOfDroppedCommits = parseNumberOfDroppedCommits(deltaValues[1], deltaLine);
+            numberOfCommits -= numberOfDroppedCommits;
+            int numberOfAppendedCommits = deltaValues.length - 2;
+            if (numberOfCommits + numberOfAppendedCommits > commits.length) {
+                commits = Arrays.copyOf(commits, Math.max(commits.length * 2, numberOfCommits
+                        + numberOfAppendedCommits));
+            }
+            System.arraycopy(deltaValues, 2, commits, numberOfCommits, numberOfAppendedCommits);
+            numberOfCommits += numberOfAppendedCommits;
+            sequenceNumber++;
+            sequenceRead = true;
+        }
+        return sequenceRead;
+    }
+    
+    /**
+     * Parses the given number of commits to drop from the current sequence.
+     * 
+     * @param value the {@link String} representing the number of commits to drop
+     * @param deltaLine the entire line of the {@link DeltaSequenceWriter#DELTA_FILE_NAME} containing the given value
+     * @return the number of commits to drop from the current sequence
+     * @throws IOException if the given value is not a number between <i>0</i> and the number of commits of the current
+     *         sequence
+     */
+    private int parseNumberOfDroppedCommits(String value, String deltaLine) throws IOException {
+        int numberOfDroppedCommits;
+        try {
+            numberOfDroppedCommits = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid number of dropped commits in \"" + deltaLine + "\"", e);
+        }
+        if (numberOfDroppedCommits < 0 || numberOfDroppedCommits > numberOfCommits) {
+            throw new IOException("Cannot drop " + numberOfDroppedCommits + " of " + numberOfCommits
+                    + " commits in \"" + deltaLine + "\"");
+        }
+        return numberOfDroppedCommits;
+    }
+    
+    /**
+     * Returns the number of the current sequence, which is the number following the
+     * {@link DeltaSequenceWriter#SEQUENCE_PREFIX} in its name.
+     * 
+     * @return the number of the current sequence; <i>0</i>, if {@link #next()} was not called yet
+     */
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+    
+    /**
+     * Returns the number of commits of the current sequence.
+     * 
+     * @return the number of commits of the current sequence
+     */
+    public int getNumberOfCommits() {
+        return numberOfCommits;
+    }
+    
+    /**
+     * Returns the commit (SHA) at the given index of the current sequence.
+     * 
+     * @param index the index of the commit; must be less than {@link #getNumberOfCommits()}
+     * @return the commit at the given index of the current sequence; the newest commit has index <i>0</i>
+     */
+    public String getCommit(int index) {
+        if (index >= numberOfCommits) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + numberOfCommits);
+        }
+        return commits[index];
+    }
+    
+    /**
+     * Returns a copy of the commits (SHAs) of the current sequence.
+     * 
+     * @return the commits of the current sequence from newest to oldest; never <code>null</code>
+     */
+    public String[] toArray() {
+        return Arrays.copyOf(commits, numberOfCommits);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        deltaReader.close();
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+
+import net.ssehub.gcs.utilities.FileUtilities;
+
+/**
+ * This class writes all commit sequences starting at a particular commit as a single delta-encoded file. The sequences
+ * are enumerated by a {@link DepthFirstPathSearch}, such that consecutive sequences share a common prefix and only
+ * differ in their remaining commits. Hence, each sequence is written as a single line in the
+ * {@link #DELTA_FILE_NAME} consisting of the sequence name (e.g., <code>CommitSequence_3</code>), the number of
+ * commits to drop from the end of the previous sequence, and the commits (SHAs) to append to the remaining commits
+ * (e.g., <code>CommitSequence_3,2,sha1,sha2</code>). The first sequence drops no commits and appends all of its
+ * commits. The {@link DeltaSequenceReader} rebuilds each sequence from these lines in the time required for reading
+ * the changed commits.<br>
+ * <br>
+ * The sequences are numbered in the same order as the sequence files written by the {@link DepthFirstSequenceWriter}.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class DeltaSequenceWriter {
+    
+    /**
+     * The name of the file containing the delta-encoded commit sequences.
+     * <br><br>
+     * Value: <code>GitCommitSequencer_Delta.csv</code>
+     */
+    public static final String DELTA_FILE_NAME = "GitCommitSequencer_Delta.csv";
+    
+    /**
+     * The prefix of each sequence name in the {@link #DELTA_FILE_NAME}.
+     * <br><br>
+     * Value: <code>CommitSequence_</code>
+     */
+    public static final String SEQUENCE_PREFIX = "CommitSequence_";
+    
+    /**
+     * The separator of the values in each line of the {@link #DELTA_FILE_NAME}.
+     * <br><br>
+     * Value: <code>,</code>
+     */
+    public static final String SEPARATOR = ",";
+    
+    /**
+     * The number of characters of the {@link #buffer}, which triggers writing its content to the current output file.
+     */
+    private static final int BUFFER_CAPACITY = 1 << 20;
+    
+    /**
+     * The {@link FileUtilities} for writing the {@link #DELTA_FILE_NAME}.
+     */
+    private FileUtilities fileUtilities;
+    
+    /**
+     * The {@link File} denoting the directory to which the {@link #DELTA_FILE_NAME} is written.
+     */
+    private File outputDirectory;
+    
+    /**
+     * The {@link StringBuilder} collecting the lines of the {@link #DELTA_FILE_NAME} before they are written.
+     */
+    private StringBuilder buffer;
+    
+    /**
+     * Constructs a new {@link DeltaSequenceWriter} instance.
+     * 
+     * @param outputDirectory the {@link File} denoting the existing directory to which the {@link #DELTA_FILE_NAME}
+     *        shall be written; should never be <code>null</code>
+     */
+    public DeltaSequenceWriter(File outputDirectory) {
+        this.outputDirectory = outputDirectory;
+        fileUtilities = new FileUtilities();
+        buffer = new StringBuilder(BUFFER_CAPACITY + BUFFER_CAPACITY / 2);
+    }
+    
+    /**
+     * Writes all commit sequences starting at the given commit in the given {@link ICommitGraph} as delta-encoded
+     * lines to the {@link #DELTA_FILE_NAME} in the output directory.
+     * 
+     * @param commitGraph the {@link ICommitGraph} containing all commits reachable from the given start commit; should
+     *        never be <code>null</code>
+     * @param startCommit the id of the commit in the given commit graph starting all sequences (the newest commit)
+     * @return the number of written commit sequences
+     * @throws CommitSequenceCreationException if writing the {@link #DELTA_FILE_NAME} fails
+     */
+    public long write(ICommitGraph commitGraph, int startCommit) throws CommitSequenceCreationException {
+        long numberOfSequences = 0;
+        File deltaFile = new File(outputDirectory, DELTA_FILE_NAME);
+        if (!fileUtilities.openFileChannel(deltaFile)) {
+            throw new CommitSequenceCreationException("Opening file channel for output file \""
+                    + deltaFile.getAbsolutePath() + "\" failed");
+        }
+        try {
+            String lineSeparator = System.lineSeparator();
+            DepthFirstPathSearch search = new DepthFirstPathSearch(commitGraph, startCommit);
+            int previousDepth = 0;
+            while (search.next()) {
+                numberOfSequences++;
+                buffer.append(SEQUENCE_PREFIX).append(numberOfSequences).append(SEPARATOR)
+                        .append(previousDepth - search.getCommonDepth());
+                for (int depth = search.getCommonDepth(); depth < search.getDepth(); depth++) {
+                    buffer.append(SEPARATOR);
+                    commitGraph.appendCommit(search.getCommit(depth), buffer);
+                }
+                buffer.append(lineSeparator);
+                if (buffer.length() >= BUFFER_CAPACITY) {
+                    flush(deltaFile);
+                }
+                previousDepth = search.getDepth();
+            }
+        } finally {
+            close(deltaFile);
+        }
+        return numberOfSequences;
+    }
+    
+    /**
+     * Writes the content of the {@link #buffer} to the given output file and clears that buffer.
+     * 
+     * @param outputFile the {@link File} denoting the currently opened output file
+     * @throws CommitSequenceCreationException if writing to the output file fails
+     */
+    private void flush(File outputFile) throws CommitSequenceCreationException {
+        if (!fileUtilities.writeAscii(buffer)) {
+            throw new CommitSequenceCreationException("Writing to output file \"" + outputFile.getAbsolutePath()
+                    + "\" failed");
+        }
+        buffer.setLength(0);
+    }
+    
+    /**
+     * Writes the remaining content of the {@link #buffer} to the given output file and closes it.
+     * 
+     * @param outputFile the {@link File} denoting the currently opened output file
+     * @throws CommitSequenceCreationException if writing to or closing the output file fails
+     */
+    private void close(File outputFile) throws CommitSequenceCreationException {
+        try {
+            flush(outputFile);
+        } finally {
+            if (!fileUtilities.closeFileChannel()) {
+                throw new CommitSequenceCreationException("Closing file channel for output file \""
+                        + outputFile.getAbsolutePath() + "\" failed");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.util.Arrays;
+
+/**
+ * This class realizes an iterative depth-first search over an {@link ICommitGraph}, which finds all paths from a start
+ * commit to a root commit one after another. The search maintains a single path as a stack of commit ids, which is
+ * advanced only as far as necessary to find the next complete path. Hence, the memory required by this search is
+ * proportional to the length of the longest path and does not depend on the number of paths.<br>
+ * <br>
+ * The parents of each commit are visited in their order in the {@link ICommitGraph}. Hence, the paths are found in the
+ * lexicographic order of the parent indices chosen at each commit and the first path follows the first parents only.
+ * Consecutive paths share a common prefix, which the search reports via {@link #getCommonDepth()}.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+class DepthFirstPathSearch {
+    
+    /**
+     * The initial number of commits the path of the search can contain before its buffers have to grow.
+     */
+    private static final int INITIAL_PATH_CAPACITY = 1024;
+    
+    /**
+     * The {@link ICommitGraph} to search.
+     */
+    private ICommitGraph commitGraph;
+    
+    /**
+     * The id of the commit in the {@link #commitGraph} starting all paths.
+     */
+    private int startCommit;
+    
+    /**
+     * The ids of the commits on the current path of the search starting at the {@link #startCommit}.
+     */
+    private int[] pathCommits;
+    
+    /**
+     * The index of the next parent to visit per commit on the current path of the search.
+     */
+    private int[] pathParentIndices;
+    
+    /**
+     * The number of commits on the current path of the search.
+     */
+    private int pathDepth;
+    
+    /**
+     * The number of commits at the beginning of the current path, which are equal to the previous path.
+     */
+    private int commonDepth;
+    
+    /**
+     * The definition of whether the search has not started yet (<code>true</code>) or not (<code>false</code>).
+     */
+    private boolean initial;
+    
+    /**
+     * Constructs a new {@link DepthFirstPathSearch} instance.
+     * 
+     * @param commitGraph the {@link ICommitGraph} to search; should never be <code>null</code>
+     * @param startCommit the id of the commit in the given commit graph starting all paths (the newest commit)
+     */
+    DepthFirstPathSearch(ICommitGraph commitGraph, int startCommit) {
+        this.commitGraph = commitGraph;
+        this.startCommit = startCommit;
+        pathCommits = new int[INITIAL_PATH_CAPACITY];
+        pathParentIndices = new int[INITIAL_PATH_CAPACITY];
+        pathDepth = 0;
+        commonDepth = 0;
+        initial = true;
+    }
+    
+    /**
+     * Advances the search to the next complete path from the start commit to a root commit.
+     * 
+     * @return <code>true</code>, if a next path was found; <code>false</code>, if all paths were found already
+     */
+    boolean next() {
+        if (initial) {
+            push(startCommit);
+            commonDepth = 0;
+            initial = false;
+        } else if (pathDepth > 0) {
+            // Remove the root commit of the previous path, as it has no parents to visit
+            pathDepth--;
+            commonDepth = pathDepth;
+        }
+        boolean pathFound = false;
+        int currentCommit;
+        int numberOfParents;
+        while (!pathFound && pathDepth > 0) {
+            currentCommit = pathCommits[pathDepth - 1];
+            numberOfParents = commitGraph.getNumberOfParents(currentCommit);
+            if (numberOfParents == 0) {
+                // A root commit completes the current path
+                pathFound = true;
+            } else if (pathParentIndices[pathDepth - 1] < numberOfParents) {
+                int parentIndex = pathParentIndices[pathDepth - 1];
+                pathParentIndices[pathDepth - 1]++;
+                push(commitGraph.getParent(currentCommit, parentIndex));
+            } else {
+                // All parents visited; backtrack to the most recent commit with an unvisited parent
+                pathDepth--;
+                commonDepth = Math.min(commonDepth, pathDepth);
+            }
+        }
+        return pathFound;
+    }
+    
+    /**
+     * Adds the commit with the given id to the end of the current path of the search.
+     * 
+     * @param commitId the id of the commit in the {@link #commitGraph} to add
+     */
+    private void push(int commitId) {
+        if (pathDepth == pathCommits.length) {
+            pathCommits = Arrays.copyOf(pathCommits, pathDepth * 2);
+            pathParentIndices = Arrays.copyOf(pathParentIndices, pathDepth * 2);
+        }
+        pathCommits[pathDepth] = commitId;
+        pathParentIndices[pathDepth] = 0;
+        pathDepth++;
+    }
+    
+    /**
+     * Returns the number of commits on the current path.
+     * 
+     * @return the number of commits on the current path; <i>0</i>, if {@link #next()} was not called yet or returned
+     *         <code>false</code>
+     */
+    int getDepth() {
+        return pathDepth;
+    }
+    
+    /**
+     * Returns the id of the commit at the given depth of the current path.
+     * 
+     * @param depth the zero-based depth of the commit on the current path; the start commit has depth <i>0</i>
+     * @return the id of the commit at the given depth in the {@link ICommitGraph}
+     */
+    int getCommit(int depth) {
+        return pathCommits[depth];
+    }
+    
+    /**
+     * Returns the number of commits at the beginning of the current path, which are equal to the previous path. The
+     * current path differs from the previous path only in the commits starting at this depth.
+     * 
+     * @return the number of commits shared with the previous path; <i>0</i> for the first path
+     */
+    int getCommonDepth() {
+        return commonDepth;
+    }
+
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import net.ssehub.gcs.utilities.FileUtilities;
+
+/**
+ * This class creates all commit sequences by an iterative depth-first search over an in-memory {@link ICommitGraph}
+ * and writes each of them to its own file, like the {@link CommitSequence}s created by the {@link GitCommitSequencer}.
+ * In contrast to those sequences, this writer does not create an object per fork and does not read the prefix of a
+ * sequence from the file of another sequence. Instead, the {@link DepthFirstPathSearch} maintains a single path from
+ * the start commit to the current commit as a stack of commit ids and this writer maintains the encoded lines of these
+ * commits. If the current commit is a root commit, the path is a complete sequence, which is written directly from
+ * that buffer. The search then backtracks to the most recent commit on the path with an unvisited parent. Hence, the
+ * memory required by this writer is proportional to the length of the longest sequence and does not depend on the
+ * number of sequences.<br>
+ * <br>
+ * The parents of each commit are visited in their order in the {@link ICommitGraph}. Hence, the sequences are
+ * numbered in the lexicographic order of the parent indices chosen at each commit. The first sequence always follows
+ * the first parents only and, hence, equals the first sequence created by the {@link GitCommitSequencer}. The order
+ * of all sequences corresponds to the order of the sequences enumerated by {@link CommitSequences} and written by the
+ * {@link ChainSequenceWriter}. The content of each sequence file and the format of the summary file are equal to
+ * those of the {@link GitCommitSequencer}. This includes the binary format described by {@link SequenceReader}, in
+ * which each line is a raw object id without line separator, if this writer is constructed accordingly. Further, the
+ * content of each sequence file can be written as a compressed frame via a {@link CompressedSequenceWriter} instead of
+ * an individual file.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class DepthFirstSequenceWriter {
+    
+    /**
+     * The {@link String} defining the constant prefix of each file, which is created for individual commit sequences.
+     * <br><br>
+     * Value: <code>CommitSequence_</code>
+     */
+    private static final String COMMIT_SEQUENCE_FILE_NAME_PREFIX = "CommitSequence_";
+    
+    /**
+     * The {@link String} defining the constant postfix of each file, which is created for individual commit sequences.
+     * <br><br>
+     * Value: <code>.txt</code>
+     */
+    private static final String COMMIT_SEQUENCE_FILE_NAME_POSTFIX = ".txt";
+    
+    /**
+     * The {@link String} defining the constant postfix of each file, which is created for individual commit sequences
+     * in the binary format described by {@link SequenceReader}.
+     * <br><br>
+     * Value: <code>.bin</code>
+     */
+    private static final String BINARY_FILE_NAME_POSTFIX = ".bin";
+    
+    /**
+     * The number of characters of the {@link #summaryBuffer}, which triggers writing its content to the summary file.
+     */
+    private static final int SUMMARY_BUFFER_CAPACITY = 1 << 16;
+    
+    /**
+     * The initial number of commits the {@link #pathLines} can contain before they have to grow.
+     */
+    private static final int INITIAL_PATH_CAPACITY = 1024;
+    
+    /**
+     * The {@link File} denoting the directory to which the sequence files are written.
+     */
+    private File outputDirectory;
+    
+    /**
+     * The {@link File} denoting the summary file, which contains the name and the number of commits of each sequence.
+     */
+    private File summaryFile;
+    
+    /**
+     * The definition of whether the sequence files are written in the binary format described by
+     * {@link SequenceReader} (<code>true</code>) or as lines of hexadecimal characters (<code>false</code>).
+     */
+    private boolean binary;
+    
+    /**
+     * The {@link CompressedSequenceWriter} to which the content of each sequence file is written as a compressed frame
+     * or <code>null</code>, if each sequence is written to an individual file.
+     */
+    private CompressedSequenceWriter archiveWriter;
+    
+    /**
+     * The {@link FileUtilities} for writing the individual sequence files.
+     */
+    private FileUtilities sequenceFileUtilities;
+    
+    /**
+     * The {@link FileUtilities} for writing the {@link #summaryFile}.
+     */
+    private FileUtilities summaryFileUtilities;
+    
+    /**
+     * The {@link StringBuilder} collecting the lines of the {@link #summaryFile} before they are written.
+     */
+    private StringBuilder summaryBuffer;
+    
+    /**
+     * The bytes of the line separator following each commit in a sequence file.
+     */
+    private byte[] lineSeparator;
+    
+    /**
+     * The number of bytes of each line in a sequence file, which consists of a commit (SHA) and the
+     * {@link #lineSeparator} or only of the raw object id of a commit in the {@link #binary} format. As all commits of
+     * a repository have the same length, this number is constant per search.
+     */
+    private int lineLength;
+    
+    /**
+     * The number of bytes preceding the first line in the {@link #pathLines}. These bytes contain the header of each
+     * sequence file in the {@link #binary} format; otherwise, this number is <i>0</i>.
+     */
+    private int contentOffset;
+    
+    /**
+     * The content of a sequence file, which consists of the lines (commit and {@link #lineSeparator}) of the commits on
+     * the current path of the search preceded by the header in the {@link #binary} format. The line of the commit at
+     * depth <i>d</i> starts at <i>{@link #contentOffset} + d * {@link #lineLength}</i>.
+     */
+    private byte[] pathLines;
+    
+    /**
+     * Constructs a new {@link DepthFirstSequenceWriter} instance.
+     * 
+     * @param outputDirectory the {@link File} denoting the existing directory to which the sequence files shall be
+     *        written; should never be <code>null</code>
+     * @param summaryFile the {@link File} denoting the summary file to write; should never be <code>null</code>
+     */
+    public DepthFirstSequenceWriter(File outputDirectory, File summaryFile) {
+        this(outputDirectory, summaryFile, false);
+    }
+    
+    /**
+     * Constructs a new {@link DepthFirstSequenceWriter} instance.
+     * 
+     * @param outputDirectory the {@link File} denoting the existing directory to which the sequence files shall be
+     *        written; should never be <code>null</code>
+     * @param summaryFile the {@link File} denoting the summary file to write; should never be <code>null</code>
+     * @param binary <code>true</code>, if the sequence files shall be written in the binary format described by
+     *        {@link SequenceReader}; <code>false</code>, if they shall contain lines of hexadecimal characters
+     */
+    public DepthFirstSequenceWriter(File outputDirectory, File summaryFile, boolean binary) {
+        this(outputDirectory, summaryFile, binary, false);
+    }
+    
+    /**
+     * Constructs a new {@link DepthFirstSequenceWriter} instance.
+     * 
+     * @param outputDirectory the {@link File} denoting the existing directory to which the sequence files shall be
+     *        written; should never be <code>null</code>
+     * @param summaryFile the {@link File} denoting the summary file to write; should never be <code>null</code>
+     * @param binary <code>true</code>, if the sequence files shall be written in the binary format described by
+     *        {@link SequenceReader}; <code>false</code>, if they shall contain lines of hexadecimal characters
+     * @param compressed <code>true</code>, if the content of each sequence file shall be written as a compressed frame
+     *        to the archive of a {@link CompressedSequenceWriter}; <code>false</code>, if it shall be written to an
+     *        individual file
+     */
+    public DepthFirstSequenceWriter(File outputDirectory, File summaryFile, boolean binary, boolean compressed) {
+        this.outputDirectory = outputDirectory;
+        this.summaryFile = summaryFile;
+        this.binary = binary;
+        if (compressed) {
+            archiveWriter = new CompressedSequenceWriter(outputDirectory);
+        }
+        sequenceFileUtilities = new FileUtilities();
+        summaryFileUtilities = new FileUtilities();
+        summaryBuffer = new StringBuilder(SUMMARY_BUFFER_CAPACITY + SUMMARY_BUFFER_CAPACITY / 4);
+        lineSeparator = System.lineSeparator().getBytes();
+    }
+    
+    /**
+     * Writes all commit sequences starting at the given commit in the given {@link ICommitGraph} to individual files
+     * (or compressed frames) in the output directory and their names and numbers of commits to the summary file.
+     * 
+     * @param commitGraph the {@link ICommitGraph} containing all commits reachable from the given start commit; should
+     *        never be <code>null</code>
+     * @param startCommit the id of the commit in the given commit graph starting all sequences (the newest commit)
+     * @return the number of written commit sequences
+     * @throws CommitSequenceCreationException if writing a sequence file or the summary file fails
+     */
+    public long write(ICommitGraph commitGraph, int startCommit) throws CommitSequenceCreationException {
+        long numberOfSequences = 0;
+        if (binary) {
+            contentOffset = SequenceReader.HEADER_LENGTH;
+            lineLength = commitGraph.getObjectIdLength();
+        } else {
+            contentOffset = 0;
+            // Commits (SHAs) only consist of single-byte (ASCII) characters
+            lineLength = 2 * commitGraph.getObjectIdLength() + lineSeparator.length;
+        }
+        pathLines = new byte[contentOffset + INITIAL_PATH_CAPACITY * lineLength];
+        if (binary) {
+            ByteBuffer.wrap(pathLines).put(SequenceReader.createHeader(commitGraph.getObjectIdLength()));
+        }
+        if (!summaryFileUtilities.openFileChannel(summaryFile)) {
+            throw new CommitSequenceCreationException("Opening file channel for summary file \""
+                    + summaryFile.getAbsolutePath() + "\" failed");
+        }
+        try {
+            if (archiveWriter != null) {
+                archiveWriter.open();
+            }
+            DepthFirstPathSearch search = new DepthFirstPathSearch(commitGraph, startCommit);
+            while (search.next()) {
+                // Only the lines of the commits following the prefix shared with the previous path have changed
+                for (int depth = search.getCommonDepth(); depth < search.getDepth(); depth++) {
+                    encodeLine(commitGraph, search.getCommit(depth), depth);
+                }
+                numberOfSequences++;
+                writeSequence(numberOfSequences, search.getDepth());
+            }
+        } finally {
+            try {
+                if (archiveWriter != null) {
+                    archiveWriter.close();
+                }
+            } finally {
+                closeSummaryFile();
+            }
+        }
+        return numberOfSequences;
+    }
+    
+    /**
+     * Writes the line of the commit with the given id to the {@link #pathLines} at the given depth.
+     * 
+     * @param commitGraph the {@link ICommitGraph} containing the given commit; should never be <code>null</code>
+     * @param commitId the id of the commit in the given commit graph to encode
+     * @param depth the zero-based depth of the given commit on the current path of the search
+     */
+    private void encodeLine(ICommitGraph commitGraph, int commitId, int depth) {
+        int lineStart = contentOffset + depth * lineLength;
+        if (lineStart + lineLength > pathLines.length) {
+            pathLines = Arrays.copyOf(pathLines, pathLines.length * 2);
+        }
+        if (binary) {
+            commitGraph.putCommit(commitId, ByteBuffer.wrap(pathLines, lineStart, lineLength));
+        } else {
+            String commit = commitGraph.getCommit(commitId);
+            int commitLength = commit.length();
+            for (int i = 0; i < commitLength; i++) {
+                pathLines[lineStart + i] = (byte) commit.charAt(i);
+            }
+            System.arraycopy(lineSeparator, 0, pathLines, lineStart + commitLength, lineSeparator.length);
+        }
+    }
+    
+    /**
+     * Writes the content of the sequence with the given number, which consists of the given number of lines of the
+     * {@link #pathLines} and the preceding header, if any, to the file of that sequence (or as a frame to the archive
+     * of the {@link #archiveWriter}) and adds the corresponding line to the summary file.
+     * 
+     * @param sequenceNumber the number of the sequence to write
+     * @param numberOfCommits the number of commits of the sequence to write
+     * @throws CommitSequenceCreationException if writing the sequence file or the summary file fails
+     */
+    private void writeSequence(long sequenceNumber, int numberOfCommits) throws CommitSequenceCreationException {
+        String sequenceName = COMMIT_SEQUENCE_FILE_NAME_PREFIX + sequenceNumber;
+        ByteBuffer content = ByteBuffer.wrap(pathLines, 0, contentOffset + numberOfCommits * lineLength);
+        if (archiveWriter != null) {
+            archiveWriter.write(sequenceName, content);
+        } else {
+            String fileNamePostfix = COMMIT_SEQUENCE_FILE_NAME_POSTFIX;
+            if (binary) {
+                fileNamePostfix = BINARY_FILE_NAME_POSTFIX;
+            }
+            File sequenceFile = new File(outputDirectory, sequenceName + fileNamePostfix);
+            boolean sequenceWritten = sequenceFileUtilities.openFileChannel(sequenceFile)
+                    && sequenceFileUtilities.write(content);
+            if (!sequenceFileUtilities.closeFileChannel() || !sequenceWritten) {
+                throw new CommitSequenceCreationException("Writing commit sequence file \""
+                        + sequenceFile.getAbsolutePath() + "\" failed");
+            }
+        }
+        summaryBuffer.append(sequenceName).append(',').append(numberOfCommits).append(System.lineSeparator());
+        if (summaryBuffer.length() >= SUMMARY_BUFFER_CAPACITY) {
+            flushSummaryBuffer();
+        }
+    }
+    
+    /**
+     * Writes the content of the {@link #summaryBuffer} to the {@link #summaryFile} and clears that buffer.
+     * 
+     * @throws CommitSequenceCreationException if writing the summary file fails
+     */
+    private void flushSummaryBuffer() throws CommitSequenceCreationException {
+        if (!summaryFileUtilities.writeAscii(summaryBuffer)) {
+            throw new CommitSequenceCreationException("Writing to summary file \"" + summaryFile.getAbsolutePath()
+                    + "\" failed");
+        }
+        summaryBuffer.setLength(0);
+    }
+    
+    /**
+     * Writes the remaining content of the {@link #summaryBuffer} and closes the {@link #summaryFile}.
+     * 
+     * @throws CommitSequenceCreationException if writing or closing the summary file fails
+     */
+    private void closeSummaryFile() throws CommitSequenceCreationException {
+        try {
+            flushSummaryBuffer();
+        } finally {
+            if (!summaryFileUtilities.closeFileChannel()) {
+                throw new CommitSequenceCreationException("Closing file channel for summary file \""
+                        + summaryFile.getAbsolutePath() + "\" failed");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+
+import net.ssehub.gcs.utilities.Logger;
+import net.ssehub.gcs.utilities.Logger.MessageType;
+
+/**
+ * This class realizes an {@link ICommitGraphLoader}, which delegates the loading of the {@link ICommitGraph} to a list
+ * of other loaders. These loaders are tried in the given order until one of them succeeds. This enables the usage of
+ * fast loaders, which do not support all kinds of repositories, with a fall back to a slower, but general loader.
+ * Loaders, which do not apply to a repository, e.g., the {@link CommitGraphFileLoader} for a repository without a
+ * commit-graph file, are skipped silently; only the failure of an applicable loader is reported as a warning.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class FallbackGraphLoader implements ICommitGraphLoader {
+    
+    /**
+     * The identifier of this class, e.g., for printing messages.
+     */
+    private static final String ID = "FallbackGraphLoader";
+    
+    /**
+     * The {@link Logger} for pretty-printing messages to the console.
+     */
+    private Logger logger = Logger.getInstance();
+    
+    /**
+     * The array of {@link ICommitGraphLoader}s in the order in which they are tried.
+     */
+    private ICommitGraphLoader[] commitGraphLoaders;
+    
+    /**
+     * Constructs a new {@link FallbackGraphLoader} instance.
+     * 
+     * @param commitGraphLoaders the {@link ICommitGraphLoader}s in the order in which they shall be tried; should
+     *        never be <code>null</code> nor <i>empty</i>
+     */
+    public FallbackGraphLoader(ICommitGraphLoader... commitGraphLoaders) {
+        this.commitGraphLoaders = commitGraphLoaders;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ICommitGraph load(File repositoryDirectory, String startCommit) throws CommitGraphCreationException {
+        ICommitGraph commitGraph = null;
+        CommitGraphCreationException loadingException = null;
+        int commitGraphLoadersCounter = 0;
+        while (commitGraph == null && commitGraphLoadersCounter < commitGraphLoaders.length) {
+            ICommitGraphLoader commitGraphLoader = commitGraphLoaders[commitGraphLoadersCounter];
+            String commitGraphLoaderName = commitGraphLoader.getClass().getSimpleName();
+            commitGraphLoadersCounter++;
+            if (!commitGraphLoader.isApplicable(repositoryDirectory)) {
+                logger.log(ID, "Skipping " + commitGraphLoaderName, "The loader does not apply to \""
+                        + repositoryDirectory.getAbsolutePath() + "\"", MessageType.DEBUG);
+            } else {
+                try {
+                    commitGraph = commitGraphLoader.load(repositoryDirectory, startCommit);
+                } catch (CommitGraphCreationException e) {
+                    loadingException = e;
+                    if (commitGraphLoadersCounter < commitGraphLoaders.length) {
+                        logger.log(ID, "Loading the commit graph via " + commitGraphLoaderName + " failed",
+                                "Trying the next applicable loader" + System.lineSeparator() + e.getMessage(),
+                                MessageType.WARNING);
+                    }
+                }
+            }
+        }
+        if (commitGraph == null) {
+            if (loadingException == null) {
+                loadingException = new CommitGraphCreationException("None of the commit graph loaders applies to \""
+                        + repositoryDirectory.getAbsolutePath() + "\"");
+            }
+            throw loadingException;
+        }
+        return commitGraph;
+    }
+    
+    /**
+     * {@inheritDoc}<br>
+     * <br>
+     * This loader applies, if at least one of its delegate loaders applies.
+     */
+    @Override
+    public boolean isApplicable(File repositoryDirectory) {
+        boolean isApplicable = false;
+        int commitGraphLoadersCounter = 0;
+        while (!isApplicable && commitGraphLoadersCounter < commitGraphLoaders.length) {
+            isApplicable = commitGraphLoaders[commitGraphLoadersCounter].isApplicable(repositoryDirectory);
+            commitGraphLoadersCounter++;
+        }
+        return isApplicable;
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+
+/**
+ * This class realizes an {@link ISequenceWorklist}, which returns the {@link CommitSequence}s in the order of their
+ * addition (first in, first out). This order results in a breadth-first creation of commit sequences and is the
+ * default order of the {@link GitCommitSequencer}.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class FifoSequenceWorklist implements ISequenceWorklist {
+    
+    /**
+     * The {@link SequenceTaskQueue} storing the pending sub-sequences of this worklist.
+     */
+    private SequenceTaskQueue commitSequences;
+    
+    /**
+     * Constructs a new {@link FifoSequenceWorklist} instance, which holds all pending sub-sequences in memory.
+     */
+    public FifoSequenceWorklist() {
+        commitSequences = new SequenceTaskQueue(false);
+    }
+    
+    /**
+     * Constructs a new {@link FifoSequenceWorklist} instance, which spills pending sub-sequences to a temporary file in
+     * the given directory, if holding them in memory exceeds the given budget.
+     * 
+     * @param memoryBudget the maximum number of bytes of heap this worklist shall use for pending sub-sequences;
+     *        values less than <i>1</i> disable spilling
+     * @param spillDirectory the {@link File} denoting the existing directory to create the temporary file in; should
+     *        not be <code>null</code>, if spilling is enabled
+     */
+    public FifoSequenceWorklist(long memoryBudget, File spillDirectory) {
+        commitSequences = new SequenceTaskQueue(false, memoryBudget, spillDirectory);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(CommitSequence childCommitSequence, int sequenceNumber, int startCommit, int childCommit,
+            int prefixLength) {
+        commitSequences.add(childCommitSequence, sequenceNumber, startCommit, childCommit, prefixLength);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommitSequence remove() {
+        return commitSequences.poll();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return commitSequences.isEmpty();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return commitSequences.size();
+    }
+
+}
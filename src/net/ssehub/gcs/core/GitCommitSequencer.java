@@ -15,14 +15,17 @@
 package net.ssehub.gcs.core;
 
 import java.io.File;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import net.ssehub.gcs.utilities.FileUtilities;
 import net.ssehub.gcs.utilities.Logger;
 import net.ssehub.gcs.utilities.Logger.MessageType;
 import net.ssehub.gcs.utilities.ProcessUtilities;
 import net.ssehub.gcs.utilities.ProcessUtilities.ExecutionResult;
+import net.ssehub.gcs.utilities.WriteBehindExecutor;
 
 /**
  * The main class of this project starting the core processes to create commit sequences from a Git repository.
@@ -38,11 +41,20 @@ public class GitCommitSequencer implements ISequenceStorage {
     private static final String ID = "GitCommitSequencer";
     
     /**
-     * The command for printing the current HEAD commit (SHA) to console.<br>
+     * The constant part of the command for printing the full commit (SHA) a revision refers to to console. The
+     * revision, like <code>HEAD</code> or an abbreviated SHA, must be appended with the suffix
+     * <code>^{commit}</code>.<br>
      * <br>
-     * Command: <code>git rev-parse HEAD</code>
+     * Command: <code>git rev-parse --verify --quiet</code>
      */
-    private static final String[] GIT_HEAD_COMMIT_COMMAND = {"git", "rev-parse", "HEAD"};
+    private static final String[] GIT_RESOLVE_COMMIT_COMMAND = {"git", "rev-parse", "--verify", "--quiet"};
+    
+    /**
+     * The revision denoting the current HEAD commit of a repository.
+     * <br><br>
+     * Value: <code>HEAD</code>
+     */
+    private static final String HEAD_REVISION = "HEAD";
     
     /**
      * The {@link String} defining the constant summary file name.
@@ -51,6 +63,234 @@ public class GitCommitSequencer implements ISequenceStorage {
      */
     private static final String SUMMARY_FILE_NAME = "GitCommitSequencer_Summary.csv";
     
+    /**
+     * The {@link String} defining the constant statistics file name, which is only written if the
+     * {@link #COUNT_ONLY_OPTION} is set.
+     * <br><br>
+     * Value: <code>GitCommitSequencer_Statistics.csv</code>
+     */
+    private static final String STATISTICS_FILE_NAME = "GitCommitSequencer_Statistics.csv";
+    
+    /**
+     * The {@link String} defining the prefix of all optional arguments (options), which distinguishes them from the
+     * mandatory and optional positional arguments.
+     * <br><br>
+     * Value: <code>--</code>
+     */
+    private static final String OPTION_PREFIX = "--";
+    
+    /**
+     * The option for defining the source from which the {@link ICommitGraph} is loaded. The value of this option must
+     * be one of {@link #GRAPH_SOURCE_AUTO}, {@link #GRAPH_SOURCE_COMMIT_GRAPH}, {@link #GRAPH_SOURCE_OBJECTS},
+     * {@link #GRAPH_SOURCE_CAT_FILE}, or {@link #GRAPH_SOURCE_REV_LIST}.
+     * <br><br>
+     * Value: <code>--graph-source</code>
+     */
+    private static final String GRAPH_SOURCE_OPTION = OPTION_PREFIX + "graph-source";
+    
+    /**
+     * The value of the {@link #GRAPH_SOURCE_OPTION} for loading the {@link ICommitGraph} from the best available
+     * source. This is the default value, which tries {@link #GRAPH_SOURCE_COMMIT_GRAPH} first and falls back to
+     * {@link #GRAPH_SOURCE_OBJECTS} and {@link #GRAPH_SOURCE_REV_LIST} in that order.
+     * <br><br>
+     * Value: <code>auto</code>
+     */
+    private static final String GRAPH_SOURCE_AUTO = "auto";
+    
+    /**
+     * The value of the {@link #GRAPH_SOURCE_OPTION} for loading the {@link ICommitGraph} via the
+     * {@link CommitGraphFileLoader}.
+     * <br><br>
+     * Value: <code>commit-graph</code>
+     */
+    private static final String GRAPH_SOURCE_COMMIT_GRAPH = "commit-graph";
+    
+    /**
+     * The value of the {@link #GRAPH_SOURCE_OPTION} for loading the {@link ICommitGraph} via the
+     * {@link ObjectGraphLoader}.
+     * <br><br>
+     * Value: <code>objects</code>
+     */
+    private static final String GRAPH_SOURCE_OBJECTS = "objects";
+    
+    /**
+     * The value of the {@link #GRAPH_SOURCE_OPTION} for loading the {@link ICommitGraph} via the
+     * {@link CatFileGraphLoader}.
+     * <br><br>
+     * Value: <code>cat-file</code>
+     */
+    private static final String GRAPH_SOURCE_CAT_FILE = "cat-file";
+    
+    /**
+     * The value of the {@link #GRAPH_SOURCE_OPTION} for loading the {@link ICommitGraph} via the
+     * {@link RevListGraphLoader}.
+     * <br><br>
+     * Value: <code>rev-list</code>
+     */
+    private static final String GRAPH_SOURCE_REV_LIST = "rev-list";
+    
+    /**
+     * The option (flag) for only computing the number of commit sequences and their length distribution via
+     * {@link SequenceStatistics} instead of creating the actual commit sequences.
+     * <br><br>
+     * Value: <code>--count-only</code>
+     */
+    private static final String COUNT_ONLY_OPTION = OPTION_PREFIX + "count-only";
+    
+    /**
+     * The option (flag) for writing the content of each commit sequence file as a compressed frame to a single archive
+     * via {@link CompressedSequenceWriter} instead of an individual file. The sequences are numbered in the order of
+     * the {@link #ENGINE_DFS} engine.
+     * <br><br>
+     * Value: <code>--compress</code>
+     */
+    private static final String COMPRESS_OPTION = OPTION_PREFIX + "compress";
+    
+    /**
+     * The option for defining the format of the created commit sequences. The value of this option must be one of
+     * {@link #OUTPUT_FILES}, {@link #OUTPUT_BINARY}, {@link #OUTPUT_CONTAINER}, {@link #OUTPUT_CHAINS}, or
+     * {@link #OUTPUT_DELTA}.
+     * <br><br>
+     * Value: <code>--output</code>
+     */
+    private static final String OUTPUT_OPTION = OPTION_PREFIX + "output";
+    
+    /**
+     * The value of the {@link #OUTPUT_OPTION} for writing each commit sequence to its own file via
+     * {@link CommitSequence}. This is the default value.
+     * <br><br>
+     * Value: <code>files</code>
+     */
+    private static final String OUTPUT_FILES = "files";
+    
+    /**
+     * The value of the {@link #OUTPUT_OPTION} for writing each commit sequence to its own file in the binary format
+     * described by {@link SequenceReader}, which contains the raw object ids of the commits instead of lines of
+     * hexadecimal characters.
+     * <br><br>
+     * Value: <code>binary</code>
+     */
+    private static final String OUTPUT_BINARY = "binary";
+    
+    /**
+     * The value of the {@link #OUTPUT_OPTION} for writing all commit sequences to a few large segment files and an
+     * index file, which replaces the summary file, via {@link ContainerSequenceWriter}.
+     * <br><br>
+     * Value: <code>container</code>
+     */
+    private static final String OUTPUT_CONTAINER = "container";
+    
+    /**
+     * The value of the {@link #OUTPUT_OPTION} for writing the commit sequences as lists of linear chains of commits
+     * via {@link ChainSequenceWriter}.
+     * <br><br>
+     * Value: <code>chains</code>
+     */
+    private static final String OUTPUT_CHAINS = "chains";
+    
+    /**
+     * The value of the {@link #OUTPUT_OPTION} for writing the commit sequences as a single file, in which each
+     * sequence only contains its differences to the previous sequence, via {@link DeltaSequenceWriter}.
+     * <br><br>
+     * Value: <code>delta</code>
+     */
+    private static final String OUTPUT_DELTA = "delta";
+    
+    /**
+     * The option for defining the number of threads creating commit sequences in parallel via the
+     * {@link ParallelSequenceExecutor}. The value of this option must be a positive integer or
+     * {@link #THREADS_VIRTUAL}. If it is <i>1</i>, which is the default, the commit sequences are created one after
+     * another.
+     * <br><br>
+     * Value: <code>--threads</code>
+     */
+    private static final String THREADS_OPTION = OPTION_PREFIX + "threads";
+    
+    /**
+     * The value of the {@link #THREADS_OPTION} for creating each commit sequence on its own virtual thread. If virtual
+     * threads are not available in the current Java runtime, the commit sequences are created by a thread per
+     * available processor instead.
+     * <br><br>
+     * Value: <code>virtual</code>
+     */
+    private static final String THREADS_VIRTUAL = "virtual";
+    
+    /**
+     * The option for defining the maximum number of concurrently running (Git) processes via
+     * {@link ProcessUtilities#setMaximumNumberOfProcesses(int)}. The value of this option must be a positive integer.
+     * By default, the number of processes is not limited.
+     * <br><br>
+     * Value: <code>--max-processes</code>
+     */
+    private static final String MAX_PROCESSES_OPTION = OPTION_PREFIX + "max-processes";
+    
+    /**
+     * The option for defining the order in which commit sub-sequences are created one after another. The value of this
+     * option must be one of {@link #WORKLIST_FIFO}, {@link #WORKLIST_LIFO}, or {@link #WORKLIST_PRIORITY}.
+     * <br><br>
+     * Value: <code>--worklist</code>
+     */
+    private static final String WORKLIST_OPTION = OPTION_PREFIX + "worklist";
+    
+    /**
+     * The value of the {@link #WORKLIST_OPTION} for creating commit sub-sequences in the order of their detection via
+     * the {@link FifoSequenceWorklist}. This is the default value.
+     * <br><br>
+     * Value: <code>fifo</code>
+     */
+    private static final String WORKLIST_FIFO = "fifo";
+    
+    /**
+     * The value of the {@link #WORKLIST_OPTION} for creating commit sub-sequences in the reverse order of their
+     * detection (depth-first) via the {@link LifoSequenceWorklist}.
+     * <br><br>
+     * Value: <code>lifo</code>
+     */
+    private static final String WORKLIST_LIFO = "lifo";
+    
+    /**
+     * The value of the {@link #WORKLIST_OPTION} for creating the shortest commit sub-sequences first via the
+     * {@link PrioritySequenceWorklist}.
+     * <br><br>
+     * Value: <code>priority</code>
+     */
+    private static final String WORKLIST_PRIORITY = "priority";
+    
+    /**
+     * The option for defining the maximum amount of heap in megabytes the worklist uses for pending commit
+     * sub-sequences. If this amount is reached, further sub-sequences are spilled to a temporary file in the
+     * {@link #outputDirectory}. The value of this option must be a positive integer. By default, all pending
+     * sub-sequences are held in memory. This option is not supported by the {@link PrioritySequenceWorklist}.
+     * <br><br>
+     * Value: <code>--worklist-memory</code>
+     */
+    private static final String WORKLIST_MEMORY_OPTION = OPTION_PREFIX + "worklist-memory";
+    
+    /**
+     * The option for defining the engine creating the commit sequence files. The value of this option must be either
+     * {@link #ENGINE_WORKLIST} or {@link #ENGINE_DFS}.
+     * <br><br>
+     * Value: <code>--engine</code>
+     */
+    private static final String ENGINE_OPTION = OPTION_PREFIX + "engine";
+    
+    /**
+     * The value of the {@link #ENGINE_OPTION} for creating commit sequences via {@link CommitSequence}s, which
+     * prepend the commits of their child commit sequences and postpone their sub-sequences via the {@link #worklist}.
+     * This is the default value.
+     * <br><br>
+     * Value: <code>worklist</code>
+     */
+    private static final String ENGINE_WORKLIST = "worklist";
+    
+    /**
+     * The value of the {@link #ENGINE_OPTION} for creating commit sequences via the {@link DepthFirstSequenceWriter},
+     * which writes each sequence from a single path of a depth-first search over the commit graph.
+     * <br><br>
+     * Value: <code>dfs</code>
+     */
+    private static final String ENGINE_DFS = "dfs";
+    
     /**
      * The {@link Logger} for pretty-printing messages to the console.
      */
@@ -83,12 +323,94 @@ public class GitCommitSequencer implements ISequenceStorage {
     private File summaryFile;
     
     /**
-     * The {@link List} of {@link CommitSequence}s that have to be created by calling {@link CommitSequence#run()}. This
-     * list is filled during the creation of commit sequences that detect sub-sequences. Those sub-sequences are
-     * initialized but their actual creation is postponed until the current sequence is created completely. Hence, the
-     * postponed sequences are added to this list via {@link #add(CommitSequence)}.
+     * The {@link File} denoting the file containing the statistics of the commit sequences, if the
+     * {@link #COUNT_ONLY_OPTION} is set. 
+     */
+    private File statisticsFile;
+    
+    /**
+     * The {@link ISequenceWorklist} of {@link CommitSequence}s that have to be created by calling
+     * {@link CommitSequence#run()}. This worklist is filled during the creation of commit sequences that detect
+     * sub-sequences. Those sub-sequences are recorded by their ids only and their actual creation is postponed until
+     * the current sequence is created completely. Hence, the postponed sequences are added to this worklist via
+     * {@link #add(CommitSequence, int, int, int, int)}. The order in which they are removed is defined by the
+     * {@link #worklistPolicy}.
+     */
+    private ISequenceWorklist worklist;
+    
+    /**
+     * The {@link ICommitGraphLoader} for loading the {@link ICommitGraph} of the {@link #repositoryDirectory} before
+     * creating commit sequences.
+     */
+    private ICommitGraphLoader commitGraphLoader;
+    
+    /**
+     * The {@link String} defining the source from which the {@link ICommitGraph} is loaded as defined by the value of
+     * the {@link #GRAPH_SOURCE_OPTION}. The default value is {@link #GRAPH_SOURCE_AUTO}.
+     */
+    private String graphSource;
+    
+    /**
+     * The definition of whether only the statistics of the commit sequences shall be computed (<code>true</code>) or
+     * the actual commit sequences shall be created (<code>false</code>). The default value is <code>false</code>.
+     * 
+     * @see #COUNT_ONLY_OPTION
+     */
+    private boolean countOnly;
+    
+    /**
+     * The definition of whether the commit sequence files shall be written as compressed frames to a single archive
+     * (<code>true</code>) or as individual files (<code>false</code>). The default value is <code>false</code>.
+     * 
+     * @see #COMPRESS_OPTION
+     */
+    private boolean compress;
+    
+    /**
+     * The {@link String} defining the format of the created commit sequences as defined by the value of the
+     * {@link #OUTPUT_OPTION}. The default value is {@link #OUTPUT_FILES}.
+     */
+    private String outputFormat;
+    
+    /**
+     * The number of threads creating commit sequences as defined by the value of the {@link #THREADS_OPTION}. The
+     * default value is <i>1</i>.
+     */
+    private int numberOfThreads;
+    
+    /**
+     * The definition of whether each commit sequence shall be created on its own virtual thread (<code>true</code>) or
+     * by {@link #numberOfThreads} threads (<code>false</code>). The default value is <code>false</code>.
+     * 
+     * @see #THREADS_VIRTUAL
+     */
+    private boolean virtualThreads;
+    
+    /**
+     * The maximum number of concurrently running (Git) processes as defined by the value of the
+     * {@link #MAX_PROCESSES_OPTION}. The default value is <i>0</i>, which means that the number of processes is not
+     * limited.
+     */
+    private int maximumNumberOfProcesses;
+    
+    /**
+     * The {@link String} defining the order in which commit sub-sequences are created as defined by the value of the
+     * {@link #WORKLIST_OPTION}. The default value is {@link #WORKLIST_FIFO}.
+     */
+    private String worklistPolicy;
+    
+    /**
+     * The maximum amount of heap in megabytes the {@link #worklist} uses for pending commit sub-sequences as defined
+     * by the value of the {@link #WORKLIST_MEMORY_OPTION}. The default value is <i>0</i>, which means that all pending
+     * sub-sequences are held in memory.
      */
-    private List<CommitSequence> worklist;
+    private int worklistMemory;
+    
+    /**
+     * The {@link String} defining the engine creating the commit sequence files as defined by the value of the
+     * {@link #ENGINE_OPTION}. The default value is {@link #ENGINE_WORKLIST}.
+     */
+    private String engine;
     
     /**
      * Constructs a new {@link GitCommitSequencer} instance.
@@ -99,9 +421,331 @@ public class GitCommitSequencer implements ISequenceStorage {
      * @see #parseArgs(String[])
      */
     public GitCommitSequencer(String[] args) throws ArgumentErrorException {
-        parseArgs(args);
+        graphSource = GRAPH_SOURCE_AUTO;
+        countOnly = false;
+        compress = false;
+        outputFormat = OUTPUT_FILES;
+        numberOfThreads = 1;
+        virtualThreads = false;
+        maximumNumberOfProcesses = 0;
+        worklistPolicy = WORKLIST_FIFO;
+        worklistMemory = 0;
+        engine = ENGINE_WORKLIST;
+        parseArgs(parseOptions(args));
         summaryFile = new File(outputDirectory, SUMMARY_FILE_NAME);
+        statisticsFile = new File(outputDirectory, STATISTICS_FILE_NAME);
         fileUtilities = new FileUtilities();
+        commitGraphLoader = createCommitGraphLoader();
+    }
+    
+    /**
+     * Parses the options (arguments starting with {@link #OPTION_PREFIX}) and their values in the given arguments
+     * received by {@link #main(String[])} and passed through {@link #GitCommitSequencer(String[])}. Options may occur
+     * at any position in the given arguments. The following options are supported:
+     * <ul>
+     * <li>{@link #GRAPH_SOURCE_OPTION} followed by the source from which the {@link ICommitGraph} is loaded</li>
+     * <li>{@link #COUNT_ONLY_OPTION} without a value</li>
+     * <li>{@link #COMPRESS_OPTION} without a value</li>
+     * <li>{@link #OUTPUT_OPTION} followed by the format of the created commit sequences</li>
+     * <li>{@link #THREADS_OPTION} followed by the number of threads creating commit sequences</li>
+     * <li>{@link #MAX_PROCESSES_OPTION} followed by the maximum number of concurrently running processes</li>
+     * <li>{@link #WORKLIST_OPTION} followed by the order in which commit sub-sequences are created</li>
+     * <li>{@link #WORKLIST_MEMORY_OPTION} followed by the maximum heap in megabytes for pending sub-sequences</li>
+     * <li>{@link #ENGINE_OPTION} followed by the engine creating the commit sequence files</li>
+     * </ul>
+     * 
+     * As options may occur in any order, their combinations are checked via {@link #checkOptionCombinations()} after
+     * all options are parsed.
+     * 
+     * @param args the array of {@link String}s passed as arguments to this tool at start-up; may be <code>null</code>
+     * @return the array of the remaining (positional) arguments in the order of their definition or
+     *         <code>null</code>, if the given arguments are <code>null</code>
+     * @throws ArgumentErrorException if an option is unknown, its value is missing, or it cannot be combined with
+     *         another option
+     */
+    private String[] parseOptions(String[] args) throws ArgumentErrorException {
+        String[] positionalArgs = null;
+        if (args != null) {
+            List<String> positionalArgsList = new ArrayList<String>();
+            int argsCounter = 0;
+            while (argsCounter < args.length) {
+                if (args[argsCounter].startsWith(OPTION_PREFIX)) {
+                    argsCounter = parseOption(args, argsCounter);
+                } else {
+                    positionalArgsList.add(args[argsCounter]);
+                    argsCounter++;
+                }
+            }
+            positionalArgs = positionalArgsList.toArray(new String[positionalArgsList.size()]);
+            checkOptionCombinations();
+        }
+        return positionalArgs;
+    }
+    
+    /**
+     * Checks whether the parsed options can be combined. Options, which would be ignored silently by the selected
+     * way of creating the commit sequences, are rejected:
+     * <ul>
+     * <li>{@link #OUTPUT_OPTION} does not apply to {@link #COUNT_ONLY_OPTION}</li>
+     * <li>{@link #COMPRESS_OPTION} only applies to the {@link #OUTPUT_FILES} and {@link #OUTPUT_BINARY} formats</li>
+     * <li>{@link #THREADS_OPTION}, {@link #MAX_PROCESSES_OPTION}, {@link #WORKLIST_OPTION}, and
+     *     {@link #WORKLIST_MEMORY_OPTION} only apply to the {@link #ENGINE_WORKLIST}
+     *     creating sequence files</li>
+     * <li>{@link #WORKLIST_OPTION} and {@link #WORKLIST_MEMORY_OPTION} only apply to the sequential creation of the
+     *     commit sequences</li>
+     * <li>{@link #WORKLIST_MEMORY_OPTION} does not apply to the {@link #WORKLIST_PRIORITY} worklist, which holds all
+     *     pending sub-sequences in memory</li>
+     * </ul>
+     * 
+     * @throws ArgumentErrorException if the parsed options contain an invalid combination
+     */
+    private void checkOptionCombinations() throws ArgumentErrorException {
+        if (countOnly && !outputFormat.equals(OUTPUT_FILES)) {
+            throw createInvalidCombinationException(OUTPUT_OPTION + " " + outputFormat, COUNT_ONLY_OPTION);
+        }
+        if (compress && (countOnly || !outputFormat.equals(OUTPUT_FILES) && !outputFormat.equals(OUTPUT_BINARY))) {
+            throw createInvalidCombinationException(COMPRESS_OPTION, getNonWorklistOption());
+        }
+        String nonWorklistOption = getNonWorklistOption();
+        String worklistOption = getWorklistOption();
+        if (nonWorklistOption != null) {
+            String ignoredOption = worklistOption;
+            if (virtualThreads || numberOfThreads > 1) {
+                ignoredOption = THREADS_OPTION;
+            } else if (maximumNumberOfProcesses > 0) {
+                ignoredOption = MAX_PROCESSES_OPTION;
+            }
+            if (ignoredOption != null) {
+                throw createInvalidCombinationException(ignoredOption, nonWorklistOption);
+            }
+        } else if (worklistOption != null && (virtualThreads || numberOfThreads > 1)) {
+            throw createInvalidCombinationException(worklistOption, THREADS_OPTION);
+        } else if (worklistPolicy.equals(WORKLIST_PRIORITY) && worklistMemory > 0) {
+            throw createInvalidCombinationException(WORKLIST_MEMORY_OPTION, WORKLIST_OPTION + " " + WORKLIST_PRIORITY);
+        }
+    }
+    
+    /**
+     * Creates the {@link ArgumentErrorException} for the invalid combination of the given options.
+     * 
+     * @param option the option, which cannot be combined with the other given option; should never be
+     *        <code>null</code>
+     * @param otherOption the option, which prevents the usage of the given option; should never be <code>null</code>
+     * @return the new {@link ArgumentErrorException}; never <code>null</code>
+     */
+    private ArgumentErrorException createInvalidCombinationException(String option, String otherOption) {
+        return new ArgumentErrorException("Invalid combination of option \"" + option + "\" and \"" + otherOption
+                + "\"");
+    }
+    
+    /**
+     * Returns the parsed option, which configures the worklist of the sequential creation of the commit sequences by
+     * the {@link #ENGINE_WORKLIST}, if it differs from the default.
+     * 
+     * @return the {@link String} representing that option (including its value, if any) or <code>null</code>, if
+     *         neither the {@link #WORKLIST_OPTION} nor the {@link #WORKLIST_MEMORY_OPTION} changes the default
+     */
+    private String getWorklistOption() {
+        String worklistOption = null;
+        if (!worklistPolicy.equals(WORKLIST_FIFO)) {
+            worklistOption = WORKLIST_OPTION + " " + worklistPolicy;
+        } else if (worklistMemory > 0) {
+            worklistOption = WORKLIST_MEMORY_OPTION;
+        }
+        return worklistOption;
+    }
+    
+    /**
+     * Returns the parsed option, which selects a way of creating the commit sequences other than the
+     * {@link #ENGINE_WORKLIST} creating sequence files. The options are considered in the same order as in
+     * {@link #run()}.
+     * 
+     * @return the {@link String} representing that option (including its value, if any) or <code>null</code>, if the
+     *         commit sequences are created by the {@link #ENGINE_WORKLIST}
+     */
+    private String getNonWorklistOption() {
+        String nonWorklistOption = null;
+        if (countOnly) {
+            nonWorklistOption = COUNT_ONLY_OPTION;
+        } else if (!outputFormat.equals(OUTPUT_FILES) && !outputFormat.equals(OUTPUT_BINARY)) {
+            nonWorklistOption = OUTPUT_OPTION + " " + outputFormat;
+        } else if (engine.equals(ENGINE_DFS)) {
+            nonWorklistOption = ENGINE_OPTION + " " + ENGINE_DFS;
+        } else if (compress) {
+            nonWorklistOption = COMPRESS_OPTION;
+        }
+        return nonWorklistOption;
+    }
+    
+    /**
+     * Parses the option at the given index of the given arguments and sets the corresponding attribute.
+     * 
+     * @param args the array of {@link String}s passed as arguments to this tool at start-up; should never be
+     *        <code>null</code>
+     * @param optionIndex the index of the option to parse in the given arguments
+     * @return the index of the next argument after the option and its value
+     * @throws ArgumentErrorException if the option is unknown or its value is missing
+     */
+    private int parseOption(String[] args, int optionIndex) throws ArgumentErrorException {
+        int nextArgIndex = optionIndex + 1;
+        String option = args[optionIndex];
+        switch (option) {
+        case GRAPH_SOURCE_OPTION:
+            graphSource = getOptionValue(args, optionIndex);
+            nextArgIndex++;
+            break;
+        case COUNT_ONLY_OPTION:
+            countOnly = true;
+            break;
+        case COMPRESS_OPTION:
+            compress = true;
+            break;
+        case OUTPUT_OPTION:
+            outputFormat = getOptionValue(args, optionIndex);
+            if (!isOutputFormat(outputFormat)) {
+                throw new ArgumentErrorException("Unknown output format \"" + outputFormat + "\"");
+            }
+            nextArgIndex++;
+            break;
+        case THREADS_OPTION:
+            String threads = getOptionValue(args, optionIndex);
+            virtualThreads = threads.equals(THREADS_VIRTUAL);
+            if (!virtualThreads) {
+                numberOfThreads = parsePositiveInteger(option, threads);
+            }
+            nextArgIndex++;
+            break;
+        case MAX_PROCESSES_OPTION:
+            maximumNumberOfProcesses = parsePositiveInteger(option, getOptionValue(args, optionIndex));
+            nextArgIndex++;
+            break;
+        case WORKLIST_OPTION:
+            worklistPolicy = getOptionValue(args, optionIndex);
+            if (!worklistPolicy.equals(WORKLIST_FIFO) && !worklistPolicy.equals(WORKLIST_LIFO)
+                    && !worklistPolicy.equals(WORKLIST_PRIORITY)) {
+                throw new ArgumentErrorException("Unknown worklist policy \"" + worklistPolicy + "\"");
+            }
+            nextArgIndex++;
+            break;
+        case WORKLIST_MEMORY_OPTION:
+            worklistMemory = parsePositiveInteger(option, getOptionValue(args, optionIndex));
+            nextArgIndex++;
+            break;
+        case ENGINE_OPTION:
+            engine = getOptionValue(args, optionIndex);
+            if (!engine.equals(ENGINE_WORKLIST) && !engine.equals(ENGINE_DFS)) {
+                throw new ArgumentErrorException("Unknown engine \"" + engine + "\"");
+            }
+            nextArgIndex++;
+            break;
+        default:
+            throw new ArgumentErrorException("Unknown option \"" + option + "\"");
+        }
+        return nextArgIndex;
+    }
+    
+    /**
+     * Returns the value of the option at the given index of the given arguments, which is the next argument.
+     * 
+     * @param args the array of {@link String}s passed as arguments to this tool at start-up; should never be
+     *        <code>null</code>
+     * @param optionIndex the index of the option in the given arguments for which the value shall be returned
+     * @return the value of the option; never <code>null</code>
+     * @throws ArgumentErrorException if the option does not have a value
+     */
+    private String getOptionValue(String[] args, int optionIndex) throws ArgumentErrorException {
+        if (optionIndex + 1 >= args.length || args[optionIndex + 1].startsWith(OPTION_PREFIX)) {
+            throw new ArgumentErrorException("The option \"" + args[optionIndex] + "\" requires a value");
+        }
+        return args[optionIndex + 1];
+    }
+    
+    /**
+     * Checks whether the given value is a supported value of the {@link #OUTPUT_OPTION}.
+     * 
+     * @param value the value of the {@link #OUTPUT_OPTION} to check; should never be <code>null</code>
+     * @return <code>true</code>, if the given value is a supported output format; <code>false</code> otherwise
+     */
+    private boolean isOutputFormat(String value) {
+        boolean isOutputFormat;
+        switch (value) {
+        case OUTPUT_FILES:
+        case OUTPUT_BINARY:
+        case OUTPUT_CONTAINER:
+        case OUTPUT_CHAINS:
+        case OUTPUT_DELTA:
+            isOutputFormat = true;
+            break;
+        default:
+            isOutputFormat = false;
+            break;
+        }
+        return isOutputFormat;
+    }
+    
+    /**
+     * Parses the given value of the given option as a positive integer.
+     * 
+     * @param option the option, which has the given value; should never be <code>null</code>
+     * @param value the value of the given option to parse; should never be <code>null</code>
+     * @return the positive integer represented by the given value
+     * @throws ArgumentErrorException if the given value is not a positive integer
+     */
+    private int parsePositiveInteger(String option, String value) throws ArgumentErrorException {
+        int positiveInteger;
+        try {
+            positiveInteger = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ArgumentErrorException("The value \"" + value + "\" of option \"" + option
+                    + "\" is not a number", e);
+        }
+        if (positiveInteger < 1) {
+            throw new ArgumentErrorException("The value \"" + value + "\" of option \"" + option
+                    + "\" is not positive");
+        }
+        return positiveInteger;
+    }
+    
+    /**
+     * Creates the {@link ICommitGraphLoader} for the {@link #graphSource}.
+     * 
+     * @return the {@link ICommitGraphLoader} for the {@link #graphSource}; never <code>null</code>
+     * @throws ArgumentErrorException if the {@link #graphSource} is unknown
+     */
+    private ICommitGraphLoader createCommitGraphLoader() throws ArgumentErrorException {
+        ICommitGraphLoader loader;
+        int numberOfProcessors = Runtime.getRuntime().availableProcessors();
+        switch (graphSource) {
+        case GRAPH_SOURCE_AUTO:
+            loader = createDefaultCommitGraphLoader();
+            break;
+        case GRAPH_SOURCE_COMMIT_GRAPH:
+            loader = new CommitGraphFileLoader();
+            break;
+        case GRAPH_SOURCE_OBJECTS:
+            loader = new ObjectGraphLoader(numberOfProcessors);
+            break;
+        case GRAPH_SOURCE_CAT_FILE:
+            loader = new CatFileGraphLoader();
+            break;
+        case GRAPH_SOURCE_REV_LIST:
+            loader = new RevListGraphLoader();
+            break;
+        default:
+            throw new ArgumentErrorException("Unknown graph source \"" + graphSource + "\"");
+        }
+        return loader;
+    }
+    
+    /**
+     * Creates the {@link ICommitGraphLoader} for the default {@link #GRAPH_SOURCE_AUTO}, which tries the
+     * {@link CommitGraphFileLoader}, the {@link ObjectGraphLoader}, and the {@link RevListGraphLoader} in this order.
+     * 
+     * @return the default {@link ICommitGraphLoader}; never <code>null</code>
+     */
+    static ICommitGraphLoader createDefaultCommitGraphLoader() {
+        return new FallbackGraphLoader(new CommitGraphFileLoader(),
+                new ObjectGraphLoader(Runtime.getRuntime().availableProcessors()), new RevListGraphLoader());
     }
     
     /**
@@ -156,7 +800,15 @@ public class GitCommitSequencer implements ISequenceStorage {
                 }
                 // The third argument as start commit (optional)
                 if (args.length == 3) {
-                    startCommit = args[2];
+                    /*
+                     * The commit graph identifies commits by their full SHAs only. Hence, resolve user-defined start
+                     * commits, like abbreviated SHAs, if possible. If not, the creation of the first commit sequence
+                     * will fail as intended.
+                     */
+                    startCommit = resolveCommit(repositoryDirectory, args[2]);
+                    if (startCommit == null) {
+                        startCommit = args[2];
+                    }
                 } else {
                     startCommit = getStartCommit();
                 }
@@ -175,21 +827,46 @@ public class GitCommitSequencer implements ISequenceStorage {
      *         start commit can be determined
      */
     private String getStartCommit() {
-        String startCommit = null;
-        ExecutionResult executionResult = ProcessUtilities.getInstance().executeCommand(GIT_HEAD_COMMIT_COMMAND,
-                repositoryDirectory);
-        if (executionResult.executionSuccessful()) {
-            startCommit = executionResult.getStandardOutputData().trim();
-        } else {
-            logger.log(ID, "Retrieving HEAD commit failed", executionResult.getErrorOutputData(), MessageType.ERROR);
+        String startCommit = resolveCommit(repositoryDirectory, HEAD_REVISION);
+        if (startCommit == null) {
+            logger.log(ID, "Retrieving HEAD commit failed", null, MessageType.ERROR);
         }
         return startCommit;
     }
+    
+    /**
+     * Resolves the given revision to the full commit (SHA) it refers to using the {@link #GIT_RESOLVE_COMMIT_COMMAND}.
+     * 
+     * @param repositoryDirectory the {@link File} denoting the root directory of the Git repository in which the
+     *        revision shall be resolved; should never be <code>null</code>
+     * @param revision the {@link String} representing the revision to resolve, like <code>HEAD</code> or an
+     *        abbreviated SHA; should never be <code>null</code>
+     * @return the {@link String} representing the full commit (SHA) the given revision refers to; maybe
+     *         <code>null</code>, if the revision cannot be resolved to a commit
+     */
+    static String resolveCommit(File repositoryDirectory, String revision) {
+        String commit = null;
+        ProcessUtilities processUtilities = ProcessUtilities.getInstance();
+        String[] resolveCommitCommand = processUtilities.extendCommand(GIT_RESOLVE_COMMIT_COMMAND,
+                revision + "^{commit}");
+        ExecutionResult executionResult = processUtilities.executeCommand(resolveCommitCommand, repositoryDirectory);
+        if (executionResult.executionSuccessful()) {
+            commit = executionResult.getStandardOutputData().trim();
+        }
+        return commit;
+    }
 
     /**
-     * Starts the creation of commit sequences by this {@link GitCommitSequencer} instance.
+     * Starts the creation of commit sequences by this {@link GitCommitSequencer} instance. If the
+     * {@link #COUNT_ONLY_OPTION} is set, only the statistics of the commit sequences are computed and written to the
+     * {@link #statisticsFile}. If the {@link #OUTPUT_OPTION} is {@link #OUTPUT_CHAINS}, the commit sequences are
+     * written as lists of chains via {@link #writeChains()}. If it is {@link #OUTPUT_DELTA}, the commit sequences are
+     * written as differences to their previous sequences via {@link #writeDeltas()}. If it is
+     * {@link #OUTPUT_CONTAINER}, the commit sequences are written to a container via {@link #writeContainer()}. If
+     * the {@link #ENGINE_OPTION} is {@link #ENGINE_DFS} or the {@link #COMPRESS_OPTION} is set, the commit sequence
+     * files are created via {@link #writeSequencesDepthFirst()}.
      * 
-     * @throws CommitSequenceCreationException if creating a commit sequence fails 
+     * @throws CommitSequenceCreationException if creating a commit sequence or computing their statistics fails 
      */
     public void run() throws CommitSequenceCreationException {
         logger.log(ID, "Start", 
@@ -200,30 +877,60 @@ public class GitCommitSequencer implements ISequenceStorage {
         // Determine and save the current time in milliseconds for calculating the execution duration below 
         long startTimeMillis = System.currentTimeMillis();
         
+        ProcessUtilities.getInstance().setMaximumNumberOfProcesses(maximumNumberOfProcesses);
+        String result;
+        if (countOnly) {
+            result = "Commit sequences counted: " + countSequences();
+        } else if (outputFormat.equals(OUTPUT_CHAINS)) {
+            result = "Commit sequences written as chains: " + writeChains();
+        } else if (outputFormat.equals(OUTPUT_DELTA)) {
+            result = "Commit sequences written as deltas: " + writeDeltas();
+        } else if (outputFormat.equals(OUTPUT_CONTAINER)) {
+            result = "Commit sequences written to container: " + writeContainer();
+        } else if (engine.equals(ENGINE_DFS) || compress) {
+            result = "Commit sequences created: " + writeSequencesDepthFirst();
+        } else {
+            createSequences();
+            result = "Commit sequences created: " + CommitSequence.getNumberOfInstances();
+        }
+        
+        // Determine end date and time and display them along with the duration of the overall process execution
+        long durationMillis = System.currentTimeMillis() - startTimeMillis;
+        int durationSeconds = (int) ((durationMillis / 1000) % 60);
+        int durationMinutes = (int) ((durationMillis / 1000) / 60);
+        
+        logger.log(ID, "Finished", result + System.lineSeparator() + "Duration: " + durationMinutes + " min. and "
+                + durationSeconds + " sec.", MessageType.INFO);
+    }
+    
+    /**
+     * Creates the commit sequences starting at the {@link #startCommit} and writes their summary to the
+     * {@link #summaryFile}. The output files of all sequences are written via a single {@link WriteBehindExecutor}
+     * with a writer thread per thread creating sequences, which is closed after all sequences are created.
+     * 
+     * @throws CommitSequenceCreationException if creating a commit sequence fails 
+     */
+    private void createSequences() throws CommitSequenceCreationException {
         // Open the file channel for writing the summary file
         if (fileUtilities.openFileChannel(summaryFile)) {            
             // Create commit sequences
+            WriteBehindExecutor writeBehindExecutor = null;
             try {                
-                worklist = new ArrayList<CommitSequence>();
-                CommitSequence commitSequence = new CommitSequence(this, repositoryDirectory, startCommit,
-                        outputDirectory);
-                logger.log(ID, "Creating initial commit sequence", null, MessageType.INFO);
-                commitSequence.run();
-                toSummary(commitSequence.getOutputFileName(), commitSequence.getNumberOfCommits());
-                synchronized (this) {
-                    if (!worklist.isEmpty()) {
-                        logger.log(ID, "Creating commit sub-sequences", "Current number of sub-sequences to go: " 
-                                + worklist.size(), MessageType.INFO);
-                        while (!worklist.isEmpty()) {
-                            if ((worklist.size() % 100) == 0) {
-                                logger.log(ID, "Creating commit sub-sequences",
-                                        "Current number of sub-sequences to go: " + worklist.size(), MessageType.INFO);
-                            }
-                            commitSequence = worklist.remove(0);
-                            commitSequence.run();
-                            toSummary(commitSequence.getOutputFileName(), commitSequence.getNumberOfCommits());
-                        }
-                    }
+                ICommitGraph commitGraph = loadCommitGraph();
+                int numberOfWriterThreads = numberOfThreads;
+                if (virtualThreads) {
+                    numberOfWriterThreads = Runtime.getRuntime().availableProcessors();
+                }
+                writeBehindExecutor = new WriteBehindExecutor(numberOfWriterThreads);
+                CommitSequence commitSequence = new CommitSequence(this, commitGraph, repositoryDirectory, startCommit,
+                        outputDirectory, writeBehindExecutor);
+                if (outputFormat.equals(OUTPUT_BINARY)) {
+                    commitSequence.useBinaryOutputFile();
+                }
+                if (virtualThreads || numberOfThreads > 1) {
+                    createSequencesInParallel(commitSequence);
+                } else {
+                    createSequencesSequentially(commitGraph, commitSequence);
                 }
             } catch (CommitSequenceCreationException e) {
                 /*
@@ -232,6 +939,9 @@ public class GitCommitSequencer implements ISequenceStorage {
                  */
                 throw e;
             } finally {                
+                if (writeBehindExecutor != null) {
+                    writeBehindExecutor.close();
+                }
                 // Close the file channel for writing the summary file
                 if (!fileUtilities.closeFileChannel()) {
                     logger.log(ID, "Closing the file channel for summar file \"" + summaryFile.getAbsolutePath() 
@@ -242,15 +952,241 @@ public class GitCommitSequencer implements ISequenceStorage {
             logger.log(ID, "Terminating execution", "Opening the file channel for writing summary file \""
                     + summaryFile.getAbsolutePath() + "\" failed", MessageType.ERROR);
         }
-        
-        // Determine end date and time and display them along with the duration of the overall process execution
-        long durationMillis = System.currentTimeMillis() - startTimeMillis;
-        int durationSeconds = (int) ((durationMillis / 1000) % 60);
-        int durationMinutes = (int) ((durationMillis / 1000) / 60);
-        
-        logger.log(ID, "Finished", "Commit sequences created: " + CommitSequence.getNumberOfInstances() 
-                + System.lineSeparator() + "Duration: " + durationMinutes + " min. and " + durationSeconds + " sec.",
-                MessageType.INFO);
+    }
+    
+    /**
+     * Creates the given initial commit sequence and all of its sub-sequences one after another using the
+     * {@link #worklist}.
+     * 
+     * @param commitGraph the {@link ICommitGraph} containing all commits reachable from the {@link #startCommit};
+     *        should never be <code>null</code>
+     * @param commitSequence the initial {@link CommitSequence} starting at the {@link #startCommit}; should never be
+     *        <code>null</code>
+     */
+    private void createSequencesSequentially(ICommitGraph commitGraph, CommitSequence commitSequence) {
+        long worklistMemoryBudget = worklistMemory * 1024L * 1024L;
+        switch (worklistPolicy) {
+        case WORKLIST_LIFO:
+            worklist = new LifoSequenceWorklist(worklistMemoryBudget, outputDirectory);
+            break;
+        case WORKLIST_PRIORITY:
+            worklist = new PrioritySequenceWorklist(commitGraph);
+            break;
+        default:
+            worklist = new FifoSequenceWorklist(worklistMemoryBudget, outputDirectory);
+            break;
+        }
+        logger.log(ID, "Creating initial commit sequence", null, MessageType.INFO);
+        commitSequence.run();
+        toSummary(commitSequence.getOutputFileName(), commitSequence.getNumberOfCommits());
+        synchronized (this) {
+            if (!worklist.isEmpty()) {
+                logger.log(ID, "Creating commit sub-sequences", "Current number of sub-sequences to go: " 
+                        + worklist.size(), MessageType.INFO);
+                while (!worklist.isEmpty()) {
+                    if ((worklist.size() % 100) == 0) {
+                        logger.log(ID, "Creating commit sub-sequences",
+                                "Current number of sub-sequences to go: " + worklist.size(), MessageType.INFO);
+                    }
+                    CommitSequence subCommitSequence = worklist.remove();
+                    subCommitSequence.run();
+                    toSummary(subCommitSequence.getOutputFileName(), subCommitSequence.getNumberOfCommits());
+                }
+            }
+        }
+    }
+    
+    /**
+     * Creates the given initial commit sequence and all of its sub-sequences in parallel using a
+     * {@link ParallelSequenceExecutor} with {@link #numberOfThreads} threads or a virtual thread per sequence, if
+     * {@link #virtualThreads} is set. The summary is written after all sequences are created in the order of their
+     * (deterministic) sequence numbers.
+     * 
+     * @param commitSequence the initial {@link CommitSequence} starting at the {@link #startCommit}; should never be
+     *        <code>null</code>
+     * @throws CommitSequenceCreationException if waiting for the creation of the commit sequences is interrupted or
+     *         renaming the output file of a commit sequence fails
+     */
+    private void createSequencesInParallel(CommitSequence commitSequence) throws CommitSequenceCreationException {
+        ParallelSequenceExecutor executor = null;
+        if (virtualThreads) {
+            ExecutorService virtualThreadExecutor = ParallelSequenceExecutor.createVirtualThreadExecutor();
+            if (virtualThreadExecutor != null) {
+                logger.log(ID, "Creating commit sequences in parallel", "Using a virtual thread per commit sequence",
+                        MessageType.INFO);
+                executor = new ParallelSequenceExecutor(virtualThreadExecutor);
+            } else {
+                numberOfThreads = Runtime.getRuntime().availableProcessors();
+                logger.log(ID, "Virtual threads not available", "Using " + numberOfThreads + " threads instead",
+                        MessageType.WARNING);
+            }
+        }
+        if (executor == null) {
+            logger.log(ID, "Creating commit sequences in parallel", "Number of threads: " + numberOfThreads,
+                    MessageType.INFO);
+            executor = new ParallelSequenceExecutor(numberOfThreads);
+        }
+        int[] numbersOfCommits = executor.execute(commitSequence);
+        for (int i = 0; i < numbersOfCommits.length; i++) {
+            toSummary(commitSequence.getFinalOutputFileName(i + 1), numbersOfCommits[i]);
+        }
+    }
+    
+    /**
+     * Creates the commit sequence files and the {@link #summaryFile} via the {@link DepthFirstSequenceWriter}, which
+     * numbers the sequences in the order of a depth-first search over the commit graph. If the
+     * {@link #COMPRESS_OPTION} is set, the content of these files is written as compressed frames to a single archive.
+     * 
+     * @return the number of commit sequences starting at the {@link #startCommit}
+     * @throws CommitSequenceCreationException if the {@link #startCommit} is not part of the loaded commit graph or
+     *         writing the sequences or the summary fails
+     */
+    private long writeSequencesDepthFirst() throws CommitSequenceCreationException {
+        ICommitGraph commitGraph = loadCommitGraph();
+        int startCommitId = getStartCommitId(commitGraph);
+        logger.log(ID, "Writing commit sequences depth-first", null, MessageType.INFO);
+        return new DepthFirstSequenceWriter(outputDirectory, summaryFile, outputFormat.equals(OUTPUT_BINARY), compress)
+                .write(commitGraph, startCommitId);
+    }
+    
+    /**
+     * Writes the commit sequences as differences to their previous sequences via {@link DeltaSequenceWriter}. No
+     * commit sequence files are created.
+     * 
+     * @return the number of commit sequences starting at the {@link #startCommit}
+     * @throws CommitSequenceCreationException if the {@link #startCommit} is not part of the loaded commit graph or
+     *         writing the sequences fails
+     */
+    private long writeDeltas() throws CommitSequenceCreationException {
+        ICommitGraph commitGraph = loadCommitGraph();
+        int startCommitId = getStartCommitId(commitGraph);
+        logger.log(ID, "Writing commit sequences as deltas", null, MessageType.INFO);
+        return new DeltaSequenceWriter(outputDirectory).write(commitGraph, startCommitId);
+    }
+    
+    /**
+     * Writes the commit sequences to the segment files and the index file of a container via
+     * {@link ContainerSequenceWriter}. Neither individual commit sequence files nor the {@link #summaryFile} are
+     * created.
+     * 
+     * @return the number of commit sequences starting at the {@link #startCommit}
+     * @throws CommitSequenceCreationException if the {@link #startCommit} is not part of the loaded commit graph or
+     *         writing the container fails
+     */
+    private long writeContainer() throws CommitSequenceCreationException {
+        ICommitGraph commitGraph = loadCommitGraph();
+        int startCommitId = getStartCommitId(commitGraph);
+        logger.log(ID, "Writing commit sequences to container", null, MessageType.INFO);
+        return new ContainerSequenceWriter(outputDirectory).write(commitGraph, startCommitId);
+    }
+    
+    /**
+     * Decomposes the commit graph into linear chains via {@link ChainDecomposition} and writes these chains as well as
+     * the commit sequences as lists of chain ids via {@link ChainSequenceWriter}. No commit sequence files are
+     * created.
+     * 
+     * @return the number of commit sequences starting at the {@link #startCommit}
+     * @throws CommitSequenceCreationException if the {@link #startCommit} is not part of the loaded commit graph or
+     *         writing the chains or sequences fails
+     */
+    private long writeChains() throws CommitSequenceCreationException {
+        ICommitGraph commitGraph = loadCommitGraph();
+        int startCommitId = getStartCommitId(commitGraph);
+        logger.log(ID, "Decomposing commit graph into chains", null, MessageType.INFO);
+        ChainDecomposition chainDecomposition = new ChainDecomposition(commitGraph, startCommitId);
+        logger.log(ID, "Writing chains and commit sequences", "Number of chains: "
+                + chainDecomposition.getNumberOfChains(), MessageType.INFO);
+        return new ChainSequenceWriter(outputDirectory).write(chainDecomposition);
+    }
+    
+    /**
+     * Returns the id of the {@link #startCommit} in the given {@link ICommitGraph}.
+     * 
+     * @param commitGraph the {@link ICommitGraph} loaded for the {@link #startCommit}; should never be
+     *        <code>null</code>
+     * @return the id of the {@link #startCommit} in the given commit graph
+     * @throws CommitSequenceCreationException if the {@link #startCommit} is not part of the given commit graph
+     */
+    private int getStartCommitId(ICommitGraph commitGraph) throws CommitSequenceCreationException {
+        int startCommitId = commitGraph.getId(startCommit);
+        if (startCommitId == ICommitGraph.UNKNOWN_COMMIT) {
+            throw new CommitSequenceCreationException("Start commit \"" + startCommit
+                    + "\" is not part of the commit graph");
+        }
+        return startCommitId;
+    }
+    
+    /**
+     * Computes the statistics of the commit sequences starting at the {@link #startCommit} via
+     * {@link SequenceStatistics} and writes them to the {@link #statisticsFile}. No commit sequence files are created.
+     * 
+     * @return the number of commit sequences starting at the {@link #startCommit}; never <code>null</code>
+     * @throws CommitSequenceCreationException if the {@link #startCommit} is not part of the loaded commit graph
+     */
+    private BigInteger countSequences() throws CommitSequenceCreationException {
+        ICommitGraph commitGraph = loadCommitGraph();
+        int startCommitId = getStartCommitId(commitGraph);
+        logger.log(ID, "Counting commit sequences", null, MessageType.INFO);
+        SequenceStatistics statistics = new SequenceStatistics(commitGraph, startCommitId);
+        if (fileUtilities.openFileChannel(statisticsFile)) {
+            fileUtilities.write(toStatistics(statistics));
+            if (!fileUtilities.closeFileChannel()) {
+                logger.log(ID, "Closing the file channel for statistics file \"" + statisticsFile.getAbsolutePath() 
+                        + "\" failed", null, MessageType.ERROR);
+            }
+        } else {
+            logger.log(ID, "Writing statistics failed", "Opening the file channel for writing statistics file \""
+                    + statisticsFile.getAbsolutePath() + "\" failed", MessageType.ERROR);
+        }
+        return statistics.getNumberOfSequences();
+    }
+    
+    /**
+     * Creates the content of the {@link #statisticsFile} based on the given {@link SequenceStatistics}. Similar to the
+     * {@link #summaryFile}, each line contains a name and a value separated by a comma. The first lines define the
+     * total number of sequences, their minimum, maximum, and average length, as well as the sum of their lengths. The
+     * subsequent lines define the number of sequences for each length between the minimum and the maximum length.
+     * 
+     * @param statistics the {@link SequenceStatistics} to write; should never be <code>null</code>
+     * @return the content of the {@link #statisticsFile}; never <code>null</code>
+     */
+    private String toStatistics(SequenceStatistics statistics) {
+        String lineSeparator = System.lineSeparator();
+        StringBuilder statisticsBuilder = new StringBuilder();
+        statisticsBuilder.append("NumberOfSequences,").append(statistics.getNumberOfSequences()).append(lineSeparator);
+        statisticsBuilder.append("MinimumLength,").append(statistics.getMinimumLength()).append(lineSeparator);
+        statisticsBuilder.append("MaximumLength,").append(statistics.getMaximumLength()).append(lineSeparator);
+        statisticsBuilder.append("AverageLength,").append(statistics.getAverageLength()).append(lineSeparator);
+        statisticsBuilder.append("TotalLength,").append(statistics.getTotalLength()).append(lineSeparator);
+        for (int length = statistics.getMinimumLength(); length <= statistics.getMaximumLength(); length++) {
+            BigInteger numberOfSequences = statistics.getNumberOfSequences(length);
+            if (numberOfSequences.signum() > 0) {
+                statisticsBuilder.append("Length_").append(length).append(",").append(numberOfSequences)
+                        .append(lineSeparator);
+            }
+        }
+        return statisticsBuilder.toString();
+    }
+    
+    /**
+     * Loads the {@link ICommitGraph} of the {@link #repositoryDirectory} containing all commits reachable from the
+     * {@link #startCommit} via the {@link #commitGraphLoader}.
+     * 
+     * @return the {@link ICommitGraph} containing all commits reachable from the {@link #startCommit}; never
+     *         <code>null</code>
+     * @throws CommitSequenceCreationException if loading the commit graph fails
+     */
+    private ICommitGraph loadCommitGraph() throws CommitSequenceCreationException {
+        ICommitGraph commitGraph = null;
+        logger.log(ID, "Loading commit graph", null, MessageType.INFO);
+        try {
+            commitGraph = commitGraphLoader.load(repositoryDirectory, startCommit);
+        } catch (CommitGraphCreationException e) {
+            throw new CommitSequenceCreationException("Loading the commit graph for start commit \"" + startCommit
+                    + "\" failed", e);
+        }
+        logger.log(ID, "Commit graph loaded", "Number of commits: " + commitGraph.size(), MessageType.INFO);
+        return commitGraph;
     }
     
     /**
@@ -270,9 +1206,10 @@ public class GitCommitSequencer implements ISequenceStorage {
      * {@inheritDoc}
      */
     @Override
-    public void add(CommitSequence commitSequence) {
+    public void add(CommitSequence childCommitSequence, int sequenceNumber, int startCommit, int childCommit,
+            int prefixLength) {
         synchronized (this) {
-            worklist.add(commitSequence);
+            worklist.add(childCommitSequence, sequenceNumber, startCommit, childCommit, prefixLength);
         }
     }
     
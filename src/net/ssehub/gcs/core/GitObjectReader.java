@@ -0,0 +1,1050 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * This class reads commit objects directly from the object database (<code>.git/objects</code>) of a Git repository
+ * without executing any external process. It supports loose objects as well as objects in pack files (including
+ * <code>OFS_DELTA</code> and <code>REF_DELTA</code> entries), which are located via binary search in the respective
+ * pack index (<code>.idx</code>) files. As this class only needs the parent commits of a commit, it only parses the
+ * <code>parent</code> lines of commit objects.<br>
+ * <br>
+ * All methods of this class are thread-safe: pack index files are memory-mapped and only read via absolute methods,
+ * pack files are read via positional reads, and each read uses its own {@link Inflater}.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class GitObjectReader implements Closeable {
+    
+    /**
+     * The type number of commit objects as used in pack files and returned by {@link #readObject(byte[])}.
+     */
+    public static final int OBJ_COMMIT = 1;
+    
+    /**
+     * The type number of tree objects as used in pack files and returned by {@link #readObject(byte[])}.
+     */
+    public static final int OBJ_TREE = 2;
+    
+    /**
+     * The type number of blob objects as used in pack files and returned by {@link #readObject(byte[])}.
+     */
+    public static final int OBJ_BLOB = 3;
+    
+    /**
+     * The type number of tag objects as used in pack files and returned by {@link #readObject(byte[])}.
+     */
+    public static final int OBJ_TAG = 4;
+    
+    /**
+     * The type number of pack file entries, which are deltas against a base object at a relative offset in the same
+     * pack file.
+     */
+    private static final int OBJ_OFS_DELTA = 6;
+    
+    /**
+     * The type number of pack file entries, which are deltas against a base object identified by its object id.
+     */
+    private static final int OBJ_REF_DELTA = 7;
+    
+    /**
+     * The number of bytes of a SHA-1 object id.
+     */
+    private static final int SHA1_LENGTH = 20;
+    
+    /**
+     * The number of bytes of a SHA-256 object id.
+     */
+    private static final int SHA256_LENGTH = 32;
+    
+    /**
+     * The magic number at the beginning of version 2 (or later) pack index files (<code>\377tOc</code>).
+     */
+    private static final int PACK_INDEX_MAGIC = 0xff744f63;
+    
+    /**
+     * The number of bytes read at once from a pack file, e.g., to parse entry headers or to feed an {@link Inflater}.
+     */
+    private static final int READ_BUFFER_SIZE = 8192;
+    
+    /**
+     * The maximum number of delta base objects kept in the {@link #deltaBaseCache}.
+     */
+    private static final int DELTA_BASE_CACHE_CAPACITY = 256;
+    
+    /**
+     * The characters used to convert object ids into their hexadecimal representation.
+     */
+    private static final char[] HEX_CHARACTERS = "0123456789abcdef".toCharArray();
+    
+    /**
+     * The {@link List} of all object directories of the repository. The first directory is the object directory of
+     * the repository itself; further directories are alternate object directories.
+     */
+    private List<File> objectDirectories;
+    
+    /**
+     * The {@link List} of all {@link Pack}s available in the {@link #objectDirectories}.
+     */
+    private List<Pack> packs;
+    
+    /**
+     * The {@link Set} of all commits (SHAs) of a shallow repository, for which the parent commits are not available.
+     * This set is <i>empty</i>, if the repository is not shallow.
+     */
+    private Set<String> shallowCommits;
+    
+    /**
+     * The number of bytes of each object id in the repository; either {@link #SHA1_LENGTH} or
+     * {@link #SHA256_LENGTH}.
+     */
+    private int objectIdLength;
+    
+    /**
+     * The cache of recently resolved delta base objects. The key of an object is its pack file path and offset.
+     */
+    private Map<String, RawObject> deltaBaseCache;
+    
+    /**
+     * This class represents the (inflated) content of a Git object along with its type.
+     * 
+     * @author Christian Kroeher
+     *
+     */
+    public static class RawObject {
+        
+        /**
+         * The type number of this object, e.g., {@link GitObjectReader#OBJ_COMMIT}.
+         */
+        private int type;
+        
+        /**
+         * The (inflated) content of this object.
+         */
+        private byte[] data;
+        
+        /**
+         * Constructs a new {@link RawObject} instance.
+         * 
+         * @param type the type number of this object
+         * @param data the (inflated) content of this object
+         */
+        private RawObject(int type, byte[] data) {
+            this.type = type;
+            this.data = data;
+        }
+        
+        /**
+         * Returns the type number of this object.
+         * 
+         * @return the type number of this object, e.g., {@link GitObjectReader#OBJ_COMMIT}
+         */
+        public int getType() {
+            return type;
+        }
+        
+        /**
+         * Returns the (inflated) content of this object.
+         * 
+         * @return the (inflated) content of this object; never <code>null</code>
+         */
+        public byte[] getData() {
+            return data;
+        }
+    }
+    
+    /**
+     * This class represents a single pack file along with its memory-mapped pack index file.
+     * 
+     * @author Christian Kroeher
+     *
+     */
+    private class Pack {
+        
+        /**
+         * The {@link File} denoting the pack file.
+         */
+        private File packFile;
+        
+        /**
+         * The {@link RandomAccessFile} used to open the {@link #packChannel}.
+         */
+        private RandomAccessFile packFileStream;
+        
+        /**
+         * The {@link FileChannel} used for positional (thread-safe) reads from the {@link #packFile}.
+         */
+        private FileChannel packChannel;
+        
+        /**
+         * The memory-mapped content of the pack index file.
+         */
+        private ByteBuffer index;
+        
+        /**
+         * The number of objects in this pack.
+         */
+        private int numberOfObjects;
+        
+        /**
+         * The position of the first object id in the {@link #index}.
+         */
+        private int namesPosition;
+        
+        /**
+         * The position of the first 4-byte offset in the {@link #index}.
+         */
+        private int offsetsPosition;
+        
+        /**
+         * The position of the first 8-byte (large) offset in the {@link #index} or <i>-1</i> for version 1 indexes.
+         */
+        private int largeOffsetsPosition;
+        
+        /**
+         * The number of bytes between two consecutive object ids in the {@link #index}.
+         */
+        private int namesStride;
+        
+        /**
+         * Constructs a new {@link Pack} instance by opening the given pack file and mapping the given pack index file.
+         * 
+         * @param packFile the {@link File} denoting the pack file; should never be <code>null</code>
+         * @param indexFile the {@link File} denoting the pack index file; should never be <code>null</code>
+         * @throws IOException if opening or mapping the files fails or the pack index has an unsupported version
+         */
+        private Pack(File packFile, File indexFile) throws IOException {
+            this.packFile = packFile;
+            try (RandomAccessFile indexFileStream = new RandomAccessFile(indexFile, "r")) {
+                index = indexFileStream.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, indexFile.length());
+            }
+            int fanoutPosition = 0;
+            if (index.getInt(0) == PACK_INDEX_MAGIC) {
+                if (index.getInt(4) != 2) {
+                    throw new IOException("Unsupported version of pack index \"" + indexFile.getAbsolutePath() + "\"");
+                }
+                fanoutPosition = 8;
+                numberOfObjects = index.getInt(fanoutPosition + 255 * 4);
+                namesPosition = fanoutPosition + 256 * 4;
+                namesStride = objectIdLength;
+                offsetsPosition = namesPosition + numberOfObjects * (objectIdLength + 4);
+                largeOffsetsPosition = offsetsPosition + numberOfObjects * 4;
+            } else {
+                // Version 1: each entry consists of a 4-byte offset followed by the object id
+                numberOfObjects = index.getInt(fanoutPosition + 255 * 4);
+                offsetsPosition = fanoutPosition + 256 * 4;
+                namesPosition = offsetsPosition + 4;
+                namesStride = objectIdLength + 4;
+                largeOffsetsPosition = -1;
+            }
+            packFileStream = new RandomAccessFile(packFile, "r");
+            packChannel = packFileStream.getChannel();
+        }
+        
+        /**
+         * Searches for the given object id in the pack index using the fan-out table and a binary search.
+         * 
+         * @param objectId the raw object id to search for; should never be <code>null</code>
+         * @return the offset of the object in the pack file or <i>-1</i>, if this pack does not contain the object
+         */
+        private long find(byte[] objectId) {
+            long offset = -1;
+            int firstByte = objectId[0] & 0xff;
+            int fanoutPosition = (largeOffsetsPosition < 0) ? 0 : 8;
+            int low = (firstByte == 0) ? 0 : index.getInt(fanoutPosition + (firstByte - 1) * 4);
+            int high = index.getInt(fanoutPosition + firstByte * 4);
+            while (offset < 0 && low < high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compare(objectId, namesPosition + middle * namesStride);
+                if (comparison < 0) {
+                    high = middle;
+                } else if (comparison > 0) {
+                    low = middle + 1;
+                } else {
+                    offset = getOffset(middle);
+                }
+            }
+            return offset;
+        }
+        
+        /**
+         * Compares the given object id with the object id at the given position in the pack index.
+         * 
+         * @param objectId the raw object id to compare; should never be <code>null</code>
+         * @param position the position of the object id in the pack index
+         * @return a negative number, <i>0</i>, or a positive number, if the given object id is less than, equal to, or
+         *         greater than the object id at the given position
+         */
+        private int compare(byte[] objectId, int position) {
+            int comparison = 0;
+            int byteCounter = 0;
+            while (comparison == 0 && byteCounter < objectIdLength) {
+                comparison = (objectId[byteCounter] & 0xff) - (index.get(position + byteCounter) & 0xff);
+                byteCounter++;
+            }
+            return comparison;
+        }
+        
+        /**
+         * Returns the offset of the object at the given (sorted) position in the pack index.
+         * 
+         * @param objectPosition the position of the object in the sorted list of object ids of the pack index
+         * @return the offset of the object in the pack file
+         */
+        private long getOffset(int objectPosition) {
+            long offset;
+            if (largeOffsetsPosition < 0) {
+                offset = index.getInt(offsetsPosition + objectPosition * namesStride) & 0xffffffffL;
+            } else {
+                int smallOffset = index.getInt(offsetsPosition + objectPosition * 4);
+                if ((smallOffset & 0x80000000) != 0) {
+                    offset = index.getLong(largeOffsetsPosition + (smallOffset & 0x7fffffff) * 8);
+                } else {
+                    offset = smallOffset;
+                }
+            }
+            return offset;
+        }
+        
+        /**
+         * Closes the {@link #packChannel} and the {@link #packFileStream} of this pack.
+         * 
+         * @throws IOException if closing fails
+         */
+        private void close() throws IOException {
+            packChannel.close();
+            packFileStream.close();
+        }
+    }
+    
+    /**
+     * Constructs a new {@link GitObjectReader} instance for the given repository (directory).
+     * 
+     * @param repositoryDirectory the {@link File} denoting the root directory of a Git repository (work tree) or the
+     *        Git directory of a bare repository; should never be <code>null</code>
+     * @throws IOException if the repository does not exist, uses features not supported by this reader (like
+     *         replacement objects or grafts), or opening its pack files fails
+     */
+    public GitObjectReader(File repositoryDirectory) throws IOException {
+        File gitDirectory = findGitDirectory(repositoryDirectory);
+        File commonDirectory = findCommonDirectory(gitDirectory);
+        checkSupported(commonDirectory);
+        objectIdLength = readObjectIdLength(commonDirectory);
+        shallowCommits = readShallowCommits(commonDirectory);
+        deltaBaseCache = new LinkedHashMap<String, RawObject>(DELTA_BASE_CACHE_CAPACITY, 0.75f, true) {
+            
+            private static final long serialVersionUID = 2741867745014387209L;
+            
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RawObject> eldest) {
+                return size() > DELTA_BASE_CACHE_CAPACITY;
+            }
+        
+        };
+        objectDirectories = new ArrayList<File>();
+        collectObjectDirectories(new File(commonDirectory, "objects"), 0);
+        packs = new ArrayList<Pack>();
+        for (File objectDirectory : objectDirectories) {
+            openPacks(new File(objectDirectory, "pack"));
+        }
+    }
+    
+    /**
+     * Returns the Git directory of the given repository (directory), which is either the <code>.git</code> directory
+     * in the given directory, the directory referenced by a <code>.git</code> file, or the given directory itself, if
+     * it is a bare repository.
+     * 
+     * @param repositoryDirectory the {@link File} denoting the root directory of a Git repository
+     * @return the {@link File} denoting the Git directory of the given repository
+     * @throws IOException if no Git directory can be found
+     */
+    static File findGitDirectory(File repositoryDirectory) throws IOException {
+        File gitDirectory = new File(repositoryDirectory, ".git");
+        if (gitDirectory.isFile()) {
+            String gitFileContent = Files.readString(gitDirectory.toPath()).trim();
+            if (!gitFileContent.startsWith("gitdir:")) {
+                throw new IOException("Unexpected content of \"" + gitDirectory.getAbsolutePath() + "\"");
+            }
+            gitDirectory = resolve(repositoryDirectory, gitFileContent.substring("gitdir:".length()).trim());
+        } else if (!gitDirectory.isDirectory()) {
+            gitDirectory = repositoryDirectory;
+        }
+        if (!new File(gitDirectory, "objects").isDirectory() && !new File(gitDirectory, "commondir").isFile()) {
+            throw new IOException("No Git object directory found for \"" + repositoryDirectory.getAbsolutePath()
+                    + "\"");
+        }
+        return gitDirectory;
+    }
+    
+    /**
+     * Returns the common Git directory of the given Git directory. For linked work trees, this is the directory
+     * referenced by the <code>commondir</code> file; otherwise, it is the given Git directory itself.
+     * 
+     * @param gitDirectory the {@link File} denoting a Git directory
+     * @return the {@link File} denoting the common Git directory, which contains the object database
+     * @throws IOException if reading the <code>commondir</code> file fails
+     */
+    static File findCommonDirectory(File gitDirectory) throws IOException {
+        File commonDirectory = gitDirectory;
+        File commonDirectoryFile = new File(gitDirectory, "commondir");
+        if (commonDirectoryFile.isFile()) {
+            commonDirectory = resolve(gitDirectory, Files.readString(commonDirectoryFile.toPath()).trim());
+        }
+        return commonDirectory;
+    }
+    
+    /**
+     * Resolves the given path against the given base directory, if it is not absolute.
+     * 
+     * @param baseDirectory the {@link File} denoting the directory to resolve relative paths against
+     * @param path the absolute or relative path to resolve
+     * @return the {@link File} denoting the resolved path
+     */
+    private static File resolve(File baseDirectory, String path) {
+        File resolvedFile = new File(path);
+        if (!resolvedFile.isAbsolute()) {
+            resolvedFile = new File(baseDirectory, path);
+        }
+        return resolvedFile;
+    }
+    
+    /**
+     * Checks whether the repository uses features, which change the parent commits reported by Git, but which are not
+     * supported by this reader. These features are replacement objects (<code>refs/replace</code>) and grafts.
+     * 
+     * @param commonDirectory the {@link File} denoting the common Git directory of the repository
+     * @throws IOException if the repository uses unsupported features or checking them fails
+     */
+    static void checkSupported(File commonDirectory) throws IOException {
+        File replaceReferencesDirectory = new File(commonDirectory, "refs/replace");
+        String[] replaceReferences = replaceReferencesDirectory.list();
+        boolean replaceReferencesAvailable = replaceReferences != null && replaceReferences.length > 0;
+        File packedReferencesFile = new File(commonDirectory, "packed-refs");
+        if (!replaceReferencesAvailable && packedReferencesFile.isFile()) {
+            replaceReferencesAvailable = Files.readString(packedReferencesFile.toPath()).contains(" refs/replace/");
+        }
+        if (replaceReferencesAvailable || new File(commonDirectory, "info/grafts").exists()) {
+            throw new IOException("Replacement objects and grafts are not supported");
+        }
+    }
+    
+    /**
+     * Reads the number of bytes of object ids from the configuration of the repository.
+     * 
+     * @param commonDirectory the {@link File} denoting the common Git directory of the repository
+     * @return {@link #SHA256_LENGTH}, if the repository uses SHA-256 object ids; {@link #SHA1_LENGTH} otherwise
+     * @throws IOException if reading the configuration fails
+     */
+    private static int readObjectIdLength(File commonDirectory) throws IOException {
+        int length = SHA1_LENGTH;
+        File configFile = new File(commonDirectory, "config");
+        if (configFile.isFile()) {
+            String config = Files.readString(configFile.toPath()).toLowerCase().replace(" ", "").replace("\t", "");
+            if (config.contains("objectformat=sha256")) {
+                length = SHA256_LENGTH;
+            }
+        }
+        return length;
+    }
+    
+    /**
+     * Reads the commits of a shallow repository, for which the parent commits are not available.
+     * 
+     * @param commonDirectory the {@link File} denoting the common Git directory of the repository
+     * @return the {@link Set} of all shallow commits (SHAs); never <code>null</code>, but may be <i>empty</i>
+     * @throws IOException if reading the <code>shallow</code> file fails
+     */
+    private static Set<String> readShallowCommits(File commonDirectory) throws IOException {
+        Set<String> commits = new HashSet<String>();
+        File shallowFile = new File(commonDirectory, "shallow");
+        if (shallowFile.isFile()) {
+            for (String line : Files.readAllLines(shallowFile.toPath())) {
+                if (!line.isBlank()) {
+                    commits.add(line.trim());
+                }
+            }
+        }
+        return commits;
+    }
+    
+    /**
+     * Adds the given object directory and all its alternate object directories recursively to the
+     * {@link #objectDirectories}.
+     * 
+     * @param objectDirectory the {@link File} denoting the object directory to add
+     * @param depth the current depth of the recursion, which is limited to avoid endless cycles of alternates
+     * @throws IOException if reading the alternates of the given object directory fails
+     */
+    private void collectObjectDirectories(File objectDirectory, int depth) throws IOException {
+        if (objectDirectory.isDirectory() && !objectDirectories.contains(objectDirectory) && depth < 5) {
+            objectDirectories.add(objectDirectory);
+            File alternatesFile = new File(objectDirectory, "info/alternates");
+            if (alternatesFile.isFile()) {
+                for (String line : Files.readAllLines(alternatesFile.toPath())) {
+                    if (!line.isBlank() && !line.startsWith("#")) {
+                        collectObjectDirectories(resolve(objectDirectory, line.trim()), depth + 1);
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Opens all pack files in the given pack directory, for which a corresponding pack index file exists, and adds
+     * them to the {@link #packs}.
+     * 
+     * @param packDirectory the {@link File} denoting the pack directory of an object directory
+     * @throws IOException if opening a pack file or mapping its index fails
+     */
+    private void openPacks(File packDirectory) throws IOException {
+        File[] packDirectoryFiles = packDirectory.listFiles();
+        if (packDirectoryFiles != null) {
+            for (File packDirectoryFile : packDirectoryFiles) {
+                String packFileName = packDirectoryFile.getName();
+                if (packFileName.endsWith(".pack")) {
+                    File indexFile = new File(packDirectory,
+                            packFileName.substring(0, packFileName.length() - ".pack".length()) + ".idx");
+                    if (indexFile.isFile()) {
+                        packs.add(new Pack(packDirectoryFile, indexFile));
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Returns the number of bytes of each object id in the repository.
+     * 
+     * @return <i>20</i> for SHA-1 repositories or <i>32</i> for SHA-256 repositories
+     */
+    public int getObjectIdLength() {
+        return objectIdLength;
+    }
+    
+    /**
+     * Reads the parent commits of the given commit from the commit object in the object database.
+     * 
+     * @param commit the {@link String} representing the full commit (SHA) for which the parent commits shall be
+     *        returned; should never be <code>null</code>
+     * @return the {@link String} array containing all parent commits (SHAs) of the given commit in the order defined
+     *         by Git; may be <code>null</code>, if the commit does not have any parent commits
+     * @throws IOException if the given commit is not available, is not a commit, or reading it fails
+     */
+    public String[] readParents(String commit) throws IOException {
+        String[] parents = null;
+        RawObject commitObject = readObject(toObjectId(commit));
+        if (commitObject == null) {
+            throw new IOException("The object \"" + commit + "\" is not available");
+        }
+        if (commitObject.getType() != OBJ_COMMIT) {
+            throw new IOException("The object \"" + commit + "\" is not a commit");
+        }
+        if (!shallowCommits.contains(commit)) {
+            parents = parseParents(commitObject.getData(), objectIdLength);
+        }
+        return parents;
+    }
+    
+    /**
+     * Reads the parent commits of the commit with the given raw object id like {@link #readParents(String)}, but
+     * returns the raw object ids of these parent commits without creating a {@link String} per parent commit.
+     * 
+     * @param commitId the raw object id of the commit for which the parent commits shall be returned; should never be
+     *        <code>null</code>
+     * @return the array containing the raw object ids of all parent commits of the given commit one after another in
+     *         the order defined by Git; may be <code>null</code>, if the commit does not have any parent commits
+     * @throws IOException if the given commit is not available, is not a commit, or reading it fails
+     */
+    public byte[] readParentIds(byte[] commitId) throws IOException {
+        byte[] parentIds = null;
+        RawObject commitObject = readObject(commitId);
+        if (commitObject == null) {
+            throw new IOException("The object \"" + toHex(commitId) + "\" is not available");
+        }
+        if (commitObject.getType() != OBJ_COMMIT) {
+            throw new IOException("The object \"" + toHex(commitId) + "\" is not a commit");
+        }
+        if (shallowCommits.isEmpty() || !shallowCommits.contains(toHex(commitId))) {
+            parentIds = parseParentIds(commitObject.getData(), objectIdLength);
+        }
+        return parentIds;
+    }
+    
+    /**
+     * Parses the <code>parent</code> lines, which directly follow the <code>tree</code> line, of the given commit
+     * object content.
+     * 
+     * @param commitData the content of a commit object
+     * @param objectIdLength the number of bytes of each object id in the repository
+     * @return the {@link String} array containing all parent commits (SHAs) in the order of their definition; may be
+     *         <code>null</code>, if the content does not define any parent commits
+     */
+    static String[] parseParents(byte[] commitData, int objectIdLength) {
+        List<String> parents = null;
+        int hexLength = objectIdLength * 2;
+        int lineStart = indexOf(commitData, 0, (byte) '\n') + 1; // Skip the tree line
+        while (lineStart > 0 && startsWith(commitData, lineStart, "parent ")) {
+            if (parents == null) {
+                parents = new ArrayList<String>(2);
+            }
+            parents.add(new String(commitData, lineStart + "parent ".length(), hexLength, StandardCharsets.US_ASCII));
+            lineStart = indexOf(commitData, lineStart, (byte) '\n') + 1;
+        }
+        String[] parentsArray = null;
+        if (parents != null) {
+            parentsArray = parents.toArray(new String[parents.size()]);
+        }
+        return parentsArray;
+    }
+    
+    /**
+     * Parses the <code>parent</code> lines of the given commit object content like
+     * {@link #parseParents(byte[], int)}, but decodes the hexadecimal parent commits into their raw object ids.
+     * 
+     * @param commitData the content of a commit object
+     * @param objectIdLength the number of bytes of each object id in the repository
+     * @return the array containing the raw object ids of all parent commits one after another in the order of their
+     *         definition; may be <code>null</code>, if the content does not define any parent commits
+     */
+    static byte[] parseParentIds(byte[] commitData, int objectIdLength) {
+        int firstLineStart = indexOf(commitData, 0, (byte) '\n') + 1; // Skip the tree line
+        int numberOfParents = 0;
+        int lineStart = firstLineStart;
+        while (lineStart > 0 && startsWith(commitData, lineStart, "parent ")) {
+            numberOfParents++;
+            lineStart = indexOf(commitData, lineStart, (byte) '\n') + 1;
+        }
+        byte[] parentIds = null;
+        if (numberOfParents > 0) {
+            parentIds = new byte[numberOfParents * objectIdLength];
+            lineStart = firstLineStart;
+            for (int i = 0; i < numberOfParents; i++) {
+                int hexStart = lineStart + "parent ".length();
+                for (int j = 0; j < objectIdLength; j++) {
+                    parentIds[i * objectIdLength + j] = (byte) ((Character.digit(commitData[hexStart + 2 * j], 16) << 4)
+                            | Character.digit(commitData[hexStart + 2 * j + 1], 16));
+                }
+                lineStart = indexOf(commitData, lineStart, (byte) '\n') + 1;
+            }
+        }
+        return parentIds;
+    }
+    
+    /**
+     * Returns the index of the first occurrence of the given byte in the given array starting at the given index.
+     * 
+     * @param data the array to search in
+     * @param fromIndex the index to start the search at
+     * @param value the byte to search for
+     * @return the index of the first occurrence or <i>-1</i>, if the byte does not occur
+     */
+    private static int indexOf(byte[] data, int fromIndex, byte value) {
+        int index = -1;
+        int dataCounter = fromIndex;
+        while (index < 0 && dataCounter < data.length) {
+            if (data[dataCounter] == value) {
+                index = dataCounter;
+            }
+            dataCounter++;
+        }
+        return index;
+    }
+    
+    /**
+     * Checks whether the given array contains the given (ASCII) prefix at the given index.
+     * 
+     * @param data the array to check
+     * @param index the index at which the prefix is expected
+     * @param prefix the (ASCII) prefix
+     * @return <code>true</code>, if the array contains the prefix at the given index; <code>false</code> otherwise
+     */
+    private static boolean startsWith(byte[] data, int index, String prefix) {
+        boolean startsWith = index + prefix.length() <= data.length;
+        int prefixCounter = 0;
+        while (startsWith && prefixCounter < prefix.length()) {
+            startsWith = data[index + prefixCounter] == prefix.charAt(prefixCounter);
+            prefixCounter++;
+        }
+        return startsWith;
+    }
+    
+    /**
+     * Reads the object with the given id from the object database. Loose objects are preferred over packed objects.
+     * 
+     * @param objectId the raw object id of the object to read; should never be <code>null</code>
+     * @return the {@link RawObject} representing the object with the given id or <code>null</code>, if the object is
+     *         not available
+     * @throws IOException if reading the object fails
+     */
+    public RawObject readObject(byte[] objectId) throws IOException {
+        RawObject object = null;
+        String hexObjectId = toHex(objectId);
+        int objectDirectoriesCounter = 0;
+        while (object == null && objectDirectoriesCounter < objectDirectories.size()) {
+            File looseObjectFile = new File(objectDirectories.get(objectDirectoriesCounter),
+                    hexObjectId.substring(0, 2) + File.separator + hexObjectId.substring(2));
+            if (looseObjectFile.isFile()) {
+                object = readLooseObject(looseObjectFile);
+            }
+            objectDirectoriesCounter++;
+        }
+        int packsCounter = 0;
+        while (object == null && packsCounter < packs.size()) {
+            Pack pack = packs.get(packsCounter);
+            long offset = pack.find(objectId);
+            if (offset >= 0) {
+                object = readPackedObject(pack, offset);
+            }
+            packsCounter++;
+        }
+        return object;
+    }
+    
+    /**
+     * Reads the given loose object file, which consists of the zlib-compressed object header
+     * (<code>&lt;type&gt; &lt;size&gt;\0</code>) and content.
+     * 
+     * @param looseObjectFile the {@link File} denoting the loose object
+     * @return the {@link RawObject} representing the loose object; never <code>null</code>
+     * @throws IOException if reading or inflating the file fails
+     */
+    private RawObject readLooseObject(File looseObjectFile) throws IOException {
+        byte[] inflatedData;
+        try (InputStream inputStream = new InflaterInputStream(new FileInputStream(looseObjectFile))) {
+            inflatedData = inputStream.readAllBytes();
+        }
+        int headerEnd = indexOf(inflatedData, 0, (byte) 0);
+        int typeEnd = indexOf(inflatedData, 0, (byte) ' ');
+        if (headerEnd < 0 || typeEnd < 0 || typeEnd > headerEnd) {
+            throw new IOException("Invalid header of loose object \"" + looseObjectFile.getAbsolutePath() + "\"");
+        }
+        String typeName = new String(inflatedData, 0, typeEnd, StandardCharsets.US_ASCII);
+        int type;
+        switch (typeName) {
+        case "commit":
+            type = OBJ_COMMIT;
+            break;
+        case "tree":
+            type = OBJ_TREE;
+            break;
+        case "blob":
+            type = OBJ_BLOB;
+            break;
+        case "tag":
+            type = OBJ_TAG;
+            break;
+        default:
+            throw new IOException("Unknown type \"" + typeName + "\" of loose object \""
+                    + looseObjectFile.getAbsolutePath() + "\"");
+        }
+        byte[] data = new byte[inflatedData.length - headerEnd - 1];
+        System.arraycopy(inflatedData, headerEnd + 1, data, 0, data.length);
+        return new RawObject(type, data);
+    }
+    
+    /**
+     * Reads the entry at the given offset of the given pack and resolves it, if it is a delta.
+     * 
+     * @param pack the {@link Pack} to read from
+     * @param offset the offset of the entry in the pack file
+     * @return the {@link RawObject} representing the (resolved) entry; never <code>null</code>
+     * @throws IOException if reading the entry or resolving its delta base fails
+     */
+    private RawObject readPackedObject(Pack pack, long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(16 + objectIdLength);
+        readFully(pack, header, offset);
+        int headerByte = header.get() & 0xff;
+        int type = (headerByte >> 4) & 0x07;
+        long size = headerByte & 0x0f;
+        int shift = 4;
+        while ((headerByte & 0x80) != 0) {
+            headerByte = header.get() & 0xff;
+            size |= ((long) (headerByte & 0x7f)) << shift;
+            shift += 7;
+        }
+        RawObject object;
+        if (type == OBJ_OFS_DELTA) {
+            headerByte = header.get() & 0xff;
+            long baseDistance = headerByte & 0x7f;
+            while ((headerByte & 0x80) != 0) {
+                headerByte = header.get() & 0xff;
+                baseDistance = ((baseDistance + 1) << 7) | (headerByte & 0x7f);
+            }
+            RawObject base = readDeltaBase(pack, offset - baseDistance);
+            object = applyDelta(base, inflate(pack, offset + header.position(), size));
+        } else if (type == OBJ_REF_DELTA) {
+            byte[] baseObjectId = new byte[objectIdLength];
+            header.get(baseObjectId);
+            RawObject base = readObject(baseObjectId);
+            if (base == null) {
+                throw new IOException("Delta base \"" + toHex(baseObjectId) + "\" not available");
+            }
+            object = applyDelta(base, inflate(pack, offset + header.position(), size));
+        } else if (type >= OBJ_COMMIT && type <= OBJ_TAG) {
+            object = new RawObject(type, inflate(pack, offset + header.position(), size));
+        } else {
+            throw new IOException("Unknown entry type " + type + " at offset " + offset + " in pack \""
+                    + pack.packFile.getAbsolutePath() + "\"");
+        }
+        return object;
+    }
+    
+    /**
+     * Reads the delta base at the given offset of the given pack using the {@link #deltaBaseCache}.
+     * 
+     * @param pack the {@link Pack} to read from
+     * @param offset the offset of the delta base in the pack file
+     * @return the {@link RawObject} representing the (resolved) delta base; never <code>null</code>
+     * @throws IOException if reading the delta base fails
+     */
+    private RawObject readDeltaBase(Pack pack, long offset) throws IOException {
+        String cacheKey = pack.packFile.getPath() + ":" + offset;
+        RawObject base;
+        synchronized (deltaBaseCache) {
+            base = deltaBaseCache.get(cacheKey);
+        }
+        if (base == null) {
+            base = readPackedObject(pack, offset);
+            synchronized (deltaBaseCache) {
+                deltaBaseCache.put(cacheKey, base);
+            }
+        }
+        return base;
+    }
+    
+    /**
+     * Fills the given buffer with the data of the given pack starting at the given position. Reading stops early
+     * without failure, if the end of the pack file is reached.
+     * 
+     * @param pack the {@link Pack} to read from
+     * @param buffer the {@link ByteBuffer} to fill; flipped for reading after this call
+     * @param position the position in the pack file to start reading at
+     * @throws IOException if reading fails
+     */
+    private static void readFully(Pack pack, ByteBuffer buffer, long position) throws IOException {
+        long currentPosition = position;
+        int bytesRead = 0;
+        while (buffer.hasRemaining() && bytesRead >= 0) {
+            bytesRead = pack.packChannel.read(buffer, currentPosition);
+            currentPosition += Math.max(bytesRead, 0);
+        }
+        buffer.flip();
+    }
+    
+    /**
+     * Inflates the zlib-compressed data of the given size starting at the given position in the given pack.
+     * 
+     * @param pack the {@link Pack} to read from
+     * @param position the position of the compressed data in the pack file
+     * @param size the size of the inflated data
+     * @return the inflated data; never <code>null</code>
+     * @throws IOException if reading or inflating fails
+     */
+    private static byte[] inflate(Pack pack, long position, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Object at " + position + " in pack \"" + pack.packFile.getAbsolutePath()
+                    + "\" is too large");
+        }
+        byte[] inflatedData = new byte[(int) size];
+        Inflater inflater = new Inflater();
+        ByteBuffer input = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        long currentPosition = position;
+        int inflatedBytes = 0;
+        try {
+            while (inflatedBytes < inflatedData.length) {
+                if (inflater.needsInput()) {
+                    input.clear();
+                    int bytesRead = pack.packChannel.read(input, currentPosition);
+                    if (bytesRead <= 0) {
+                        throw new EOFException("Unexpected end of pack \"" + pack.packFile.getAbsolutePath() + "\"");
+                    }
+                    currentPosition += bytesRead;
+                    inflater.setInput(input.array(), 0, bytesRead);
+                }
+                int bytesInflated = inflater.inflate(inflatedData, inflatedBytes, inflatedData.length - inflatedBytes);
+                if (bytesInflated == 0 && (inflater.finished() || inflater.needsDictionary())) {
+                    throw new IOException("Corrupt object at " + position + " in pack \""
+                            + pack.packFile.getAbsolutePath() + "\"");
+                }
+                inflatedBytes += bytesInflated;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Inflating object at " + position + " in pack \"" + pack.packFile.getAbsolutePath()
+                    + "\" failed", e);
+        } finally {
+            inflater.end();
+        }
+        return inflatedData;
+    }
+    
+    /**
+     * Applies the given delta to the given base object. The delta consists of the size of the base, the size of the
+     * result, and a sequence of copy (from the base) and insert (from the delta) instructions.
+     * 
+     * @param base the {@link RawObject} to apply the delta to; its type is also the type of the result
+     * @param delta the (inflated) delta data
+     * @return the {@link RawObject} resulting from applying the delta; never <code>null</code>
+     * @throws IOException if the delta is corrupt
+     */
+    private static RawObject applyDelta(RawObject base, byte[] delta) throws IOException {
+        byte[] baseData = base.getData();
+        int[] deltaPosition = {0};
+        long baseSize = readDeltaSize(delta, deltaPosition);
+        long resultSize = readDeltaSize(delta, deltaPosition);
+        if (baseSize != baseData.length || resultSize > Integer.MAX_VALUE) {
+            throw new IOException("Delta does not match its base");
+        }
+        byte[] result = new byte[(int) resultSize];
+        int resultPosition = 0;
+        int position = deltaPosition[0];
+        try {
+            while (position < delta.length) {
+                int instruction = delta[position++] & 0xff;
+                if ((instruction & 0x80) != 0) {
+                    long copyOffset = 0;
+                    int copySize = 0;
+                    for (int i = 0; i < 4; i++) {
+                        if ((instruction & (1 << i)) != 0) {
+                            copyOffset |= ((long) (delta[position++] & 0xff)) << (8 * i);
+                        }
+                    }
+                    for (int i = 0; i < 3; i++) {
+                        if ((instruction & (0x10 << i)) != 0) {
+                            copySize |= (delta[position++] & 0xff) << (8 * i);
+                        }
+                    }
+                    if (copySize == 0) {
+                        copySize = 0x10000;
+                    }
+                    System.arraycopy(baseData, (int) copyOffset, result, resultPosition, copySize);
+                    resultPosition += copySize;
+                } else if (instruction != 0) {
+                    System.arraycopy(delta, position, result, resultPosition, instruction);
+                    position += instruction;
+                    resultPosition += instruction;
+                } else {
+                    throw new IOException("Invalid delta instruction");
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Corrupt delta", e);
+        }
+        if (resultPosition != result.length) {
+            throw new IOException("Delta result has unexpected size");
+        }
+        return new RawObject(base.getType(), result);
+    }
+    
+    /**
+     * Reads a size encoded as little-endian base-128 number at the given position of the given delta.
+     * 
+     * @param delta the (inflated) delta data
+     * @param position the single-element array containing the current position in the delta; updated by this method
+     * @return the decoded size
+     */
+    private static long readDeltaSize(byte[] delta, int[] position) {
+        long size = 0;
+        int shift = 0;
+        int deltaByte;
+        do {
+            deltaByte = delta[position[0]++] & 0xff;
+            size |= ((long) (deltaByte & 0x7f)) << shift;
+            shift += 7;
+        } while ((deltaByte & 0x80) != 0 && position[0] < delta.length);
+        return size;
+    }
+    
+    /**
+     * Converts the given hexadecimal commit (SHA) into a raw object id.
+     * 
+     * @param hexObjectId the {@link String} representing the hexadecimal object id
+     * @return the raw object id
+     * @throws IOException if the given string is not a full hexadecimal object id of this repository
+     */
+    public byte[] toObjectId(String hexObjectId) throws IOException {
+        if (hexObjectId == null || hexObjectId.length() != objectIdLength * 2) {
+            throw new IOException("\"" + hexObjectId + "\" is not a full object id");
+        }
+        byte[] objectId = new byte[objectIdLength];
+        for (int i = 0; i < objectIdLength; i++) {
+            int high = Character.digit(hexObjectId.charAt(2 * i), 16);
+            int low = Character.digit(hexObjectId.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IOException("\"" + hexObjectId + "\" is not a hexadecimal object id");
+            }
+            objectId[i] = (byte) ((high << 4) | low);
+        }
+        return objectId;
+    }
+    
+    /**
+     * Converts the given raw object id into its hexadecimal representation.
+     * 
+     * @param objectId the raw object id to convert
+     * @return the {@link String} representing the hexadecimal object id
+     */
+    private static String toHex(byte[] objectId) {
+        char[] hexCharacters = new char[objectId.length * 2];
+        for (int i = 0; i < objectId.length; i++) {
+            hexCharacters[2 * i] = HEX_CHARACTERS[(objectId[i] >> 4) & 0x0f];
+            hexCharacters[2 * i + 1] = HEX_CHARACTERS[objectId[i] & 0x0f];
+        }
+        return new String(hexCharacters);
+    }
+    
+    /**
+     * Closes all pack files opened by this reader.
+     * 
+     * @throws IOException if closing a pack file fails
+     */
+    @Override
+    public void close() throws IOException {
+        IOException closeException = null;
+        for (Pack pack : packs) {
+            try {
+                pack.close();
+            } catch (IOException e) {
+                closeException = e;
+            }
+        }
+        packs.clear();
+        if (closeException != null) {
+            throw closeException;
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This interface provides the methods for querying the commit graph of a Git repository, which contains at least all
+ * commits reachable from a particular start commit and their parent commits. Each commit (SHA) in such a graph is
+ * identified by a dense integer id in the range from <i>0</i> (inclusive) to {@link #size()} (exclusive).
+ * <br><br>
+ * Implementations of this interface must be safe for concurrent reads.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public interface ICommitGraph {
+    
+    /**
+     * The id returned by {@link #getId(String)}, if a commit is not part of a graph.
+     */
+    public static final int UNKNOWN_COMMIT = -1;
+    
+    /**
+     * Returns the id of the given commit.
+     * 
+     * @param commit the {@link String} representing the commit (SHA) for which the id shall be returned
+     * @return the id of the given commit or {@link #UNKNOWN_COMMIT}, if the given commit is not part of this graph
+     */
+    public int getId(String commit);
+    
+    /**
+     * Checks whether the given commit is part of this graph.
+     * 
+     * @param commit the {@link String} representing the commit (SHA) to check
+     * @return <code>true</code>, if the given commit is part of this graph; <code>false</code> otherwise
+     */
+    public boolean contains(String commit);
+    
+    /**
+     * Returns the commit (SHA) with the given id.
+     * 
+     * @param commitId the id of the commit to return; must be in the range from <i>0</i> (inclusive) to
+     *        {@link #size()} (exclusive)
+     * @return the {@link String} representing the commit (SHA) with the given id
+     */
+    public String getCommit(int commitId);
+    
+    /**
+     * Appends the commit (SHA) with the given id to the given {@link StringBuilder}. In contrast to
+     * {@link #getCommit(int)}, this method does not create an intermediate {@link String}.
+     * 
+     * @param commitId the id of the commit to append; must be in the range from <i>0</i> (inclusive) to
+     *        {@link #size()} (exclusive)
+     * @param builder the {@link StringBuilder} to append the commit (SHA) to; should never be <code>null</code>
+     */
+    public void appendCommit(int commitId, StringBuilder builder);
+    
+    /**
+     * Puts the raw (binary) object id of the commit with the given id into the given {@link ByteBuffer}. In contrast
+     * to {@link #appendCommit(int, StringBuilder)}, the object id is not encoded as hexadecimal characters.
+     * 
+     * @param commitId the id of the commit to put; must be in the range from <i>0</i> (inclusive) to {@link #size()}
+     *        (exclusive)
+     * @param buffer the {@link ByteBuffer} to put the object id to at its current position; should never be
+     *        <code>null</code> and must provide at least {@link #getObjectIdLength()} remaining bytes
+     */
+    public void putCommit(int commitId, ByteBuffer buffer);
+    
+    /**
+     * Returns the number of bytes of the raw object id of each commit in this graph.
+     * 
+     * @return either <i>20</i> for SHA-1 or <i>32</i> for SHA-256 object ids
+     */
+    public int getObjectIdLength();
+    
+    /**
+     * Returns the number of parent commits of the commit with the given id.
+     * 
+     * @param commitId the id of the commit for which the number of parent commits shall be returned; must be in the
+     *        range from <i>0</i> (inclusive) to {@link #size()} (exclusive)
+     * @return the number of parent commits of the commit with the given id; <i>0</i> for root commits, <i>1</i> for
+     *         regular commits, and greater than <i>1</i> for merge commits
+     */
+    public int getNumberOfParents(int commitId);
+    
+    /**
+     * Returns the id of the parent commit at the given index of the commit with the given id.
+     * 
+     * @param commitId the id of the commit for which the parent commit shall be returned; must be in the range from
+     *        <i>0</i> (inclusive) to {@link #size()} (exclusive)
+     * @param parentIndex the index of the parent commit in the order defined by Git; must be in the range from
+     *        <i>0</i> (inclusive) to {@link #getNumberOfParents(int)} (exclusive)
+     * @return the id of the parent commit at the given index
+     */
+    public int getParent(int commitId, int parentIndex);
+    
+    /**
+     * Returns the number of commits in this graph.
+     * 
+     * @return the number of commits in this graph; equal to or greater than <i>0</i>
+     */
+    public int size();
+
+}
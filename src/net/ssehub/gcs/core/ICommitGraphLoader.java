@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+
+/**
+ * This interface provides the methods for loading the {@link ICommitGraph} of a Git repository, which contains all
+ * commits reachable from a particular start commit and their parent commits.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public interface ICommitGraphLoader {
+
+    /**
+     * Loads the {@link ICommitGraph} containing all commits reachable from the given start commit in the given
+     * repository (directory).
+     * 
+     * @param repositoryDirectory the {@link File} denoting the root directory of the Git repository from which the
+     *        commit graph shall be loaded; should never be <code>null</code> and always needs to be an
+     *        <i>existing directory</i>
+     * @param startCommit the {@link String} representing the commit (SHA) from which all commits of the graph are
+     *        reachable; should never be <code>null</code> nor <i>blank</i>
+     * @return the {@link ICommitGraph} containing all commits reachable from the given start commit; never
+     *         <code>null</code>
+     * @throws CommitGraphCreationException if loading the commit graph fails, e.g., the given start commit is not
+     *         available in the given repository (directory)
+     */
+    public ICommitGraph load(File repositoryDirectory, String startCommit) throws CommitGraphCreationException;
+    
+    /**
+     * Checks whether this loader applies to the given repository (directory) at all, e.g., whether the repository
+     * provides the data this loader relies on. This check does not guarantee that loading the {@link ICommitGraph}
+     * succeeds, but it enables skipping loaders, which would fail anyway, without treating that as a failure.
+     * 
+     * @param repositoryDirectory the {@link File} denoting the root directory of the Git repository from which the
+     *        commit graph shall be loaded; should never be <code>null</code>
+     * @return <code>true</code>, if this loader applies to the given repository (directory); <code>false</code>
+     *         otherwise
+     */
+    public boolean isApplicable(File repositoryDirectory);
+}
@@ -15,7 +15,10 @@
 package net.ssehub.gcs.core;
 
 /**
- * This interface provides a single method for adding {@link CommitSequence}s to the implementing class.
+ * This interface provides a single method for adding commit sub-sequences to the implementing class. A sub-sequence is
+ * defined by a few ids only, which implementing classes should store in a compact form. The actual
+ * {@link CommitSequence} should not be created via {@link CommitSequence#createSubSequence(int, int, int, int, int)}
+ * before it is about to run, as a large repository may yield millions of pending sub-sequences.
  * 
  * @author Christian Kroeher
  *
@@ -23,9 +26,15 @@ package net.ssehub.gcs.core;
 public interface ISequenceStorage {
 
     /**
-     * Adds the given {@link CommitSequence} to this storage.
+     * Adds the commit sub-sequence defined by the given ids to this storage.
      * 
-     * @param commitSequence the {@link CommitSequence} to add to the this storage
+     * @param childCommitSequence the {@link CommitSequence}, which detected the sub-sequence and from which the
+     *        sub-sequence prepends its first commits; never <code>null</code>
+     * @param sequenceNumber the sequence number reserved for the sub-sequence
+     * @param startCommit the id of the commit in the commit graph starting the sub-sequence
+     * @param childCommit the id of the last commit in the child commit sequence to prepend to the sub-sequence
+     * @param prefixLength the number of commits of the child commit sequence to prepend to the sub-sequence
      */
-    public void add(CommitSequence commitSequence);
+    public void add(CommitSequence childCommitSequence, int sequenceNumber, int startCommit, int childCommit,
+            int prefixLength);
 }
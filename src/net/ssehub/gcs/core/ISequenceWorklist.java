@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+/**
+ * This interface extends the {@link ISequenceStorage} by methods for removing the stored {@link CommitSequence}s in a
+ * particular order. Implementing classes define this order and, hence, the order in which the
+ * {@link GitCommitSequencer} creates commit sub-sequences. All methods must run in (amortized) constant or logarithmic
+ * time, as a worklist may contain hundreds of thousands of sequences.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public interface ISequenceWorklist extends ISequenceStorage {
+    
+    /**
+     * Removes the next pending sub-sequence from this worklist and creates the corresponding {@link CommitSequence} via
+     * {@link CommitSequence#createSubSequence(int, int, int, int, int)}.
+     * 
+     * @return the next {@link CommitSequence} to create or <code>null</code>, if this worklist is empty
+     */
+    public CommitSequence remove();
+    
+    /**
+     * Checks whether this worklist is empty.
+     * 
+     * @return <code>true</code>, if this worklist does not contain any {@link CommitSequence}; <code>false</code>
+     *         otherwise
+     */
+    public boolean isEmpty();
+    
+    /**
+     * Returns the number of {@link CommitSequence}s in this worklist.
+     * 
+     * @return the number of {@link CommitSequence}s in this worklist
+     */
+    public int size();
+}
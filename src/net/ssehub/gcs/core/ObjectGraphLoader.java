@@ -0,0 +1,289 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class realizes an {@link ICommitGraphLoader}, which loads the {@link CommitGraph} by reading the commit objects
+ * directly from the object database of the repository via a {@link GitObjectReader}. Hence, loading the graph does not
+ * require any external process. The commits are visited in breadth-first order starting at the start commit; the
+ * commits of each breadth-first level are read in parallel, if that level is large enough and more than one thread is
+ * available. The {@link ObjectIdIndex} of the {@link CommitGraphBuilder} also serves as the set of visited commits and
+ * each level consists of the ids of its commits in that index. Hence, visiting a commit does not create any
+ * {@link String} or boxed object.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class ObjectGraphLoader implements ICommitGraphLoader {
+    
+    /**
+     * The minimum number of commits in a breadth-first level for reading these commits in parallel. Smaller levels are
+     * read sequentially as the overhead of parallel execution would exceed its benefit.
+     */
+    private static final int PARALLEL_THRESHOLD = 64;
+    
+    /**
+     * The initial capacity of the {@link ObjectIdIndex} of the visited commits.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    /**
+     * The number of threads used to read the commits of a breadth-first level in parallel.
+     */
+    private int numberOfThreads;
+    
+    /**
+     * This class represents the task of reading the parent commits of a range of commits of a breadth-first level. If
+     * the range is too large, the task splits itself into two sub-tasks.
+     * 
+     * @author Christian Kroeher
+     *
+     */
+    private static class ReadParentsTask extends RecursiveAction {
+        
+        /**
+         * The serial version UID of this class required by the extended {@link RecursiveAction}.
+         */
+        private static final long serialVersionUID = -2968316487210981043L;
+        
+        /**
+         * The {@link GitObjectReader} for reading the commits.
+         */
+        private transient GitObjectReader objectReader;
+        
+        /**
+         * The {@link ObjectIdIndex} containing the {@link #commits}.
+         */
+        private transient ObjectIdIndex commitIndex;
+        
+        /**
+         * The ids of the commits of the current breadth-first level in the {@link #commitIndex}.
+         */
+        private int[] commits;
+        
+        /**
+         * The array to which the raw object ids of the parent commits of each commit in {@link #commits} are written
+         * at the same index.
+         */
+        private byte[][] parents;
+        
+        /**
+         * The index of the first commit (inclusive) of the range of this task.
+         */
+        private int from;
+        
+        /**
+         * The index of the last commit (exclusive) of the range of this task.
+         */
+        private int to;
+        
+        /**
+         * Constructs a new {@link ReadParentsTask} instance.
+         * 
+         * @param objectReader the {@link GitObjectReader} for reading the commits
+         * @param commitIndex the {@link ObjectIdIndex} containing the given commits
+         * @param commits the ids of the commits of the current breadth-first level in the given index
+         * @param parents the array to which the raw object ids of the parent commits of each commit are written at the
+         *        same index
+         * @param from the index of the first commit (inclusive) of the range of this task
+         * @param to the index of the last commit (exclusive) of the range of this task
+         */
+        //CHECKSTYLE:OFF - Avoid errors due to too many arguments
+        private ReadParentsTask(GitObjectReader objectReader, ObjectIdIndex commitIndex, int[] commits,
+                byte[][] parents, int from, int to) {
+            this.objectReader = objectReader;
+            this.commitIndex = commitIndex;
+            this.commits = commits;
+            this.parents = parents;
+            this.from = from;
+            this.to = to;
+        }
+        //CHECKSTYLE:ON - Resume after avoiding errors due to too many arguments
+        
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void compute() {
+            if (to - from > PARALLEL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ReadParentsTask(objectReader, commitIndex, commits, parents, from, middle),
+                        new ReadParentsTask(objectReader, commitIndex, commits, parents, middle, to));
+            } else {
+                try {
+                    readParents(objectReader, commitIndex, commits, parents, from, to);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Constructs a new {@link ObjectGraphLoader} instance.
+     * 
+     * @param numberOfThreads the number of threads used to read the commits of a breadth-first level in parallel;
+     *        values less than or equal to <i>1</i> result in reading all commits sequentially
+     */
+    public ObjectGraphLoader(int numberOfThreads) {
+        this.numberOfThreads = numberOfThreads;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ICommitGraph load(File repositoryDirectory, String startCommit) throws CommitGraphCreationException {
+        CommitGraphBuilder commitGraphBuilder = null;
+        ForkJoinPool threadPool = null;
+        if (numberOfThreads > 1) {
+            threadPool = new ForkJoinPool(numberOfThreads);
+        }
+        try (GitObjectReader objectReader = new GitObjectReader(repositoryDirectory)) {
+            ObjectIdIndex commitIndex = new ObjectIdIndex(objectReader.getObjectIdLength(), INITIAL_CAPACITY);
+            commitGraphBuilder = new CommitGraphBuilder(commitIndex);
+            int[] currentLevel = {commitIndex.add(objectReader.toObjectId(startCommit), 0)};
+            while (currentLevel.length > 0) {
+                byte[][] currentLevelParents = readParents(objectReader, commitIndex, currentLevel, threadPool);
+                currentLevel = addParents(commitGraphBuilder, commitIndex, currentLevel, currentLevelParents);
+            }
+        } catch (IOException e) {
+            throw new CommitGraphCreationException("Reading the commit graph from the object database of \""
+                    + repositoryDirectory.getAbsolutePath() + "\" failed", e);
+        } finally {
+            if (threadPool != null) {
+                threadPool.shutdown();
+            }
+        }
+        return commitGraphBuilder.build();
+    }
+    
+    /**
+     * {@inheritDoc}<br>
+     * <br>
+     * This loader applies to all repositories, which the {@link GitObjectReader} supports, i.e., which do not use
+     * replacement objects or grafts.
+     */
+    @Override
+    public boolean isApplicable(File repositoryDirectory) {
+        boolean isApplicable = true;
+        try {
+            GitObjectReader.checkSupported(GitObjectReader.findCommonDirectory(
+                    GitObjectReader.findGitDirectory(repositoryDirectory)));
+        } catch (IOException e) {
+            isApplicable = false;
+        }
+        return isApplicable;
+    }
+    
+    /**
+     * Reads the parent commits of the given commits of a single breadth-first level.
+     * 
+     * @param objectReader the {@link GitObjectReader} for reading the commits; should never be <code>null</code>
+     * @param commitIndex the {@link ObjectIdIndex} containing the given commits; should never be <code>null</code>
+     * @param commits the ids of the commits of a single breadth-first level in the given index; should never be
+     *        <code>null</code>
+     * @param threadPool the {@link ForkJoinPool} for reading the commits in parallel; can be <code>null</code>, if the
+     *        commits shall be read sequentially
+     * @return the array containing the raw object ids of the parent commits of each of the given commits at the same
+     *         index
+     * @throws IOException if reading a commit fails
+     */
+    private byte[][] readParents(GitObjectReader objectReader, ObjectIdIndex commitIndex, int[] commits,
+            ForkJoinPool threadPool) throws IOException {
+        byte[][] parents = new byte[commits.length][];
+        if (threadPool != null && commits.length > PARALLEL_THRESHOLD) {
+            try {
+                threadPool.invoke(new ReadParentsTask(objectReader, commitIndex, commits, parents, 0, commits.length));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        } else {
+            readParents(objectReader, commitIndex, commits, parents, 0, commits.length);
+        }
+        return parents;
+    }
+    
+    /**
+     * Reads the parent commits of the given range of the given commits. As the given index is not modified while a
+     * breadth-first level is read, this method may be called for disjoint ranges in parallel.
+     * 
+     * @param objectReader the {@link GitObjectReader} for reading the commits; should never be <code>null</code>
+     * @param commitIndex the {@link ObjectIdIndex} containing the given commits; should never be <code>null</code>
+     * @param commits the ids of the commits of a single breadth-first level in the given index; should never be
+     *        <code>null</code>
+     * @param parents the array to which the raw object ids of the parent commits of each commit are written at the
+     *        same index; should never be <code>null</code>
+     * @param from the index of the first commit (inclusive) of the range to read
+     * @param to the index of the last commit (exclusive) of the range to read
+     * @throws IOException if reading a commit fails
+     */
+    //CHECKSTYLE:OFF - Avoid errors due to too many arguments
+    private static void readParents(GitObjectReader objectReader, ObjectIdIndex commitIndex, int[] commits,
+            byte[][] parents, int from, int to) throws IOException {
+        byte[] commitId = new byte[commitIndex.getObjectIdLength()];
+        for (int i = from; i < to; i++) {
+            commitIndex.putRaw(commits[i], ByteBuffer.wrap(commitId));
+            parents[i] = objectReader.readParentIds(commitId);
+        }
+    }
+    //CHECKSTYLE:ON - Resume after avoiding errors due to too many arguments
+    
+    /**
+     * Adds the edges from the given commits of a single breadth-first level to their parent commits to the given
+     * {@link CommitGraphBuilder} and collects the parent commits, which are not part of the given index yet, as the
+     * next breadth-first level.
+     * 
+     * @param commitGraphBuilder the {@link CommitGraphBuilder} using the given index; should never be
+     *        <code>null</code>
+     * @param commitIndex the {@link ObjectIdIndex} of all visited commits; should never be <code>null</code>
+     * @param commits the ids of the commits of a single breadth-first level in the given index; should never be
+     *        <code>null</code>
+     * @param parents the array containing the raw object ids of the parent commits of each of the given commits at the
+     *        same index; should never be <code>null</code>
+     * @return the ids of the commits of the next breadth-first level in the order of their discovery; never
+     *         <code>null</code>
+     */
+    private static int[] addParents(CommitGraphBuilder commitGraphBuilder, ObjectIdIndex commitIndex, int[] commits,
+            byte[][] parents) {
+        int objectIdLength = commitIndex.getObjectIdLength();
+        int[] nextLevel = new int[commits.length];
+        int nextLevelSize = 0;
+        for (int i = 0; i < commits.length; i++) {
+            byte[] commitParents = parents[i];
+            for (int offset = 0; commitParents != null && offset < commitParents.length; offset += objectIdLength) {
+                int parentId = commitIndex.get(commitParents, offset);
+                if (parentId == ObjectIdIndex.UNKNOWN_ID) {
+                    parentId = commitIndex.add(commitParents, offset);
+                    if (nextLevelSize == nextLevel.length) {
+                        nextLevel = Arrays.copyOf(nextLevel, nextLevelSize * 2);
+                    }
+                    nextLevel[nextLevelSize++] = parentId;
+                }
+                commitGraphBuilder.addParent(commits[i], parentId);
+            }
+        }
+        return Arrays.copyOf(nextLevel, nextLevelSize);
+    }
+
+}
@@ -0,0 +1,482 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * This class realizes an index of Git object ids (SHAs), which assigns a dense integer id to each object id in the
+ * order of their addition. In contrast to a {@link java.util.Map} of {@link String}s, this index does not create any
+ * objects per entry: each SHA-1 object id (20 bytes) is stored as two <code>long</code>s plus one <code>int</code> and
+ * each SHA-256 object id (32 bytes) as four <code>long</code>s in primitive arrays, while the hash table itself is an
+ * <code>int</code> array using open addressing with linear probing. Further, looking up an object id given in its
+ * hexadecimal or raw representation does not allocate any memory.
+ * <br><br>
+ * Adding object ids is not thread-safe, while concurrent lookups are safe as long as no object id is added.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class ObjectIdIndex {
+    
+    /**
+     * The id returned by the lookup methods of this index, if an object id is not part of it.
+     */
+    public static final int UNKNOWN_ID = -1;
+    
+    /**
+     * The number of bytes of a SHA-1 object id.
+     */
+    public static final int SHA1_LENGTH = 20;
+    
+    /**
+     * The number of bytes of a SHA-256 object id.
+     */
+    public static final int SHA256_LENGTH = 32;
+    
+    /**
+     * The minimum capacity of the arrays of this index.
+     */
+    private static final int MINIMUM_CAPACITY = 16;
+    
+    /**
+     * The multiplier for spreading the bits of the first <code>long</code> of an object id over the hash code. As
+     * object ids are already uniformly distributed, this only protects against (artificial) clustering.
+     */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    
+    /**
+     * The characters used to convert object ids into their hexadecimal representation.
+     */
+    private static final char[] HEX_CHARACTERS = "0123456789abcdef".toCharArray();
+    
+    /**
+     * The number of bytes of each object id in this index; either {@link #SHA1_LENGTH} or {@link #SHA256_LENGTH}.
+     */
+    private int objectIdLength;
+    
+    /**
+     * The number of <code>long</code>s per object id in the {@link #words}.
+     */
+    private int wordsPerId;
+    
+    /**
+     * The definition of whether each object id has an additional <code>int</code> in the {@link #tails}
+     * (<code>true</code>) or not (<code>false</code>). This is only the case for SHA-1 object ids.
+     */
+    private boolean hasTail;
+    
+    /**
+     * The array containing the (big-endian) <code>long</code>s of all object ids. The words of the object id with id
+     * <code>i</code> start at index <code>i * {@link #wordsPerId}</code>.
+     */
+    private long[] words;
+    
+    /**
+     * The array containing the last four bytes of each SHA-1 object id at the index of its id or <code>null</code>, if
+     * this index stores SHA-256 object ids.
+     */
+    private int[] tails;
+    
+    /**
+     * The hash table of this index. Each slot contains the id of an object id plus <i>1</i> or <i>0</i>, if the slot
+     * is empty. The length of this array is always a power of two and at least twice the {@link #size}.
+     */
+    private int[] slots;
+    
+    /**
+     * The number of object ids in this index, which is also the id of the next new object id.
+     */
+    private int size;
+    
+    /**
+     * Constructs a new, empty {@link ObjectIdIndex} instance.
+     * 
+     * @param objectIdLength the number of bytes of each object id in this index; must be either
+     *        {@link #SHA1_LENGTH} or {@link #SHA256_LENGTH}
+     * @param expectedSize the expected number of object ids in this index; the index grows automatically, if more
+     *        object ids are added
+     * @throws IllegalArgumentException if the given object id length is not supported
+     */
+    public ObjectIdIndex(int objectIdLength, int expectedSize) throws IllegalArgumentException {
+        if (objectIdLength != SHA1_LENGTH && objectIdLength != SHA256_LENGTH) {
+            throw new IllegalArgumentException("Unsupported object id length " + objectIdLength);
+        }
+        this.objectIdLength = objectIdLength;
+        wordsPerId = objectIdLength / Long.BYTES;
+        hasTail = (objectIdLength % Long.BYTES) != 0;
+        int capacity = Math.max(MINIMUM_CAPACITY, expectedSize);
+        words = new long[capacity * wordsPerId];
+        if (hasTail) {
+            tails = new int[capacity];
+        }
+        slots = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+        size = 0;
+    }
+    
+    /**
+     * Adds the object id given in its hexadecimal representation to this index, if it is not already part of it.
+     * 
+     * @param hex the {@link CharSequence} containing the hexadecimal object id; should never be <code>null</code>
+     * @param start the index of the first character of the object id in the given character sequence
+     * @return the id of the given object id
+     * @throws IllegalArgumentException if the given character sequence does not contain a full hexadecimal object id
+     *         of the length of this index at the given start index
+     */
+    public int add(CharSequence hex, int start) throws IllegalArgumentException {
+        int id = get(hex, start);
+        if (id == UNKNOWN_ID) {
+            if (!isHex(hex, start)) {
+                throw new IllegalArgumentException("\"" + hex + "\" does not contain a full object id at index "
+                        + start);
+            }
+            id = createId();
+            for (int i = 0; i < wordsPerId; i++) {
+                words[id * wordsPerId + i] = parseHex(hex, start + i * 2 * Long.BYTES, 2 * Long.BYTES);
+            }
+            if (hasTail) {
+                tails[id] = (int) parseHex(hex, start + wordsPerId * 2 * Long.BYTES, 2 * Integer.BYTES);
+            }
+            insert(id);
+        }
+        return id;
+    }
+    
+    /**
+     * Adds the object id given in its raw representation to this index, if it is not already part of it.
+     * 
+     * @param raw the array containing the raw object id; should never be <code>null</code>
+     * @param offset the index of the first byte of the object id in the given array
+     * @return the id of the given object id
+     */
+    public int add(byte[] raw, int offset) {
+        int id = get(raw, offset);
+        if (id == UNKNOWN_ID) {
+            id = createId();
+            for (int i = 0; i < wordsPerId; i++) {
+                words[id * wordsPerId + i] = readBytes(raw, offset + i * Long.BYTES, Long.BYTES);
+            }
+            if (hasTail) {
+                tails[id] = (int) readBytes(raw, offset + wordsPerId * Long.BYTES, Integer.BYTES);
+            }
+            insert(id);
+        }
+        return id;
+    }
+    
+    /**
+     * Returns the id of the object id given in its hexadecimal representation.
+     * 
+     * @param hex the {@link CharSequence} containing the hexadecimal object id; should never be <code>null</code>
+     * @param start the index of the first character of the object id in the given character sequence
+     * @return the id of the given object id or {@link #UNKNOWN_ID}, if the given character sequence does not contain a
+     *         full hexadecimal object id at the given start index or that object id is not part of this index
+     */
+    public int get(CharSequence hex, int start) {
+        int id = UNKNOWN_ID;
+        if (isHex(hex, start)) {
+            int slot = hash(parseHex(hex, start, 2 * Long.BYTES));
+            while (id == UNKNOWN_ID && slots[slot] != 0) {
+                int candidateId = slots[slot] - 1;
+                if (matches(candidateId, hex, start)) {
+                    id = candidateId;
+                }
+                slot = (slot + 1) & (slots.length - 1);
+            }
+        }
+        return id;
+    }
+    
+    /**
+     * Returns the id of the object id given in its raw representation.
+     * 
+     * @param raw the array containing the raw object id; should never be <code>null</code>
+     * @param offset the index of the first byte of the object id in the given array
+     * @return the id of the given object id or {@link #UNKNOWN_ID}, if that object id is not part of this index
+     */
+    public int get(byte[] raw, int offset) {
+        int id = UNKNOWN_ID;
+        int slot = hash(readBytes(raw, offset, Long.BYTES));
+        while (id == UNKNOWN_ID && slots[slot] != 0) {
+            int candidateId = slots[slot] - 1;
+            if (matches(candidateId, raw, offset)) {
+                id = candidateId;
+            }
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        return id;
+    }
+    
+    /**
+     * Returns the hexadecimal representation of the object id with the given id.
+     * 
+     * @param id the id of the object id; must be in the range from <i>0</i> (inclusive) to {@link #size()}
+     *        (exclusive)
+     * @return the {@link String} representing the hexadecimal object id
+     */
+    public String toHex(int id) {
+        char[] hexCharacters = new char[objectIdLength * 2];
+        for (int i = 0; i < hexCharacters.length; i++) {
+            hexCharacters[i] = getHexCharacter(id, i);
+        }
+        return new String(hexCharacters);
+    }
+    
+    /**
+     * Appends the hexadecimal representation of the object id with the given id to the given {@link StringBuilder}
+     * without creating an intermediate {@link String}.
+     * 
+     * @param id the id of the object id; must be in the range from <i>0</i> (inclusive) to {@link #size()}
+     *        (exclusive)
+     * @param builder the {@link StringBuilder} to append the hexadecimal object id to; should never be
+     *        <code>null</code>
+     */
+    public void appendHex(int id, StringBuilder builder) {
+        for (int i = 0; i < objectIdLength * 2; i++) {
+            builder.append(getHexCharacter(id, i));
+        }
+    }
+    
+    /**
+     * Writes the hexadecimal representation of the object id with the given id as ASCII bytes to the given array.
+     * 
+     * @param id the id of the object id; must be in the range from <i>0</i> (inclusive) to {@link #size()}
+     *        (exclusive)
+     * @param destination the array to write the hexadecimal object id to; should never be <code>null</code> and must
+     *        provide <code>2 * {@link #getObjectIdLength()}</code> bytes starting at the given offset
+     * @param offset the index in the given array at which the first character shall be written
+     */
+    public void writeHex(int id, byte[] destination, int offset) {
+        for (int i = 0; i < objectIdLength * 2; i++) {
+            destination[offset + i] = (byte) getHexCharacter(id, i);
+        }
+    }
+    
+    /**
+     * Puts the raw representation of the object id with the given id into the given {@link ByteBuffer}.
+     * 
+     * @param id the id of the object id; must be in the range from <i>0</i> (inclusive) to {@link #size()}
+     *        (exclusive)
+     * @param buffer the {@link ByteBuffer} to put the raw object id to at its current position; should never be
+     *        <code>null</code> and must provide at least {@link #getObjectIdLength()} remaining bytes
+     */
+    public void putRaw(int id, ByteBuffer buffer) {
+        // The byte order of the buffer is irrelevant, as each byte is put individually in big-endian order
+        for (int i = 0; i < wordsPerId; i++) {
+            long word = words[id * wordsPerId + i];
+            for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                buffer.put((byte) (word >>> shift));
+            }
+        }
+        if (hasTail) {
+            int tail = tails[id];
+            for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                buffer.put((byte) (tail >>> shift));
+            }
+        }
+    }
+    
+    /**
+     * Returns the number of bytes of each object id in this index.
+     * 
+     * @return either {@link #SHA1_LENGTH} or {@link #SHA256_LENGTH}
+     */
+    public int getObjectIdLength() {
+        return objectIdLength;
+    }
+    
+    /**
+     * Returns the number of object ids in this index.
+     * 
+     * @return the number of object ids in this index; equal to or greater than <i>0</i>
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Returns the next free id and grows the arrays of this index, if necessary.
+     * 
+     * @return the next free id
+     */
+    private int createId() {
+        if (size == words.length / wordsPerId) {
+            words = Arrays.copyOf(words, words.length * 2);
+            if (hasTail) {
+                tails = Arrays.copyOf(tails, tails.length * 2);
+            }
+        }
+        int id = size;
+        size++;
+        if (size * 2 > slots.length) {
+            rehash();
+        }
+        return id;
+    }
+    
+    /**
+     * Inserts the object id with the given (new) id into the {@link #slots}.
+     * 
+     * @param id the id of the object id to insert
+     */
+    private void insert(int id) {
+        int slot = hash(words[id * wordsPerId]);
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        slots[slot] = id + 1;
+    }
+    
+    /**
+     * Doubles the number of {@link #slots} and re-inserts all object ids, which were added before.
+     */
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        for (int i = 0; i < size - 1; i++) {
+            insert(i);
+        }
+    }
+    
+    /**
+     * Returns the slot of an object id with the given first <code>long</code>.
+     * 
+     * @param firstWord the first (big-endian) <code>long</code> of an object id
+     * @return the slot at which the linear probing for the object id starts
+     */
+    private int hash(long firstWord) {
+        return (int) ((firstWord * HASH_MULTIPLIER) >>> 32) & (slots.length - 1);
+    }
+    
+    /**
+     * Checks whether the object id with the given id is equal to the hexadecimal object id at the given start index in
+     * the given character sequence.
+     * 
+     * @param id the id of the object id to compare
+     * @param hex the {@link CharSequence} containing the hexadecimal object id to compare with
+     * @param start the index of the first character of the object id in the given character sequence
+     * @return <code>true</code>, if both object ids are equal; <code>false</code> otherwise
+     */
+    private boolean matches(int id, CharSequence hex, int start) {
+        boolean matches = true;
+        int wordsCounter = 0;
+        while (matches && wordsCounter < wordsPerId) {
+            matches = words[id * wordsPerId + wordsCounter]
+                    == parseHex(hex, start + wordsCounter * 2 * Long.BYTES, 2 * Long.BYTES);
+            wordsCounter++;
+        }
+        if (matches && hasTail) {
+            matches = tails[id] == (int) parseHex(hex, start + wordsPerId * 2 * Long.BYTES, 2 * Integer.BYTES);
+        }
+        return matches;
+    }
+    
+    /**
+     * Checks whether the object id with the given id is equal to the raw object id at the given offset in the given
+     * array.
+     * 
+     * @param id the id of the object id to compare
+     * @param raw the array containing the raw object id to compare with
+     * @param offset the index of the first byte of the object id in the given array
+     * @return <code>true</code>, if both object ids are equal; <code>false</code> otherwise
+     */
+    private boolean matches(int id, byte[] raw, int offset) {
+        boolean matches = true;
+        int wordsCounter = 0;
+        while (matches && wordsCounter < wordsPerId) {
+            matches = words[id * wordsPerId + wordsCounter]
+                    == readBytes(raw, offset + wordsCounter * Long.BYTES, Long.BYTES);
+            wordsCounter++;
+        }
+        if (matches && hasTail) {
+            matches = tails[id] == (int) readBytes(raw, offset + wordsPerId * Long.BYTES, Integer.BYTES);
+        }
+        return matches;
+    }
+    
+    /**
+     * Returns the hexadecimal character at the given position of the object id with the given id.
+     * 
+     * @param id the id of the object id
+     * @param position the position of the character in the hexadecimal object id
+     * @return the hexadecimal character at the given position
+     */
+    private char getHexCharacter(int id, int position) {
+        int wordIndex = position / (2 * Long.BYTES);
+        long word;
+        int shift;
+        if (wordIndex < wordsPerId) {
+            word = words[id * wordsPerId + wordIndex];
+            shift = (2 * Long.BYTES - 1 - position % (2 * Long.BYTES)) * 4;
+        } else {
+            word = tails[id];
+            shift = (2 * Integer.BYTES - 1 - (position - wordsPerId * 2 * Long.BYTES)) * 4;
+        }
+        return HEX_CHARACTERS[(int) (word >>> shift) & 0x0f];
+    }
+    
+    /**
+     * Checks whether the given character sequence contains a full hexadecimal object id of the length of this index at
+     * the given start index.
+     * 
+     * @param hex the {@link CharSequence} to check
+     * @param start the index of the first character of the object id in the given character sequence
+     * @return <code>true</code>, if the given character sequence contains a full hexadecimal object id at the given
+     *         start index; <code>false</code> otherwise
+     */
+    private boolean isHex(CharSequence hex, int start) {
+        boolean isHex = start >= 0 && start + objectIdLength * 2 <= hex.length();
+        int hexCounter = start;
+        while (isHex && hexCounter < start + objectIdLength * 2) {
+            isHex = Character.digit(hex.charAt(hexCounter), 16) >= 0;
+            hexCounter++;
+        }
+        return isHex;
+    }
+    
+    /**
+     * Parses the given number of hexadecimal characters starting at the given index of the given character sequence.
+     * The characters must be valid hexadecimal characters.
+     * 
+     * @param hex the {@link CharSequence} containing the hexadecimal characters
+     * @param start the index of the first character to parse
+     * @param length the number of characters to parse; at most <i>16</i>
+     * @return the (big-endian) value of the parsed characters
+     */
+    private static long parseHex(CharSequence hex, int start, int length) {
+        long value = 0;
+        for (int i = start; i < start + length; i++) {
+            value = (value << 4) | Character.digit(hex.charAt(i), 16);
+        }
+        return value;
+    }
+    
+    /**
+     * Reads the given number of bytes starting at the given offset of the given array as a big-endian value.
+     * 
+     * @param raw the array containing the bytes
+     * @param offset the index of the first byte to read
+     * @param length the number of bytes to read; at most <i>8</i>
+     * @return the (big-endian) value of the read bytes
+     */
+    private static long readBytes(byte[] raw, int offset, int length) {
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            value = (value << 8) | (raw[i] & 0xff);
+        }
+        return value;
+    }
+
+}
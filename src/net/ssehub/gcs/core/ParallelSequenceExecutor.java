@@ -0,0 +1,487 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class creates a commit sequence and all of its sub-sequences in parallel. Each sequence is created by an
+ * individual task, which submits the tasks for its sub-sequences as soon as its own output file is complete. Hence, a
+ * sub-sequence becomes runnable as soon as the sequence it prepends its commits from is created. The tasks are either
+ * executed by a work-stealing {@link ForkJoinPool} with a fixed number of threads or by a given
+ * {@link ExecutorService}, like an executor creating a virtual thread per task (see
+ * {@link #createVirtualThreadExecutor()}).<br>
+ * <br>
+ * A pending task only holds the ids defining its sub-sequence. The {@link CommitSequence} of a task is created, when
+ * the task runs, and discarded as soon as its output file is closed. Hence, the heap required by this executor does
+ * not depend on the number of pending or created sequences apart from a few integers per sequence.<br>
+ * <br>
+ * As the scheduling of the tasks determines the order, in which sub-sequences are detected, all sequences write to
+ * temporary output files first. After all sequences are created, their output files are renamed in the order of a
+ * breadth-first traversal of the sub-sequence relation, which is exactly the order, in which the sequential creation
+ * via the worklist of the {@link GitCommitSequencer} numbers the sequences. Hence, the sequence numbers are
+ * deterministic and equal to those of the sequential creation.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class ParallelSequenceExecutor {
+    
+    /**
+     * The number of ids defining a sub-sequence: its sequence number, the sequence number of the sequence, which
+     * detected it, its start commit, the commit of the detecting sequence it prepends its commits from, and the length
+     * of its prefix.
+     */
+    private static final int SUB_SEQUENCE_SIZE = 5;
+    
+    /**
+     * The initial number of sequences the {@link #parents} and {@link #numbersOfCommits} can hold before they grow.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    /**
+     * The number of threads of the {@link ForkJoinPool} creating the commit sequences. This number is only used, if no
+     * {@link #executorService} is given.
+     */
+    private int numberOfThreads;
+    
+    /**
+     * The {@link ExecutorService} executing the tasks creating the commit sequences. May be <code>null</code>, if the
+     * tasks are executed by a {@link ForkJoinPool} with {@link #numberOfThreads} threads.
+     */
+    private ExecutorService executorService;
+    
+    /**
+     * The number of tasks submitted to the {@link #executorService}, which are not completed yet.
+     */
+    private AtomicInteger pendingTasks;
+    
+    /**
+     * The {@link CountDownLatch} released as soon as all tasks submitted to the {@link #executorService} are completed.
+     */
+    private CountDownLatch tasksCompleted;
+    
+    /**
+     * The {@link CommitSequence} starting at the start commit. It creates the {@link CommitSequence} instances of all
+     * sub-sequences, when their tasks run.
+     */
+    private CommitSequence initialSequence;
+    
+    /**
+     * The (temporary) sequence number of the {@link #initialSequence}. The index of a sequence in the
+     * {@link #parents} and {@link #numbersOfCommits} is its temporary sequence number minus this number.
+     */
+    private int initialSequenceNumber;
+    
+    /**
+     * The sub-sequence relation. For each sequence index, this array contains the index of the sequence, which
+     * detected that sequence, plus <i>1</i>. Hence, <i>0</i> marks the {@link #initialSequence} and indexes not
+     * assigned to any sequence.
+     */
+    private int[] parents;
+    
+    /**
+     * The number of commits of each created sequence by its index.
+     */
+    private int[] numbersOfCommits;
+    
+    /**
+     * The number of indexes in use in {@link #parents} and {@link #numbersOfCommits}.
+     */
+    private int numberOfIndexes;
+    
+    /**
+     * This class collects the sub-sequences detected during the creation of a single commit sequence as their
+     * defining ids in the order of their detection. Further, it records each detected sub-sequence in the
+     * sub-sequence relation of the {@link ParallelSequenceExecutor}.
+     * 
+     * @author Christian Kroeher
+     *
+     */
+    private class SubSequenceCollector implements ISequenceStorage {
+        
+        /**
+         * The ids of the detected sub-sequences with {@link #SUB_SEQUENCE_SIZE} ids per sub-sequence.
+         */
+        private int[] subSequences;
+        
+        /**
+         * The number of detected sub-sequences.
+         */
+        private int size;
+        
+        /**
+         * Constructs a new {@link SubSequenceCollector} instance.
+         */
+        private SubSequenceCollector() {
+            subSequences = new int[SUB_SEQUENCE_SIZE];
+            size = 0;
+        }
+        
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void add(CommitSequence childCommitSequence, int sequenceNumber, int startCommit, int childCommit,
+                int prefixLength) {
+            int offset = size * SUB_SEQUENCE_SIZE;
+            if (offset == subSequences.length) {
+                subSequences = Arrays.copyOf(subSequences, offset * 2);
+            }
+            subSequences[offset] = sequenceNumber;
+            subSequences[offset + 1] = childCommitSequence.getSequenceNumber();
+            subSequences[offset + 2] = startCommit;
+            subSequences[offset + 3] = childCommit;
+            subSequences[offset + 4] = prefixLength;
+            size++;
+            addSubSequence(sequenceNumber, childCommitSequence.getSequenceNumber());
+        }
+        
+        /**
+         * Returns the ids defining the detected sub-sequence at the given position.
+         * 
+         * @param index the position of the sub-sequence in the order of detection; must be less than {@link #size}
+         * @return the {@link #SUB_SEQUENCE_SIZE} ids defining the sub-sequence; never <code>null</code>
+         */
+        private int[] get(int index) {
+            int offset = index * SUB_SEQUENCE_SIZE;
+            return Arrays.copyOfRange(subSequences, offset, offset + SUB_SEQUENCE_SIZE);
+        }
+    
+    }
+    
+    /**
+     * This class represents the task of creating a single commit sequence in a {@link ForkJoinPool}. It forks a task
+     * for each sub-sequence after its sequence is created. A task completes as soon as its sequence and the sequences
+     * of all of its (transitive) sub-tasks are created.
+     * 
+     * @author Christian Kroeher
+     *
+     */
+    private static class SequenceTask extends CountedCompleter<Void> {
+        
+        /**
+         * The serial version UID of this class.
+         */
+        private static final long serialVersionUID = -6016745823937826314L;
+        
+        /**
+         * The {@link ParallelSequenceExecutor} creating the commit sequence of this task.
+         */
+        private transient ParallelSequenceExecutor executor;
+        
+        /**
+         * The ids defining the sub-sequence to create by this task or <code>null</code>, if this task creates the
+         * initial sequence.
+         */
+        private int[] subSequence;
+        
+        /**
+         * Constructs a new {@link SequenceTask} instance.
+         * 
+         * @param parentTask the {@link SequenceTask}, which detected the given sub-sequence, or <code>null</code>, if
+         *        this task creates the initial sequence
+         * @param executor the {@link ParallelSequenceExecutor} creating the commit sequence of this task; should never
+         *        be <code>null</code>
+         * @param subSequence the ids defining the sub-sequence to create by this task or <code>null</code>, if this
+         *        task creates the initial sequence
+         */
+        private SequenceTask(SequenceTask parentTask, ParallelSequenceExecutor executor, int[] subSequence) {
+            super(parentTask);
+            this.executor = executor;
+            this.subSequence = subSequence;
+        }
+        
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void compute() {
+            SubSequenceCollector subSequences = executor.create(subSequence);
+            setPendingCount(subSequences.size);
+            for (int i = 0; i < subSequences.size; i++) {
+                new SequenceTask(this, executor, subSequences.get(i)).fork();
+            }
+            tryComplete();
+        }
+    
+    }
+    
+    /**
+     * Constructs a new {@link ParallelSequenceExecutor} instance, which creates commit sequences using a
+     * {@link ForkJoinPool} with the given number of threads.
+     * 
+     * @param numberOfThreads the number of threads to use for creating commit sequences; must be greater than <i>0</i>
+     */
+    public ParallelSequenceExecutor(int numberOfThreads) {
+        this.numberOfThreads = numberOfThreads;
+        executorService = null;
+    }
+    
+    /**
+     * Constructs a new {@link ParallelSequenceExecutor} instance, which creates commit sequences by submitting a task
+     * per sequence to the given {@link ExecutorService}. The given executor service is shut down after all sequences
+     * are created.
+     * 
+     * @param executorService the {@link ExecutorService} executing the tasks creating the commit sequences, like the
+     *        one returned by {@link #createVirtualThreadExecutor()}; should never be <code>null</code>
+     */
+    public ParallelSequenceExecutor(ExecutorService executorService) {
+        numberOfThreads = 0;
+        this.executorService = executorService;
+    }
+    
+    /**
+     * Creates an {@link ExecutorService}, which executes each task on its own virtual thread. As virtual threads are
+     * only available in recent Java versions, this method creates the executor via reflection.
+     * 
+     * @return the {@link ExecutorService} creating a virtual thread per task or <code>null</code>, if virtual threads
+     *         are not available in the current Java runtime
+     */
+    public static ExecutorService createVirtualThreadExecutor() {
+        ExecutorService virtualThreadExecutor = null;
+        try {
+            Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            virtualThreadExecutor = (ExecutorService) factoryMethod.invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            // Virtual threads are not available (or preview features are not enabled) in the current Java runtime
+            virtualThreadExecutor = null;
+        }
+        return virtualThreadExecutor;
+    }
+    
+    /**
+     * Creates the given commit sequence and all of its sub-sequences in parallel and renames their output files
+     * according to the deterministic sequence numbering afterwards.
+     * 
+     * @param initialSequence the {@link CommitSequence} starting at the start commit; should never be
+     *        <code>null</code> and must not be created already
+     * @return the number of commits of each created commit sequence in the order of their sequence numbers starting
+     *         with the given initial sequence; never <code>null</code>
+     * @throws CommitSequenceCreationException if waiting for the creation of the commit sequences is interrupted or
+     *         renaming the output file of a commit sequence fails
+     */
+    public int[] execute(CommitSequence initialSequence) throws CommitSequenceCreationException {
+        initialSequence.useTemporaryOutputFile();
+        this.initialSequence = initialSequence;
+        initialSequenceNumber = initialSequence.getSequenceNumber();
+        parents = new int[INITIAL_CAPACITY];
+        numbersOfCommits = new int[INITIAL_CAPACITY];
+        numberOfIndexes = 1;
+        try {
+            if (executorService == null) {
+                ForkJoinPool pool = new ForkJoinPool(numberOfThreads);
+                try {
+                    pool.invoke(new SequenceTask(null, this, null));
+                } finally {
+                    pool.shutdown();
+                }
+            } else {
+                executeAll();
+            }
+            return renameOutputFiles();
+        } finally {
+            this.initialSequence = null;
+            parents = null;
+            numbersOfCommits = null;
+        }
+    }
+    
+    /**
+     * Creates the commit sequence defined by the given ids. The created {@link CommitSequence} is discarded afterwards
+     * and only its number of commits is recorded.
+     * 
+     * @param subSequence the ids defining the sub-sequence to create or <code>null</code>, if the
+     *        {@link #initialSequence} should be created
+     * @return the {@link SubSequenceCollector} containing the sub-sequences detected during the creation; never
+     *         <code>null</code>
+     */
+    private SubSequenceCollector create(int[] subSequence) {
+        CommitSequence commitSequence = initialSequence;
+        if (subSequence != null) {
+            commitSequence = initialSequence.createSubSequence(subSequence[0], subSequence[1], subSequence[2],
+                    subSequence[3], subSequence[4]);
+        }
+        SubSequenceCollector subSequences = new SubSequenceCollector();
+        commitSequence.run(subSequences);
+        setNumberOfCommits(commitSequence.getSequenceNumber(), commitSequence.getNumberOfCommits());
+        return subSequences;
+    }
+    
+    /**
+     * Records the sub-sequence with the given sequence number as detected by the sequence with the given sequence
+     * number in the sub-sequence relation.
+     * 
+     * @param sequenceNumber the (temporary) sequence number of the detected sub-sequence
+     * @param childSequenceNumber the (temporary) sequence number of the sequence, which detected the sub-sequence
+     */
+    private synchronized void addSubSequence(int sequenceNumber, int childSequenceNumber) {
+        int index = reserveIndex(sequenceNumber);
+        parents[index] = childSequenceNumber - initialSequenceNumber + 1;
+    }
+    
+    /**
+     * Records the given number of commits for the sequence with the given sequence number.
+     * 
+     * @param sequenceNumber the (temporary) sequence number of the created sequence
+     * @param numberOfCommits the number of commits of that sequence
+     */
+    private synchronized void setNumberOfCommits(int sequenceNumber, int numberOfCommits) {
+        int index = reserveIndex(sequenceNumber);
+        numbersOfCommits[index] = numberOfCommits;
+    }
+    
+    /**
+     * Returns the index of the sequence with the given sequence number and grows the {@link #parents} and
+     * {@link #numbersOfCommits}, if they cannot hold that index yet.
+     * 
+     * @param sequenceNumber the (temporary) sequence number of a sequence
+     * @return the index of that sequence
+     */
+    private int reserveIndex(int sequenceNumber) {
+        int index = sequenceNumber - initialSequenceNumber;
+        if (index >= parents.length) {
+            int capacity = Math.max(parents.length * 2, index + 1);
+            parents = Arrays.copyOf(parents, capacity);
+            numbersOfCommits = Arrays.copyOf(numbersOfCommits, capacity);
+        }
+        if (index >= numberOfIndexes) {
+            numberOfIndexes = index + 1;
+        }
+        return index;
+    }
+    
+    /**
+     * Renames the temporary output files of all created sequences in breadth-first order of the sub-sequence relation,
+     * which equals the sequential numbering. As the temporary sequence numbers are assigned in the order of detection,
+     * the sub-sequences of each sequence are visited in ascending order of their indexes.
+     * 
+     * @return the number of commits of each created commit sequence in the order of their final sequence numbers;
+     *         never <code>null</code>
+     * @throws CommitSequenceCreationException if renaming the output file of a commit sequence fails
+     */
+    private int[] renameOutputFiles() throws CommitSequenceCreationException {
+        // The sub-sequences of the sequence at index i are at subSequences[firstSubSequence[i]..firstSubSequence[i+1]]
+        int[] firstSubSequence = new int[numberOfIndexes + 1];
+        for (int i = 1; i < numberOfIndexes; i++) {
+            if (parents[i] > 0) {
+                firstSubSequence[parents[i]]++;
+            }
+        }
+        for (int i = 1; i <= numberOfIndexes; i++) {
+            firstSubSequence[i] += firstSubSequence[i - 1];
+        }
+        int[] subSequences = new int[numberOfIndexes];
+        int[] nextSubSequence = Arrays.copyOf(firstSubSequence, numberOfIndexes);
+        for (int i = 1; i < numberOfIndexes; i++) {
+            if (parents[i] > 0) {
+                subSequences[nextSubSequence[parents[i] - 1]++] = i;
+            }
+        }
+        // Number the sequences in breadth-first order of their detection reusing the visited indexes as queue
+        int[] sequenceQueue = nextSubSequence;
+        sequenceQueue[0] = 0;
+        int numberOfSequences = 1;
+        int[] sequenceNumbersOfCommits = new int[numberOfIndexes];
+        for (int head = 0; head < numberOfSequences; head++) {
+            int index = sequenceQueue[head];
+            renameOutputFile(index, head + 1);
+            sequenceNumbersOfCommits[head] = numbersOfCommits[index];
+            for (int i = firstSubSequence[index]; i < firstSubSequence[index + 1]; i++) {
+                sequenceQueue[numberOfSequences++] = subSequences[i];
+            }
+        }
+        return Arrays.copyOf(sequenceNumbersOfCommits, numberOfSequences);
+    }
+    
+    /**
+     * Renames the temporary output file of the sequence at the given index to the final output file for the given
+     * sequence number.
+     * 
+     * @param index the index of the sequence
+     * @param sequenceNumber the final sequence number of the sequence
+     * @throws CommitSequenceCreationException if renaming the output file fails
+     */
+    private void renameOutputFile(int index, int sequenceNumber) throws CommitSequenceCreationException {
+        boolean outputFileRenamed;
+        if (index == 0) {
+            outputFileRenamed = initialSequence.renameOutputFile(sequenceNumber);
+        } else {
+            outputFileRenamed = initialSequence.renameOutputFile(initialSequenceNumber + index, sequenceNumber);
+        }
+        if (!outputFileRenamed) {
+            throw new CommitSequenceCreationException("Renaming the temporary output file of commit sequence "
+                    + (initialSequenceNumber + index) + " failed");
+        }
+    }
+    
+    /**
+     * Creates the {@link #initialSequence} and all of its sub-sequences via the {@link #executorService} and waits
+     * until all of them are created. The {@link #executorService} is shut down afterwards.
+     * 
+     * @throws CommitSequenceCreationException if waiting for the creation of the commit sequences is interrupted
+     */
+    private void executeAll() throws CommitSequenceCreationException {
+        pendingTasks = new AtomicInteger();
+        tasksCompleted = new CountDownLatch(1);
+        try {
+            submit(null);
+            tasksCompleted.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommitSequenceCreationException("Waiting for the creation of commit sequences interrupted", e);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    /**
+     * Submits a task to the {@link #executorService}, which creates the commit sequence defined by the given ids and
+     * submits the tasks for its sub-sequences afterwards. If no tasks are pending after the task completes, the
+     * {@link #tasksCompleted} latch is released.
+     * 
+     * @param subSequence the ids defining the sub-sequence to create or <code>null</code>, if the
+     *        {@link #initialSequence} should be created
+     */
+    private void submit(int[] subSequence) {
+        pendingTasks.incrementAndGet();
+        executorService.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    SubSequenceCollector subSequences = create(subSequence);
+                    for (int i = 0; i < subSequences.size; i++) {
+                        submit(subSequences.get(i));
+                    }
+                } finally {
+                    if (pendingTasks.decrementAndGet() == 0) {
+                        tasksCompleted.countDown();
+                    }
+                }
+            }
+        
+        });
+    }
+
+}
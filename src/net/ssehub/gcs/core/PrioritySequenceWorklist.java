@@ -0,0 +1,254 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.util.Arrays;
+
+/**
+ * This class realizes an {@link ISequenceWorklist}, which returns the {@link CommitSequence}s in the order of their
+ * estimated number of commits (shortest first). Sequences with equal estimates are returned in the order of their
+ * sequence numbers. Hence, short sequences are completed early, which keeps the output files available for their
+ * sub-sequences small.<br>
+ * <br>
+ * The estimated number of commits of a sequence is the number of commits prepended from its child commit sequence plus
+ * the number of commits on the first-parent path from its start commit to a root commit, which is exactly the number
+ * of commits the sequence will contain. The first-parent path lengths are computed once per commit and cached. The
+ * pending sub-sequences are stored as ids in a binary heap packed into a single <code>int</code> array; the actual
+ * {@link CommitSequence} is created, when it is removed from this worklist.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class PrioritySequenceWorklist implements ISequenceWorklist {
+    
+    /**
+     * The number of <code>int</code> values describing a single pending sub-sequence in the {@link #heap}. These
+     * values are the estimated number of commits, the sequence number of the sub-sequence, the sequence number of its
+     * child commit sequence, the id of its start commit, the id of its child commit, and its prefix length (in this
+     * order).
+     */
+    private static final int TASK_SIZE = 6;
+    
+    /**
+     * The initial number of pending sub-sequences this worklist can store before it has to grow.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+    
+    /**
+     * The {@link ICommitGraph} containing the start commits of all sequences of this worklist.
+     */
+    private ICommitGraph commitGraph;
+    
+    /**
+     * The number of commits on the first-parent path from a commit to a root commit (inclusive) per commit id. An entry
+     * of <i>0</i> denotes that the number is not computed yet.
+     */
+    private int[] firstParentPathLengths;
+    
+    /**
+     * The binary min-heap storing the ids of the pending sub-sequences of this worklist. Each sub-sequence occupies
+     * {@link #TASK_SIZE} consecutive values.
+     */
+    private int[] heap;
+    
+    /**
+     * The number of pending sub-sequences in the {@link #heap}.
+     */
+    private int size;
+    
+    /**
+     * The {@link CommitSequence} used for creating the actual sub-sequences via
+     * {@link CommitSequence#createSubSequence(int, int, int, int, int)}. As all sub-sequences of a worklist belong to
+     * the same run of sequence creations, this is the first child commit sequence added to this worklist.
+     */
+    private CommitSequence context;
+    
+    /**
+     * Constructs a new {@link PrioritySequenceWorklist} instance.
+     * 
+     * @param commitGraph the {@link ICommitGraph} containing the start commits of all sequences added to this
+     *        worklist; should never be <code>null</code>
+     */
+    public PrioritySequenceWorklist(ICommitGraph commitGraph) {
+        this.commitGraph = commitGraph;
+        firstParentPathLengths = new int[commitGraph.size()];
+        heap = new int[INITIAL_CAPACITY * TASK_SIZE];
+        size = 0;
+        context = null;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(CommitSequence childCommitSequence, int sequenceNumber, int startCommit, int childCommit,
+            int prefixLength) {
+        if (context == null) {
+            context = childCommitSequence;
+        }
+        if (size * TASK_SIZE == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        int index = size * TASK_SIZE;
+        heap[index] = prefixLength + getFirstParentPathLength(startCommit);
+        heap[index + 1] = sequenceNumber;
+        heap[index + 2] = childCommitSequence.getSequenceNumber();
+        heap[index + 3] = startCommit;
+        heap[index + 4] = childCommit;
+        heap[index + 5] = prefixLength;
+        size++;
+        // Sift the new sub-sequence up until its parent in the heap is not greater
+        int position = size - 1;
+        int parentPosition = (position - 1) / 2;
+        while (position > 0 && isLess(position, parentPosition)) {
+            swap(position, parentPosition);
+            position = parentPosition;
+            parentPosition = (position - 1) / 2;
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommitSequence remove() {
+        CommitSequence commitSequence = null;
+        if (size > 0) {
+            commitSequence = context.createSubSequence(heap[1], heap[2], heap[3], heap[4], heap[5]);
+            size--;
+            System.arraycopy(heap, size * TASK_SIZE, heap, 0, TASK_SIZE);
+            // Sift the moved sub-sequence down until none of its children in the heap is less
+            int position = 0;
+            int smallestPosition = getSmallestPosition(position);
+            while (smallestPosition != position) {
+                swap(position, smallestPosition);
+                position = smallestPosition;
+                smallestPosition = getSmallestPosition(position);
+            }
+        }
+        return commitSequence;
+    }
+    
+    /**
+     * Returns the position of the smallest sub-sequence among the sub-sequence at the given position in the
+     * {@link #heap} and its (up to two) children.
+     * 
+     * @param position the position of the sub-sequence in the {@link #heap} (in number of sub-sequences, not values)
+     * @return the position of the smallest sub-sequence; equal to the given position, if none of its children is less
+     */
+    private int getSmallestPosition(int position) {
+        int smallestPosition = position;
+        int childPosition = 2 * position + 1;
+        if (childPosition < size && isLess(childPosition, smallestPosition)) {
+            smallestPosition = childPosition;
+        }
+        childPosition++;
+        if (childPosition < size && isLess(childPosition, smallestPosition)) {
+            smallestPosition = childPosition;
+        }
+        return smallestPosition;
+    }
+    
+    /**
+     * Checks whether the sub-sequence at the first given position in the {@link #heap} has to be created before the
+     * sub-sequence at the second given position. This is the case, if its estimated number of commits is less or, if
+     * these numbers are equal, its sequence number is less.
+     * 
+     * @param position1 the position of the first sub-sequence in the {@link #heap} (in number of sub-sequences)
+     * @param position2 the position of the second sub-sequence in the {@link #heap} (in number of sub-sequences)
+     * @return <code>true</code>, if the first sub-sequence has to be created before the second one; <code>false</code>
+     *         otherwise
+     */
+    private boolean isLess(int position1, int position2) {
+        int index1 = position1 * TASK_SIZE;
+        int index2 = position2 * TASK_SIZE;
+        int comparison = Integer.compare(heap[index1], heap[index2]);
+        if (comparison == 0) {
+            comparison = Integer.compare(heap[index1 + 1], heap[index2 + 1]);
+        }
+        return comparison < 0;
+    }
+    
+    /**
+     * Swaps the sub-sequences at the given positions in the {@link #heap}.
+     * 
+     * @param position1 the position of the first sub-sequence in the {@link #heap} (in number of sub-sequences)
+     * @param position2 the position of the second sub-sequence in the {@link #heap} (in number of sub-sequences)
+     */
+    private void swap(int position1, int position2) {
+        int index1 = position1 * TASK_SIZE;
+        int index2 = position2 * TASK_SIZE;
+        int value;
+        for (int i = 0; i < TASK_SIZE; i++) {
+            value = heap[index1 + i];
+            heap[index1 + i] = heap[index2 + i];
+            heap[index2 + i] = value;
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Returns the number of commits on the first-parent path from the commit with the given id to a root commit
+     * (inclusive). If this number is not cached yet, this method follows the first parents until a root commit or a
+     * commit with a cached number is reached and caches the numbers of all commits on that path.
+     * 
+     * @param commitId the id of the commit for which the first-parent path length shall be returned
+     * @return the number of commits on the first-parent path from the commit with the given id to a root commit
+     */
+    private int getFirstParentPathLength(int commitId) {
+        if (firstParentPathLengths[commitId] == 0) {
+            int[] path = new int[16];
+            int pathLength = 0;
+            int currentCommit = commitId;
+            int knownLength = 0;
+            while (knownLength == 0) {
+                if (pathLength == path.length) {
+                    path = Arrays.copyOf(path, pathLength * 2);
+                }
+                path[pathLength] = currentCommit;
+                pathLength++;
+                if (commitGraph.getNumberOfParents(currentCommit) == 0) {
+                    knownLength = -1;
+                } else {
+                    currentCommit = commitGraph.getParent(currentCommit, 0);
+                    knownLength = firstParentPathLengths[currentCommit];
+                }
+            }
+            // A root commit was reached, if the known length is -1; hence, the last commit on the path has length 1
+            int length = Math.max(knownLength, 0);
+            for (int i = pathLength - 1; i >= 0; i--) {
+                length++;
+                firstParentPathLengths[path[i]] = length;
+            }
+        }
+        return firstParentPathLengths[commitId];
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+
+import net.ssehub.gcs.utilities.IOutputConsumer;
+import net.ssehub.gcs.utilities.ProcessUtilities;
+import net.ssehub.gcs.utilities.ProcessUtilities.ExecutionResult;
+
+/**
+ * This class realizes an {@link ICommitGraphLoader}, which loads the entire {@link CommitGraph} by executing a single
+ * <code>git rev-list --parents</code> command. The output of that command is parsed line by line while the process is
+ * running, which avoids buffering the entire output in memory.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class RevListGraphLoader implements ICommitGraphLoader {
+    
+    /**
+     * The constant part of the command for printing all commits reachable from a given commit along with their parent
+     * commit(s) to console. The commit (SHA), from which all commits shall be printed, must be appended. Each line of
+     * the output of this command contains a commit followed by its parent commit(s) separated by whitespaces.<br>
+     * <br>
+     * Command: <code>git rev-list --parents</code>
+     */
+    private static final String[] GIT_REV_LIST_PARENTS_COMMAND = {"git", "rev-list", "--parents"};
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ICommitGraph load(File repositoryDirectory, String startCommit) throws CommitGraphCreationException {
+        if (startCommit == null || startCommit.isBlank()) {
+            throw new CommitGraphCreationException("No start commit defined for loading the commit graph");
+        }
+        CommitGraphBuilder commitGraphBuilder = new CommitGraphBuilder();
+        ProcessUtilities processUtilities = ProcessUtilities.getInstance();
+        String[] revListCommand = processUtilities.extendCommand(GIT_REV_LIST_PARENTS_COMMAND, startCommit);
+        ExecutionResult revListCommandResult = processUtilities.executeCommand(revListCommand, repositoryDirectory,
+                new IOutputConsumer() {
+                
+                    @Override
+                    public void consume(String outputLine) {
+                        addCommit(commitGraphBuilder, outputLine);
+                    }
+                    
+                });
+        if (!revListCommandResult.executionSuccessful()) {
+            throw new CommitGraphCreationException("Loading the commit graph from \"" 
+                    + repositoryDirectory.getAbsolutePath() + "\" failed: " 
+                    + revListCommandResult.getErrorOutputData(), revListCommandResult.getExecutionException());
+        }
+        return commitGraphBuilder.build();
+    }
+    
+    /**
+     * Adds the commit and its parent commit(s) defined in the given output line of the
+     * {@link #GIT_REV_LIST_PARENTS_COMMAND} to the given {@link CommitGraphBuilder}.
+     * 
+     * @param commitGraphBuilder the {@link CommitGraphBuilder} to add the commit to; should never be <code>null</code>
+     * @param outputLine the {@link String} representing a single line of the output of the
+     *        {@link #GIT_REV_LIST_PARENTS_COMMAND}; should never be <code>null</code>
+     */
+    private void addCommit(CommitGraphBuilder commitGraphBuilder, String outputLine) {
+        String trimmedOutputLine = outputLine.trim();
+        if (!trimmedOutputLine.isEmpty()) {
+            commitGraphBuilder.add(trimmedOutputLine);
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isApplicable(File repositoryDirectory) {
+        return true;
+    }
+
+}
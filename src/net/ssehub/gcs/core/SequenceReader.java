@@ -0,0 +1,233 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * This class reads a commit sequence file in the binary format, which is written by the {@link CommitCache} and the
+ * {@link DepthFirstSequenceWriter}, if the {@link GitCommitSequencer} runs with the binary output format. Such a file
+ * starts with a header of {@link #HEADER_LENGTH} bytes:
+ * <ul>
+ * <li>the {@link #MAGIC_NUMBER} as a big-endian <code>int</code></li>
+ * <li>the {@link #FORMAT_VERSION} as a single byte</li>
+ * <li>the number of bytes of each object id as a single byte (<i>20</i> for SHA-1, <i>32</i> for SHA-256)</li>
+ * <li>two reserved bytes, which are always <i>0</i></li>
+ * </ul>
+ * The header is followed by the raw object ids of the commits of the sequence in the order from newest to oldest
+ * without any separators. Hence, the number of commits is defined by the size of the file and the commit at a
+ * particular index is located at a fixed position. This reader maps the file into memory and accesses individual
+ * commits at these positions without decoding the entire file.<br>
+ * <br>
+ * The {@link ContainerSequenceReader} provides instances of this class for the sequences in a container, which consist
+ * of the same raw object ids, but are located at arbitrary positions of a larger file.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class SequenceReader {
+    
+    /**
+     * The magic number at the beginning of each binary commit sequence file.
+     * <br><br>
+     * Value: <code>0x47435342</code> (the ASCII characters <code>GCSB</code>)
+     */
+    public static final int MAGIC_NUMBER = 0x47435342;
+    
+    /**
+     * The version of the binary commit sequence file format described by this class.
+     * <br><br>
+     * Value: <code>1</code>
+     */
+    public static final byte FORMAT_VERSION = 1;
+    
+    /**
+     * The number of bytes of the header of each binary commit sequence file, which precedes the first commit. This
+     * length keeps the object ids aligned to multiples of <i>4</i> bytes.
+     * <br><br>
+     * Value: <code>8</code>
+     */
+    public static final int HEADER_LENGTH = 8;
+    
+    /**
+     * The characters used to convert object ids into their hexadecimal representation.
+     */
+    private static final char[] HEX_CHARACTERS = "0123456789abcdef".toCharArray();
+    
+    /**
+     * The {@link String} describing the origin of the sequence read by this instance, e.g., the absolute path of the
+     * binary commit sequence file, for error messages.
+     */
+    private String sequenceName;
+    
+    /**
+     * The {@link ByteBuffer} mapping the content of the file containing the sequence into memory.
+     */
+    private ByteBuffer content;
+    
+    /**
+     * The position of the object id of the first commit of the sequence in the {@link #content}.
+     */
+    private int firstCommitPosition;
+    
+    /**
+     * The number of bytes of each object id of the sequence.
+     */
+    private int objectIdLength;
+    
+    /**
+     * The number of commits of the sequence.
+     */
+    private int numberOfCommits;
+    
+    /**
+     * Constructs a new {@link SequenceReader} instance by mapping the given binary commit sequence file into memory.
+     * 
+     * @param sequenceFile the {@link File} denoting the binary commit sequence file to read; should never be
+     *        <code>null</code>
+     * @throws IOException if mapping the given file fails or the file is not a valid binary commit sequence file
+     */
+    public SequenceReader(File sequenceFile) throws IOException {
+        sequenceName = "\"" + sequenceFile.getAbsolutePath() + "\"";
+        try (RandomAccessFile sequenceFileStream = new RandomAccessFile(sequenceFile, "r")) {
+            long sequenceFileLength = sequenceFileStream.length();
+            if (sequenceFileLength < HEADER_LENGTH || sequenceFileLength > Integer.MAX_VALUE) {
+                throw new IOException("Unsupported size of commit sequence file \"" + sequenceFile.getAbsolutePath()
+                        + "\"");
+            }
+            content = sequenceFileStream.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, sequenceFileLength);
+        }
+        objectIdLength = content.get(5);
+        boolean objectIdLengthSupported = objectIdLength == ObjectIdIndex.SHA1_LENGTH
+                || objectIdLength == ObjectIdIndex.SHA256_LENGTH;
+        if (content.getInt(0) != MAGIC_NUMBER || content.get(4) != FORMAT_VERSION || !objectIdLengthSupported
+                || (content.capacity() - HEADER_LENGTH) % objectIdLength != 0) {
+            throw new IOException("Unsupported commit sequence file \"" + sequenceFile.getAbsolutePath() + "\"");
+        }
+        firstCommitPosition = HEADER_LENGTH;
+        numberOfCommits = (content.capacity() - HEADER_LENGTH) / objectIdLength;
+    }
+    
+    /**
+     * Constructs a new {@link SequenceReader} instance for a sequence, which is located in the given (mapped) content.
+     * The caller is responsible for the validity of the given position and number of commits.
+     * 
+     * @param content the {@link ByteBuffer} containing the raw object ids of the sequence; should never be
+     *        <code>null</code>
+     * @param firstCommitPosition the position of the object id of the first commit of the sequence in the given content
+     * @param objectIdLength the number of bytes of each object id; either <i>20</i> or <i>32</i>
+     * @param numberOfCommits the number of commits of the sequence
+     * @param sequenceName the {@link String} describing the origin of the sequence for error messages
+     */
+    SequenceReader(ByteBuffer content, int firstCommitPosition, int objectIdLength, int numberOfCommits,
+            String sequenceName) {
+        this.content = content;
+        this.firstCommitPosition = firstCommitPosition;
+        this.objectIdLength = objectIdLength;
+        this.numberOfCommits = numberOfCommits;
+        this.sequenceName = sequenceName;
+    }
+    
+    /**
+     * Creates the header of a binary commit sequence file as described by this class.
+     * 
+     * @param objectIdLength the number of bytes of each object id in the file; either <i>20</i> or <i>32</i>
+     * @return the {@link ByteBuffer} containing the header, which is ready to be written; never <code>null</code>
+     */
+    static ByteBuffer createHeader(int objectIdLength) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        header.putInt(MAGIC_NUMBER);
+        header.put(FORMAT_VERSION);
+        header.put((byte) objectIdLength);
+        // Reserved bytes
+        header.putShort((short) 0);
+        header.flip();
+        return header;
+    }
+    
+    /**
+     * Returns the number of commits of the sequence.
+     * 
+     * @return the number of commits of the sequence; equal to or greater than <i>0</i>
+     */
+    public int length() {
+        return numberOfCommits;
+    }
+    
+    /**
+     * Returns the number of bytes of each object id of the sequence.
+     * 
+     * @return either <i>20</i> for SHA-1 or <i>32</i> for SHA-256 object ids
+     */
+    public int getObjectIdLength() {
+        return objectIdLength;
+    }
+    
+    /**
+     * Returns the commit (SHA) at the given index of the sequence in its hexadecimal representation.
+     * 
+     * @param index the zero-based index of the commit in the sequence, where <i>0</i> denotes the newest commit; must
+     *        be in the range from <i>0</i> (inclusive) to {@link #length()} (exclusive)
+     * @return the {@link String} representing the commit (SHA) at the given index
+     * @throws IndexOutOfBoundsException if the given index is not in the range of the sequence
+     */
+    public String commitAt(int index) throws IndexOutOfBoundsException {
+        int objectIdPosition = getPosition(index);
+        char[] hexCharacters = new char[objectIdLength * 2];
+        for (int i = 0; i < objectIdLength; i++) {
+            int objectIdByte = content.get(objectIdPosition + i);
+            hexCharacters[2 * i] = HEX_CHARACTERS[(objectIdByte >> 4) & 0x0f];
+            hexCharacters[2 * i + 1] = HEX_CHARACTERS[objectIdByte & 0x0f];
+        }
+        return new String(hexCharacters);
+    }
+    
+    /**
+     * Copies the raw object id of the commit at the given index of the sequence to the given array.
+     * 
+     * @param index the zero-based index of the commit in the sequence, where <i>0</i> denotes the newest commit; must
+     *        be in the range from <i>0</i> (inclusive) to {@link #length()} (exclusive)
+     * @param destination the array to copy the object id to; should never be <code>null</code> and must provide
+     *        {@link #getObjectIdLength()} bytes starting at the given offset
+     * @param offset the index in the given array at which the first byte of the object id shall be copied
+     * @throws IndexOutOfBoundsException if the given index is not in the range of the sequence
+     */
+    public void copyObjectIdAt(int index, byte[] destination, int offset) throws IndexOutOfBoundsException {
+        int objectIdPosition = getPosition(index);
+        for (int i = 0; i < objectIdLength; i++) {
+            destination[offset + i] = content.get(objectIdPosition + i);
+        }
+    }
+    
+    /**
+     * Returns the position of the object id of the commit at the given index in the {@link #content}.
+     * 
+     * @param index the zero-based index of the commit in the sequence
+     * @return the position of the first byte of the object id
+     * @throws IndexOutOfBoundsException if the given index is not in the range of the sequence
+     */
+    private int getPosition(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= numberOfCommits) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + numberOfCommits
+                    + " commits in " + sequenceName);
+        }
+        return firstCommitPosition + index * objectIdLength;
+    }
+
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * This class computes the statistics of all commit sequences starting at a particular commit of an
+ * {@link ICommitGraph} without creating these sequences. Each commit sequence corresponds to exactly one path from the
+ * start commit to a root commit (a commit without parents). Hence, the number of sequences and their lengths are
+ * computed by a single pass over the commits reachable from the start commit in topological order (parents before
+ * children), in which the values of each commit are derived from the values of its parents:
+ * <ul>
+ * <li>The number of sequences of a root commit is <i>1</i>; for all other commits, it is the sum of the numbers of
+ *     sequences of their parents</li>
+ * <li>The length histogram of a root commit contains a single sequence of length <i>1</i>; for all other commits, it
+ *     is the sum of the histograms of their parents shifted by <i>1</i></li>
+ * </ul>
+ * The number of sequences grows exponentially with the number of merges in the worst case. Therefore, all counts are
+ * {@link BigInteger}s. The histograms only cover the range between the minimum and the maximum sequence length of a
+ * commit and are reused along linear histories, such that the effort for linear histories is constant per commit.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class SequenceStatistics {
+    
+    /**
+     * The {@link ICommitGraph} for which the statistics are computed.
+     */
+    private ICommitGraph commitGraph;
+    
+    /**
+     * The number of sequences per commit id. The entry of a commit is released (set to <code>null</code>) as soon as
+     * all of its children in the {@link #commitGraph} are processed.
+     */
+    private BigInteger[] sequenceCounts;
+    
+    /**
+     * The sum of the lengths of all sequences per commit id. The entry of a commit is released (set to
+     * <code>null</code>) as soon as all of its children in the {@link #commitGraph} are processed.
+     */
+    private BigInteger[] lengthSums;
+    
+    /**
+     * The minimum sequence length per commit id.
+     */
+    private int[] minimumLengths;
+    
+    /**
+     * The maximum sequence length per commit id.
+     */
+    private int[] maximumLengths;
+    
+    /**
+     * The length histogram per commit id. The histogram of a commit contains at index <i>i</i> the number of sequences
+     * of length <code>minimumLengths[commitId] + i</code>. The entry of a commit is released (set to
+     * <code>null</code>) as soon as all of its children in the {@link #commitGraph} are processed.
+     */
+    private BigInteger[][] histograms;
+    
+    /**
+     * The number of children per commit id, which are not processed yet. This number decreases while processing the
+     * commits in topological order and, if it reaches <i>0</i>, the values of the respective commit are released.
+     */
+    private int[] remainingChildren;
+    
+    /**
+     * The total number of sequences starting at the start commit.
+     */
+    private BigInteger numberOfSequences;
+    
+    /**
+     * The sum of the lengths of all sequences starting at the start commit.
+     */
+    private BigInteger totalLength;
+    
+    /**
+     * The length of the shortest sequence starting at the start commit.
+     */
+    private int minimumLength;
+    
+    /**
+     * The length of the longest sequence starting at the start commit.
+     */
+    private int maximumLength;
+    
+    /**
+     * The length histogram of all sequences starting at the start commit. This histogram contains at index <i>i</i>
+     * the number of sequences of length <code>{@link #minimumLength} + i</code>.
+     */
+    private BigInteger[] lengthHistogram;
+    
+    /**
+     * Constructs a new {@link SequenceStatistics} instance, which computes the statistics of all commit sequences
+     * starting at the commit with the given id.
+     * 
+     * @param commitGraph the {@link ICommitGraph} containing the start commit and all commits reachable from it;
+     *        should never be <code>null</code>
+     * @param startCommitId the id of the start commit in the given commit graph; must not be
+     *        {@link ICommitGraph#UNKNOWN_COMMIT}
+     */
+    public SequenceStatistics(ICommitGraph commitGraph, int startCommitId) {
+        this.commitGraph = commitGraph;
+        int numberOfCommits = commitGraph.size();
+        sequenceCounts = new BigInteger[numberOfCommits];
+        lengthSums = new BigInteger[numberOfCommits];
+        minimumLengths = new int[numberOfCommits];
+        maximumLengths = new int[numberOfCommits];
+        histograms = new BigInteger[numberOfCommits][];
+        remainingChildren = new int[numberOfCommits];
+        int[] topologicalOrder = sortTopologically(commitGraph, startCommitId, remainingChildren);
+        for (int commitId : topologicalOrder) {
+            compute(commitId);
+        }
+        numberOfSequences = sequenceCounts[startCommitId];
+        totalLength = lengthSums[startCommitId];
+        minimumLength = minimumLengths[startCommitId];
+        maximumLength = maximumLengths[startCommitId];
+        lengthHistogram = histograms[startCommitId];
+        // Release all intermediate values
+        sequenceCounts = null;
+        lengthSums = null;
+        minimumLengths = null;
+        maximumLengths = null;
+        histograms = null;
+        remainingChildren = null;
+    }
+    
+    /**
+     * Sorts the commits of the given {@link ICommitGraph} reachable from the commit with the given id topologically,
+     * such that each commit occurs after all of its parents. Further, this method counts the number of children of
+     * each reachable commit and saves them in the given array. The sorting is realized as an iterative depth-first
+     * search to avoid stack overflows for long histories.
+     * 
+     * @param commitGraph the {@link ICommitGraph} containing the commits to sort; should never be <code>null</code>
+     * @param startCommitId the id of the commit to start the search at
+     * @param numberOfChildren the array of size {@link ICommitGraph#size()} initialized with <i>0</i>s, in which the
+     *        number of (reachable) children per commit id is counted; should never be <code>null</code>
+     * @return the ids of all commits reachable from the commit with the given id in topological order; never
+     *         <code>null</code>
+     */
+    static int[] sortTopologically(ICommitGraph commitGraph, int startCommitId, int[] numberOfChildren) {
+        int numberOfCommits = commitGraph.size();
+        int[] topologicalOrder = new int[numberOfCommits];
+        int sortedCommits = 0;
+        boolean[] visited = new boolean[numberOfCommits];
+        int[] stackCommits = new int[numberOfCommits];
+        int[] stackParentIndices = new int[numberOfCommits];
+        int stackSize = 1;
+        stackCommits[0] = startCommitId;
+        visited[startCommitId] = true;
+        while (stackSize > 0) {
+            int commitId = stackCommits[stackSize - 1];
+            int parentIndex = stackParentIndices[stackSize - 1];
+            if (parentIndex < commitGraph.getNumberOfParents(commitId)) {
+                stackParentIndices[stackSize - 1]++;
+                int parentId = commitGraph.getParent(commitId, parentIndex);
+                numberOfChildren[parentId]++;
+                if (!visited[parentId]) {
+                    visited[parentId] = true;
+                    stackCommits[stackSize] = parentId;
+                    stackParentIndices[stackSize] = 0;
+                    stackSize++;
+                }
+            } else {
+                topologicalOrder[sortedCommits] = commitId;
+                sortedCommits++;
+                stackSize--;
+            }
+        }
+        int[] reachableCommits = new int[sortedCommits];
+        System.arraycopy(topologicalOrder, 0, reachableCommits, 0, sortedCommits);
+        return reachableCommits;
+    }
+    
+    /**
+     * Computes the number of sequences, the sum of their lengths, the minimum and maximum length, and the length
+     * histogram of the commit with the given id based on the values of its parents. All parents must have been
+     * computed before. The values of parents without further unprocessed children are released afterwards.
+     * 
+     * @param commitId the id of the commit for which the values shall be computed
+     */
+    private void compute(int commitId) {
+        int numberOfParents = commitGraph.getNumberOfParents(commitId);
+        if (numberOfParents == 0) {
+            sequenceCounts[commitId] = BigInteger.ONE;
+            lengthSums[commitId] = BigInteger.ONE;
+            minimumLengths[commitId] = 1;
+            maximumLengths[commitId] = 1;
+            histograms[commitId] = new BigInteger[] {BigInteger.ONE};
+        } else {
+            BigInteger sequenceCount = BigInteger.ZERO;
+            BigInteger lengthSum = BigInteger.ZERO;
+            int minimumParentLength = Integer.MAX_VALUE;
+            int maximumParentLength = 0;
+            for (int i = 0; i < numberOfParents; i++) {
+                int parentId = commitGraph.getParent(commitId, i);
+                sequenceCount = sequenceCount.add(sequenceCounts[parentId]);
+                lengthSum = lengthSum.add(lengthSums[parentId]);
+                minimumParentLength = Math.min(minimumParentLength, minimumLengths[parentId]);
+                maximumParentLength = Math.max(maximumParentLength, maximumLengths[parentId]);
+            }
+            // Each sequence of a parent is extended by the current commit
+            sequenceCounts[commitId] = sequenceCount;
+            lengthSums[commitId] = lengthSum.add(sequenceCount);
+            minimumLengths[commitId] = minimumParentLength + 1;
+            maximumLengths[commitId] = maximumParentLength + 1;
+            histograms[commitId] = computeHistogram(commitId, numberOfParents);
+            for (int i = 0; i < numberOfParents; i++) {
+                release(commitGraph.getParent(commitId, i));
+            }
+        }
+    }
+    
+    /**
+     * Computes the length histogram of the commit with the given id as the sum of the histograms of its parents. If
+     * the commit has a single parent, which has no other children, the histogram of that parent is reused as the
+     * shift by <i>1</i> is already covered by the minimum length of the commit.
+     * 
+     * @param commitId the id of the commit for which the histogram shall be computed; its minimum and maximum length
+     *        must be computed already
+     * @param numberOfParents the number of parents of the commit with the given id
+     * @return the length histogram of the commit with the given id; never <code>null</code>
+     */
+    private BigInteger[] computeHistogram(int commitId, int numberOfParents) {
+        BigInteger[] histogram;
+        int firstParentId = commitGraph.getParent(commitId, 0);
+        if (numberOfParents == 1 && remainingChildren[firstParentId] == 1) {
+            histogram = histograms[firstParentId];
+        } else {
+            histogram = new BigInteger[maximumLengths[commitId] - minimumLengths[commitId] + 1];
+            Arrays.fill(histogram, BigInteger.ZERO);
+            for (int i = 0; i < numberOfParents; i++) {
+                int parentId = commitGraph.getParent(commitId, i);
+                BigInteger[] parentHistogram = histograms[parentId];
+                int offset = minimumLengths[parentId] + 1 - minimumLengths[commitId];
+                for (int j = 0; j < parentHistogram.length; j++) {
+                    histogram[offset + j] = histogram[offset + j].add(parentHistogram[j]);
+                }
+            }
+        }
+        return histogram;
+    }
+    
+    /**
+     * Decreases the number of remaining children of the commit with the given id and releases its values, if all of
+     * its children are processed.
+     * 
+     * @param commitId the id of the commit, of which a child is processed
+     */
+    private void release(int commitId) {
+        remainingChildren[commitId]--;
+        if (remainingChildren[commitId] == 0) {
+            sequenceCounts[commitId] = null;
+            lengthSums[commitId] = null;
+            histograms[commitId] = null;
+        }
+    }
+    
+    /**
+     * Returns the total number of sequences starting at the start commit.
+     * 
+     * @return the total number of sequences starting at the start commit; never <code>null</code>
+     */
+    public BigInteger getNumberOfSequences() {
+        return numberOfSequences;
+    }
+    
+    /**
+     * Returns the number of sequences starting at the start commit with the given length.
+     * 
+     * @param length the number of commits of the sequences to count
+     * @return the number of sequences starting at the start commit with the given length; never <code>null</code>
+     */
+    public BigInteger getNumberOfSequences(int length) {
+        BigInteger sequences = BigInteger.ZERO;
+        if (length >= minimumLength && length <= maximumLength) {
+            sequences = lengthHistogram[length - minimumLength];
+        }
+        return sequences;
+    }
+    
+    /**
+     * Returns the sum of the lengths of all sequences starting at the start commit, which is the total number of lines
+     * of all commit sequence files.
+     * 
+     * @return the sum of the lengths of all sequences starting at the start commit; never <code>null</code>
+     */
+    public BigInteger getTotalLength() {
+        return totalLength;
+    }
+    
+    /**
+     * Returns the average length of all sequences starting at the start commit rounded to two decimal places.
+     * 
+     * @return the average length of all sequences starting at the start commit; never <code>null</code>
+     */
+    public BigDecimal getAverageLength() {
+        return new BigDecimal(totalLength).divide(new BigDecimal(numberOfSequences), 2, RoundingMode.HALF_UP);
+    }
+    
+    /**
+     * Returns the length of the shortest sequence starting at the start commit.
+     * 
+     * @return the length of the shortest sequence starting at the start commit
+     */
+    public int getMinimumLength() {
+        return minimumLength;
+    }
+    
+    /**
+     * Returns the length of the longest sequence starting at the start commit.
+     * 
+     * @return the length of the longest sequence starting at the start commit
+     */
+    public int getMaximumLength() {
+        return maximumLength;
+    }
+
+}
@@ -0,0 +1,469 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+import net.ssehub.gcs.utilities.Logger;
+import net.ssehub.gcs.utilities.Logger.MessageType;
+
+/**
+ * This class realizes a queue of pending commit sub-sequences, which returns them either in the order of their
+ * addition (first in, first out) or in the reverse order (last in, first out). Instead of complete
+ * {@link CommitSequence}s, this queue stores the ids defining each sub-sequence packed into a single <code>int</code>
+ * array used as a ring buffer. Hence, a pending sub-sequence requires 20 bytes only. The actual
+ * {@link CommitSequence} is created, when it is removed from this queue.<br>
+ * <br>
+ * If this queue is constructed with a memory budget, the ring buffer does not grow beyond that budget. Instead, further
+ * sub-sequences are spilled as fixed-width records to a temporary file and streamed back in chunks, when the ring
+ * buffer runs empty. For first in, first out, the file holds the tail of the queue and new sub-sequences are appended
+ * to it; for last in, first out, the file holds the bottom of the stack and the oldest half of the ring buffer is
+ * appended to it, when the ring buffer is full. In both cases, the file is only appended to and read from its ends,
+ * such that the heap required by this queue remains constant independent of the number of pending sub-sequences.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+class SequenceTaskQueue {
+    
+    /**
+     * The identifier of this class, e.g., for printing messages.
+     */
+    private static final String ID = "SequenceTaskQueue";
+    
+    /**
+     * The number of <code>int</code> values describing a single pending sub-sequence in the {@link #tasks}. These
+     * values are the sequence number of the sub-sequence, the sequence number of its child commit sequence, the id of
+     * its start commit, the id of its child commit, and its prefix length (in this order).
+     */
+    private static final int TASK_SIZE = 5;
+    
+    /**
+     * The number of bytes of a single pending sub-sequence in the {@link #spillFile}.
+     */
+    private static final int TASK_BYTES = TASK_SIZE * Integer.BYTES;
+    
+    /**
+     * The initial number of pending sub-sequences this queue can store before it has to grow.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+    
+    /**
+     * The {@link String} defining the prefix of the name of the {@link #spillFile}.
+     * <br><br>
+     * Value: <code>GitCommitSequencer_Worklist_</code>
+     */
+    private static final String SPILL_FILE_NAME_PREFIX = "GitCommitSequencer_Worklist_";
+    
+    /**
+     * The {@link String} defining the postfix of the name of the {@link #spillFile}.
+     * <br><br>
+     * Value: <code>.tmp</code>
+     */
+    private static final String SPILL_FILE_NAME_POSTFIX = ".tmp";
+    
+    /**
+     * The {@link Logger} for pretty-printing messages to the console.
+     */
+    private Logger logger = Logger.getInstance();
+    
+    /**
+     * The definition of whether this queue returns the last added sub-sequence first (<code>true</code>) or the first
+     * added sub-sequence first (<code>false</code>).
+     */
+    private boolean lastInFirstOut;
+    
+    /**
+     * The maximum number of pending sub-sequences in the {@link #tasks}. Further sub-sequences are spilled to the
+     * {@link #spillFile}.
+     */
+    private int maximumCapacity;
+    
+    /**
+     * The {@link File} denoting the directory in which the {@link #spillFile} is created.
+     */
+    private File spillDirectory;
+    
+    /**
+     * The ring buffer storing the ids of the pending sub-sequences of this queue held in memory. Each sub-sequence
+     * occupies {@link #TASK_SIZE} consecutive values.
+     */
+    private int[] tasks;
+    
+    /**
+     * The index of the first pending sub-sequence in the {@link #tasks} (in number of sub-sequences, not values).
+     */
+    private int head;
+    
+    /**
+     * The number of pending sub-sequences in the {@link #tasks}.
+     */
+    private int size;
+    
+    /**
+     * The {@link CommitSequence} used for creating the actual sub-sequences via
+     * {@link CommitSequence#createSubSequence(int, int, int, int, int)}. As all sub-sequences of a queue belong to the
+     * same run of sequence creations, this is the first child commit sequence added to this queue.
+     */
+    private CommitSequence context;
+    
+    /**
+     * The {@link File} denoting the temporary file to which pending sub-sequences are spilled. May be
+     * <code>null</code>, if no sub-sequences are spilled currently.
+     */
+    private File spillFile;
+    
+    /**
+     * The {@link FileChannel} for reading and writing the {@link #spillFile}. May be <code>null</code>, if no
+     * sub-sequences are spilled currently.
+     */
+    private FileChannel spillChannel;
+    
+    /**
+     * The {@link ByteBuffer} for transferring chunks of pending sub-sequences between the {@link #tasks} and the
+     * {@link #spillFile}. For first in, first out, this buffer also collects the appended sub-sequences before they
+     * are written to the {@link #spillFile}.
+     */
+    private ByteBuffer spillBuffer;
+    
+    /**
+     * The position of the first pending sub-sequence in the {@link #spillFile}.
+     */
+    private long spillStart;
+    
+    /**
+     * The position after the last pending sub-sequence in the {@link #spillFile}.
+     */
+    private long spillEnd;
+    
+    /**
+     * The number of pending sub-sequences in the {@link #spillFile} including those in the {@link #spillBuffer}, which
+     * are not written yet.
+     */
+    private int spilledSize;
+    
+    /**
+     * Constructs a new, empty {@link SequenceTaskQueue} instance, which holds all pending sub-sequences in memory.
+     * 
+     * @param lastInFirstOut <code>true</code>, if this queue shall return the last added sub-sequence first;
+     *        <code>false</code>, if it shall return the first added sub-sequence first
+     */
+    SequenceTaskQueue(boolean lastInFirstOut) {
+        this(lastInFirstOut, 0, null);
+    }
+    
+    /**
+     * Constructs a new, empty {@link SequenceTaskQueue} instance, which spills pending sub-sequences to a temporary
+     * file in the given directory, if holding them in memory exceeds the given budget.
+     * 
+     * @param lastInFirstOut <code>true</code>, if this queue shall return the last added sub-sequence first;
+     *        <code>false</code>, if it shall return the first added sub-sequence first
+     * @param memoryBudget the maximum number of bytes of heap this queue shall use for pending sub-sequences; values
+     *        less than <i>1</i> disable spilling
+     * @param spillDirectory the {@link File} denoting the existing directory to create the temporary file in; should
+     *        not be <code>null</code>, if spilling is enabled
+     */
+    SequenceTaskQueue(boolean lastInFirstOut, long memoryBudget, File spillDirectory) {
+        this.lastInFirstOut = lastInFirstOut;
+        this.spillDirectory = spillDirectory;
+        long maximumArrayCapacity = (Integer.MAX_VALUE - 8) / TASK_SIZE;
+        if (memoryBudget > 0) {
+            // The ring buffer takes two thirds of the budget and the spill buffer up to half the ring buffer
+            maximumCapacity = (int) Math.max(INITIAL_CAPACITY,
+                    Math.min(maximumArrayCapacity, (memoryBudget * 2) / (3 * TASK_BYTES)));
+        } else {
+            maximumCapacity = (int) maximumArrayCapacity;
+        }
+        tasks = new int[Math.min(INITIAL_CAPACITY, maximumCapacity) * TASK_SIZE];
+        head = 0;
+        size = 0;
+        context = null;
+        spillFile = null;
+        spillChannel = null;
+        spillBuffer = null;
+        spillStart = 0;
+        spillEnd = 0;
+        spilledSize = 0;
+    }
+    
+    /**
+     * Adds the commit sub-sequence defined by the given ids to the end of this queue.
+     * 
+     * @param childCommitSequence the {@link CommitSequence}, which detected the sub-sequence; never <code>null</code>
+     * @param sequenceNumber the sequence number reserved for the sub-sequence
+     * @param startCommit the id of the commit in the commit graph starting the sub-sequence
+     * @param childCommit the id of the last commit in the child commit sequence to prepend to the sub-sequence
+     * @param prefixLength the number of commits of the child commit sequence to prepend to the sub-sequence
+     * @see ISequenceStorage#add(CommitSequence, int, int, int, int)
+     */
+    void add(CommitSequence childCommitSequence, int sequenceNumber, int startCommit, int childCommit,
+            int prefixLength) {
+        if (context == null) {
+            context = childCommitSequence;
+        }
+        add(sequenceNumber, childCommitSequence.getSequenceNumber(), startCommit, childCommit, prefixLength);
+    }
+    
+    /**
+     * Adds the commit sub-sequence defined by the given ids to the end of this queue. In contrast to
+     * {@link #add(CommitSequence, int, int, int, int)}, this method does not require a {@link CommitSequence}; hence,
+     * the added sub-sequences can only be removed via {@link #poll(int[])}, unless a sub-sequence is added via the
+     * former method as well.
+     * 
+     * @param sequenceNumber the sequence number reserved for the sub-sequence
+     * @param childSequenceNumber the sequence number of the child commit sequence of the sub-sequence
+     * @param startCommit the id of the commit in the commit graph starting the sub-sequence
+     * @param childCommit the id of the last commit in the child commit sequence to prepend to the sub-sequence
+     * @param prefixLength the number of commits of the child commit sequence to prepend to the sub-sequence
+     */
+    void add(int sequenceNumber, int childSequenceNumber, int startCommit, int childCommit, int prefixLength) {
+        if (!lastInFirstOut && (spilledSize > 0 || size == maximumCapacity)) {
+            // The new sub-sequence belongs behind all spilled ones
+            if (spillBuffer == null || !spillBuffer.hasRemaining()) {
+                flushSpillBuffer();
+            }
+            spillBuffer.putInt(sequenceNumber).putInt(childSequenceNumber).putInt(startCommit).putInt(childCommit)
+                    .putInt(prefixLength);
+            spilledSize++;
+        } else {
+            if (size == maximumCapacity) {
+                // Only for last in, first out: the oldest sub-sequences are returned last, hence spill them first
+                spillOldestTasks();
+            } else if (size * TASK_SIZE == tasks.length) {
+                grow();
+            }
+            int index = ((head + size) % (tasks.length / TASK_SIZE)) * TASK_SIZE;
+            tasks[index] = sequenceNumber;
+            tasks[index + 1] = childSequenceNumber;
+            tasks[index + 2] = startCommit;
+            tasks[index + 3] = childCommit;
+            tasks[index + 4] = prefixLength;
+            size++;
+        }
+    }
+    
+    /**
+     * Doubles the capacity of the {@link #tasks} up to the {@link #maximumCapacity} while moving the pending
+     * sub-sequences to the beginning of the new buffer in their current order.
+     */
+    private void grow() {
+        int newLength = (int) Math.min((long) maximumCapacity * TASK_SIZE, (long) tasks.length * 2);
+        int headIndex = head * TASK_SIZE;
+        int[] newTasks = Arrays.copyOfRange(tasks, headIndex, headIndex + newLength);
+        System.arraycopy(tasks, 0, newTasks, tasks.length - headIndex, headIndex);
+        tasks = newTasks;
+        head = 0;
+    }
+    
+    /**
+     * Removes the next pending sub-sequence from this queue and creates the corresponding {@link CommitSequence}. If
+     * there are no pending sub-sequences in memory, this method first reads the next chunk of spilled sub-sequences.
+     * 
+     * @return the {@link CommitSequence} of the next pending sub-sequence or <code>null</code>, if this queue is empty
+     */
+    CommitSequence poll() {
+        CommitSequence commitSequence = null;
+        int index = remove();
+        if (index >= 0) {
+            commitSequence = context.createSubSequence(tasks[index], tasks[index + 1], tasks[index + 2],
+                    tasks[index + 3], tasks[index + 4]);
+        }
+        return commitSequence;
+    }
+    
+    /**
+     * Removes the next pending sub-sequence from this queue and copies its ids into the given array in the order of
+     * {@link #add(int, int, int, int, int)}. In contrast to {@link #poll()}, this method does not create the
+     * corresponding {@link CommitSequence}.
+     * 
+     * @param ids the array of at least five elements to copy the ids of the next pending sub-sequence into; should
+     *        never be <code>null</code>
+     * @return <code>true</code>, if a pending sub-sequence was removed; <code>false</code>, if this queue is empty
+     */
+    boolean poll(int[] ids) {
+        int index = remove();
+        if (index >= 0) {
+            System.arraycopy(tasks, index, ids, 0, TASK_SIZE);
+        }
+        return index >= 0;
+    }
+    
+    /**
+     * Removes the next pending sub-sequence from the {@link #tasks}. If there are no pending sub-sequences in memory,
+     * this method first reads the next chunk of spilled sub-sequences. The values of the removed sub-sequence remain
+     * in the {@link #tasks} until the next sub-sequence is added.
+     * 
+     * @return the index of the first value of the removed sub-sequence in the {@link #tasks} or <i>-1</i>, if this
+     *         queue is empty
+     */
+    private int remove() {
+        int index = -1;
+        if (size == 0 && spilledSize > 0) {
+            readSpilledTasks();
+        }
+        if (size > 0) {
+            size--;
+            if (lastInFirstOut) {
+                index = ((head + size) % (tasks.length / TASK_SIZE)) * TASK_SIZE;
+            } else {
+                index = head * TASK_SIZE;
+                head = (head + 1) % (tasks.length / TASK_SIZE);
+            }
+        }
+        return index;
+    }
+    
+    /**
+     * Moves the oldest half of the pending sub-sequences in the full {@link #tasks} to the end of the
+     * {@link #spillFile}.
+     */
+    private void spillOldestTasks() {
+        int numberOfTasks = Math.max(1, size / 2);
+        flushSpillBuffer();
+        int capacity = tasks.length / TASK_SIZE;
+        int index;
+        for (int i = 0; i < numberOfTasks; i++) {
+            index = ((head + i) % capacity) * TASK_SIZE;
+            spillBuffer.putInt(tasks[index]).putInt(tasks[index + 1]).putInt(tasks[index + 2])
+                    .putInt(tasks[index + 3]).putInt(tasks[index + 4]);
+        }
+        spilledSize += numberOfTasks;
+        flushSpillBuffer();
+        head = (head + numberOfTasks) % capacity;
+        size -= numberOfTasks;
+    }
+    
+    /**
+     * Writes the content of the {@link #spillBuffer} to the end of the {@link #spillFile} and clears that buffer. If
+     * no spill file exists yet, this method creates it as well as the spill buffer.
+     */
+    private void flushSpillBuffer() {
+        if (spillBuffer == null) {
+            spillBuffer = ByteBuffer.allocate(Math.max(1, maximumCapacity / 2) * TASK_BYTES);
+        }
+        spillBuffer.flip();
+        try {
+            if (spillChannel == null) {
+                spillFile = File.createTempFile(SPILL_FILE_NAME_PREFIX, SPILL_FILE_NAME_POSTFIX, spillDirectory);
+                spillFile.deleteOnExit();
+                spillChannel = new RandomAccessFile(spillFile, "rw").getChannel();
+                logger.log(ID, "Spilling pending sub-sequences", "Spill file: \"" + spillFile.getAbsolutePath() + "\"",
+                        MessageType.DEBUG);
+            }
+            long position = spillEnd;
+            while (spillBuffer.hasRemaining()) {
+                position += spillChannel.write(spillBuffer, position);
+            }
+            spillEnd = position;
+        } catch (IOException e) {
+            // The pending sub-sequences in the buffer cannot be recovered; report them and go on with the others
+            int lostTasks = spillBuffer.limit() / TASK_BYTES;
+            logger.logException(ID, "Spilling " + lostTasks + " pending sub-sequences failed", e);
+            spilledSize -= lostTasks;
+        }
+        spillBuffer.clear();
+    }
+    
+    /**
+     * Reads the next chunk of spilled sub-sequences from the {@link #spillFile} into the empty {@link #tasks}. For
+     * first in, first out, this chunk is read from the start of the pending sub-sequences in the spill file; for last
+     * in, first out, it is read from their end. If the spill file does not contain any pending sub-sequences
+     * afterwards, it is deleted.
+     */
+    private void readSpilledTasks() {
+        if (spillBuffer.position() > 0) {
+            flushSpillBuffer();
+        }
+        int numberOfTasks = Math.min(spilledSize, spillBuffer.capacity() / TASK_BYTES);
+        long position = spillStart;
+        if (lastInFirstOut) {
+            position = spillEnd - (long) numberOfTasks * TASK_BYTES;
+        }
+        if (tasks.length < numberOfTasks * TASK_SIZE) {
+            tasks = new int[numberOfTasks * TASK_SIZE];
+        }
+        head = 0;
+        try {
+            spillBuffer.limit(numberOfTasks * TASK_BYTES);
+            while (spillBuffer.hasRemaining()) {
+                if (spillChannel.read(spillBuffer, position + spillBuffer.position()) < 0) {
+                    throw new IOException("Unexpected end of file after " + spillBuffer.position() + " bytes");
+                }
+            }
+            spillBuffer.flip();
+            spillBuffer.asIntBuffer().get(tasks, 0, numberOfTasks * TASK_SIZE);
+            size = numberOfTasks;
+        } catch (IOException e) {
+            logger.logException(ID, "Reading " + numberOfTasks + " pending sub-sequences from \""
+                    + spillFile.getAbsolutePath() + "\" failed", e);
+        }
+        spillBuffer.clear();
+        spilledSize -= numberOfTasks;
+        if (lastInFirstOut) {
+            spillEnd = position;
+        } else {
+            spillStart = position + (long) numberOfTasks * TASK_BYTES;
+        }
+        if (spilledSize == 0) {
+            deleteSpillFile();
+        }
+    }
+    
+    /**
+     * Closes the {@link #spillChannel} and deletes the {@link #spillFile}, if it exists.
+     */
+    private void deleteSpillFile() {
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+            } catch (IOException e) {
+                logger.logException(ID, "Closing \"" + spillFile.getAbsolutePath() + "\" failed", e);
+            }
+            if (!spillFile.delete()) {
+                logger.log(ID, "Deleting \"" + spillFile.getAbsolutePath() + "\" failed", null,
+                        MessageType.WARNING);
+            }
+            spillChannel = null;
+            spillFile = null;
+            spillBuffer = null;
+            spillStart = 0;
+            spillEnd = 0;
+        }
+    }
+    
+    /**
+     * Checks whether this queue is empty.
+     * 
+     * @return <code>true</code>, if this queue does not contain any pending sub-sequence; <code>false</code> otherwise
+     */
+    boolean isEmpty() {
+        return size == 0 && spilledSize == 0;
+    }
+    
+    /**
+     * Returns the number of pending sub-sequences in this queue including the spilled ones.
+     * 
+     * @return the number of pending sub-sequences in this queue
+     */
+    int size() {
+        return size + spilledSize;
+    }
+
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.utilities;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+
+/**
+ * This class represents a long-living external {@link Process} in batch mode, like <code>git cat-file --batch</code>
+ * or <code>git cat-file --batch-check</code>, which is created via
+ * {@link ProcessUtilities#openBatchSession(String[], java.io.File, boolean)}. Instead of creating a new process for
+ * each request, requests are written line by line to the standard input of that process and the corresponding
+ * {@link Response}s are read from its standard output. Each response starts with a header line of the form
+ * <code>&lt;object&gt; &lt;type&gt; &lt;size&gt;</code>, which is followed by exactly <code>size</code> bytes of
+ * content and a line feed, if the session was opened with framed content. If the requested object is not available,
+ * the header line is <code>&lt;object&gt; missing</code> (or <code>ambiguous</code>) without any content.
+ * <br><br>
+ * All requests of a single session are processed sequentially; concurrent requests are serialized.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class BatchSession implements Closeable {
+    
+    /**
+     * The identifier of this class, e.g., for naming threads.
+     */
+    private static final String ID = "BatchSession";
+    
+    /**
+     * The suffix of the header line of a response for an object, which is not available.
+     */
+    private static final String MISSING_SUFFIX = " missing";
+    
+    /**
+     * The suffix of the header line of a response for an abbreviated object name, which is not unique.
+     */
+    private static final String AMBIGUOUS_SUFFIX = " ambiguous";
+    
+    /**
+     * The {@link String} representing the command executed by the {@link #process}, e.g., for error messages.
+     */
+    private String command;
+    
+    /**
+     * The {@link Process} executing the {@link #command} in batch mode. This process is <code>null</code>, if this
+     * session is closed.
+     */
+    private Process process;
+    
+    /**
+     * The (buffered) standard input of the {@link #process} to which the requests are written.
+     */
+    private OutputStream requestStream;
+    
+    /**
+     * The (buffered) standard output of the {@link #process} from which the responses are read.
+     */
+    private InputStream responseStream;
+    
+    /**
+     * The definition of whether each response header is followed by the content of the requested object
+     * (<code>true</code>) or not (<code>false</code>).
+     */
+    private boolean contentFramed;
+    
+    /**
+     * The {@link Semaphore} from which a permit was acquired for starting the {@link #process}. This permit is released
+     * when this session is closed. May be <code>null</code>, if the number of concurrent processes is not limited.
+     * 
+     * @see ProcessUtilities#setMaximumNumberOfProcesses(int)
+     */
+    private Semaphore processPermits;
+    
+    /**
+     * This class represents a single response of a {@link BatchSession} consisting of the information of the response
+     * header and the optional content of the requested object.
+     * 
+     * @author Christian Kroeher
+     *
+     */
+    public static class Response {
+        
+        /**
+         * The full name (SHA) of the requested object or the request itself, if the object is not available.
+         */
+        private String objectName;
+        
+        /**
+         * The type of the requested object, e.g., <code>commit</code>, or <code>null</code>, if the object is not
+         * available.
+         */
+        private String type;
+        
+        /**
+         * The size of the content of the requested object in bytes or <i>-1</i>, if the object is not available.
+         */
+        private long size;
+        
+        /**
+         * The content of the requested object or <code>null</code>, if the object is not available or the
+         * {@link BatchSession} does not provide framed content.
+         */
+        private byte[] content;
+        
+        /**
+         * Constructs a new {@link Response} instance.
+         * 
+         * @param objectName the full name (SHA) of the requested object or the request itself, if the object is not
+         *        available
+         * @param type the type of the requested object or <code>null</code>, if the object is not available
+         * @param size the size of the content of the requested object in bytes or <i>-1</i>, if the object is not
+         *        available
+         * @param content the content of the requested object or <code>null</code>, if the object is not available or
+         *        no content was requested
+         */
+        private Response(String objectName, String type, long size, byte[] content) {
+            this.objectName = objectName;
+            this.type = type;
+            this.size = size;
+            this.content = content;
+        }
+        
+        /**
+         * Returns the full name (SHA) of the requested object.
+         * 
+         * @return the full name (SHA) of the requested object or the request itself, if the object is not available
+         */
+        public String getObjectName() {
+            return objectName;
+        }
+        
+        /**
+         * Returns the type of the requested object.
+         * 
+         * @return the type of the requested object, e.g., <code>commit</code>, or <code>null</code>, if the object is
+         *         not available
+         */
+        public String getType() {
+            return type;
+        }
+        
+        /**
+         * Returns the size of the content of the requested object.
+         * 
+         * @return the size of the content of the requested object in bytes or <i>-1</i>, if the object is not
+         *         available
+         */
+        public long getSize() {
+            return size;
+        }
+        
+        /**
+         * Returns the content of the requested object.
+         * 
+         * @return the content of the requested object or <code>null</code>, if the object is not available or the
+         *         {@link BatchSession} does not provide framed content
+         */
+        public byte[] getContent() {
+            return content;
+        }
+        
+        /**
+         * Checks whether the requested object is available.
+         * 
+         * @return <code>true</code>, if the requested object is available; <code>false</code> otherwise
+         */
+        public boolean isAvailable() {
+            return type != null;
+        }
+    }
+    
+    /**
+     * Constructs a new {@link BatchSession} instance for the given (running) process.
+     * 
+     * @param command the {@link String} representing the command executed by the given process
+     * @param process the {@link Process} executing the given command in batch mode; should never be <code>null</code>
+     * @param contentFramed <code>true</code>, if each response header is followed by the content of the requested
+     *        object; <code>false</code> otherwise
+     * @param processPermits the {@link Semaphore} from which a permit was acquired for starting the given process and
+     *        to which that permit is released when this session is closed; can be <code>null</code>, if no permit was
+     *        acquired
+     */
+    BatchSession(String command, Process process, boolean contentFramed, Semaphore processPermits) {
+        this.command = command;
+        this.process = process;
+        this.contentFramed = contentFramed;
+        this.processPermits = processPermits;
+        requestStream = new BufferedOutputStream(process.getOutputStream());
+        responseStream = new BufferedInputStream(process.getInputStream());
+    }
+    
+    /**
+     * Requests the given object from the process of this session and returns its response.
+     * 
+     * @param object the {@link String} representing the object to request, e.g., a commit (SHA); should never be
+     *        <code>null</code> nor contain line breaks
+     * @return the {@link Response} for the given object; never <code>null</code>
+     * @throws IOException if this session is closed, the given object contains line breaks, or writing the request
+     *         or reading the response fails
+     */
+    public synchronized Response request(String object) throws IOException {
+        checkRequest(object);
+        writeRequest(object);
+        requestStream.flush();
+        return readResponse(object);
+    }
+    
+    /**
+     * Checks whether this session is still open and the given request does not contain line breaks, which would
+     * result in unexpected responses.
+     * 
+     * @param request the {@link String} representing the request to check
+     * @throws IOException if this session is closed or the given request contains line breaks
+     */
+    private void checkRequest(String request) throws IOException {
+        if (process == null) {
+            throw new IOException("The batch session for command \"" + command + "\" is closed");
+        }
+        if (request.indexOf('\n') >= 0 || request.indexOf('\r') >= 0) {
+            throw new IOException("The request \"" + request + "\" contains line breaks");
+        }
+    }
+    
+    /**
+     * Writes the given request followed by a line feed to the {@link #requestStream} without flushing it.
+     * 
+     * @param request the {@link String} representing the request to write
+     * @throws IOException if writing the request fails
+     */
+    private void writeRequest(String request) throws IOException {
+        requestStream.write((request + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Reads the response for the given request from the {@link #responseStream}.
+     * 
+     * @param request the {@link String} representing the request for which the response shall be read
+     * @return the {@link Response} for the given request; never <code>null</code>
+     * @throws IOException if reading the response fails or the response is malformed
+     */
+    private Response readResponse(String request) throws IOException {
+        Response response;
+        String header = readLine();
+        if (header.endsWith(MISSING_SUFFIX) || header.endsWith(AMBIGUOUS_SUFFIX)) {
+            response = new Response(request, null, -1, null);
+        } else {
+            String[] headerFields = header.split(" ");
+            if (headerFields.length != 3) {
+                throw new IOException("Unexpected response \"" + header + "\" of command \"" + command + "\"");
+            }
+            long size;
+            try {
+                size = Long.parseLong(headerFields[2]);
+            } catch (NumberFormatException e) {
+                throw new IOException("Unexpected object size in response \"" + header + "\" of command \"" + command
+                        + "\"", e);
+            }
+            byte[] content = null;
+            if (contentFramed) {
+                content = readContent(size);
+            }
+            response = new Response(headerFields[0], headerFields[1], size, content);
+        }
+        return response;
+    }
+    
+    /**
+     * Reads a single line from the {@link #responseStream}.
+     * 
+     * @return the line without the terminating line feed; never <code>null</code>
+     * @throws IOException if reading fails or the process terminated before a complete line was read
+     */
+    private String readLine() throws IOException {
+        ByteArrayOutputStream lineStream = new ByteArrayOutputStream();
+        int responseByte = responseStream.read();
+        while (responseByte >= 0 && responseByte != '\n') {
+            lineStream.write(responseByte);
+            responseByte = responseStream.read();
+        }
+        if (responseByte < 0) {
+            throw new IOException("The process of command \"" + command + "\" terminated unexpectedly");
+        }
+        return lineStream.toString(StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Reads the content of the given size and the subsequent line feed from the {@link #responseStream}.
+     * 
+     * @param size the size of the content in bytes
+     * @return the content; never <code>null</code>
+     * @throws IOException if reading fails, the content is too large, or the process terminated before the complete
+     *         content was read
+     */
+    private byte[] readContent(long size) throws IOException {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IOException("The object size " + size + " exceeds the maximum array size");
+        }
+        byte[] content = responseStream.readNBytes((int) size);
+        if (content.length != size || responseStream.read() != '\n') {
+            throw new IOException("The process of command \"" + command + "\" terminated unexpectedly");
+        }
+        return content;
+    }
+    
+    /**
+     * Closes this session by closing the standard input of its process, which terminates the batch mode, and waiting
+     * for the process to terminate. Closing an already closed session has no effect.
+     * 
+     * @throws IOException if closing the streams of the process fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (process != null) {
+            try {
+                requestStream.close();
+                process.waitFor();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                process.destroy();
+                process = null;
+                if (processPermits != null) {
+                    processPermits.release();
+                    processPermits = null;
+                }
+                responseStream.close();
+            }
+        }
+    }
+
+}
@@ -37,6 +37,25 @@ public class FileUtilities {
      */
     private static final String ID = "FileUtilities";
     
+    /**
+     * The number of bytes of each buffer of the {@link #ENCODING_BUFFER}.
+     */
+    private static final int ENCODING_BUFFER_CAPACITY = 1 << 16;
+    
+    /**
+     * The direct {@link ByteBuffer} of the current thread into which {@link #writeAscii(CharSequence)} encodes the
+     * characters to write. As writing is finished before that method returns, a single buffer per thread is shared by
+     * all instances of this class instead of allocating a buffer per instance. It is allocated at the first call of
+     * that method by the current thread and reused for all subsequent calls.
+     */
+    private static final ThreadLocal<ByteBuffer> ENCODING_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(ENCODING_BUFFER_CAPACITY));
+    
+    /**
+     * The first character (code point), which is not an ASCII character.
+     */
+    private static final int ASCII_LIMIT = 0x80;
+    
     /**
      * The {@link Logger} for pretty-printing messages to the console.
      */
@@ -110,16 +129,102 @@ public class FileUtilities {
      * @see #closeFileChannel()
      */
     public boolean write(String content) {
+        return write(ByteBuffer.wrap(content.getBytes()));
+    }
+    
+    /**
+     * Write the remaining bytes of the given number of {@link ByteBuffer}s starting at the given offset in the given
+     * array via the current {@link #outputFileChannel}. In contrast to calling {@link #write(ByteBuffer)} for each of
+     * these buffers, their content is written by a gathering write via
+     * {@link FileChannel#write(ByteBuffer[], int, int)}, which typically writes all buffers with a single system call.
+     * As such a write may not write all bytes, this method writes repeatedly until no bytes remain.
+     * 
+     * @param contents the array of {@link ByteBuffer}s containing the (file) content to be written between their
+     *        current positions and their limits in the order of the array; their positions are advanced to their
+     *        limits, if writing is successful
+     * @param offset the index in the given array of the first buffer to write
+     * @param length the number of buffers to write
+     * @return <code>true</code>, if writing the content was successful; <code>false</code> otherwise
+     * @see #openFileChannel(File)
+     * @see #closeFileChannel()
+     */
+    public boolean write(ByteBuffer[] contents, int offset, int length) {
+        boolean contentWrittenSuccessfully = false;
+        if (outputFileStream != null && outputFileChannel != null) {
+            long remainingBytes = 0;
+            for (int i = offset; i < offset + length; i++) {
+                remainingBytes += contents[i].remaining();
+            }
+            try {
+                while (remainingBytes > 0) {
+                    remainingBytes -= outputFileChannel.write(contents, offset, length);
+                }
+                contentWrittenSuccessfully = true;
+            } catch (IOException e) {
+                logger.logException(ID, "Writing content to file failed", e);
+            }
+        } else {
+            logger.log(ID, "File stream or file channel not available", "Call \"openFileStream(File)\" before writing",
+                    MessageType.ERROR);
+        }
+        return contentWrittenSuccessfully;
+    }
+    
+    /**
+     * Write the given characters as ASCII bytes via the current {@link #outputFileChannel}. In contrast to
+     * {@link #write(String)}, this method neither creates an intermediate {@link String} nor an array, but encodes the
+     * characters chunk by chunk into the reused {@link #ENCODING_BUFFER} of the current thread. If the given content
+     * contains any character, which is not an ASCII character, it is written via {@link #write(String)} instead.
+     * 
+     * @param content the {@link CharSequence} representing the (file) content to be written, e.g., a
+     *        {@link StringBuilder} collecting lines of commits (SHAs); should never be <code>null</code>
+     * @return <code>true</code>, if writing the content was successful; <code>false</code> otherwise
+     * @see #openFileChannel(File)
+     * @see #closeFileChannel()
+     */
+    public boolean writeAscii(CharSequence content) {
+        boolean contentWrittenSuccessfully = true;
+        int contentLength = content.length();
+        int charIndex = 0;
+        while (charIndex < contentLength && content.charAt(charIndex) < ASCII_LIMIT) {
+            charIndex++;
+        }
+        if (charIndex < contentLength) {
+            contentWrittenSuccessfully = write(content.toString());
+        } else {
+            ByteBuffer encodingBuffer = ENCODING_BUFFER.get();
+            charIndex = 0;
+            while (contentWrittenSuccessfully && charIndex < contentLength) {
+                encodingBuffer.clear();
+                int chunkEnd = Math.min(contentLength, charIndex + ENCODING_BUFFER_CAPACITY);
+                while (charIndex < chunkEnd) {
+                    encodingBuffer.put((byte) content.charAt(charIndex++));
+                }
+                encodingBuffer.flip();
+                contentWrittenSuccessfully = write(encodingBuffer);
+            }
+        }
+        return contentWrittenSuccessfully;
+    }
+    
+    /**
+     * Write the remaining bytes of the given {@link ByteBuffer} via the current {@link #outputFileChannel}. As a
+     * single write may not write all bytes, this method writes repeatedly until no bytes remain.
+     * 
+     * @param content the {@link ByteBuffer} containing the (file) content to be written between its current position
+     *        and its limit; its position is advanced to its limit, if writing is successful
+     * @return <code>true</code>, if writing the content was successful; <code>false</code> otherwise
+     * @see #openFileChannel(File)
+     * @see #closeFileChannel()
+     */
+    public boolean write(ByteBuffer content) {
         boolean contentWrittenSuccessfully = false;
-        if (outputFileStream != null && outputFileChannel != null) {            
-            byte[] contentBytes = content.getBytes();
-            ByteBuffer contentByteBuffer = ByteBuffer.allocate(contentBytes.length);
-            contentByteBuffer.put(contentBytes);
-            contentByteBuffer.flip();
+        if (outputFileStream != null && outputFileChannel != null) {
             try {
-                if (outputFileChannel.write(contentByteBuffer) == contentBytes.length) {
-                    contentWrittenSuccessfully = true;
-                } // TODO What happens if writing fails here?
+                while (content.hasRemaining()) {
+                    outputFileChannel.write(content);
+                }
+                contentWrittenSuccessfully = true;
             } catch (IOException e) {
                 logger.logException(ID, "Writing content to file failed", e);
             }
@@ -130,6 +235,46 @@ public class FileUtilities {
         return contentWrittenSuccessfully;
     }
     
+    /**
+     * Appends the given number of bytes of the given source file starting at the given position via the current
+     * {@link #outputFileChannel}. This enables skipping a header at the beginning of the source file. In contrast to
+     * {@link #write(String)}, the bytes are transferred directly between the file channels using
+     * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}. Hence, the operating system
+     * may copy them without passing them through the Java heap.
+     * 
+     * @param sourceFile the {@link File} from which the bytes shall be appended; should never be <code>null</code>
+     * @param position the position in the given source file of the first byte to append
+     * @param numberOfBytes the number of bytes from the given position of the given source file to append
+     * @return <code>true</code>, if appending the bytes was successful; <code>false</code> otherwise, e.g., if the
+     *         given source file contains less bytes than the given position and number
+     * @see #openFileChannel(File)
+     * @see #closeFileChannel()
+     */
+    public boolean append(File sourceFile, long position, long numberOfBytes) {
+        boolean contentAppendedSuccessfully = false;
+        if (outputFileStream != null && outputFileChannel != null) {
+            try (RandomAccessFile sourceFileStream = new RandomAccessFile(sourceFile, "r")) {
+                FileChannel sourceFileChannel = sourceFileStream.getChannel();
+                long transferredBytes = 0;
+                long currentlyTransferredBytes = 1;
+                // A transfer may copy less bytes than requested; no bytes are copied only at the end of the file
+                while (transferredBytes < numberOfBytes && currentlyTransferredBytes > 0) {
+                    currentlyTransferredBytes = sourceFileChannel.transferTo(position + transferredBytes,
+                            numberOfBytes - transferredBytes, outputFileChannel);
+                    transferredBytes += currentlyTransferredBytes;
+                }
+                contentAppendedSuccessfully = transferredBytes == numberOfBytes;
+            } catch (IOException e) {
+                logger.logException(ID, "Appending content of file \"" + sourceFile.getAbsolutePath() + "\" failed",
+                        e);
+            }
+        } else {
+            logger.log(ID, "File stream or file channel not available", "Call \"openFileStream(File)\" before writing",
+                    MessageType.ERROR);
+        }
+        return contentAppendedSuccessfully;
+    }
+    
     /**
      * Closes the {@link #outputFileStream} and the {@link #outputFileChannel} of this {@link FileUtilities} instance
      * and sets their values to <code>null</code>.
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.utilities;
+
+/**
+ * This interface provides a single method for consuming the standard output of an external {@link Process} line by
+ * line while the process is running. It is used by 
+ * {@link ProcessUtilities#executeCommand(String[], java.io.File, IOutputConsumer)} to avoid buffering the entire
+ * output of a process in memory.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public interface IOutputConsumer {
+
+    /**
+     * Consumes the given line of the standard output of a process.
+     * 
+     * @param outputLine the {@link String} representing a single line of the standard output of a process without any
+     *        line termination characters; never <code>null</code>
+     */
+    public void consume(String outputLine);
+}
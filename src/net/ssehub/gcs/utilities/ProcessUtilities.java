@@ -19,6 +19,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.concurrent.Semaphore;
 
 import net.ssehub.gcs.utilities.Logger.MessageType;
 
@@ -46,17 +47,29 @@ public class ProcessUtilities {
      */
     private Logger logger = Logger.getInstance();
     
+    /**
+     * The {@link Semaphore} limiting the number of concurrently running processes started by this instance. Each
+     * process started via {@link #executeCommand(String[], File, IOutputConsumer)} holds a permit until it terminates
+     * and each process started via {@link #openBatchSession(String[], File, boolean)} holds a permit until its
+     * {@link BatchSession} is closed. May be <code>null</code>, if the number of processes is not limited, which is
+     * the default.
+     * 
+     * @see #setMaximumNumberOfProcesses(int)
+     */
+    private volatile Semaphore processPermits;
+    
     /**
      * Constructs new {@link ProcessUtilities}.
      */
     private ProcessUtilities() {}
     
     /**
-     * Returns the single instance of the {@link ProcessUtilities}.
+     * Returns the single instance of the {@link ProcessUtilities}. As this instance may be requested by multiple
+     * threads creating commit sequences in parallel, this method is synchronized.
      * 
      * @return the single instance of the {@link ProcessUtilities}
      */
-    public static ProcessUtilities getInstance() {
+    public static synchronized ProcessUtilities getInstance() {
         if (instance == null) {
             instance = new ProcessUtilities();
         }
@@ -244,6 +257,26 @@ public class ProcessUtilities {
         }
     }
     
+    /**
+     * Sets the maximum number of processes, which may run concurrently. If this maximum is reached, the methods of this
+     * class starting a new process block until a running process terminates or its {@link BatchSession} is closed.
+     * This limits the number of concurrent processes independently of the number of threads (or tasks) requesting
+     * their execution. Processes started before calling this method are not affected by the new maximum.<br>
+     * <br>
+     * Note that each open {@link BatchSession} holds a permit until it is closed. Hence, the maximum must be larger
+     * than the number of sessions a single thread keeps open while executing further commands.
+     * 
+     * @param maximumNumberOfProcesses the maximum number of concurrently running processes; a value less than
+     *        <i>1</i> removes the limit
+     */
+    public void setMaximumNumberOfProcesses(int maximumNumberOfProcesses) {
+        if (maximumNumberOfProcesses < 1) {
+            processPermits = null;
+        } else {
+            processPermits = new Semaphore(maximumNumberOfProcesses, true);
+        }
+    }
+    
     /**
      * Executes the given command as a {@link Process} in the current {@link Runtime}.
      * 
@@ -254,6 +287,24 @@ public class ProcessUtilities {
      * @return the {@link ExecutionResult} of the process executing the given command; never <code>null</code>
      */
     public ExecutionResult executeCommand(String[] command, File workingDirectory) {
+        return executeCommand(command, workingDirectory, null);
+    }
+    
+    /**
+     * Executes the given command as a {@link Process} in the current {@link Runtime}. In contrast to
+     * {@link #executeCommand(String[], File)}, the standard output of the process is passed line by line to the given
+     * {@link IOutputConsumer} while the process is running, if such a consumer is given. In that case, the standard
+     * output data of the returned {@link ExecutionResult} is always <code>null</code>.
+     * 
+     * @param command the command that shall be executed; should never be <i>empty</i> or <code>null</code> itself as
+     *        well as any of its elements
+     * @param workingDirectory the working directory of the process created by this method for executing the given
+     *        command; can be <code>null</code> if the process should use the directory in which the tool is executed
+     * @param outputConsumer the {@link IOutputConsumer} to pass each line of the standard output of the process to;
+     *        can be <code>null</code>, if the standard output should be saved to the returned result instead
+     * @return the {@link ExecutionResult} of the process executing the given command; never <code>null</code>
+     */
+    public ExecutionResult executeCommand(String[] command, File workingDirectory, IOutputConsumer outputConsumer) {
         String commandString = getCommandString(command);
         ExecutionResult executionResult;
         if (workingDirectory != null) {
@@ -266,11 +317,18 @@ public class ProcessUtilities {
         InputStream errorStream = null;
         ProcessBuilder processBuilder = new ProcessBuilder(command);
         processBuilder = processBuilder.directory(workingDirectory);
+        Semaphore acquiredProcessPermits = null;
         try {
+            acquiredProcessPermits = acquireProcessPermit();
             process = processBuilder.start();
             // Read the standard output and save it to the result
             inputStream = process.getInputStream();
-            executionResult.setStandardOutputData(readStream(inputStream));
+            if (outputConsumer == null) {
+                executionResult.setStandardOutputData(readStream(inputStream));
+            } else if (!readStream(inputStream, outputConsumer)) {
+                executionResult.setExecutionException(new IOException("Consuming the standard output of command \""
+                        + commandString + "\" failed"));
+            }
             // Read the error output and save it to the result
             errorStream = process.getErrorStream();
             executionResult.setErrorOutputData(readStream(errorStream));
@@ -310,10 +368,71 @@ public class ProcessUtilities {
             if (process != null) {
                 process.destroy();
             }
+            if (acquiredProcessPermits != null) {
+                acquiredProcessPermits.release();
+            }
         }
         return executionResult;
     }
     
+    /**
+     * Opens a new {@link BatchSession} by starting the given command as a {@link Process}, which keeps running until
+     * the session is closed. In contrast to {@link #executeCommand(String[], File)}, the given command is expected to
+     * read requests from its standard input and write framed responses to its standard output, like
+     * <code>git cat-file --batch</code>. Hence, the costs of creating a process are only paid once for an arbitrary
+     * number of requests. The error output of the process is discarded.
+     * 
+     * @param command the command that shall be executed in batch mode; should never be <i>empty</i> or
+     *        <code>null</code> itself as well as any of its elements
+     * @param workingDirectory the working directory of the process created by this method for executing the given
+     *        command; can be <code>null</code> if the process should use the directory in which the tool is executed
+     * @param contentFramed <code>true</code>, if each response header of the process is followed by the content of the
+     *        requested object (like <code>git cat-file --batch</code>); <code>false</code>, if the responses only
+     *        consist of header lines (like <code>git cat-file --batch-check</code>)
+     * @return the {@link BatchSession} for sending requests to the process; never <code>null</code>
+     * @throws IOException if starting the process fails
+     */
+    public BatchSession openBatchSession(String[] command, File workingDirectory, boolean contentFramed)
+            throws IOException {
+        ProcessBuilder processBuilder = new ProcessBuilder(command);
+        processBuilder.directory(workingDirectory);
+        processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD);
+        Semaphore acquiredProcessPermits;
+        try {
+            acquiredProcessPermits = acquireProcessPermit();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Waiting for a process permit for command \"" + getCommandString(command)
+                    + "\" interrupted", e);
+        }
+        BatchSession batchSession = null;
+        try {
+            batchSession = new BatchSession(getCommandString(command), processBuilder.start(), contentFramed,
+                    acquiredProcessPermits);
+        } finally {
+            if (batchSession == null && acquiredProcessPermits != null) {
+                acquiredProcessPermits.release();
+            }
+        }
+        return batchSession;
+    }
+    
+    /**
+     * Acquires a permit from the current {@link #processPermits}, if the number of concurrent processes is limited.
+     * This method blocks until a permit is available.
+     * 
+     * @return the {@link Semaphore} from which the permit was acquired and to which it must be released after the
+     *         process terminated; <code>null</code>, if the number of concurrent processes is not limited
+     * @throws InterruptedException if the current thread is interrupted while waiting for a permit
+     */
+    private Semaphore acquireProcessPermit() throws InterruptedException {
+        Semaphore currentProcessPermits = processPermits;
+        if (currentProcessPermits != null) {
+            currentProcessPermits.acquire();
+        }
+        return currentProcessPermits;
+    }
+    
     /**
      * Reads the data from the given {@link InputStream} and returns it as a {@link String}.
      * 
@@ -351,6 +470,46 @@ public class ProcessUtilities {
         return streamData;
     }
     
+    /**
+     * Reads the data from the given {@link InputStream} and passes each line of that data to the given
+     * {@link IOutputConsumer}. In contrast to {@link #readStream(InputStream)}, this method does not buffer the data of
+     * the stream, which keeps the memory consumption constant, even if the stream provides large amounts of data.
+     * 
+     * @param stream the stream from which the data shall be read
+     * @param outputConsumer the {@link IOutputConsumer} to pass each line of the stream's data to; should never be
+     *        <code>null</code>
+     * @return <code>true</code>, if reading the entire stream was successful; <code>false</code> otherwise
+     */
+    public boolean readStream(InputStream stream, IOutputConsumer outputConsumer) {
+        boolean streamReadSuccessfully = false;
+        if (stream != null) {
+            InputStreamReader inputStreamReader = new InputStreamReader(stream);
+            BufferedReader bufferedReader = new BufferedReader(inputStreamReader);
+            String line = "";
+            try {
+                while ((line = bufferedReader.readLine()) != null) {
+                    outputConsumer.consume(line);
+                }
+                streamReadSuccessfully = true;
+            } catch (IOException e) {
+                logger.logException(ID, "Reading stream data failed", e);
+            } finally {
+                try {
+                    bufferedReader.close();
+                } catch (IOException e) {
+                    logger.log(ID, "Closing the buffered reader for reading an input stream failed", e.toString(),
+                            MessageType.WARNING);
+                }
+                try {
+                    inputStreamReader.close();
+                } catch (IOException e) {
+                    logger.log(ID, "Closing the given input stream failed", e.toString(), MessageType.WARNING);
+                }
+            }
+        }
+        return streamReadSuccessfully;
+    }
+    
     /**
      * Returns an extended array by appending the given element at the end of the given array. This method is, in
      * particular, useful, if a command has to be executed via {@link #executeCommand(String[], File)}, which consists
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.utilities;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class provides the writer threads and the pool of direct {@link ByteBuffer}s used by {@link WriteBehindFile}s.
+ * An instance is created for a single run of sequence creations and sized to the number of threads creating sequences
+ * concurrently: it starts the given number of writer threads, each performing the requests of its own queue, and
+ * creates {@link #BUFFERS_PER_THREAD} buffers per writer thread. Each {@link WriteBehindFile} is assigned to one of
+ * these queues at construction. Hence, the requests of a single file are performed by the same writer thread in the
+ * order of their submission, while the requests of different files are performed in parallel.<br>
+ * <br>
+ * The writer threads run until {@link #close()} is called, which must not happen before all {@link WriteBehindFile}s
+ * using this instance are closed.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class WriteBehindExecutor implements Closeable {
+    
+    /**
+     * The number of bytes of each direct {@link ByteBuffer} in the {@link #bufferPool}.
+     */
+    public static final int BUFFER_CAPACITY = 1 << 16;
+    
+    /**
+     * The identifier of this class, e.g., for printing messages.
+     */
+    private static final String ID = "WriteBehindExecutor";
+    
+    /**
+     * The number of direct {@link ByteBuffer}s in the {@link #bufferPool} per writer thread, which limits the amount
+     * of content waiting for the writer threads. This is also the maximum number of buffers a writer thread gathers
+     * for a single write.
+     */
+    private static final int BUFFERS_PER_THREAD = 8;
+    
+    /**
+     * The number of requests, which may wait for a single writer thread, before submitting a further request to the
+     * queue of that thread blocks.
+     */
+    private static final int REQUEST_QUEUE_CAPACITY = 4 * BUFFERS_PER_THREAD;
+    
+    /**
+     * The request terminating the writer thread, which takes it from its queue.
+     */
+    private static final Runnable STOP_REQUEST = new Runnable() {
+        
+        @Override
+        public void run() {
+            // Never performed, but recognized by the writer threads as the end of their queue
+        }
+    
+    };
+    
+    /**
+     * The {@link Logger} for pretty-printing messages to the console.
+     */
+    private Logger logger = Logger.getInstance();
+    
+    /**
+     * The pool of direct {@link ByteBuffer}s, which are currently not used for any content.
+     */
+    private BlockingQueue<ByteBuffer> bufferPool;
+    
+    /**
+     * The queues of the requests waiting for the writer threads in the order of their submission; one queue per
+     * writer thread.
+     */
+    private List<BlockingQueue<Runnable>> requestQueues;
+    
+    /**
+     * The writer threads, which perform the requests of the {@link #requestQueues}.
+     */
+    private List<Thread> writerThreads;
+    
+    /**
+     * The number of {@link WriteBehindFile}s assigned to the {@link #requestQueues} so far, which defines the queue
+     * for the next file (round robin).
+     */
+    private AtomicInteger assignedFiles;
+    
+    /**
+     * Constructs a new {@link WriteBehindExecutor} instance and starts its writer threads. As daemon threads, the
+     * writer threads do not prevent the termination of this tool; hence, each {@link WriteBehindFile} using this
+     * instance must be closed via {@link WriteBehindFile#close()} to ensure that all its requests are performed.
+     * 
+     * @param numberOfThreads the number of writer threads to start, which should correspond to the number of threads
+     *        writing to {@link WriteBehindFile}s concurrently; must be greater than <i>0</i>
+     */
+    public WriteBehindExecutor(int numberOfThreads) {
+        int numberOfBuffers = BUFFERS_PER_THREAD * numberOfThreads;
+        bufferPool = new ArrayBlockingQueue<ByteBuffer>(numberOfBuffers);
+        for (int i = 0; i < numberOfBuffers; i++) {
+            bufferPool.add(ByteBuffer.allocateDirect(BUFFER_CAPACITY));
+        }
+        requestQueues = new ArrayList<BlockingQueue<Runnable>>(numberOfThreads);
+        writerThreads = new ArrayList<Thread>(numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            BlockingQueue<Runnable> requestQueue = new ArrayBlockingQueue<Runnable>(REQUEST_QUEUE_CAPACITY);
+            Thread writerThread = new Thread(new Runnable() {
+                
+                @Override
+                public void run() {
+                    try {
+                        performRequests(requestQueue);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            
+            }, ID + " writer " + (i + 1));
+            writerThread.setDaemon(true);
+            writerThread.start();
+            requestQueues.add(requestQueue);
+            writerThreads.add(writerThread);
+        }
+        assignedFiles = new AtomicInteger();
+    }
+    
+    /**
+     * Performs the requests in the given queue one after another on the writer thread until it takes the
+     * {@link #STOP_REQUEST}. A {@link WriteBehindFile.WriteRequest} is performed together with all write requests of
+     * the same {@link WriteBehindFile} directly following it in the given queue by a single gathering write of at
+     * most {@link #BUFFERS_PER_THREAD} buffers.
+     * 
+     * @param requestQueue the {@link BlockingQueue} of the requests for the writer thread; should never be
+     *        <code>null</code>
+     * @throws InterruptedException if the writer thread is interrupted while waiting for a request
+     */
+    private static void performRequests(BlockingQueue<Runnable> requestQueue) throws InterruptedException {
+        ByteBuffer[] gatheredBuffers = new ByteBuffer[BUFFERS_PER_THREAD];
+        Runnable request = requestQueue.take();
+        while (request != STOP_REQUEST) {
+            Runnable nextRequest = null;
+            if (request instanceof WriteBehindFile.WriteRequest) {
+                WriteBehindFile file = ((WriteBehindFile.WriteRequest) request).getFile();
+                int numberOfBuffers = 0;
+                gatheredBuffers[numberOfBuffers++] = ((WriteBehindFile.WriteRequest) request).getBuffer();
+                nextRequest = requestQueue.poll();
+                while (nextRequest instanceof WriteBehindFile.WriteRequest
+                        && ((WriteBehindFile.WriteRequest) nextRequest).getFile() == file
+                        && numberOfBuffers < gatheredBuffers.length) {
+                    gatheredBuffers[numberOfBuffers++] = ((WriteBehindFile.WriteRequest) nextRequest).getBuffer();
+                    nextRequest = requestQueue.poll();
+                }
+                file.write(gatheredBuffers, numberOfBuffers);
+            } else {
+                request.run();
+            }
+            if (nextRequest == null) {
+                nextRequest = requestQueue.take();
+            }
+            request = nextRequest;
+        }
+    }
+    
+    /**
+     * Returns the queue of one of the writer threads, to which all requests of a new {@link WriteBehindFile} shall be
+     * submitted. The queues are assigned to the files one after another (round robin).
+     * 
+     * @return the {@link BlockingQueue} of the requests for one of the writer threads; never <code>null</code>
+     */
+    BlockingQueue<Runnable> assignRequestQueue() {
+        return requestQueues.get(Math.floorMod(assignedFiles.getAndIncrement(), requestQueues.size()));
+    }
+    
+    /**
+     * Returns an empty direct {@link ByteBuffer} of {@link #BUFFER_CAPACITY} bytes from the {@link #bufferPool}. If no
+     * buffer is available, this method blocks until a writer thread returns a buffer to the pool.
+     * 
+     * @return the empty direct {@link ByteBuffer} or <code>null</code>, if the calling thread is interrupted while
+     *         waiting for a buffer
+     */
+    ByteBuffer acquireBuffer() {
+        ByteBuffer buffer = null;
+        try {
+            buffer = bufferPool.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.logException(ID, "Waiting for a buffer interrupted", e);
+        }
+        return buffer;
+    }
+    
+    /**
+     * Clears the given {@link ByteBuffer} and returns it to the {@link #bufferPool}.
+     * 
+     * @param buffer the {@link ByteBuffer} acquired via {@link #acquireBuffer()}
+     */
+    void releaseBuffer(ByteBuffer buffer) {
+        buffer.clear();
+        bufferPool.add(buffer);
+    }
+    
+    /**
+     * Stops the writer threads after they have performed all requests submitted before and waits for their
+     * termination. Closing an already closed instance has no effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (!writerThreads.isEmpty()) {
+            try {
+                for (BlockingQueue<Runnable> requestQueue : requestQueues) {
+                    requestQueue.put(STOP_REQUEST);
+                }
+                for (Thread writerThread : writerThreads) {
+                    writerThread.join();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.logException(ID, "Waiting for the writer threads to stop interrupted", e);
+            } finally {
+                writerThreads.clear();
+            }
+        }
+    }
+
+}
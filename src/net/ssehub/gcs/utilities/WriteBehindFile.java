@@ -0,0 +1,289 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.utilities;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * This class writes to a {@link File} asynchronously: the content passed to {@link #write(ByteBuffer)} and the
+ * transfers requested via {@link #append(File, long, long)} are performed by one of the writer threads of the
+ * {@link WriteBehindExecutor} given at construction, while the calling thread continues immediately. All requests of
+ * an instance are performed by the same writer thread in the order of their submission using a {@link FileUtilities}
+ * instance. If multiple writes of the same instance wait for that writer thread one after another, their buffers are
+ * written by a single gathering write via {@link FileUtilities#write(ByteBuffer[], int, int)}.<br>
+ * <br>
+ * The content to write must be put into one of the fixed number of direct {@link ByteBuffer}s of the
+ * {@link WriteBehindExecutor} acquired via {@link #acquireBuffer()}. The writer thread returns each buffer to that pool
+ * after writing its content. Hence, if the writer threads fall behind, acquiring a buffer blocks the calling thread
+ * until a buffer is available again (back-pressure) instead of queuing an unlimited amount of content on the
+ * heap.<br>
+ * <br>
+ * If a request fails on the writer thread, all subsequent calls of {@link #write(ByteBuffer)},
+ * {@link #append(File, long, long)}, and {@link #close()} of the same instance return <code>false</code>. In
+ * particular, {@link #close()} waits until all requests of that instance are performed and returns whether all of them
+ * were successful.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class WriteBehindFile {
+    
+    /**
+     * The identifier of this class, e.g., for printing messages.
+     */
+    private static final String ID = "WriteBehindFile";
+    
+    /**
+     * The {@link Logger} for pretty-printing messages to the console.
+     */
+    private Logger logger = Logger.getInstance();
+    
+    /**
+     * The {@link FileUtilities} for opening, writing, and closing the file of this instance. Except for
+     * {@link #open(File)}, it is used by the writer thread only.
+     */
+    private FileUtilities fileUtilities;
+    
+    /**
+     * The {@link WriteBehindExecutor} providing the buffers and the writer thread of this instance.
+     */
+    private WriteBehindExecutor executor;
+    
+    /**
+     * The queue of the requests of this instance (and potentially other instances) waiting for the writer thread of
+     * this instance, which is assigned by the {@link #executor} at construction.
+     */
+    private BlockingQueue<Runnable> requestQueue;
+    
+    /**
+     * The definition of whether a request of this instance failed on the writer thread (<code>true</code>) or not
+     * (<code>false</code>).
+     */
+    private volatile boolean failed;
+    
+    /**
+     * This class realizes the request for writing the content of a single buffer to the file of the enclosing
+     * {@link WriteBehindFile} instance. In contrast to the other requests, the writer thread typically does not
+     * perform such a request individually, but gathers the buffers of all subsequent write requests of the same
+     * instance waiting in its queue and writes them via {@link WriteBehindFile#write(ByteBuffer[], int)}.
+     * 
+     * @author Christian Kroeher
+     *
+     */
+    class WriteRequest implements Runnable {
+        
+        /**
+         * The {@link ByteBuffer} acquired via {@link WriteBehindFile#acquireBuffer()} containing the content to write.
+         */
+        private ByteBuffer buffer;
+        
+        /**
+         * Constructs a new {@link WriteRequest} instance.
+         * 
+         * @param buffer the {@link ByteBuffer} acquired via {@link WriteBehindFile#acquireBuffer()} containing the
+         *        content to write; should never be <code>null</code>
+         */
+        private WriteRequest(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+        
+        /**
+         * Returns the {@link WriteBehindFile} instance to which the content of this request shall be written.
+         * 
+         * @return the enclosing {@link WriteBehindFile} instance; never <code>null</code>
+         */
+        WriteBehindFile getFile() {
+            return WriteBehindFile.this;
+        }
+        
+        /**
+         * Returns the {@link ByteBuffer} containing the content to write.
+         * 
+         * @return the {@link ByteBuffer} acquired via {@link WriteBehindFile#acquireBuffer()}; never <code>null</code>
+         */
+        ByteBuffer getBuffer() {
+            return buffer;
+        }
+        
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void run() {
+            write(new ByteBuffer[] {buffer}, 1);
+        }
+        
+    }
+    
+    /**
+     * Constructs a new {@link WriteBehindFile} instance.
+     * 
+     * @param executor the {@link WriteBehindExecutor} providing the buffers and the writer thread of the new instance;
+     *        should never be <code>null</code> and must not be closed before the new instance is closed
+     */
+    public WriteBehindFile(WriteBehindExecutor executor) {
+        fileUtilities = new FileUtilities();
+        this.executor = executor;
+        requestQueue = executor.assignRequestQueue();
+        failed = false;
+    }
+    
+    /**
+     * Opens the given file for writing via this instance. In contrast to the other methods, this method is performed
+     * by the calling thread.
+     * 
+     * @param outputFile the {@link File} to write to
+     * @return <code>true</code>, if opening the file was successful; <code>false</code> otherwise
+     */
+    public boolean open(File outputFile) {
+        failed = !fileUtilities.openFileChannel(outputFile);
+        return !failed;
+    }
+    
+    /**
+     * Returns an empty direct {@link ByteBuffer} of {@link WriteBehindExecutor#BUFFER_CAPACITY} bytes from the pool of
+     * buffers of the {@link #executor}. If no buffer is available, this method blocks until a writer thread returns a
+     * buffer to the pool. The returned buffer must be passed to {@link #write(ByteBuffer)} afterwards.
+     * 
+     * @return the empty direct {@link ByteBuffer} or <code>null</code>, if the calling thread is interrupted while
+     *         waiting for a buffer
+     */
+    public ByteBuffer acquireBuffer() {
+        return executor.acquireBuffer();
+    }
+    
+    /**
+     * Requests writing the content of the given {@link ByteBuffer} between its position and its limit to the file of
+     * this instance. The given buffer must have been acquired via {@link #acquireBuffer()} and must not be used by the
+     * calling thread anymore, as it is returned to the pool of buffers after writing its content. This also applies,
+     * if this method returns <code>false</code>.
+     * 
+     * @param buffer the {@link ByteBuffer} acquired via {@link #acquireBuffer()} containing the content to write
+     * @return <code>true</code>, if requesting the write was successful and no previous request of this instance
+     *         failed; <code>false</code> otherwise
+     */
+    public boolean write(ByteBuffer buffer) {
+        boolean writeRequested = !failed && submit(new WriteRequest(buffer));
+        if (!writeRequested) {
+            executor.releaseBuffer(buffer);
+        }
+        return writeRequested;
+    }
+    
+    /**
+     * Writes the content of the given number of buffers from the beginning of the given array to the file of this
+     * instance by a single gathering write and returns these buffers to the pool of the {@link #executor}. This method
+     * is called by the writer thread only.
+     * 
+     * @param buffers the array of {@link ByteBuffer}s acquired via {@link #acquireBuffer()} containing the content to
+     *        write; the used elements are set to <code>null</code>
+     * @param numberOfBuffers the number of buffers to write from the beginning of the given array
+     */
+    void write(ByteBuffer[] buffers, int numberOfBuffers) {
+        try {
+            if (!failed && !fileUtilities.write(buffers, 0, numberOfBuffers)) {
+                failed = true;
+            }
+        } finally {
+            for (int i = 0; i < numberOfBuffers; i++) {
+                executor.releaseBuffer(buffers[i]);
+                buffers[i] = null;
+            }
+        }
+    }
+    
+    /**
+     * Requests appending the given number of bytes of the given source file starting at the given position to the file
+     * of this instance via {@link FileUtilities#append(File, long, long)}. The source file must not change until this
+     * request is performed, e.g., until {@link #close()} of this instance returns.
+     * 
+     * @param sourceFile the {@link File} from which the bytes shall be appended; should never be <code>null</code>
+     * @param position the position in the given source file of the first byte to append
+     * @param numberOfBytes the number of bytes from the given position of the given source file to append
+     * @return <code>true</code>, if requesting the append was successful and no previous request of this instance
+     *         failed; <code>false</code> otherwise
+     */
+    public boolean append(File sourceFile, long position, long numberOfBytes) {
+        return !failed && submit(new Runnable() {
+            
+            @Override
+            public void run() {
+                if (!failed && !fileUtilities.append(sourceFile, position, numberOfBytes)) {
+                    failed = true;
+                }
+            }
+        
+        });
+    }
+    
+    /**
+     * Closes the file of this instance after all previously requested writes and appends are performed. Hence, this
+     * method blocks the calling thread until the writer thread has performed all requests of this instance.
+     * 
+     * @return <code>true</code>, if all requests of this instance and closing the file were successful;
+     *         <code>false</code> otherwise
+     */
+    public boolean close() {
+        CountDownLatch closed = new CountDownLatch(1);
+        boolean closeRequested = submit(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    if (!fileUtilities.closeFileChannel()) {
+                        failed = true;
+                    }
+                } finally {
+                    closed.countDown();
+                }
+            }
+        
+        });
+        if (closeRequested) {
+            try {
+                closed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.logException(ID, "Waiting for closing the file interrupted", e);
+                closeRequested = false;
+            }
+        }
+        return closeRequested && !failed;
+    }
+    
+    /**
+     * Adds the given request to the {@link #requestQueue}. If that queue is full, this method blocks until the writer
+     * thread takes a request from that queue.
+     * 
+     * @param request the {@link Runnable} performing the request on the writer thread
+     * @return <code>true</code>, if adding the request was successful; <code>false</code>, if the calling thread is
+     *         interrupted while waiting for adding it
+     */
+    private boolean submit(Runnable request) {
+        boolean requestSubmitted = false;
+        try {
+            requestQueue.put(request);
+            requestSubmitted = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.logException(ID, "Waiting for submitting a request interrupted", e);
+        }
+        return requestSubmitted;
+    }
+
+}
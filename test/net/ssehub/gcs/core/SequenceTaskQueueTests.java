@@ -0,0 +1,259 @@
+/*
+ * Copyright 2020 University of Hildesheim, Software Systems Engineering
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.gcs.core;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.ssehub.gcs.tests.AllTests;
+
+/**
+ * This class contains unit tests for the {@link SequenceTaskQueue}. In particular, these tests use a memory budget,
+ * which is small enough to spill pending sub-sequences to disk and read them back, and compare the order of the
+ * removed sub-sequences with the order of a {@link Deque}.
+ * 
+ * @author Christian Kroeher
+ *
+ */
+public class SequenceTaskQueueTests {
+    
+    /**
+     * The {@link String} denoting the identifier of this class, e.g., for printing messages.
+     */
+    private static final String ID = SequenceTaskQueueTests.class.getSimpleName();
+    
+    /**
+     * The {@link String} defining the header and footer title of this test class to be printed at the beginning and the
+     * end of all tests in this class.
+     * 
+     * @see #setUp()
+     * @see #tearDown()
+     */
+    private static final String TEST_CLASS_TITLE = AllTests.TEST_MARKER + " " + ID + " " + AllTests.TEST_MARKER;
+    
+    /**
+     * The {@link String} defining the constant prefix of a message that indicates the successful execution of a test in
+     * this class.
+     */
+    private static final String TEST_PASSED_PREFIX = AllTests.TEST_PASSED_MARKER + " " + ID;
+    
+    /**
+     * The {@link String} defining the constant prefix of a message that indicates the failed execution of a test in
+     * this class.
+     */
+    private static final String TEST_FAILED_PREFIX = AllTests.TEST_FAILED_MARKER + " " + ID;
+    
+    /**
+     * The memory budget in bytes for the tested queues. This budget is less than the memory required by the minimum
+     * number of pending sub-sequences held in memory; hence, each queue spills all further sub-sequences.
+     */
+    private static final long MEMORY_BUDGET = 1;
+    
+    /**
+     * The {@link String} defining the prefix of the name of the file, to which a queue spills pending sub-sequences.
+     */
+    private static final String SPILL_FILE_NAME_PREFIX = "GitCommitSequencer_Worklist_";
+    
+    /**
+     * Creates the {@link AllTests#TESTDATA_OUTPUT_DIRECTORY} used as spill directory, if it does not exist, and prints
+     * the header of this test class.
+     */
+    @BeforeClass
+    public static void setUp() {
+        System.out.println(TEST_CLASS_TITLE);
+        if (!AllTests.TESTDATA_OUTPUT_DIRECTORY.exists()) {
+            assertTrue(AllTests.TESTDATA_OUTPUT_DIRECTORY.mkdir(), TEST_FAILED_PREFIX
+                    + ": Creating the spill directory failed");
+        }
+    }
+    
+    /**
+     * Prints the footer of this test class.
+     */
+    @AfterClass
+    public static void tearDown() {
+        System.out.println(TEST_CLASS_TITLE + System.lineSeparator());
+    }
+    
+    /**
+     * Tests whether a first in, first out {@link SequenceTaskQueue} returns all sub-sequences in the order of their
+     * addition, if most of them are spilled to disk before any sub-sequence is removed.
+     */
+    @Test
+    public void testFifoOrderWithSpilling() {
+        String testIdPart = " - testFifoOrderWithSpilling";
+        System.out.println(ID + testIdPart);
+        
+        assertTrue(checkQueue(false, new int[] {1000}, ID + testIdPart),
+                TEST_FAILED_PREFIX + testIdPart + ": Wrong order of spilled sub-sequences");
+        
+        System.out.println(TEST_PASSED_PREFIX + testIdPart);
+    }
+    
+    /**
+     * Tests whether a last in, first out {@link SequenceTaskQueue} returns all sub-sequences in the reverse order of
+     * their addition, if most of them are spilled to disk before any sub-sequence is removed.
+     */
+    @Test
+    public void testLifoOrderWithSpilling() {
+        String testIdPart = " - testLifoOrderWithSpilling";
+        System.out.println(ID + testIdPart);
+        
+        assertTrue(checkQueue(true, new int[] {1000}, ID + testIdPart),
+                TEST_FAILED_PREFIX + testIdPart + ": Wrong order of spilled sub-sequences");
+        
+        System.out.println(TEST_PASSED_PREFIX + testIdPart);
+    }
+    
+    /**
+     * Tests whether a first in, first out {@link SequenceTaskQueue} returns all sub-sequences in the order of their
+     * addition, if sub-sequences are added while others are spilled to disk or read back from disk.
+     */
+    @Test
+    public void testFifoOrderWithInterleavedSpilling() {
+        String testIdPart = " - testFifoOrderWithInterleavedSpilling";
+        System.out.println(ID + testIdPart);
+        
+        assertTrue(checkQueue(false, new int[] {300, -50, 200, -420, 700, -10, 1, -100}, ID + testIdPart),
+                TEST_FAILED_PREFIX + testIdPart + ": Wrong order of spilled sub-sequences");
+        
+        System.out.println(TEST_PASSED_PREFIX + testIdPart);
+    }
+    
+    /**
+     * Tests whether a last in, first out {@link SequenceTaskQueue} returns the last added sub-sequence first, if
+     * sub-sequences are added while others are spilled to disk or read back from disk.
+     */
+    @Test
+    public void testLifoOrderWithInterleavedSpilling() {
+        String testIdPart = " - testLifoOrderWithInterleavedSpilling";
+        System.out.println(ID + testIdPart);
+        
+        assertTrue(checkQueue(true, new int[] {300, -50, 200, -420, 700, -10, 1, -100}, ID + testIdPart),
+                TEST_FAILED_PREFIX + testIdPart + ": Wrong order of spilled sub-sequences");
+        
+        System.out.println(TEST_PASSED_PREFIX + testIdPart);
+    }
+    
+    /**
+     * Performs the given operations on a new {@link SequenceTaskQueue} with the {@link #MEMORY_BUDGET} and the same
+     * operations on a {@link Deque}, which defines the expected order, and removes all remaining sub-sequences from
+     * both afterwards. Each sub-sequence consists of distinct ids derived from the running number of its addition.
+     * 
+     * @param lastInFirstOut <code>true</code>, if the queue shall return the last added sub-sequence first;
+     *        <code>false</code>, if it shall return the first added sub-sequence first
+     * @param operations the operations to perform in the given order: a positive number adds that many sub-sequences;
+     *        a negative number removes that many sub-sequences
+     * @param messagePrefix the {@link String} to print before a particular error message of this method
+     * @return <code>true</code>, if the queue returns the same sub-sequences in the same order as the {@link Deque},
+     *         spills sub-sequences to disk, and deletes its spill file after returning the last sub-sequence;
+     *         <code>false</code> otherwise
+     */
+    private boolean checkQueue(boolean lastInFirstOut, int[] operations, String messagePrefix) {
+        SequenceTaskQueue queue = new SequenceTaskQueue(lastInFirstOut, MEMORY_BUDGET,
+                AllTests.TESTDATA_OUTPUT_DIRECTORY);
+        Deque<int[]> expectedQueue = new ArrayDeque<int[]>();
+        boolean queueCorrect = true;
+        boolean spilled = false;
+        int addedTasks = 0;
+        for (int i = 0; queueCorrect && i < operations.length; i++) {
+            if (operations[i] > 0) {
+                for (int j = 0; j < operations[i]; j++) {
+                    int[] task = {addedTasks, addedTasks + 1, addedTasks * 2, addedTasks * 3, addedTasks * 5};
+                    queue.add(task[0], task[1], task[2], task[3], task[4]);
+                    expectedQueue.addLast(task);
+                    addedTasks++;
+                }
+                spilled |= countSpillFiles() > 0;
+            } else {
+                queueCorrect = checkRemovedTasks(queue, expectedQueue, -operations[i], lastInFirstOut, messagePrefix);
+            }
+        }
+        if (queueCorrect) {
+            queueCorrect = checkRemovedTasks(queue, expectedQueue, expectedQueue.size(), lastInFirstOut, messagePrefix)
+                    && queue.isEmpty();
+        }
+        if (!spilled) {
+            System.out.println(messagePrefix + ": No sub-sequences spilled");
+        }
+        if (countSpillFiles() > 0) {
+            System.out.println(messagePrefix + ": Spill file not deleted");
+            queueCorrect = false;
+        }
+        return queueCorrect && spilled;
+    }
+    
+    /**
+     * Removes the given number of sub-sequences from the given queue and the given {@link Deque} and compares them.
+     * 
+     * @param queue the {@link SequenceTaskQueue} to remove the sub-sequences from
+     * @param expectedQueue the {@link Deque} to remove the expected sub-sequences from
+     * @param numberOfTasks the number of sub-sequences to remove
+     * @param lastInFirstOut <code>true</code>, if the sub-sequences are removed from the end of the {@link Deque};
+     *        <code>false</code>, if they are removed from its beginning
+     * @param messagePrefix the {@link String} to print before a particular error message of this method
+     * @return <code>true</code>, if all removed sub-sequences are equal and the sizes of both queues match;
+     *         <code>false</code> otherwise
+     */
+    private boolean checkRemovedTasks(SequenceTaskQueue queue, Deque<int[]> expectedQueue, int numberOfTasks,
+            boolean lastInFirstOut, String messagePrefix) {
+        boolean tasksCorrect = true;
+        int[] task = new int[5];
+        for (int i = 0; tasksCorrect && i < numberOfTasks; i++) {
+            int[] expectedTask;
+            if (lastInFirstOut) {
+                expectedTask = expectedQueue.pollLast();
+            } else {
+                expectedTask = expectedQueue.pollFirst();
+            }
+            if (!queue.poll(task) || !Arrays.equals(expectedTask, task)) {
+                System.out.println(messagePrefix + ": Expected sub-sequence " + Arrays.toString(expectedTask)
+                        + ", but was " + Arrays.toString(task));
+                tasksCorrect = false;
+            }
+        }
+        if (tasksCorrect && queue.size() != expectedQueue.size()) {
+            System.out.println(messagePrefix + ": Expected " + expectedQueue.size() + " pending sub-sequences, but was "
+                    + queue.size());
+            tasksCorrect = false;
+        }
+        return tasksCorrect;
+    }
+    
+    /**
+     * Counts the files in the {@link AllTests#TESTDATA_OUTPUT_DIRECTORY}, to which a queue spills pending
+     * sub-sequences.
+     * 
+     * @return the number of spill files
+     */
+    private int countSpillFiles() {
+        File[] spillFiles = AllTests.TESTDATA_OUTPUT_DIRECTORY.listFiles(
+                (directory, name) -> name.startsWith(SPILL_FILE_NAME_PREFIX));
+        int numberOfSpillFiles = 0;
+        if (spillFiles != null) {
+            numberOfSpillFiles = spillFiles.length;
+        }
+        return numberOfSpillFiles;
+    }
+
+}
@@ -29,13 +29,16 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import net.ssehub.gcs.core.SequenceTaskQueueTests;
+
 /**
  * Definition of this test suite.
  */
 @RunWith(Suite.class)
 @SuiteClasses({
     ArgumentTests.class,
-    ResultTests.class
+    ResultTests.class,
+    SequenceTaskQueueTests.class
     })
 
 /**
@@ -79,6 +82,20 @@ public class AllTests {
      */
     public static final String TESTDATA_REPOSITORY_DIRECTORY_NAME = "TestRepository";
     
+    /**
+     * The {@link File} denoting the archive file (zip), which contains the packed test repository for the unit tests.
+     * This repository has the same commits as the test repository in {@link #TESTDATA_REPOSITORY_ARCHIVE_FILE}, but
+     * stores its objects in two pack files (one with offset deltas and one with reference deltas) and provides a split
+     * commit-graph chain of two layers instead of loose objects only.
+     */
+    public static final File TESTDATA_PACKED_REPOSITORY_ARCHIVE_FILE = new File(TESTDATA_INPUT_DIRECTORY,
+            "packedtestrepository.zip");
+    
+    /**
+     * The {@link String} denoting the name of the packed test repository.
+     */
+    public static final String TESTDATA_PACKED_REPOSITORY_DIRECTORY_NAME = "PackedTestRepository";
+    
     /**
      * The {@link File} denoting the test data output directory. For example, this directory contains the output of the
      * tool.
@@ -91,8 +108,14 @@ public class AllTests {
     private static File testRepository;
     
     /**
-     * Creates the @{@link #TESTDATA_OUTPUT_DIRECTORY}, if it does not exist, and the {@link #testRepository} as an
-     * input for tests by extracting it from the {@link #TESTDATA_REPOSITORY_ARCHIVE_FILE}.
+     * The {@link File} denoting the packed test repository created during {@link #globalSetUp()}.
+     */
+    private static File packedTestRepository;
+    
+    /**
+     * Creates the @{@link #TESTDATA_OUTPUT_DIRECTORY}, if it does not exist, the {@link #testRepository}, and the
+     * {@link #packedTestRepository} as an input for tests by extracting them from the
+     * {@link #TESTDATA_REPOSITORY_ARCHIVE_FILE} and the {@link #TESTDATA_PACKED_REPOSITORY_ARCHIVE_FILE}.
      */
     public static void createTestdata() {
         System.out.println(System.lineSeparator() + "---- Test Data Creation ----");
@@ -100,55 +123,75 @@ public class AllTests {
         if (!TESTDATA_OUTPUT_DIRECTORY.exists()) {
             assertTrue(TESTDATA_OUTPUT_DIRECTORY.mkdir());
         }
+        testRepository = createTestRepository(TESTDATA_REPOSITORY_ARCHIVE_FILE, TESTDATA_REPOSITORY_DIRECTORY_NAME);
+        packedTestRepository = createTestRepository(TESTDATA_PACKED_REPOSITORY_ARCHIVE_FILE,
+                TESTDATA_PACKED_REPOSITORY_DIRECTORY_NAME);
+        System.out.println("---- Test Data Creation ----" + System.lineSeparator());
+    }
+    
+    /**
+     * Creates the test repository with the given name in the {@link #TESTDATA_INPUT_DIRECTORY} by extracting it from
+     * the given archive file.
+     * 
+     * @param archiveFile the {@link File} denoting the archive file (zip), which contains the test repository; should
+     *        never be <code>null</code>
+     * @param repositoryDirectoryName the {@link String} denoting the name of the test repository in the given archive
+     *        file; should never be <code>null</code>
+     * @return the {@link File} denoting the extracted test repository
+     */
+    private static File createTestRepository(File archiveFile, String repositoryDirectoryName) {
+        File repository = null;
         // Check if the archive file containing the test repository is available
-        if (TESTDATA_REPOSITORY_ARCHIVE_FILE.exists() && TESTDATA_REPOSITORY_ARCHIVE_FILE.isFile()) {
+        if (archiveFile.exists() && archiveFile.isFile()) {
             // Check if the destination of the test repository already exists; delete it in that case
-            testRepository = new File(TESTDATA_INPUT_DIRECTORY, TESTDATA_REPOSITORY_DIRECTORY_NAME);
-            if (testRepository.exists() && !delete(testRepository)) {
+            repository = new File(TESTDATA_INPUT_DIRECTORY, repositoryDirectoryName);
+            if (repository.exists() && !delete(repository)) {
                 assertTrue(false); // Force termination, if deletion fails
             }
             // Extract the test repository
-            if (extractTestRepository()) {
+            if (extractTestRepository(archiveFile)) {
                 // Check if the test repository exists (was extracted)
-                if (testRepository.exists() && testRepository.isDirectory()) {
-                    System.out.println("Extraction successful; test repository \"" + testRepository.getAbsolutePath() 
+                if (repository.exists() && repository.isDirectory()) {
+                    System.out.println("Extraction successful; test repository \"" + repository.getAbsolutePath() 
                             + "\" available");
                 } else {
-                    System.err.println("Test repository \"" + testRepository.getAbsolutePath() 
+                    System.err.println("Test repository \"" + repository.getAbsolutePath() 
                             + "\" does not exist or is not a directory");
                     assertTrue(false); // Force termination, if test repository is no available after extraction
                 }
             } else {
                 System.err.println("Extraction of test repository from archive \"" 
-                        + TESTDATA_REPOSITORY_ARCHIVE_FILE.getAbsolutePath() + "\" failed");
+                        + archiveFile.getAbsolutePath() + "\" failed");
                 assertTrue(false); // Force termination, if extraction of test repository failed
             }
 
         } else {
-            System.err.println("Test resository archive \"" + TESTDATA_REPOSITORY_ARCHIVE_FILE.getAbsolutePath() 
+            System.err.println("Test resository archive \"" + archiveFile.getAbsolutePath() 
                     + "\" does not exist or is not a file");
             assertTrue(false); // Force termination, if the archive file containing the test repository does not exist
         }
-        System.out.println("---- Test Data Creation ----" + System.lineSeparator());
+        return repository;
     }
     
     /**
-     * Extracts the content of the test repository archive denoted by {@link #TESTDATA_REPOSITORY_ARCHIVE_FILE} to the 
-     * {@link #TESTDATA_INPUT_DIRECTORY}. The result is the availability of the {@link #testRepository}.
+     * Extracts the content of the given test repository archive to the {@link #TESTDATA_INPUT_DIRECTORY}. The result
+     * is the availability of the test repository contained in that archive.
      *  
-     * @return <code>true</code>, if extracting each entry in the {@link #TESTDATA_REPOSITORY_ARCHIVE_FILE} was
-     *         successful; <code>false</code> otherwise
+     * @param archiveFile the {@link File} denoting the archive file (zip), which contains the test repository; should
+     *        never be <code>null</code>
+     * @return <code>true</code>, if extracting each entry in the given archive file was successful; <code>false</code>
+     *         otherwise
      */
-    private static boolean extractTestRepository() {
+    private static boolean extractTestRepository(File archiveFile) {
         boolean extractedSuccessful = true;
         FileInputStream fileInputStream = null;
         ZipInputStream zipInputStream = null;
         try {
-            fileInputStream = new FileInputStream(TESTDATA_REPOSITORY_ARCHIVE_FILE.getAbsolutePath());
+            fileInputStream = new FileInputStream(archiveFile.getAbsolutePath());
             zipInputStream = new ZipInputStream(fileInputStream);
             ZipEntry zipEntry;
             System.out.println("Extracting test repository from archive \"" 
-                    + TESTDATA_REPOSITORY_ARCHIVE_FILE.getAbsolutePath() + "\"");
+                    + archiveFile.getAbsolutePath() + "\"");
             while ((zipEntry = zipInputStream.getNextEntry()) != null) {
                 if (!extract(zipEntry, zipInputStream, TESTDATA_INPUT_DIRECTORY)) {
                     System.err.println("Extraction of \"" + zipEntry.getName() 
@@ -159,11 +202,11 @@ public class AllTests {
         } catch (FileNotFoundException | SecurityException e) {
             extractedSuccessful = false;
             System.err.println("Creation of file input stream for file \"" 
-                    + TESTDATA_REPOSITORY_ARCHIVE_FILE.getAbsolutePath() + "\" failed");
+                    + archiveFile.getAbsolutePath() + "\" failed");
             e.printStackTrace();
         } catch (IOException e) {
             extractedSuccessful = false;
-            System.err.println("Reading entry from archive \"" + TESTDATA_REPOSITORY_ARCHIVE_FILE.getAbsolutePath()
+            System.err.println("Reading entry from archive \"" + archiveFile.getAbsolutePath()
                     + "\" failed");
             e.printStackTrace();
         } finally {
@@ -173,7 +216,7 @@ public class AllTests {
                 } catch (IOException e) {
                     extractedSuccessful = false;
                     System.err.println("Closing zip input stream for file \"" 
-                            + TESTDATA_REPOSITORY_ARCHIVE_FILE.getAbsolutePath() + "\" failed");
+                            + archiveFile.getAbsolutePath() + "\" failed");
                     e.printStackTrace();
                 }
             }
@@ -183,7 +226,7 @@ public class AllTests {
                 } catch (IOException e) {
                     extractedSuccessful = false;
                     System.err.println("Closing file input stream for file \"" 
-                            + TESTDATA_REPOSITORY_ARCHIVE_FILE.getAbsolutePath() + "\" failed");
+                            + archiveFile.getAbsolutePath() + "\" failed");
                     e.printStackTrace();
                 }
             }
@@ -248,7 +291,8 @@ public class AllTests {
     }
     
     /**
-     * Deletes the content of the @{@link #TESTDATA_OUTPUT_DIRECTORY} and the {@link #testRepository}.
+     * Deletes the content of the @{@link #TESTDATA_OUTPUT_DIRECTORY}, the {@link #testRepository}, and the
+     * {@link #packedTestRepository}.
      */
     public static void deleteTestdata() {
         System.out.println("---- Test Data Deletion ----");
@@ -258,9 +302,21 @@ public class AllTests {
         } else {
             System.err.println("Deletion failed");
         }
-        if (testRepository != null && testRepository.exists()) {
-            System.out.println("Deleting \"" + testRepository.getAbsolutePath() + "\"");
-            if (delete(testRepository)) {
+        deleteTestRepository(testRepository);
+        deleteTestRepository(packedTestRepository);
+        System.out.println("---- Test Data Deletion ----" + System.lineSeparator());
+    }
+    
+    /**
+     * Deletes the given test repository.
+     * 
+     * @param repository the {@link File} denoting the test repository to delete; may be <code>null</code>, if
+     *        {@link #globalSetUp()} fails unexpectedly
+     */
+    private static void deleteTestRepository(File repository) {
+        if (repository != null && repository.exists()) {
+            System.out.println("Deleting \"" + repository.getAbsolutePath() + "\"");
+            if (delete(repository)) {
                 System.out.println("Deletion successful");
             } else {
                 System.err.println("Deletion failed");
@@ -268,7 +324,6 @@ public class AllTests {
         } else {
             System.err.println("Deleting test repository failed; repository does not exist");
         }
-        System.out.println("---- Test Data Deletion ----" + System.lineSeparator());
     }
     
     /**
@@ -303,6 +358,16 @@ public class AllTests {
         return testRepository;
     }
     
+    /**
+     * Returns the {@link #packedTestRepository}.
+     * 
+     * @return the {@link File} denoting the packed test repository; may be <code>null</code>, if
+     *         {@link #globalSetUp()} fails unexpectedly
+     */
+    public static File getPackedTestRepository() {
+        return packedTestRepository;
+    }
+    
     /**
      * Deletes all files and directories in the {@link #TESTDATA_OUTPUT_DIRECTORY}.
      * 
@@ -16,6 +16,7 @@ package net.ssehub.gcs.tests;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -57,6 +58,12 @@ public class ArgumentTests {
      * this class.
      */
     private static final String TEST_FAILED_PREFIX = AllTests.TEST_FAILED_MARKER + " " + ID;
+    
+    /**
+     * The {@link String} defining the constant prefix of the message of an {@link ArgumentErrorException}, which
+     * indicates an invalid combination of options.
+     */
+    private static final String INVALID_COMBINATION_MESSAGE_PREFIX = "Invalid combination of option";
 
     /**
      * Prints the header of this test class.
@@ -239,4 +246,544 @@ public class ArgumentTests {
         }
     }
     
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with an unknown option in args-parameter
+     * fails.
+     */
+    @Test
+    public void testUnknownOption() {
+        String testIdPart = " - testUnknownOption: ";
+        String testSpecificMessagePart = "Creating sequencer with an unknown option in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--unknown-option"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertNotNull(e, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with an option without its value in
+     * args-parameter fails.
+     */
+    @Test
+    public void testMissingOptionValue() {
+        String testIdPart = " - testMissingOptionValue: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with an option without its value in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--graph-source"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertNotNull(e, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with an unknown output format in
+     * args-parameter fails.
+     */
+    @Test
+    public void testUnknownOutputFormat() {
+        String testIdPart = " - testUnknownOutputFormat: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with an unknown output format in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--output", "unknown-format"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertNotNull(e, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--threads</code> option and
+     * the depth-first engine in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testThreadsWithDepthFirstEngine() {
+        String testIdPart = " - testThreadsWithDepthFirstEngine: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with multiple threads and the depth-first engine in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--threads", "4", "--engine", "dfs"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--threads</code> option and
+     * the chains output format in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testThreadsWithChainsOutput() {
+        String testIdPart = " - testThreadsWithChainsOutput: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with multiple threads and the chains output format in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--threads", "4", "--output", "chains"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--threads</code> option and
+     * the delta output format in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testThreadsWithDeltaOutput() {
+        String testIdPart = " - testThreadsWithDeltaOutput: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with multiple threads and the delta output format in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--threads", "4", "--output", "delta"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--threads</code> option and
+     * the container output format in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testThreadsWithContainerOutput() {
+        String testIdPart = " - testThreadsWithContainerOutput: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with multiple threads and the container output format in args-parameter "
+                + "should fail";
+        try {
+            String[] args = {"", "", "--threads", "4", "--output", "container"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--max-processes</code> option
+     * and the depth-first engine in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testMaxProcessesWithDepthFirstEngine() {
+        String testIdPart = " - testMaxProcessesWithDepthFirstEngine: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with a maximum number of processes and the depth-first engine in args-parameter "
+                + "should fail";
+        try {
+            String[] args = {"", "", "--max-processes", "2", "--engine", "dfs"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--max-processes</code> option
+     * and the chains output format in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testMaxProcessesWithChainsOutput() {
+        String testIdPart = " - testMaxProcessesWithChainsOutput: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with a maximum number of processes and the chains output format in args-parameter "
+                + "should fail";
+        try {
+            String[] args = {"", "", "--max-processes", "2", "--output", "chains"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--max-processes</code> option
+     * and the delta output format in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testMaxProcessesWithDeltaOutput() {
+        String testIdPart = " - testMaxProcessesWithDeltaOutput: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with a maximum number of processes and the delta output format in args-parameter "
+                + "should fail";
+        try {
+            String[] args = {"", "", "--max-processes", "2", "--output", "delta"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--max-processes</code> option
+     * and the container output format in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testMaxProcessesWithContainerOutput() {
+        String testIdPart = " - testMaxProcessesWithContainerOutput: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with a maximum number of processes and the container output format in "
+                + "args-parameter should fail";
+        try {
+            String[] args = {"", "", "--max-processes", "2", "--output", "container"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--compress</code> option and
+     * the chains output format in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testCompressWithChainsOutput() {
+        String testIdPart = " - testCompressWithChainsOutput: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with compression and the chains output format in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--compress", "--output", "chains"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--compress</code> option and
+     * the delta output format in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testCompressWithDeltaOutput() {
+        String testIdPart = " - testCompressWithDeltaOutput: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with compression and the delta output format in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--compress", "--output", "delta"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--compress</code> option and
+     * the container output format in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testCompressWithContainerOutput() {
+        String testIdPart = " - testCompressWithContainerOutput: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with compression and the container output format in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--compress", "--output", "container"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--output</code> option and the
+     * <code>--count-only</code> option in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testOutputWithCountOnly() {
+        String testIdPart = " - testOutputWithCountOnly: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with output format and counting only in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--count-only", "--output", "binary"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--worklist</code> option and
+     * the <code>--threads</code> option in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testWorklistWithThreads() {
+        String testIdPart = " - testWorklistWithThreads: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with worklist policy and multiple threads in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--threads", "2", "--worklist", "lifo"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--worklist</code> option and
+     * the <code>--threads virtual</code> option in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testWorklistWithVirtualThreads() {
+        String testIdPart = " - testWorklistWithVirtualThreads: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with worklist policy and virtual threads in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--threads", "virtual", "--worklist", "priority"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--worklist-memory</code>
+     * option and the <code>--threads</code> option in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testWorklistMemoryWithThreads() {
+        String testIdPart = " - testWorklistMemoryWithThreads: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with worklist memory and multiple threads in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--threads", "2", "--worklist-memory", "1"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--worklist</code> option and
+     * the <code>--engine dfs</code> option in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testWorklistWithDepthFirstEngine() {
+        String testIdPart = " - testWorklistWithDepthFirstEngine: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with worklist policy and depth-first engine in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--engine", "dfs", "--worklist", "lifo"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--worklist-memory</code>
+     * option and the <code>--engine dfs</code> option in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testWorklistMemoryWithDepthFirstEngine() {
+        String testIdPart = " - testWorklistMemoryWithDepthFirstEngine: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with worklist memory and depth-first engine in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--engine", "dfs", "--worklist-memory", "1"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--worklist</code> option and
+     * the <code>--count-only</code> option in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testWorklistWithCountOnly() {
+        String testIdPart = " - testWorklistWithCountOnly: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with worklist policy and counting only in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--count-only", "--worklist", "lifo"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--worklist</code> option and
+     * the <code>--compress</code> option in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testWorklistWithCompress() {
+        String testIdPart = " - testWorklistWithCompress: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with worklist policy and compression in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--compress", "--worklist", "lifo"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--worklist</code> option and
+     * the <code>--output delta</code> option in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testWorklistWithDeltaOutput() {
+        String testIdPart = " - testWorklistWithDeltaOutput: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with worklist policy and delta output in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--output", "delta", "--worklist", "lifo"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--worklist-memory</code>
+     * option and the <code>--output chains</code> option in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testWorklistMemoryWithChainsOutput() {
+        String testIdPart = " - testWorklistMemoryWithChainsOutput: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with worklist memory and chains output in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--output", "chains", "--worklist-memory", "1"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--worklist-memory</code>
+     * option and the <code>--output container</code> option in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testWorklistMemoryWithContainerOutput() {
+        String testIdPart = " - testWorklistMemoryWithContainerOutput: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with worklist memory and container output in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--output", "container", "--worklist-memory", "1"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with the <code>--worklist-memory</code>
+     * option and the <code>--worklist priority</code> option in args-parameter fails due to their invalid combination.
+     */
+    @Test
+    public void testWorklistMemoryWithPriorityWorklist() {
+        String testIdPart = " - testWorklistMemoryWithPriorityWorklist: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with worklist memory and priority worklist in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--worklist", "priority", "--worklist-memory", "1"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertTrue(e.getMessage().startsWith(INVALID_COMBINATION_MESSAGE_PREFIX),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
+    /**
+     * Tests whether the creation of a {@link GitCommitSequencer} instance with an unknown worklist policy in
+     * args-parameter fails.
+     */
+    @Test
+    public void testUnknownWorklistPolicy() {
+        String testIdPart = " - testUnknownWorklistPolicy: ";
+        String testSpecificMessagePart = 
+                "Creating sequencer with an unknown worklist policy in args-parameter should fail";
+        try {
+            String[] args = {"", "", "--worklist", "unknown-policy"};
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            assertNull(gitCommitSequencer, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+        } catch (ArgumentErrorException e) {
+            assertNotNull(e, TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            System.out.println(TEST_PASSED_PREFIX + testIdPart + e.getMessage());
+        }
+    }
+    
 }
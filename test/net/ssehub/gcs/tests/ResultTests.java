@@ -24,6 +24,8 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -34,9 +36,17 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import net.ssehub.gcs.core.ArgumentErrorException;
+import net.ssehub.gcs.core.ChainSequenceReader;
+import net.ssehub.gcs.core.ChainSequenceWriter;
 import net.ssehub.gcs.core.CommitSequence;
 import net.ssehub.gcs.core.CommitSequenceCreationException;
+import net.ssehub.gcs.core.CompressedSequenceReader;
+import net.ssehub.gcs.core.CompressedSequenceWriter;
+import net.ssehub.gcs.core.ContainerSequenceReader;
+import net.ssehub.gcs.core.DeltaSequenceReader;
+import net.ssehub.gcs.core.DeltaSequenceWriter;
 import net.ssehub.gcs.core.GitCommitSequencer;
+import net.ssehub.gcs.core.SequenceReader;
 import net.ssehub.gcs.utilities.Logger;
 
 /**
@@ -276,6 +286,743 @@ public class ResultTests {
         }
     }
     
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the expected commit sequences (correct content) and summary
+     * file, if the commit sequences are created in parallel by multiple threads.
+     */
+    @Test
+    public void testCorrectParallelSequenceCreation() {
+        String testIdPart = " - testCorrectParallelSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--threads", "4"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCommitSequences(ID + testIdPart) && checkCreatedSummary(ID + testIdPart),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the expected commit sequences (correct content) and summary
+     * file, if the commit sequences are created by the depth-first search engine.
+     */
+    @Test
+    public void testCorrectDepthFirstSequenceCreation() {
+        String testIdPart = " - testCorrectDepthFirstSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--engine", "dfs"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCommitSequences(ID + testIdPart) && checkCreatedSummary(ID + testIdPart),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the correct commit sequences and the correct summary, if
+     * the binary output format is used. The commit sequences are read via {@link SequenceReader}.
+     */
+    @Test
+    public void testCorrectBinarySequenceCreation() {
+        String testIdPart = " - testCorrectBinarySequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--output", "binary"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedBinaryCommitSequences(ID + testIdPart), 
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException | IOException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the expected commit sequences (correct content) and summary
+     * file, if the commit graph of the packed test repository received by {@link AllTests#getPackedTestRepository()}
+     * is loaded via a single <code>git rev-list</code> process.
+     */
+    @Test
+    public void testCorrectRevListGraphSourceSequenceCreation() {
+        String testIdPart = " - testCorrectRevListGraphSourceSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getPackedTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--graph-source", "rev-list"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCommitSequences(ID + testIdPart) && checkCreatedSummary(ID + testIdPart),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the expected commit sequences (correct content) and summary
+     * file, if the commit graph of the packed test repository received by {@link AllTests#getPackedTestRepository()}
+     * is loaded by reading its pack files directly, which contain offset and reference deltas.
+     */
+    @Test
+    public void testCorrectObjectsGraphSourceSequenceCreation() {
+        String testIdPart = " - testCorrectObjectsGraphSourceSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getPackedTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--graph-source", "objects"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCommitSequences(ID + testIdPart) && checkCreatedSummary(ID + testIdPart),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the expected commit sequences (correct content) and summary
+     * file, if the commit graph of the packed test repository received by {@link AllTests#getPackedTestRepository()}
+     * is loaded via a single <code>git cat-file --batch</code> process.
+     */
+    @Test
+    public void testCorrectCatFileGraphSourceSequenceCreation() {
+        String testIdPart = " - testCorrectCatFileGraphSourceSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getPackedTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--graph-source", "cat-file"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCommitSequences(ID + testIdPart) && checkCreatedSummary(ID + testIdPart),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the expected commit sequences (correct content) and summary
+     * file, if the commit graph of the packed test repository received by {@link AllTests#getPackedTestRepository()}
+     * is loaded from its split commit-graph chain.
+     */
+    @Test
+    public void testCorrectCommitGraphSourceSequenceCreation() {
+        String testIdPart = " - testCorrectCommitGraphSourceSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getPackedTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--graph-source", "commit-graph"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCommitSequences(ID + testIdPart) && checkCreatedSummary(ID + testIdPart),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the expected commit sequences (correct content) and summary
+     * file, if the commit graph of the packed test repository received by {@link AllTests#getPackedTestRepository()}
+     * is loaded by the default fallback loader.
+     */
+    @Test
+    public void testCorrectAutoGraphSourceSequenceCreation() {
+        String testIdPart = " - testCorrectAutoGraphSourceSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getPackedTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--graph-source", "auto"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCommitSequences(ID + testIdPart) && checkCreatedSummary(ID + testIdPart),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the correct statistics of the commit sequences, if only
+     * these sequences are counted.
+     */
+    @Test
+    public void testCorrectSequenceCounting() {
+        String testIdPart = " - testCorrectSequenceCounting";
+        String testSpecificMessagePart = ": Wrong statistics created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--count-only"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedStatistics(ID + testIdPart), 
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the correct commit sequences, if the chains output format is
+     * used. The commit sequences are expanded via {@link ChainSequenceReader}.
+     */
+    @Test
+    public void testCorrectChainSequenceCreation() {
+        String testIdPart = " - testCorrectChainSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--output", "chains"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedChainSequences(ID + testIdPart), 
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException | IOException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the correct commit sequences, if the delta output format is
+     * used. The commit sequences are replayed via {@link DeltaSequenceReader}.
+     */
+    @Test
+    public void testCorrectDeltaSequenceCreation() {
+        String testIdPart = " - testCorrectDeltaSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--output", "delta"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedDeltaSequences(ID + testIdPart), 
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException | IOException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the correct commit sequences, if the container output format
+     * is used. The commit sequences are read via {@link ContainerSequenceReader}.
+     */
+    @Test
+    public void testCorrectContainerSequenceCreation() {
+        String testIdPart = " - testCorrectContainerSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--output", "container"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedContainerSequences(ID + testIdPart), 
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException | IOException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the correct commit sequences and the correct summary, if the
+     * sequence files are compressed into a single archive. The commit sequences are decompressed via
+     * {@link CompressedSequenceReader}.
+     */
+    @Test
+    public void testCorrectCompressedSequenceCreation() {
+        String testIdPart = " - testCorrectCompressedSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--compress"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCompressedSequences(ID + testIdPart), 
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException | IOException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the correct commit sequences and the correct summary, if the
+     * binary sequence files are compressed into a single archive. The commit sequences are decompressed via
+     * {@link CompressedSequenceReader}.
+     */
+    @Test
+    public void testCorrectCompressedBinarySequenceCreation() {
+        String testIdPart = " - testCorrectCompressedBinarySequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--compress", "--output", "binary"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCompressedSequences(ID + testIdPart), 
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException | IOException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the correct commit sequences and the correct summary, if the
+     * sub-sequences are created in the order of their detection.
+     */
+    @Test
+    public void testCorrectFifoWorklistSequenceCreation() {
+        String testIdPart = " - testCorrectFifoWorklistSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--worklist", "fifo"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCommitSequences(ID + testIdPart) && checkCreatedSummary(ID + testIdPart),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the correct commit sequences and the correct summary, if the
+     * sub-sequences are created in the reverse order of their detection.
+     */
+    @Test
+    public void testCorrectLifoWorklistSequenceCreation() {
+        String testIdPart = " - testCorrectLifoWorklistSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--worklist", "lifo"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCommitSequences(ID + testIdPart) && checkCreatedSummary(ID + testIdPart),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the correct commit sequences and the correct summary, if the
+     * shortest sub-sequences are created first.
+     */
+    @Test
+    public void testCorrectPriorityWorklistSequenceCreation() {
+        String testIdPart = " - testCorrectPriorityWorklistSequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--worklist", "priority"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCommitSequences(ID + testIdPart) && checkCreatedSummary(ID + testIdPart),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the correct commit sequences and the correct summary, if the
+     * sub-sequences are created in the order of their detection and the memory for pending sub-sequences is limited.
+     */
+    @Test
+    public void testCorrectFifoWorklistMemorySequenceCreation() {
+        String testIdPart = " - testCorrectFifoWorklistMemorySequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--worklist", "fifo",
+                "--worklist-memory", "1"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCommitSequences(ID + testIdPart) && checkCreatedSummary(ID + testIdPart),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Tests whether the {@link GitCommitSequencer} creates the correct commit sequences and the correct summary, if the
+     * sub-sequences are created in the reverse order of their detection and the memory for pending sub-sequences is
+     * limited.
+     */
+    @Test
+    public void testCorrectLifoWorklistMemorySequenceCreation() {
+        String testIdPart = " - testCorrectLifoWorklistMemorySequenceCreation";
+        String testSpecificMessagePart = ": Wrong commit sequence(s) or summary created";
+        System.out.println(ID + testIdPart);
+        
+        String[] args = {AllTests.getTestRepository().getAbsolutePath(),
+                AllTests.TESTDATA_OUTPUT_DIRECTORY.getAbsolutePath(), "--worklist", "lifo",
+                "--worklist-memory", "1"};
+        try {
+            GitCommitSequencer gitCommitSequencer = new GitCommitSequencer(args);
+            gitCommitSequencer.run();
+            
+            assertTrue(checkCreatedCommitSequences(ID + testIdPart) && checkCreatedSummary(ID + testIdPart),
+                    TEST_FAILED_PREFIX + testIdPart + testSpecificMessagePart);
+            
+            System.out.println(TEST_PASSED_PREFIX + testIdPart);
+        } catch (ArgumentErrorException | CommitSequenceCreationException e) {
+            System.out.println(TEST_FAILED_PREFIX + testIdPart);
+            assertNull(e, TEST_FAILED_PREFIX + testIdPart + ": " + e.getMessage());
+        } finally {
+            assertTrue(AllTests.clearTestOutputDirectory(), TEST_FAILED_PREFIX
+                    + ": Clearing the output directory for next test failed");        
+        }
+    }
+    
+    /**
+     * Checks whether the binary commit sequence files listed in the Git commit sequencer summary contain the expected
+     * commit sequences and the numbers of commits defined in that summary. Each file is read via
+     * {@link SequenceReader}.
+     * 
+     * @param messagePrefix the {@link String} to print before a particular error message of this method
+     * @return <code>true</code>, if the created binary commit sequences and the summary are correct;
+     *         <code>false</code> otherwise
+     * @throws IOException if reading a binary commit sequence file fails
+     */
+    private boolean checkCreatedBinaryCommitSequences(String messagePrefix) throws IOException {
+        boolean createdCommitSequencesCorrect = true;
+        List<String[]> createdCommitSequences = new ArrayList<String[]>();
+        File summaryFile = new File(AllTests.TESTDATA_OUTPUT_DIRECTORY, "GitCommitSequencer_Summary.csv");
+        for (String summaryFileLine : readFile(summaryFile)) {
+            String[] commitSequenceInformation = summaryFileLine.trim().split(",");
+            SequenceReader sequenceReader = new SequenceReader(new File(AllTests.TESTDATA_OUTPUT_DIRECTORY,
+                    commitSequenceInformation[0] + ".bin"));
+            if (sequenceReader.length() != Integer.parseInt(commitSequenceInformation[1])) {
+                System.out.println(messagePrefix + ": Summary information for commit sequence \"" 
+                        + commitSequenceInformation[0] + "\" not as expected");
+                createdCommitSequencesCorrect = false;
+            }
+            String[] createdCommitSequence = new String[sequenceReader.length()];
+            for (int i = 0; i < createdCommitSequence.length; i++) {
+                createdCommitSequence[i] = sequenceReader.commitAt(i);
+            }
+            createdCommitSequences.add(createdCommitSequence);
+        }
+        return createdCommitSequencesCorrect && checkCreatedCommitSequences(messagePrefix, createdCommitSequences);
+    }
+    
+    /**
+     * Checks whether the Git commit sequencer statistics file contains the number of commit sequences, their minimum,
+     * maximum, average, and total length, as well as the number of sequences per length of the expected commit
+     * sequences.
+     * 
+     * @param messagePrefix the {@link String} to print before a particular error message of this method
+     * @return <code>true</code>, if the created statistics are correct; <code>false</code> otherwise
+     */
+    private boolean checkCreatedStatistics(String messagePrefix) {
+        String[][] expectedCommitSequences = ExpectedTestRepositoryCommitSequences.COMMIT_SEQUENCES;
+        int minimumLength = Integer.MAX_VALUE;
+        int maximumLength = 0;
+        int totalLength = 0;
+        for (int i = 0; i < expectedCommitSequences.length; i++) {
+            minimumLength = Math.min(minimumLength, expectedCommitSequences[i].length);
+            maximumLength = Math.max(maximumLength, expectedCommitSequences[i].length);
+            totalLength += expectedCommitSequences[i].length;
+        }
+        List<String> expectedStatistics = new ArrayList<String>();
+        expectedStatistics.add("NumberOfSequences," + expectedCommitSequences.length);
+        expectedStatistics.add("MinimumLength," + minimumLength);
+        expectedStatistics.add("MaximumLength," + maximumLength);
+        expectedStatistics.add("AverageLength," + new BigDecimal(totalLength).divide(
+                new BigDecimal(expectedCommitSequences.length), 2, RoundingMode.HALF_UP));
+        expectedStatistics.add("TotalLength," + totalLength);
+        for (int length = minimumLength; length <= maximumLength; length++) {
+            int numberOfSequences = 0;
+            for (int i = 0; i < expectedCommitSequences.length; i++) {
+                if (expectedCommitSequences[i].length == length) {
+                    numberOfSequences++;
+                }
+            }
+            if (numberOfSequences > 0) {
+                expectedStatistics.add("Length_" + length + "," + numberOfSequences);
+            }
+        }
+        boolean createdStatisticsCorrect = expectedStatistics.equals(readFile(new File(
+                AllTests.TESTDATA_OUTPUT_DIRECTORY, "GitCommitSequencer_Statistics.csv")));
+        if (!createdStatisticsCorrect) {
+            System.out.println(messagePrefix + ": Statistics not as expected");
+        }
+        return createdStatisticsCorrect;
+    }
+    
+    /**
+     * Checks whether the lines of the {@link ChainSequenceWriter#SEQUENCES_FILE_NAME} represent the expected commit
+     * sequences and the numbers of commits defined in these lines. Each line is expanded via
+     * {@link ChainSequenceReader}.
+     * 
+     * @param messagePrefix the {@link String} to print before a particular error message of this method
+     * @return <code>true</code>, if the created commit sequences are correct; <code>false</code> otherwise
+     * @throws IOException if reading the chains or expanding a commit sequence fails
+     */
+    private boolean checkCreatedChainSequences(String messagePrefix) throws IOException {
+        boolean createdCommitSequencesCorrect = true;
+        List<String[]> createdCommitSequences = new ArrayList<String[]>();
+        ChainSequenceReader chainSequenceReader = new ChainSequenceReader(AllTests.TESTDATA_OUTPUT_DIRECTORY);
+        File sequencesFile = new File(AllTests.TESTDATA_OUTPUT_DIRECTORY, ChainSequenceWriter.SEQUENCES_FILE_NAME);
+        for (String sequencesFileLine : readFile(sequencesFile)) {
+            String[] createdCommitSequence = chainSequenceReader.expand(sequencesFileLine);
+            String[] commitSequenceInformation = sequencesFileLine.split(",");
+            if (createdCommitSequence.length != Integer.parseInt(commitSequenceInformation[1])) {
+                System.out.println(messagePrefix + ": Number of commits of commit sequence \"" 
+                        + commitSequenceInformation[0] + "\" not as expected");
+                createdCommitSequencesCorrect = false;
+            }
+            createdCommitSequences.add(createdCommitSequence);
+        }
+        return createdCommitSequencesCorrect && checkCreatedCommitSequences(messagePrefix, createdCommitSequences);
+    }
+    
+    /**
+     * Checks whether the {@link DeltaSequenceWriter#DELTA_FILE_NAME} represents the expected commit sequences. The
+     * commit sequences are replayed via {@link DeltaSequenceReader}.
+     * 
+     * @param messagePrefix the {@link String} to print before a particular error message of this method
+     * @return <code>true</code>, if the created commit sequences are correct; <code>false</code> otherwise
+     * @throws IOException if reading the delta file fails
+     */
+    private boolean checkCreatedDeltaSequences(String messagePrefix) throws IOException {
+        List<String[]> createdCommitSequences = new ArrayList<String[]>();
+        try (DeltaSequenceReader deltaSequenceReader = new DeltaSequenceReader(AllTests.TESTDATA_OUTPUT_DIRECTORY)) {
+            while (deltaSequenceReader.next()) {
+                createdCommitSequences.add(deltaSequenceReader.toArray());
+            }
+        }
+        return checkCreatedCommitSequences(messagePrefix, createdCommitSequences);
+    }
+    
+    /**
+     * Checks whether the container in the {@link AllTests#TESTDATA_OUTPUT_DIRECTORY} contains the expected commit
+     * sequences. Each commit sequence is read via {@link ContainerSequenceReader#getSequence(long)}.
+     * 
+     * @param messagePrefix the {@link String} to print before a particular error message of this method
+     * @return <code>true</code>, if the created commit sequences are correct; <code>false</code> otherwise
+     * @throws IOException if reading the index or a segment of the container fails
+     */
+    private boolean checkCreatedContainerSequences(String messagePrefix) throws IOException {
+        List<String[]> createdCommitSequences = new ArrayList<String[]>();
+        ContainerSequenceReader containerSequenceReader = new ContainerSequenceReader(
+                AllTests.TESTDATA_OUTPUT_DIRECTORY);
+        for (long sequenceNumber = 1; sequenceNumber <= containerSequenceReader.size(); sequenceNumber++) {
+            SequenceReader sequenceReader = containerSequenceReader.getSequence(sequenceNumber);
+            String[] createdCommitSequence = new String[sequenceReader.length()];
+            for (int i = 0; i < createdCommitSequence.length; i++) {
+                createdCommitSequence[i] = sequenceReader.commitAt(i);
+            }
+            createdCommitSequences.add(createdCommitSequence);
+        }
+        return checkCreatedCommitSequences(messagePrefix, createdCommitSequences);
+    }
+    
+    /**
+     * Checks whether the frames of the {@link CompressedSequenceWriter#ARCHIVE_FILE_NAME} for the commit sequences
+     * listed in the Git commit sequencer summary contain the expected commit sequences and the numbers of commits
+     * defined in that summary. Each frame is decompressed via {@link CompressedSequenceReader}.
+     * 
+     * @param messagePrefix the {@link String} to print before a particular error message of this method
+     * @return <code>true</code>, if the created commit sequences and the summary are correct; <code>false</code>
+     *         otherwise
+     * @throws IOException if reading the frame index or decompressing a frame fails
+     */
+    private boolean checkCreatedCompressedSequences(String messagePrefix) throws IOException {
+        boolean createdCommitSequencesCorrect = true;
+        List<String[]> createdCommitSequences = new ArrayList<String[]>();
+        File summaryFile = new File(AllTests.TESTDATA_OUTPUT_DIRECTORY, "GitCommitSequencer_Summary.csv");
+        try (CompressedSequenceReader compressedSequenceReader = new CompressedSequenceReader(
+                AllTests.TESTDATA_OUTPUT_DIRECTORY)) {
+            for (String summaryFileLine : readFile(summaryFile)) {
+                String[] commitSequenceInformation = summaryFileLine.trim().split(",");
+                long sequenceNumber = Long.parseLong(
+                        commitSequenceInformation[0].substring(commitSequenceInformation[0].indexOf('_') + 1));
+                String[] createdCommitSequence = compressedSequenceReader.getCommits(sequenceNumber);
+                if (createdCommitSequence.length != Integer.parseInt(commitSequenceInformation[1])) {
+                    System.out.println(messagePrefix + ": Summary information for commit sequence \"" 
+                            + commitSequenceInformation[0] + "\" not as expected");
+                    createdCommitSequencesCorrect = false;
+                }
+                createdCommitSequences.add(createdCommitSequence);
+            }
+        }
+        return createdCommitSequencesCorrect && checkCreatedCommitSequences(messagePrefix, createdCommitSequences);
+    }
+    
     /**
      * Checks whether the names and total numbers of commits for each commit sequence in the Git commit sequencer
      * summary are correct with respect to the created commit sequences (files in the
@@ -388,9 +1135,22 @@ public class ResultTests {
      *         <code>false</code> otherwise
      */
     private boolean checkCreatedCommitSequences(String messagePrefix) {
+        return checkCreatedCommitSequences(messagePrefix, getCreatedCommitSequences());
+    }
+    
+    /**
+     * Checks whether the given created commit sequences are exactly the expected commit sequences of the test
+     * repository. Matching commit sequences are removed from the given list.
+     * 
+     * @param messagePrefix the {@link String} to print before a particular error message of this method
+     * @param createdCommitSequences the {@link List} of created commit sequences, each represented by a
+     *        {@link String}-array containing its commits; should never be <code>null</code>
+     * @return <code>true</code>, if the number of created commit sequences and their commits are correct;
+     *         <code>false</code> otherwise
+     */
+    private boolean checkCreatedCommitSequences(String messagePrefix, List<String[]> createdCommitSequences) {
         boolean createdCommitSequencesCorrect = true;
         String[][] expectedCommitSequences = ExpectedTestRepositoryCommitSequences.COMMIT_SEQUENCES;
-        List<String[]> createdCommitSequences = getCreatedCommitSequences();
         if (expectedCommitSequences.length == createdCommitSequences.size()) {
             int commitSequencesCounter = 0;
             while (createdCommitSequencesCorrect && commitSequencesCounter < expectedCommitSequences.length) {